@@ -0,0 +1,128 @@
+package core.gitee.xudai.builder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 有界环形缓冲区（无锁，多生产者单消费者）
+ * 每个槽位保存一个序号：序号等于写入位置时槽位可写，等于写入位置 + 1 时槽位可读，生产者、消费者通过 CAS 抢占位置，
+ * 槽位内容的可见性由序号的 volatile 读写保证
+ * 出队同样使用 CAS：丢弃最旧事件时发布线程也会出队，与消费线程并发
+ * @author daixu
+ */
+final class EventRing<E> {
+
+    private final Object[] buffer;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    /** 下一个写入位置 */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** 下一个读取位置 */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 构造函数
+     * @param capacity 容量（向上取整为 2 的幂）
+     */
+    EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 写入元素
+     * @param element 元素
+     * @return 写入成功返回 true，缓冲区已满返回 false
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 取出最旧的元素
+     * @return 元素，缓冲区为空时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) buffer[index];
+                    buffer[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 按顺序取出多个元素
+     * @param target 目标列表
+     * @param max 最多取出的数量
+     * @return 取出的数量
+     */
+    int drainTo(List<E> target, int max) {
+        int count = 0;
+        while (count < max) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 当前元素数量（并发写入、读取时为近似值）
+     * @return 元素数量
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+}
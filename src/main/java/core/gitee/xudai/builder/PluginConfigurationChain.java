@@ -1,45 +1,95 @@
 package core.gitee.xudai.builder;
 
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.core.factory.StrategyScheduler;
 import core.gitee.xudai.strategy.plugin.api.PluginStrategy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.plugin.MojoExecutionException;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * 责任链模式（Chain of Responsibility）
  * 作用：处理插件配置之间的依赖关系，按顺序执行配置流程。
+ * 组与组之间按执行顺序依次执行；默认（strategyParallelism=1 的平台线程模式）组内也按加入顺序串行执行，
+ * strategyParallelism 大于 1 或使用虚拟线程模式时组内并发执行，因此执行顺序相同的策略必须互不依赖
+ * （不读取彼此的配置结果、不依赖彼此的执行先后），有先后关系的策略应使用不同的执行顺序；
+ * 必需策略失败时取消同组内其余执行中的策略并终止流程，非必需策略失败时记录日志并继续
  * @author daixu
  *
  * // 使用方式
  * List<PluginStrategy> strategies = PluginStrategyFactory.getAllStrategies();
- * new PluginConfigurationChain(strategies).execute(pluginManagement, config);
+ * new PluginConfigurationChain(strategies).execute(config);
  */
 @Slf4j
 public class PluginConfigurationChain {
 
-    private List<PluginStrategy> strategies;
-
-    private int currentIndex = 0;
+    private final List<PluginStrategy> strategies;
 
     public PluginConfigurationChain(List<PluginStrategy> strategies) {
-        this.strategies = strategies;
+        this.strategies = strategies != null ? new ArrayList<>(strategies) : new ArrayList<>();
     }
 
     public void execute(CentralPublishConfig config) throws MojoExecutionException {
-        if (currentIndex < strategies.size()) {
-            PluginStrategy strategy = strategies.get(currentIndex++);
+
+        // 按执行顺序分组（不修改调用方传入的列表）
+        Map<Integer, List<PluginStrategy>> groups = new TreeMap<>();
+        for (PluginStrategy strategy : strategies) {
+            groups.computeIfAbsent(strategy.getOrder(), k -> new ArrayList<>()).add(strategy);
+        }
+
+        for (List<PluginStrategy> group : groups.values()) {
+            executeGroup(group, config);
+        }
+    }
+
+    /**
+     * 执行同一组策略（并行度为 1 时按加入顺序串行执行），组内所有策略结束（或被取消）后返回
+     * @param group 执行顺序相同的策略
+     * @param config 中央仓库发布配置
+     * @throws MojoExecutionException 必需策略执行失败时抛出异常
+     * @author daixu
+     */
+    private void executeGroup(List<PluginStrategy> group, CentralPublishConfig config) throws MojoExecutionException {
+        try (ExecutorService executor = StrategyScheduler.newExecutor(config, config.getStrategyParallelism())) {
+            CompletionService<PluginStrategy> completionService = new ExecutorCompletionService<>(executor);
+            Map<Future<PluginStrategy>, PluginStrategy> running = new HashMap<>();
+
+            for (PluginStrategy strategy : group) {
+                if (!strategy.isEnabled(config)) {
+                    log.info("跳过插件[{}]配置: 策略未启用", strategy.getStrategyName());
+                    continue;
+                }
+                running.put(completionService.submit(() -> {
+                    strategy.configure(config);
+                    return strategy;
+                }), strategy);
+            }
+
             try {
-                strategy.configure(config);
-                // 执行下一个策略
-                execute(pluginManagement, config);
-            } catch (SkipExecutionException e) {
-                log.info("跳过插件[{}]配置: {}", strategy.getStrategyName(), e.getMessage());
-                execute(pluginManagement, config);
-            } catch (CriticalConfigurationException e) {
-                log.error("插件[{}]配置失败，终止流程: {}", strategy.getStrategyName(), e.getMessage());
-                throw e;
+                for (int remaining = running.size(); remaining > 0; remaining--) {
+                    Future<PluginStrategy> future = completionService.take();
+                    PluginStrategy strategy = running.remove(future);
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (strategy.isRequired(config)) {
+                            log.error("插件[{}]配置失败，终止流程: {}", strategy.getStrategyName(), e.getCause().getMessage());
+                            throw new MojoExecutionException("插件[" + strategy.getStrategyName() + "]配置失败", e.getCause());
+                        }
+                        log.warn("插件[{}]配置失败，继续执行: {}", strategy.getStrategyName(), e.getCause().getMessage());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("插件配置被中断", e);
+            } finally {
+                // 取消同组内仍在执行的策略，executor 关闭时等待其结束
+                for (Future<PluginStrategy> future : running.keySet()) {
+                    future.cancel(true);
+                }
+                executor.shutdownNow();
             }
         }
     }
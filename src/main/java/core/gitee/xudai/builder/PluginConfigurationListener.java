@@ -1,6 +1,19 @@
 package core.gitee.xudai.builder;
 
+import java.util.List;
+
 // 监听器接口
 public interface PluginConfigurationListener {
     void onEvent(PluginConfigurationEvent event);
+
+    /**
+     * 批量接收事件（异步分发时使用，事件按发布顺序排列），默认逐个调用 {@link #onEvent(PluginConfigurationEvent)}
+     * 写文件、上报等开销较大的监听器可重写此方法，一批事件只处理一次
+     * @param events 事件
+     */
+    default void onEvents(List<PluginConfigurationEvent> events) {
+        for (PluginConfigurationEvent event : events) {
+            onEvent(event);
+        }
+    }
 }
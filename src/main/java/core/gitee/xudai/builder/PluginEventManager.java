@@ -1,25 +1,365 @@
 package core.gitee.xudai.builder;
 
+import core.gitee.xudai.enums.BackpressurePolicyEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 插件配置事件管理器
+ * 1. 同步模式（默认）：在发布线程上依次调用所有监听器
+ * 2. 异步模式：每个监听器一个有界环形缓冲区和一个消费线程，发布线程只写入缓冲区；
+ *    同一监听器按发布顺序接收事件（批量交付），慢监听器只积压自己的缓冲区，不阻塞发布流程和其他监听器；
+ *    缓冲区写满时按背压策略处理（阻塞、丢弃最旧、采样），积压与丢弃数量通过 {@link #getStats()} 查看
+ * 异步模式使用完毕后需调用 {@link #close()}，等待已发布的事件交付完成
+ * @author daixu
+ */
+@Slf4j
+public class PluginEventManager implements AutoCloseable {
+
+    /**
+     * 默认缓冲区容量（每个监听器）
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * 默认每批最多交付的事件数量
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * 采样策略下，写满期间每隔多少个事件保留一个
+     */
+    private static final int SAMPLE_INTERVAL = 16;
+
+    /**
+     * 阻塞策略下发布线程每次等待的时长
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * 消费线程空闲时的最长等待时长（兜底，正常由发布线程唤醒）
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 关闭时等待事件交付完成的最长时间
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
 
-public class PluginEventManager {
     private List<PluginConfigurationListener> listeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * 异步模式：监听器对应的分发通道（同步模式为 null）
+     */
+    private final List<Channel> channels;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final BackpressurePolicyEnum policy;
+
+    /**
+     * 同步模式
+     */
+    public PluginEventManager() {
+        this.channels = null;
+        this.capacity = 0;
+        this.batchSize = 0;
+        this.policy = null;
+    }
+
+    private PluginEventManager(int capacity, int batchSize, BackpressurePolicyEnum policy) {
+        this.channels = new CopyOnWriteArrayList<>();
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, batchSize);
+        this.policy = policy != null ? policy : BackpressurePolicyEnum.BLOCK;
+    }
+
+    /**
+     * 创建异步模式的事件管理器（默认容量、批量大小，写满时阻塞）
+     * @return 事件管理器
+     * @author daixu
+     */
+    public static PluginEventManager async() {
+        return async(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, BackpressurePolicyEnum.BLOCK);
+    }
+
+    /**
+     * 创建异步模式的事件管理器
+     * @param capacity 每个监听器的缓冲区容量（向上取整为 2 的幂）
+     * @param batchSize 每批最多交付的事件数量
+     * @param policy 缓冲区写满时的背压策略
+     * @return 事件管理器
+     * @author daixu
+     */
+    public static PluginEventManager async(int capacity, int batchSize, BackpressurePolicyEnum policy) {
+        return new PluginEventManager(capacity, batchSize, policy);
+    }
+
+    /**
+     * 是否为异步模式
+     * @return 异步模式返回 true
+     */
+    public boolean isAsync() {
+        return channels != null;
+    }
+
     public void addListener(PluginConfigurationListener listener) {
         listeners.add(listener);
+        if (isAsync()) {
+            channels.add(new Channel(listener, capacity, batchSize, policy));
+        }
     }
 
     public void removeListener(PluginConfigurationListener listener) {
         listeners.remove(listener);
+        if (isAsync()) {
+            for (Channel channel : channels) {
+                if (channel.listener == listener) {
+                    channels.remove(channel);
+                    // 已发布的事件交付完成后再停止
+                    channel.close(CLOSE_TIMEOUT_MILLIS);
+                }
+            }
+        }
     }
 
     public void publishEvent(PluginConfigurationEvent event) {
+        if (isAsync()) {
+            for (Channel channel : channels) {
+                channel.publish(event);
+            }
+            return;
+        }
         for (PluginConfigurationListener listener : listeners) {
             listener.onEvent(event);
         }
     }
 
+    /**
+     * 各监听器的分发统计（同步模式返回空集合）
+     * @return 分发统计
+     * @author daixu
+     */
+    public List<ListenerStats> getStats() {
+        if (!isAsync()) {
+            return Collections.emptyList();
+        }
+        List<ListenerStats> stats = new ArrayList<>(channels.size());
+        for (Channel channel : channels) {
+            stats.add(channel.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * 停止异步分发：等待已发布的事件交付完成（每个监听器最多等待 5 秒），关闭后仍可查看分发统计，同步模式下无操作
+     * @author daixu
+     */
+    @Override
+    public void close() {
+        if (!isAsync()) {
+            return;
+        }
+        for (Channel channel : channels) {
+            channel.close(CLOSE_TIMEOUT_MILLIS);
+            ListenerStats stats = channel.stats();
+            if (stats.getDropped() > 0 || stats.getFailed() > 0 || stats.getLag() > 0) {
+                log.warn("事件监听器[{}]：发布 {} 个，交付 {} 个，丢弃 {} 个，失败 {} 个，未交付 {} 个",
+                        stats.getListener(), stats.getPublished(), stats.getDelivered(), stats.getDropped(),
+                        stats.getFailed(), stats.getLag());
+            }
+        }
+    }
+
+    /**
+     * 单个监听器的异步分发通道：多个发布线程写入，一个消费线程批量交付
+     */
+    private static final class Channel {
+
+        private final PluginConfigurationListener listener;
+
+        private final String name;
+
+        private final EventRing<PluginConfigurationEvent> ring;
+
+        private final int batchSize;
+
+        private final BackpressurePolicyEnum policy;
+
+        private final Thread consumer;
+
+        private volatile boolean running = true;
+
+        /** 消费线程是否空闲等待（发布线程据此决定是否唤醒） */
+        private final AtomicBoolean parked = new AtomicBoolean();
+
+        private final AtomicLong published = new AtomicLong();
+
+        private final AtomicLong delivered = new AtomicLong();
+
+        private final AtomicLong dropped = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        /** 采样策略下写满期间的事件计数 */
+        private final AtomicLong overflow = new AtomicLong();
+
+        private Channel(PluginConfigurationListener listener, int capacity, int batchSize, BackpressurePolicyEnum policy) {
+            this.listener = listener;
+            this.name = listener.getClass().getName();
+            this.ring = new EventRing<>(capacity);
+            this.batchSize = batchSize;
+            this.policy = policy;
+            this.consumer = Thread.ofPlatform().name("central-publish-event-" + listener.getClass().getSimpleName()).daemon(true).unstarted(this::run);
+            this.consumer.start();
+        }
+
+        private void publish(PluginConfigurationEvent event) {
+            published.incrementAndGet();
+            if (!ring.offer(event)) {
+                switch (policy) {
+                    case BLOCK -> {
+                        if (!offerBlocking(event)) {
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                    }
+                    case DROP_OLDEST -> replaceOldest(event);
+                    case SAMPLE -> {
+                        if (overflow.incrementAndGet() % SAMPLE_INTERVAL != 0) {
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                        replaceOldest(event);
+                    }
+                }
+            }
+            signal();
+        }
+
+        /**
+         * 等待空位后写入（通道已关闭时放弃）
+         */
+        private boolean offerBlocking(PluginConfigurationEvent event) {
+            while (running) {
+                signal();
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                if (ring.offer(event)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 丢弃最旧的事件后写入
+         */
+        private void replaceOldest(PluginConfigurationEvent event) {
+            while (!ring.offer(event)) {
+                if (ring.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+
+        private void signal() {
+            if (parked.get()) {
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        private void run() {
+            while (true) {
+                List<PluginConfigurationEvent> batch = new ArrayList<>(Math.min(batchSize, ring.capacity()));
+                if (ring.drainTo(batch, batchSize) > 0) {
+                    deliver(batch);
+                    continue;
+                }
+                if (!ring.isEmpty()) {
+                    // 发布线程已占用位置、尚未写入，让出 CPU 后重试
+                    Thread.yield();
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+                // 先标记再检查，避免发布线程写入后错过唤醒
+                parked.set(true);
+                if (ring.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                parked.set(false);
+            }
+        }
+
+        private void deliver(List<PluginConfigurationEvent> batch) {
+            try {
+                listener.onEvents(Collections.unmodifiableList(batch));
+            } catch (RuntimeException e) {
+                failed.addAndGet(batch.size());
+                log.warn("事件监听器[{}]处理 {} 个事件失败: {}", name, batch.size(), e.getMessage());
+            } finally {
+                delivered.addAndGet(batch.size());
+            }
+        }
+
+        private void close(long timeoutMillis) {
+            running = false;
+            LockSupport.unpark(consumer);
+            try {
+                consumer.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private ListenerStats stats() {
+            long publishedCount = published.get();
+            long deliveredCount = delivered.get();
+            long droppedCount = dropped.get();
+            return new ListenerStats(name, publishedCount, deliveredCount, droppedCount, failed.get(),
+                    Math.max(0, publishedCount - deliveredCount - droppedCount));
+        }
+    }
+
+    /**
+     * 单个监听器的分发统计
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ListenerStats {
+
+        /** 监听器类名 */
+        private final String listener;
+
+        /** 已发布的事件数量 */
+        private final long published;
+
+        /** 已交付的事件数量（包括处理失败的事件） */
+        private final long delivered;
+
+        /** 因缓冲区写满丢弃的事件数量 */
+        private final long dropped;
+
+        /** 监听器处理失败的事件数量 */
+        private final long failed;
+
+        /** 积压：已发布、尚未交付也未丢弃的事件数量 */
+        private final long lag;
+    }
+
     // 在策略中使用
 //    @Override
 //    public void configure(PluginManagement pluginManagement, CentralPublishConfig config) {
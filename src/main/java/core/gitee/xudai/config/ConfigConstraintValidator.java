@@ -0,0 +1,266 @@
+package core.gitee.xudai.config;
+
+import core.gitee.xudai.enums.MavenScope;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * 配置约束校验器：不启动 Bean Validation（Hibernate Validator、EL、元数据扫描），直接按约束注解校验配置对象
+ * 1. 支持配置类中使用的约束：@NotNull、@NotBlank、@ValidScope，以及 @Valid 级联校验（集合、Map 逐个元素校验）
+ * 2. 字段和 getter 上的约束都会校验（与 Bean Validation 一致，子类覆写 getter 追加的约束也生效），错误信息与注解中的 message 一致
+ * 3. 每个类的约束只在首次校验时读取一次（缓存在 ClassValue 中），之后通过 MethodHandle 取值，不再反射查找注解
+ * @author daixu
+ */
+public final class ConfigConstraintValidator {
+
+    /**
+     * 类 → 约束校验计划
+     */
+    private static final ClassValue<Constraint[]> PLANS = new ClassValue<>() {
+        @Override
+        protected Constraint[] computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private ConfigConstraintValidator() {
+        throw new AssertionError("工具类不允许实例化");
+    }
+
+    /**
+     * 校验对象的所有约束
+     * @param bean 待校验对象
+     * @return 违反的约束（按声明顺序，父类在前），没有违反时返回空集合
+     * @author daixu
+     */
+    public static List<Violation> validate(Object bean) {
+        List<Violation> violations = new ArrayList<>();
+        if (bean != null) {
+            validate(bean, "", violations, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+        return violations;
+    }
+
+    private static void validate(Object bean, String prefix, List<Violation> violations, Set<Object> visited) {
+        if (!visited.add(bean)) {
+            return;
+        }
+        for (Constraint constraint : PLANS.get(bean.getClass())) {
+            Object value = constraint.read(bean);
+            String path = prefix + constraint.property;
+            switch (constraint.kind) {
+                case NOT_NULL -> {
+                    if (value == null) {
+                        violations.add(new Violation(constraint.message, path));
+                    }
+                }
+                case NOT_BLANK -> {
+                    if (value == null || value.toString().isBlank()) {
+                        violations.add(new Violation(constraint.message, path));
+                    }
+                }
+                case SCOPE -> {
+                    if (value != null && !MavenScope.contains(value.toString())) {
+                        violations.add(new Violation(constraint.message, path));
+                    }
+                }
+                case CASCADE -> cascade(value, path, violations, visited);
+            }
+        }
+    }
+
+    /**
+     * 级联校验：集合按下标、Map 按键逐个校验元素
+     */
+    private static void cascade(Object value, String path, List<Violation> violations, Set<Object> visited) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Iterable<?>) {
+            int index = 0;
+            for (Object element : (Iterable<?>) value) {
+                if (element != null) {
+                    validate(element, path + "[" + index + "].", violations, visited);
+                }
+                index++;
+            }
+        } else if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() != null) {
+                    validate(entry.getValue(), path + "[" + entry.getKey() + "].", violations, visited);
+                }
+            }
+        } else {
+            validate(value, path + ".", violations, visited);
+        }
+    }
+
+    /**
+     * 读取类（包括父类）字段和 getter 上的约束，建立校验计划
+     */
+    private static Constraint[] createPlan(Class<?> type) {
+        // 父类的约束在前，与声明顺序一致
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+
+        List<Constraint> constraints = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && hasConstraint(field.getAnnotations())) {
+                    MethodHandle getter = unreflect(() -> lookup.unreflectGetter(field), field);
+                    addConstraints(constraints, field.getName(), getter, field.getAnnotations());
+                }
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                String property = propertyName(method);
+                if (property != null && hasConstraint(method.getAnnotations())) {
+                    MethodHandle getter = unreflect(() -> lookup.unreflect(method), method);
+                    addConstraints(constraints, property, getter, method.getAnnotations());
+                }
+            }
+        }
+        return constraints.toArray(new Constraint[0]);
+    }
+
+    private static void addConstraints(List<Constraint> constraints, String property, MethodHandle getter,
+                                       Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof NotNull notNull) {
+                constraints.add(new Constraint(ConstraintKind.NOT_NULL, property, getter,
+                        message(notNull.message(), "must not be null")));
+            } else if (annotation instanceof NotBlank notBlank) {
+                constraints.add(new Constraint(ConstraintKind.NOT_BLANK, property, getter,
+                        message(notBlank.message(), "must not be blank")));
+            } else if (annotation instanceof ValidScope validScope) {
+                constraints.add(new Constraint(ConstraintKind.SCOPE, property, getter, validScope.message()));
+            } else if (annotation instanceof Valid) {
+                constraints.add(new Constraint(ConstraintKind.CASCADE, property, getter, null));
+            }
+        }
+    }
+
+    /**
+     * 错误信息：未自定义 message（仍为 {xxx.message} 形式的默认消息键）时使用 Bean Validation 的默认英文消息
+     */
+    private static String message(String message, String defaultMessage) {
+        return message.startsWith("{") && message.endsWith("}") ? defaultMessage : message;
+    }
+
+    private static boolean hasConstraint(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof NotNull || annotation instanceof NotBlank
+                    || annotation instanceof ValidScope || annotation instanceof Valid) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * getter 方法对应的属性名（不是无参实例 getter 时返回 null）
+     */
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+                || method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        String property;
+        if (name.startsWith("get") && name.length() > 3) {
+            property = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2) {
+            property = name.substring(2);
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private static MethodHandle unreflect(HandleFactory factory, Object member) {
+        try {
+            return factory.create().asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("无法访问约束成员: " + member, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface HandleFactory {
+        MethodHandle create() throws IllegalAccessException;
+    }
+
+    /**
+     * 约束类型
+     */
+    private enum ConstraintKind {
+        NOT_NULL, NOT_BLANK, SCOPE, CASCADE
+    }
+
+    /**
+     * 单个约束：属性 + 取值句柄 + 错误信息
+     */
+    private static final class Constraint {
+
+        private final ConstraintKind kind;
+
+        private final String property;
+
+        private final MethodHandle getter;
+
+        private final String message;
+
+        private Constraint(ConstraintKind kind, String property, MethodHandle getter, String message) {
+            this.kind = kind;
+            this.property = property;
+            this.getter = getter;
+            this.message = message;
+        }
+
+        private Object read(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("读取属性失败: " + bean.getClass().getName() + "." + property, e);
+            }
+        }
+    }
+
+    /**
+     * 违反的约束
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Violation {
+
+        /** 错误信息（约束注解中的 message） */
+        private final String message;
+
+        /** 属性路径（如 dependencyInfo.groupId） */
+        private final String propertyPath;
+    }
+
+}
@@ -1,6 +1,7 @@
 package core.gitee.xudai.config;
 
 import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -18,4 +19,13 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Constraint(validatedBy = ScopeValidator.class)
 public @interface ValidScope {
 
+    /**
+     * 错误信息
+     */
+    String message() default "scope must be a valid Maven scope";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
 }
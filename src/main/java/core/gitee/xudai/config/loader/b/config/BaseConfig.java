@@ -1,7 +1,7 @@
 package core.gitee.xudai.config.loader.b.config;
 
+import core.gitee.xudai.config.ConfigConstraintValidator;
 import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
-import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -10,7 +10,6 @@ import lombok.experimental.SuperBuilder;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -44,16 +43,21 @@ public abstract class BaseConfig <T extends BaseStrategyMetadata<T>> {
     protected BaseInfo baseInfo;
 
     /**
-     * 加载配置时（如YAML解析后），使用 Validator 校验，
+     * 系统属性：为 true 时使用 Bean Validation（Hibernate Validator）校验，默认使用 {@link ConfigConstraintValidator}
      */
-    private static final Validator validator;
+    public static final String JAKARTA_VALIDATION_PROPERTY = "central.publish.validation.jakarta";
 
     /**
-     * 静态 Validator 实例，避免重复创建
+     * Bean Validation 校验器（仅在启用时才初始化，未启用时不会加载 Hibernate Validator）
      */
-    static {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        validator = factory.getValidator();
+    private static final class JakartaValidatorHolder {
+
+        private static final Validator VALIDATOR;
+
+        static {
+            ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+            VALIDATOR = factory.getValidator();
+        }
     }
 
     /**
@@ -61,22 +65,27 @@ public abstract class BaseConfig <T extends BaseStrategyMetadata<T>> {
      * 统一校验逻辑，校验配置的合法性：校验当前配置的所有约束注解
      * 父类负责校验公共属性，子类可重写此方法添加特有属性的校验。
      * 子类可重写此方法添加特有校验。
-     * 1. 先执行 JSR 303 注解校验（公共属性）
+     * 1. 先执行约束注解校验（公共属性），默认不启动 Bean Validation，直接按注解校验，错误信息一致
      * 2. 调用钩子方法执行子类特有校验
      */
     public final void validate() {
 
         // 1. 基础注解校验（公共属性）
         // 校验当前对象（即子类实例）的所有约束注解
-        Set<ConstraintViolation<BaseConfig>> violations = validator.validate(this);
+        List<String> violations = Boolean.getBoolean(JAKARTA_VALIDATION_PROPERTY)
+                ? JakartaValidatorHolder.VALIDATOR.validate(this).stream()
+                        .map(v -> v.getMessage() + v.getPropertyPath())
+                        .toList()
+                : ConfigConstraintValidator.validate(this).stream()
+                        .map(v -> v.getMessage() + v.getPropertyPath())
+                        .toList();
 
         if (!violations.isEmpty()) {
             StringBuilder errorMsg = new StringBuilder("配置校验失败 (ID: " + this.id + "): ");
             violations.forEach(v -> errorMsg
                     .append(" ")
                     .append("; ")
-                    .append(v.getMessage())
-                    .append(v.getPropertyPath())
+                    .append(v)
             );
             throw new IllegalArgumentException(errorMsg.toString().trim());
         }
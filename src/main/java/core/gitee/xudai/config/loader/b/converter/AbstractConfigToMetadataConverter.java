@@ -1,6 +1,8 @@
 package core.gitee.xudai.config.loader.b.converter;
 
 import core.gitee.xudai.config.loader.b.config.BaseConfig;
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import core.gitee.xudai.metrics.RunMetrics;
 import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,18 +25,25 @@ public abstract class AbstractConfigToMetadataConverter<C extends BaseConfig<M>,
      */
     @Override
     public final M convert(C config) {
+        // 按转换器统计（同一转换器的所有配置归为一组）
+        try (RunMetrics.Span span = RunMetrics.start(MetricCategoryEnum.CONVERSION, getClass().getSimpleName(), null)) {
+            try {
+                // 1. 校验配置（共性）
+                validateConfig(config);
 
-        // 1. 校验配置（共性）
-        validateConfig(config);
+                // 2. 初始化元数据（由子类提供具体实例）
+//                M metadata = createMetadataInstance();
 
-        // 2. 初始化元数据（由子类提供具体实例）
-//        M metadata = createMetadataInstance();
+                // 2. 子类实现：调用 MapStruct 映射器完成转换
+                M metadata = doConvert(config);
 
-        // 2. 子类实现：调用 MapStruct 映射器完成转换
-        M metadata = doConvert(config);
-
-        log.info("配置转换完成，ID: {}", config.getId());
-        return metadata;
+                log.info("配置转换完成，ID: {}", config.getId());
+                return metadata;
+            } catch (RuntimeException e) {
+                span.failed();
+                throw e;
+            }
+        }
     }
 
     /**
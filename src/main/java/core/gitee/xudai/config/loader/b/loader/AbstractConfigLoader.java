@@ -4,13 +4,21 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import core.gitee.xudai.config.loader.b.config.BaseConfig;
 import core.gitee.xudai.config.loader.b.converter.ConfigToMetadataConverter;
 import core.gitee.xudai.config.loader.b.factory.ConverterFactory;
+import core.gitee.xudai.config.loader.b.snapshot.ConfigSnapshot;
+import core.gitee.xudai.config.loader.b.source.ConfigSourceChain;
+import core.gitee.xudai.config.loader.b.util.PlaceholderResolver;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import core.gitee.xudai.metrics.RunMetrics;
 import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
 import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,6 +38,12 @@ public abstract class AbstractConfigLoader<
         METADATA extends BaseStrategyMetadata<METADATA>  // 元数据也加约束（可选，根据实际类型）
         > implements ConfigLoaderContainer<List<E>, M> {
 
+    /**
+     * 系统属性：为 true 时以流式方式加载 YAML（逐条读取、校验、转换，适用于包含大量条目的外部配置目录），
+     * 开启后不再使用二进制快照
+     */
+    public static final String STREAMING_PROPERTY = "central.publish.config.streaming";
+
     // 子类的配置类型（通过泛型反射自动获取）
     protected final Class<E> elementType;
 
@@ -55,6 +69,19 @@ public abstract class AbstractConfigLoader<
     // 新增：存储转换后的元数据集合（可选，根据需求决定是否保留）
     private List<METADATA> strategyMetadataList;
 
+    /**
+     * 上次多来源合并加载时的来源指纹与占位符解析器（两者都不变时不重新绑定、校验和转换）
+     */
+    private String layeredFingerprint;
+
+    private PlaceholderResolver layeredResolver;
+
+    /**
+     * 流式加载时的条目过滤器（默认根据系统属性创建，未配置时保留所有条目；配置了过滤条件时自动流式加载）
+     */
+    @Setter
+    private CatalogEntryFilter entryFilter = CatalogEntryFilter.fromSystemProperties();
+
     /**
      * 构造器：子类传递差异化参数
      * @param filePath 配置文件路径（如 "plugin-configs.yaml"）
@@ -117,12 +144,47 @@ public abstract class AbstractConfigLoader<
      */
     @Override
     public final void load() {
+        try (RunMetrics.Span span = RunMetrics.start(MetricCategoryEnum.CONFIG_LOAD, filePath, null)) {
+            try {
+                doLoad();
+            } catch (RuntimeException e) {
+                span.failed();
+                throw e;
+            }
+        }
+    }
+
+    private void doLoad() {
         try {
             // 1. 初始化加载状态
             loadMetadata.setLoadTime(LocalDateTime.now());
             loadMetadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.LOADING);
             log.info("开始加载配置文件：{}", filePath);
 
+            // 1.0 项目覆盖文件、环境变量、系统属性或远程配置中心提供了该配置时，按 id 合并各来源后加载
+            ConfigSourceChain sourceChain = ConfigSourceChain.getDefault();
+            if (sourceChain.hasOverrides(filePath)) {
+                loadLayered(sourceChain.resolve(filePath));
+                return;
+            }
+
+            // 1.1 显式开启流式加载或配置了条目过滤时流式加载：逐条读取、过滤、校验、转换，不保留整个配置集合
+            //     （快照保存的是完整的配置集合，不能代替显式的流式加载和条目过滤，因此先于快照判断）
+            if (Boolean.getBoolean(STREAMING_PROPERTY) || entryFilter != CatalogEntryFilter.ALL) {
+                loadStreaming();
+                return;
+            }
+
+            // 1.2 使用构建期生成的二进制快照（快照中没有当前路径，即用户覆盖了配置文件时，解析 YAML）
+            List<METADATA> snapshotMetadata = ConfigSnapshot.getDefault().section(filePath);
+            if (snapshotMetadata != null) {
+                this.strategyMetadataList = Collections.unmodifiableList(snapshotMetadata);
+                loadMetadata.setSource(BaseConfigLoadMetadata.ConfigSource.BINARY_SNAPSHOT);
+                loadMetadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.SUCCESS);
+                log.info("配置加载成功（二进制快照）：{}，共{}条配置", filePath, snapshotMetadata.size());
+                return;
+            }
+
             // 2. 加载并解析YAML为配置集合
             List<E> rawConfigs = YamlConfigLoader.loadYamlConfigList(filePath, elementType);
             if (rawConfigs == null) {
@@ -157,6 +219,72 @@ public abstract class AbstractConfigLoader<
         }
     }
 
+    /**
+     * 多来源合并加载：绑定合并后的条目，解析占位符、校验并转换为元数据
+     * 合并结果的指纹与上次加载相同（各来源均未变化）且占位符取值来源未重新绑定时，直接沿用上次的元数据
+     */
+    private void loadLayered(ConfigSourceChain.MergedConfig merged) {
+        PlaceholderResolver resolver = PlaceholderUtils.resolver();
+        if (merged.getFingerprint().equals(layeredFingerprint) && resolver == layeredResolver
+                && strategyMetadataList != null) {
+            loadMetadata.setSource(merged.getEffectiveSource());
+            loadMetadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.SUCCESS);
+            log.info("配置来源未变化，沿用已加载的配置：{}", filePath);
+            return;
+        }
+
+        List<E> rawConfigs = YamlConfigLoader.bindConfigList(merged.getEntries(), elementType,
+                filePath + " " + merged.getSources());
+        doValidate(rawConfigs);
+        List<METADATA> resolvedMetadata = convertToMetadata(rawConfigs);
+
+        this.strategyMetadataList = Collections.unmodifiableList(resolvedMetadata);
+        this.layeredFingerprint = merged.getFingerprint();
+        this.layeredResolver = resolver;
+        loadMetadata.setSource(merged.getEffectiveSource());
+        loadMetadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.SUCCESS);
+        log.info("配置加载成功（多来源合并 {}）：{}，共{}条配置，转换元数据{}条",
+                merged.getSources(), filePath, rawConfigs.size(), resolvedMetadata.size());
+    }
+
+    /**
+     * 流式加载：每读取一个条目立即校验并转换为元数据，条目对象随即丢弃，峰值内存与配置目录大小无关
+     * 条目过滤在绑定对象之前进行；每个条目执行与全量加载相同的逐条校验（validate、customValidateEntry），
+     * 集合级的自定义校验（customValidate）需要完整集合，重写了该方法的加载器不支持流式加载
+     */
+    private void loadStreaming() {
+        if (overridesCustomValidate()) {
+            throw new IllegalStateException("配置加载器[" + getClass().getSimpleName()
+                    + "]重写了集合级校验 customValidate，不支持流式加载（请关闭 " + STREAMING_PROPERTY
+                    + " 及条目过滤，或将校验改为逐条校验 customValidateEntry）：" + filePath);
+        }
+        List<METADATA> resolvedMetadata = new ArrayList<>();
+        int total = YamlConfigLoader.streamYamlConfigList(filePath, elementType, entryFilter, config -> {
+            config.validate();
+            customValidateEntry(config);
+            resolvedMetadata.add(convert(config));
+        });
+        if (total == 0) {
+            throw new IllegalArgumentException("配置集合不能为空：" + filePath);
+        }
+
+        this.strategyMetadataList = Collections.unmodifiableList(resolvedMetadata);
+        loadMetadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.SUCCESS);
+        log.info("配置加载成功（流式）：{}，共读取{}条配置，转换元数据{}条",
+                filePath, total, resolvedMetadata.size());
+    }
+
+    /**
+     * 编译配置（构建期生成二进制快照时使用）：校验 YAML 配置并转换为元数据
+     * 校验使用解析占位符后的配置，转换结果保留占位符原样，运行时解码后再按当前环境解析
+     * @return 保留占位符的元数据集合
+     * @author daixu
+     */
+    public List<METADATA> compile() {
+        doValidate(YamlConfigLoader.loadYamlConfigList(filePath, elementType));
+        return convertToMetadata(YamlConfigLoader.loadYamlConfigList(filePath, elementType, false));
+    }
+
     /**
      * 配置校验：基础校验（非空）+ 子类自定义校验
      */
@@ -172,6 +300,7 @@ public abstract class AbstractConfigLoader<
             }
             // 调用配置类自身的校验逻辑（BaseConfig的validate方法）
             config.validate();
+            customValidateEntry(config);
         }
         // 子类自定义校验（可选扩展点）
         customValidate(configs);
@@ -179,16 +308,18 @@ public abstract class AbstractConfigLoader<
 
     private List<METADATA> convertToMetadata(List<E> configs) {
         return configs.stream()
-                .map(config -> {
-                    try {
-                        return converter.convert(config);
-                    } catch (Exception e) {
-                        throw new RuntimeException("配置[" + config.getId() + "]转换失败", e);
-                    }
-                })
+                .map(this::convert)
                 .collect(Collectors.toList());
     }
 
+    private METADATA convert(E config) {
+        try {
+            return converter.convert(config);
+        } catch (Exception e) {
+            throw new RuntimeException("配置[" + config.getId() + "]转换失败", e);
+        }
+    }
+
 
 
     /**
@@ -239,4 +370,25 @@ public abstract class AbstractConfigLoader<
      */
     protected void customValidate(List<E> configs) throws IllegalArgumentException {}
 
+    /**
+     * 逐条自定义校验（子类按需重写，默认无实现）
+     * 全量加载与流式加载都会对每个条目执行，只依赖单个条目的校验应放在这里
+     */
+    protected void customValidateEntry(E config) throws IllegalArgumentException {}
+
+    /**
+     * 子类是否重写了集合级校验 customValidate
+     */
+    private boolean overridesCustomValidate() {
+        for (Class<?> type = getClass(); type != AbstractConfigLoader.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod("customValidate", List.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // 继续检查父类
+            }
+        }
+        return false;
+    }
+
 }
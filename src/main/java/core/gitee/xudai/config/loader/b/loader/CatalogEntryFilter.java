@@ -0,0 +1,96 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 配置条目过滤器（流式加载时使用）：在条目绑定为配置对象之前，只根据条目的 id 和 baseInfo.enabled 判断是否保留，
+ * 被过滤的条目不会创建任何配置对象，也不会参与校验和转换；配置了过滤条件时加载器不使用二进制快照，直接流式读取 YAML
+ * @author daixu
+ */
+@FunctionalInterface
+public interface CatalogEntryFilter {
+
+    /**
+     * 系统属性：只加载指定 id 的条目（多个 id 以逗号分隔）
+     */
+    String IDS_PROPERTY = "central.publish.config.ids";
+
+    /**
+     * 系统属性：只加载已启用（baseInfo.enabled 不为 false）的条目
+     */
+    String ENABLED_ONLY_PROPERTY = "central.publish.config.enabled-only";
+
+    /**
+     * 保留所有条目
+     */
+    CatalogEntryFilter ALL = (id, enabled) -> true;
+
+    /**
+     * 是否保留条目
+     * @param id 条目 id（未配置时为 null）
+     * @param enabled 条目 baseInfo.enabled（未配置时为 null）
+     * @return 保留返回 true，否则返回 false
+     * @author daixu
+     */
+    boolean accept(String id, Boolean enabled);
+
+    /**
+     * 与另一个过滤器组合（两者都保留时才保留）
+     * @param other 另一个过滤器
+     * @return 组合后的过滤器
+     * @author daixu
+     */
+    default CatalogEntryFilter and(CatalogEntryFilter other) {
+        if (this == ALL) {
+            return other;
+        }
+        if (other == ALL) {
+            return this;
+        }
+        return (id, enabled) -> accept(id, enabled) && other.accept(id, enabled);
+    }
+
+    /**
+     * 只保留指定 id 的条目
+     * @param ids 条目 id 集合
+     * @return 过滤器
+     * @author daixu
+     */
+    static CatalogEntryFilter ids(Collection<String> ids) {
+        Set<String> accepted = Set.copyOf(ids);
+        return (id, enabled) -> id != null && accepted.contains(id);
+    }
+
+    /**
+     * 只保留已启用的条目（未配置 enabled 时视为启用，与 BaseInfo 默认值一致）
+     * @return 过滤器
+     * @author daixu
+     */
+    static CatalogEntryFilter enabledOnly() {
+        return (id, enabled) -> !Boolean.FALSE.equals(enabled);
+    }
+
+    /**
+     * 根据系统属性创建过滤器（未配置时保留所有条目）
+     * @return 过滤器
+     * @author daixu
+     */
+    static CatalogEntryFilter fromSystemProperties() {
+        CatalogEntryFilter filter = ALL;
+        String ids = System.getProperty(IDS_PROPERTY);
+        if (ids != null && !ids.isBlank()) {
+            filter = filter.and(ids(Arrays.stream(ids.split(","))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .collect(Collectors.toSet())));
+        }
+        if (Boolean.parseBoolean(System.getProperty(ENABLED_ONLY_PROPERTY))) {
+            filter = filter.and(enabledOnly());
+        }
+        return filter;
+    }
+
+}
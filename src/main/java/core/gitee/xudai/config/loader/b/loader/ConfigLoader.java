@@ -4,16 +4,23 @@ import core.gitee.xudai.config.loader.b.config.PluginConfig;
 import core.gitee.xudai.container.DependencyConfigContainer;
 import core.gitee.xudai.container.LicenseConfigContainer;
 import core.gitee.xudai.container.PluginConfigContainer;
+import core.gitee.xudai.enums.ConfigFilePathEnum;
 import core.gitee.xudai.metadata.DependencyConfigLoadMetadata;
 import core.gitee.xudai.metadata.LicenseConfigLoadMetadata;
 import core.gitee.xudai.metadata.PluginConfigLoadMetadata;
+import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
 import core.gitee.xudai.strategy.plugin.enums.PluginIdEnum;
 import core.gitee.xudai.strategy.plugin.metadata.PluginStrategyMetadata;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 配置加载器（枚举单例实现，整合业务配置+元数据）
@@ -35,129 +42,169 @@ public enum ConfigLoader {
         // 🚀 内部枚举唯一实例
         INSTANCE;
 
-        // 聚合各配置加载器（final修饰，初始化后不可修改，保证线程安全）
+        // 各配置加载器相互独立，首次访问时才加载（只需许可证配置的场景不会加载插件、依赖配置）；
+        // 单例在 JVM 内常驻，加载结果随每次构建的属性绑定失效，重新绑定后首次访问时重新加载（见 LazyConfigLoader）
         @Getter
-        private final PluginConfigLoader pluginLoader = new PluginConfigLoader();
+        private final LazyConfigLoader<PluginConfigLoader> pluginLoader = new LazyConfigLoader<>(
+                "plugin", new PluginConfigLoader(), PluginConfigLoader::load, PluginConfigLoader::getMetadata);
         @Getter
-        private final LicenseConfigLoader licenseLoader = new LicenseConfigLoader();
+        private final LazyConfigLoader<LicenseConfigLoader> licenseLoader = new LazyConfigLoader<>(
+                "license", new LicenseConfigLoader(), LicenseConfigLoader::load, LicenseConfigLoader::getMetadata);
         @Getter
-        private final DependencyConfigLoader dependencyLoader = new DependencyConfigLoader();
+        private final LazyConfigLoader<DependencyConfigLoader> dependencyLoader = new LazyConfigLoader<>(
+                "dependency", new DependencyConfigLoader(), DependencyConfigLoader::load, DependencyConfigLoader::getMetadata);
 
-        // 全局配置容器（存储整合后的所有配置）
-        private GlobalConfig config;
+        /**
+         * 外部配置目录监听器（配置了外部配置目录时在首次访问时创建）
+         */
+        private volatile ExternalConfigWatcher externalWatcher;
 
         /**
-         * 内部枚举构造器：仅初始化一次，执行配置加载
+         * 获取外部配置目录监听器
+         * @return 监听器，未配置外部配置目录时返回 null
          */
-        SingletonHolder() {
-            this.config = loadConfig();
+        private ExternalConfigWatcher externalWatcher() {
+            ExternalConfigWatcher watcher = externalWatcher;
+            if (watcher != null) {
+                return watcher;
+            }
+            String dir = ConfigFilePathEnum.getExternalConfigDir();
+            if (dir == null) {
+                return null;
+            }
+            synchronized (this) {
+                if (externalWatcher == null) {
+                    try {
+                        externalWatcher = ExternalConfigWatcher.start(Path.of(dir));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("启动外部配置目录监听失败：" + dir, e);
+                    }
+                }
+                return externalWatcher;
+            }
         }
 
+        /**
+         * 并行加载所有配置，汇总已加载成功的配置（加载失败的配置为空，原因见对应的加载元数据）
+         * @return 全局配置容器
+         */
         private GlobalConfig loadConfig() {
 
-            GlobalConfig globalConfig = new GlobalConfig();
+            preloadAll().join();
 
-            // 加载插件配置并赋值
-            pluginLoader.load();
-            if (this.config != null) {
-                this.config.setPluginConfigContainer(pluginLoader.getConfig());
+            GlobalConfig globalConfig = new GlobalConfig();
+            if (pluginLoader.isLoaded()) {
+                globalConfig.setPluginConfigContainer(pluginLoader.get().getConfig());
             }
-//            this.config.setP(pluginLoader.getMetadata());
-
-            // 加载许可证配置并赋值
-            licenseLoader.load();
-            if (this.config != null) {
-                this.config.setLicenseConfigContainer(licenseLoader.getConfig());
+            if (licenseLoader.isLoaded()) {
+                globalConfig.setLicenseConfigContainer(licenseLoader.get().getConfig());
             }
-
-            // 加载依赖配置并赋值
-            dependencyLoader.load();
-            if (this.config != null) {
-                this.config.setDependencyConfigContainer(dependencyLoader.getConfig());
+            if (dependencyLoader.isLoaded()) {
+                globalConfig.setDependencyConfigContainer(dependencyLoader.get().getConfig());
             }
-
+            globalConfig.setPluginConfigMetadata(pluginLoader.getLoader().getMetadata());
+            globalConfig.setLicenseConfigMetadata(licenseLoader.getLoader().getMetadata());
+            globalConfig.setDependencyConfigMetadata(dependencyLoader.getLoader().getMetadata());
             return globalConfig;
         }
 
+        /**
+         * 在后台并行加载所有尚未加载的配置
+         * @return 全部加载结束（无论成功失败）时完成
+         */
+        private CompletableFuture<Void> preloadAll() {
+            return CompletableFuture.allOf(
+                    pluginLoader.preload().exceptionally(e -> null),
+                    licenseLoader.preload().exceptionally(e -> null),
+                    dependencyLoader.preload().exceptionally(e -> null)
+            );
+        }
+
         // -------------------------- 内部枚举get方法（对外暴露核心组件） --------------------------
 
         public GlobalConfig getGlobalConfig() {
-            return config;
+            ExternalConfigWatcher watcher = externalWatcher();
+            return watcher != null ? watcher.current() : loadConfig();
         }
     }
 
-    // 初始化：统一触发所有配置加载
-//    ConfigLoader() {
-//        pluginLoader.load();
-//        licenseLoader.load();
-//        dependencyLoader.load();
-//    }
-
     // TODO 获取所有配置
     // TODO 通过 ID 获取配置信息
 
-    // -------------------------- 对外提供的统一访问方法 --------------------------
-
     // -------------------------- 外部枚举对外开放的get方法（统一访问入口） --------------------------
 
-    // 获取单例实例
+    // 获取单例实例（不触发配置加载，各配置在首次访问时加载）
     public static ConfigLoader getInstance() {
-        // 添加初始化校验：确保配置已加载
-        if (INSTANCE.getGlobalConfig() == null) {
-            throw new IllegalStateException("配置未初始化完成！");
-        }
         // 添加日志：追踪单例访问时机
         log.info("获取ConfigLoader单例，当前时间：{}", LocalDateTime.now());
         return ConfigLoader.INSTANCE;
     }
 
     /**
-     * 获取全局配置容器（包含所有配置和元数据）
+     * 在后台并行加载所有配置（已知需要全部配置时调用，之后的访问直接复用加载结果）
+     * 单个配置加载失败不影响其他配置，失败原因在访问该配置时抛出
+     * @return 全部加载结束（无论成功失败）时完成
+     */
+    public CompletableFuture<Void> preloadAll() {
+        return SingletonHolder.INSTANCE.preloadAll();
+    }
+
+    /**
+     * 获取外部配置目录的当前配置快照（快照发布后不再修改，同一次构建应只获取一次）
+     * @return 配置快照，未配置外部配置目录时返回 null
+     */
+    public GlobalConfig getExternalSnapshot() {
+        ExternalConfigWatcher watcher = SingletonHolder.INSTANCE.externalWatcher();
+        return watcher != null ? watcher.current() : null;
+    }
+
+    /**
+     * 获取全局配置容器（并行加载所有配置，包含所有配置和元数据；配置了外部配置目录时返回当前快照）
      */
     public GlobalConfig getGlobalConfig() {
         return SingletonHolder.INSTANCE.getGlobalConfig();
     }
 
     /**
-     * 获取插件业务配置
+     * 获取插件业务配置（首次访问时加载）
      */
     public PluginConfigContainer getPluginConfig() {
-        return SingletonHolder.INSTANCE.getPluginLoader().getConfig();
+        return SingletonHolder.INSTANCE.getPluginLoader().get().getConfig();
     }
 
     /**
-     * 获取许可证业务配置
+     * 获取许可证业务配置（首次访问时加载）
      */
     public LicenseConfigContainer getLicenseConfig() {
-        return SingletonHolder.INSTANCE.getLicenseLoader().getConfig();
+        return SingletonHolder.INSTANCE.getLicenseLoader().get().getConfig();
     }
 
     /**
-     * 获取依赖业务配置
+     * 获取依赖业务配置（首次访问时加载）
      */
     public DependencyConfigContainer getDependencyConfig() {
-        return SingletonHolder.INSTANCE.getDependencyLoader().getConfig();
+        return SingletonHolder.INSTANCE.getDependencyLoader().get().getConfig();
     }
 
     /**
-     * 获取插件配置元数据
+     * 获取插件配置元数据（不触发加载）
      */
     public PluginConfigLoadMetadata getPluginConfigMetadata() {
-        return SingletonHolder.INSTANCE.getPluginLoader().getMetadata();
+        return SingletonHolder.INSTANCE.getPluginLoader().getLoader().getMetadata();
     }
 
     /**
-     * 获取许可证配置元数据
+     * 获取许可证配置元数据（不触发加载）
      */
     public LicenseConfigLoadMetadata getLicenseConfigMetadata() {
-        return SingletonHolder.INSTANCE.getLicenseLoader().getMetadata();
+        return SingletonHolder.INSTANCE.getLicenseLoader().getLoader().getMetadata();
     }
 
     /**
-     * 获取依赖配置元数据
+     * 获取依赖配置元数据（不触发加载）
      */
     public DependencyConfigLoadMetadata getDependencyConfigMetadata() {
-        return SingletonHolder.INSTANCE.getDependencyLoader().getMetadata();
+        return SingletonHolder.INSTANCE.getDependencyLoader().getLoader().getMetadata();
     }
 
     // -------------------------- 全局配置容器类（聚合业务配置+元数据） --------------------------
@@ -176,6 +223,9 @@ public enum ConfigLoader {
         private LicenseConfigLoadMetadata licenseConfigMetadata;
         private DependencyConfigLoadMetadata dependencyConfigMetadata;
 
+        // 转换后的策略元数据（配置文件路径 → 元数据，外部配置目录模式下填充）
+        private Map<String, List<? extends BaseStrategyMetadata<?>>> strategyMetadata = Map.of();
+
         // -------------------------- GlobalConfig的get/set方法 --------------------------
         public PluginConfigContainer getPluginConfigContainer() {
             return pluginConfigContainer;
@@ -224,6 +274,14 @@ public enum ConfigLoader {
         public void setDependencyConfigMetadata(DependencyConfigLoadMetadata dependencyConfigMetadata) {
             this.dependencyConfigMetadata = dependencyConfigMetadata;
         }
+
+        public Map<String, List<? extends BaseStrategyMetadata<?>>> getStrategyMetadata() {
+            return strategyMetadata;
+        }
+
+        public void setStrategyMetadata(Map<String, List<? extends BaseStrategyMetadata<?>>> strategyMetadata) {
+            this.strategyMetadata = strategyMetadata;
+        }
     }
 
     // ------------------------------ 对外提供的获取配置方法 ------------------------------
@@ -0,0 +1,354 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import core.gitee.xudai.config.loader.b.config.BaseConfig;
+import core.gitee.xudai.config.loader.b.config.DependencyConfig;
+import core.gitee.xudai.config.loader.b.config.LicenseConfig;
+import core.gitee.xudai.config.loader.b.config.PluginConfig;
+import core.gitee.xudai.config.loader.b.converter.ConfigToMetadataConverter;
+import core.gitee.xudai.config.loader.b.factory.ConverterFactory;
+import core.gitee.xudai.config.loader.b.util.JacksonYamlUtils;
+import core.gitee.xudai.config.loader.b.util.PlaceholderResolver;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import core.gitee.xudai.container.DependencyConfigContainer;
+import core.gitee.xudai.container.LicenseConfigContainer;
+import core.gitee.xudai.container.PluginConfigContainer;
+import core.gitee.xudai.enums.ConfigFilePathEnum;
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+import core.gitee.xudai.metadata.DependencyConfigLoadMetadata;
+import core.gitee.xudai.metadata.LicenseConfigLoadMetadata;
+import core.gitee.xudai.metadata.PluginConfigLoadMetadata;
+import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 外部配置目录监听器：从外部目录读取配置文件，文件变化时热加载（用于常驻 JVM 中的内嵌 Maven）
+ * 1. 通过 WatchService 监听目录，只重新解析发生变化的文件
+ * 2. 每个条目按内容哈希比对，只有内容变化的条目才重新执行 ConfigToMetadataConverter，未变化的条目复用上一版本的元数据
+ * 3. 每次加载生成新的 GlobalConfig 快照并原子替换，已发布的快照不再修改，进行中的构建始终看到一致的配置
+ * 4. 重新加载失败（如文件编辑到一半、校验失败）时保留上一版本的快照
+ * 5. 条目按加载时的占位符解析器解析；新的构建重新绑定 Maven 属性后，下一次获取快照或处理文件变化时全部文件按新的解析器重新加载，
+ *    解析结果未变化的条目仍复用上一版本的元数据
+ * @author daixu
+ */
+@Slf4j
+public class ExternalConfigWatcher implements Closeable {
+
+    /**
+     * 事件合并等待时间（编辑器保存文件时通常会产生多个事件）
+     */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    /**
+     * 外部配置目录
+     */
+    private final Path directory;
+
+    /**
+     * 当前发布的配置快照
+     */
+    private final AtomicReference<ConfigLoader.GlobalConfig> current = new AtomicReference<>();
+
+    /**
+     * 配置类型 → 条目（id → 条目），仅在持有当前对象锁时修改
+     */
+    private final Map<ConfigFilePathEnum, Map<String, Entry>> entries = new EnumMap<>(ConfigFilePathEnum.class);
+
+    /**
+     * 配置类型 → 最近一次加载的元数据
+     */
+    private final Map<ConfigFilePathEnum, BaseConfigLoadMetadata> loadMetadata = new EnumMap<>(ConfigFilePathEnum.class);
+
+    /**
+     * 当前条目解析占位符时使用的解析器（与 PlaceholderUtils.resolver() 不同时说明属性已重新绑定），仅在持有当前对象锁时修改
+     */
+    private volatile PlaceholderResolver resolvedWith;
+
+    /**
+     * 目录监听服务
+     */
+    private final WatchService watchService;
+
+    /**
+     * 监听线程
+     */
+    private final Thread watcherThread;
+
+    private volatile boolean closed;
+
+    private ExternalConfigWatcher(Path directory) throws IOException {
+        this.directory = directory;
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        this.watcherThread = Thread.ofPlatform().daemon().name("external-config-watcher").unstarted(this::watch);
+    }
+
+    /**
+     * 加载外部配置目录中的所有配置文件并开始监听
+     * @param directory 外部配置目录
+     * @return 监听器
+     * @throws IOException 目录不存在或无法监听时抛出异常
+     * @author daixu
+     */
+    public static ExternalConfigWatcher start(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("外部配置目录不存在：" + directory);
+        }
+        ExternalConfigWatcher watcher = new ExternalConfigWatcher(directory.toAbsolutePath());
+        synchronized (watcher) {
+            watcher.resolvedWith = PlaceholderUtils.resolver();
+            for (ConfigFilePathEnum type : ConfigFilePathEnum.values()) {
+                watcher.reload(type);
+            }
+            watcher.publish();
+        }
+        watcher.watcherThread.start();
+        log.info("已加载外部配置目录并开始监听文件变化：{}", watcher.directory);
+        return watcher;
+    }
+
+    /**
+     * 获取当前配置快照（快照发布后不再修改，同一次构建应只获取一次并始终使用同一快照）
+     * 属性在上次加载后重新绑定过时，先按新的解析器重新加载全部文件
+     * @return 配置快照
+     * @author daixu
+     */
+    public ConfigLoader.GlobalConfig current() {
+        if (resolvedWith != PlaceholderUtils.resolver()) {
+            reloadAndPublish(EnumSet.noneOf(ConfigFilePathEnum.class));
+        }
+        return current.get();
+    }
+
+    /**
+     * 停止监听
+     * @author daixu
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("关闭外部配置目录监听失败", e);
+        }
+        watcherThread.interrupt();
+    }
+
+    /**
+     * 监听循环：合并短时间内的多个事件，每个变化的文件只重新加载一次
+     */
+    private void watch() {
+        while (!closed) {
+            try {
+                Set<ConfigFilePathEnum> changed = EnumSet.noneOf(ConfigFilePathEnum.class);
+                collect(watchService.take(), changed);
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(next, changed);
+                }
+                if (!changed.isEmpty()) {
+                    reloadAndPublish(changed);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Set<ConfigFilePathEnum> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // 事件丢失时无法判断哪些文件变化，全部重新检查（内容未变化的条目不会重新转换）
+                changed.addAll(EnumSet.allOf(ConfigFilePathEnum.class));
+                continue;
+            }
+            String fileName = String.valueOf(event.context());
+            for (ConfigFilePathEnum type : ConfigFilePathEnum.values()) {
+                if (type.getFileName().equals(fileName)) {
+                    changed.add(type);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    private synchronized void reloadAndPublish(Set<ConfigFilePathEnum> changed) {
+        PlaceholderResolver resolver = PlaceholderUtils.resolver();
+        if (resolver != resolvedWith) {
+            // 属性已重新绑定：未变化的文件同样按新的解析器重新解析，避免快照中混用两次绑定的取值
+            changed = EnumSet.allOf(ConfigFilePathEnum.class);
+            resolvedWith = resolver;
+        }
+        boolean updated = false;
+        for (ConfigFilePathEnum type : changed) {
+            try {
+                updated |= reload(type);
+            } catch (RuntimeException e) {
+                log.warn("外部配置[{}]重新加载失败，继续使用上一版本：{}", type.getFileName(), e.getMessage());
+            }
+        }
+        if (updated) {
+            publish();
+        }
+    }
+
+    /**
+     * 重新加载单个配置文件：逐条校验并计算内容哈希，只转换内容变化的条目
+     * @return 条目已更新返回 true，文件不存在（保留上一版本）返回 false
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean reload(ConfigFilePathEnum type) {
+        Path file = directory.resolve(type.getFileName());
+        if (!Files.isRegularFile(file)) {
+            log.warn("外部配置目录中没有配置文件[{}]，保留当前配置", type.getFileName());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Class<? extends BaseConfig<?>> elementType = elementType(type);
+        ConfigToMetadataConverter converter = ConverterFactory.getConverter((Class) elementType);
+        Map<String, Entry> previous = entries.getOrDefault(type, Map.of());
+        Map<String, Entry> reloaded = new LinkedHashMap<>();
+        int[] converted = {0};
+
+        YamlConfigLoader.streamYamlConfigList(file, elementType, CatalogEntryFilter.ALL, config -> {
+            config.validate();
+            byte[] hash = hash(config);
+            Entry old = previous.get(config.getId());
+            BaseStrategyMetadata<?> metadata;
+            if (old != null && Arrays.equals(old.hash, hash)) {
+                metadata = old.metadata;
+            } else {
+                metadata = (BaseStrategyMetadata<?>) converter.convert(config);
+                converted[0]++;
+            }
+            if (reloaded.put(config.getId(), new Entry(config, hash, metadata)) != null) {
+                log.warn("外部配置[{}]中存在重复的 id：{}，使用最后一个", type.getFileName(), config.getId());
+            }
+        });
+        entries.put(type, reloaded);
+
+        BaseConfigLoadMetadata metadata = newLoadMetadata(type);
+        metadata.setFilePath(file.toString());
+        metadata.setSource(BaseConfigLoadMetadata.ConfigSource.EXTERNAL_DIRECTORY);
+        metadata.setLoadTime(LocalDateTime.now());
+        metadata.setLoadStatus(BaseConfigLoadMetadata.LoadStatus.SUCCESS);
+        metadata.setLoadDurationMillis((System.nanoTime() - start) / 1_000_000);
+        loadMetadata.put(type, metadata);
+
+        log.info("外部配置[{}]已加载：共{}条配置，重新转换{}条，复用{}条",
+                type.getFileName(), reloaded.size(), converted[0], reloaded.size() - converted[0]);
+        return true;
+    }
+
+    /**
+     * 以当前条目生成新的配置快照并原子替换
+     */
+    private void publish() {
+        ConfigLoader.GlobalConfig snapshot = new ConfigLoader.GlobalConfig();
+
+        PluginConfigContainer pluginContainer = new PluginConfigContainer();
+        pluginContainer.setPlugins(configs(ConfigFilePathEnum.PLUGIN));
+        snapshot.setPluginConfigContainer(pluginContainer);
+
+        LicenseConfigContainer licenseContainer = new LicenseConfigContainer();
+        licenseContainer.setLicenses(configs(ConfigFilePathEnum.LICENSE));
+        snapshot.setLicenseConfigContainer(licenseContainer);
+
+        DependencyConfigContainer dependencyContainer = new DependencyConfigContainer();
+        dependencyContainer.setDependencies(configs(ConfigFilePathEnum.DEPENDENCY));
+        snapshot.setDependencyConfigContainer(dependencyContainer);
+
+        snapshot.setPluginConfigMetadata((PluginConfigLoadMetadata) loadMetadata.get(ConfigFilePathEnum.PLUGIN));
+        snapshot.setLicenseConfigMetadata((LicenseConfigLoadMetadata) loadMetadata.get(ConfigFilePathEnum.LICENSE));
+        snapshot.setDependencyConfigMetadata((DependencyConfigLoadMetadata) loadMetadata.get(ConfigFilePathEnum.DEPENDENCY));
+
+        Map<String, List<? extends BaseStrategyMetadata<?>>> strategyMetadata = new LinkedHashMap<>();
+        for (Map.Entry<ConfigFilePathEnum, Map<String, Entry>> typeEntries : entries.entrySet()) {
+            List<BaseStrategyMetadata<?>> metadataList = new ArrayList<>(typeEntries.getValue().size());
+            for (Entry entry : typeEntries.getValue().values()) {
+                metadataList.add(entry.metadata);
+            }
+            strategyMetadata.put(typeEntries.getKey().getFinalPath(), Collections.unmodifiableList(metadataList));
+        }
+        snapshot.setStrategyMetadata(Collections.unmodifiableMap(strategyMetadata));
+
+        current.set(snapshot);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> configs(ConfigFilePathEnum type) {
+        Map<String, Entry> typeEntries = entries.get(type);
+        if (typeEntries == null) {
+            return null;
+        }
+        List<T> configs = new ArrayList<>(typeEntries.size());
+        for (Entry entry : typeEntries.values()) {
+            configs.add((T) entry.config);
+        }
+        return Collections.unmodifiableList(configs);
+    }
+
+    private static Class<? extends BaseConfig<?>> elementType(ConfigFilePathEnum type) {
+        return switch (type) {
+            case PLUGIN -> PluginConfig.class;
+            case LICENSE -> LicenseConfig.class;
+            case DEPENDENCY -> DependencyConfig.class;
+        };
+    }
+
+    private static BaseConfigLoadMetadata newLoadMetadata(ConfigFilePathEnum type) {
+        return switch (type) {
+            case PLUGIN -> new PluginConfigLoadMetadata();
+            case LICENSE -> new LicenseConfigLoadMetadata();
+            case DEPENDENCY -> new DependencyConfigLoadMetadata();
+        };
+    }
+
+    /**
+     * 条目内容哈希（按解析占位符后的配置序列化结果计算，环境变化导致取值变化时同样视为内容变化）
+     */
+    private static byte[] hash(BaseConfig<?> config) {
+        try {
+            return MessageDigest.getInstance("SHA-256")
+                    .digest(JacksonYamlUtils.getDefaultYamlMapper().writeValueAsBytes(config));
+        } catch (IOException e) {
+            throw new UncheckedIOException("计算配置[" + config.getId() + "]内容哈希失败", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 单个条目：配置 + 内容哈希 + 转换后的元数据
+     */
+    private static final class Entry {
+
+        private final BaseConfig<?> config;
+
+        private final byte[] hash;
+
+        private final BaseStrategyMetadata<?> metadata;
+
+        private Entry(BaseConfig<?> config, byte[] hash, BaseStrategyMetadata<?> metadata) {
+            this.config = config;
+            this.hash = hash;
+            this.metadata = metadata;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import core.gitee.xudai.config.loader.b.source.ConfigSourceChain;
+import core.gitee.xudai.config.loader.b.util.PlaceholderResolver;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 按需加载的配置加载器包装：首次访问时才加载，加载结果以 Future 记忆，多个线程同时访问只加载一次
+ * 各配置加载器互相独立，一个配置文件加载失败不影响其他配置；失败结果不缓存，下次访问重新加载
+ * 加载结果只在同一次绑定内有效：每次构建开始时重新绑定占位符取值来源（{@link PlaceholderUtils#bindMavenProperties}）
+ * 和配置来源链（{@link ConfigSourceChain#configure}），绑定变化后的首次访问重新加载，常驻 JVM（如 mvnd）中
+ * 后一次构建不会沿用前一次构建的项目覆盖配置和属性取值
+ * 加载耗时记录到加载元数据的 loadDurationMillis 中
+ * @param <L> 配置加载器类型
+ * @author daixu
+ */
+@Slf4j
+public class LazyConfigLoader<L> {
+
+    /**
+     * 并行预加载使用的线程池（守护线程，不阻止 JVM 退出）
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(
+            Thread.ofPlatform().daemon().name("config-loader-", 0).factory());
+
+    /**
+     * 配置名称（用于日志）
+     */
+    private final String name;
+
+    /**
+     * 配置加载器实例（构造开销很小，加载动作延迟到首次访问）
+     */
+    private final L loader;
+
+    /**
+     * 加载动作
+     */
+    private final Consumer<L> loadAction;
+
+    /**
+     * 获取加载元数据
+     */
+    private final Function<L, ? extends BaseConfigLoadMetadata> metadataAccessor;
+
+    /**
+     * 加载结果及其对应的绑定（为空表示尚未开始或上次加载失败）
+     */
+    private final AtomicReference<Memo<L>> memo = new AtomicReference<>();
+
+    public LazyConfigLoader(String name, L loader, Consumer<L> loadAction,
+                            Function<L, ? extends BaseConfigLoadMetadata> metadataAccessor) {
+        this.name = name;
+        this.loader = loader;
+        this.loadAction = loadAction;
+        this.metadataAccessor = metadataAccessor;
+    }
+
+    /**
+     * 获取已加载的配置加载器（当前绑定下未加载时在当前线程加载，其他线程加载中则等待）
+     * @return 已加载的配置加载器
+     * @throws IllegalStateException 加载失败时抛出异常
+     * @author daixu
+     */
+    public L get() {
+        Binding binding = Binding.current();
+        while (true) {
+            Memo<L> existing = memo.get();
+            if (existing != null && existing.binding.matches(binding)) {
+                return await(existing);
+            }
+            Memo<L> created = new Memo<>(binding);
+            if (memo.compareAndSet(existing, created)) {
+                runLoad(created);
+                return await(created);
+            }
+        }
+    }
+
+    /**
+     * 在后台线程开始加载（当前绑定下已开始或已完成时无操作），用于多个配置并行加载
+     * @return 加载结果
+     * @author daixu
+     */
+    public CompletableFuture<L> preload() {
+        Binding binding = Binding.current();
+        Memo<L> created;
+        while (true) {
+            Memo<L> existing = memo.get();
+            if (existing != null && existing.binding.matches(binding)) {
+                return existing.future;
+            }
+            created = new Memo<>(binding);
+            if (memo.compareAndSet(existing, created)) {
+                break;
+            }
+        }
+        Memo<L> target = created;
+        // 配置文件通过线程上下文类加载器读取，后台线程需使用调用方（插件类加载器）的上下文
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        EXECUTOR.execute(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                runLoad(target);
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        });
+        return target.future;
+    }
+
+    /**
+     * 是否已按当前绑定加载成功
+     * @return 加载成功返回 true，否则返回 false
+     * @author daixu
+     */
+    public boolean isLoaded() {
+        Memo<L> current = memo.get();
+        return current != null && current.binding.matches(Binding.current())
+                && current.future.isDone() && !current.future.isCompletedExceptionally();
+    }
+
+    /**
+     * 获取配置加载器实例（不触发加载，用于查看加载元数据）
+     * @return 配置加载器
+     * @author daixu
+     */
+    public L getLoader() {
+        return loader;
+    }
+
+    private void runLoad(Memo<L> target) {
+        long start = System.nanoTime();
+        try {
+            loadAction.accept(loader);
+            target.future.complete(loader);
+        } catch (RuntimeException | Error e) {
+            // 失败结果不缓存，下次访问重新加载
+            memo.compareAndSet(target, null);
+            target.future.completeExceptionally(e);
+        } finally {
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            BaseConfigLoadMetadata metadata = metadataAccessor.apply(loader);
+            if (metadata != null) {
+                metadata.setLoadDurationMillis(elapsedMillis);
+            }
+            log.debug("配置[{}]加载耗时 {} ms", name, elapsedMillis);
+        }
+    }
+
+    private L await(Memo<L> target) {
+        try {
+            return target.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("等待配置[" + name + "]加载被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("配置[" + name + "]加载失败", cause);
+        }
+    }
+
+    /**
+     * 加载时的绑定：占位符解析器与配置来源链（两者在每次构建开始时重新创建，按实例判断是否重新绑定）
+     */
+    private static class Binding {
+
+        private final PlaceholderResolver resolver;
+
+        private final ConfigSourceChain sourceChain;
+
+        private Binding(PlaceholderResolver resolver, ConfigSourceChain sourceChain) {
+            this.resolver = resolver;
+            this.sourceChain = sourceChain;
+        }
+
+        static Binding current() {
+            return new Binding(PlaceholderUtils.resolver(), ConfigSourceChain.getDefault());
+        }
+
+        boolean matches(Binding other) {
+            return resolver == other.resolver && sourceChain == other.sourceChain;
+        }
+
+    }
+
+    /**
+     * 一次加载：加载结果与加载时的绑定
+     */
+    private static class Memo<L> {
+
+        private final Binding binding;
+
+        private final CompletableFuture<L> future = new CompletableFuture<>();
+
+        private Memo(Binding binding) {
+            this.binding = binding;
+        }
+
+    }
+
+}
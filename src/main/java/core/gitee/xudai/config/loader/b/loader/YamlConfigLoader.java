@@ -1,14 +1,22 @@
 package core.gitee.xudai.config.loader.b.loader;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import core.gitee.xudai.config.loader.b.util.JacksonYamlUtils;
 import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public class YamlConfigLoader {
 
@@ -58,6 +66,19 @@ public class YamlConfigLoader {
      * @throws UncheckedIOException 任何 IO / 解析失败都转非受检异常
      */
     public static <E> List<E> loadYamlConfigList(String yamlPath, Class<E> elementType) {
+        return loadYamlConfigList(yamlPath, elementType, true);
+    }
+
+    /**
+     * 读取 classpath 下的 YAML 数组，转换成 List<E>
+     * @param yamlPath    classpath 相对路径
+     * @param elementType 数组元素类型
+     * @param resolvePlaceholders 是否替换 ${} 占位符（构建配置快照时保持原样，运行时再解析）
+     * @param <E>         元素泛型
+     * @return 解析后的列表
+     * @throws UncheckedIOException 任何 IO / 解析失败都转非受检异常
+     */
+    public static <E> List<E> loadYamlConfigList(String yamlPath, Class<E> elementType, boolean resolvePlaceholders) {
 
         try (InputStream in = Thread.currentThread()
                 .getContextClassLoader()
@@ -73,7 +94,7 @@ public class YamlConfigLoader {
             }
 
             /* 3. 递归替换 ${} */
-            return PlaceholderUtils.resolveEnvVariables(rawList);
+            return resolvePlaceholders ? PlaceholderUtils.resolveEnvVariables(rawList) : rawList;
 
         } catch (MismatchedInputException e) {
             // 优先捕获子类异常：类型不匹配（如字段类型错误、结构不匹配）
@@ -92,4 +113,169 @@ public class YamlConfigLoader {
         }
     }
 
+    /**
+     * 将合并后的配置条目（多个配置来源按 id 合并的结果）绑定为指定类型的 List 集合，并完成 ${} 替换
+     * @param entries     配置条目（每个条目为 YAML 对象对应的 Map）
+     * @param elementType 条目类型
+     * @param source      配置来源说明（用于错误信息）
+     * @param <E>         元素泛型
+     * @return 已绑定且已替换环境变量的列表
+     * @throws IllegalArgumentException 条目与目标类型不匹配时抛出异常
+     */
+    public static <E> List<E> bindConfigList(List<? extends Map<String, Object>> entries, Class<E> elementType,
+                                             String source) {
+        List<E> configs = new ArrayList<>(entries.size());
+        for (Map<String, Object> entry : entries) {
+            try {
+                configs.add(JacksonYamlUtils.getDefaultYamlMapper().convertValue(entry, elementType));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("配置条目[%s]与 %s 类型不匹配，配置来源：%s，原因：%s",
+                        entry.get("id"), elementType.getName(), source, e.getMessage()), e);
+            }
+        }
+        return PlaceholderUtils.resolveEnvVariables(configs);
+    }
+
+    /**
+     * 流式读取 classpath 下的 YAML 配置目录：按 token 逐条读取条目，每读完一条立即过滤、绑定、替换 ${} 并交给调用方处理，
+     * 不构建整个文档，也不保留已处理的条目，峰值内存只与单个条目的大小有关
+     * 1. 根节点为数组时逐条读取数组元素；根节点为对象时逐条读取其下每个数组字段的元素（如 plugins: [...]）
+     * 2. 条目先缓存为 token 序列，只读取 id 和 baseInfo.enabled 交给过滤器判断，被过滤的条目不会绑定为对象
+     * @param yamlPath    classpath 相对路径
+     * @param elementType 条目类型
+     * @param filter      条目过滤器
+     * @param consumer    条目处理（校验、转换等）
+     * @param <E>         元素泛型
+     * @return 读取的条目总数（包括被过滤的条目）
+     * @throws UncheckedIOException 任何 IO / 解析失败都转非受检异常
+     */
+    public static <E> int streamYamlConfigList(String yamlPath, Class<E> elementType,
+                                               CatalogEntryFilter filter, Consumer<? super E> consumer) {
+
+        try (InputStream in = Thread.currentThread()
+                .getContextClassLoader()
+                .getResourceAsStream(yamlPath)) {
+            if (in == null) {
+                throw new IOException("配置文件不存在：" + yamlPath);
+            }
+            return streamYamlConfigList(in, yamlPath, elementType, filter, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    String.format("流式加载配置失败（元素类型：%s），文件路径：%s，原因：%s",
+                            elementType.getName(), yamlPath, e.getMessage()),
+                    e
+            );
+        }
+    }
+
+    /**
+     * 流式读取文件系统中的 YAML 配置目录（外部配置目录使用），规则同 {@link #streamYamlConfigList(String, Class, CatalogEntryFilter, Consumer)}
+     * @param file        YAML 文件
+     * @param elementType 条目类型
+     * @param filter      条目过滤器
+     * @param consumer    条目处理
+     * @param <E>         元素泛型
+     * @return 读取的条目总数（包括被过滤的条目）
+     * @throws UncheckedIOException 任何 IO / 解析失败都转非受检异常
+     */
+    public static <E> int streamYamlConfigList(Path file, Class<E> elementType,
+                                               CatalogEntryFilter filter, Consumer<? super E> consumer) {
+        try (InputStream in = Files.newInputStream(file)) {
+            return streamYamlConfigList(in, file.toString(), elementType, filter, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    String.format("流式加载配置失败（元素类型：%s），文件路径：%s，原因：%s",
+                            elementType.getName(), file, e.getMessage()),
+                    e
+            );
+        }
+    }
+
+    private static <E> int streamYamlConfigList(InputStream in, String yamlPath, Class<E> elementType,
+                                                CatalogEntryFilter filter, Consumer<? super E> consumer) throws IOException {
+        try (JsonParser parser = JacksonYamlUtils.createParser(in)) {
+            JsonToken root = parser.nextToken();
+            if (root == JsonToken.START_ARRAY) {
+                return streamEntries(parser, elementType, filter, consumer);
+            }
+            if (root != JsonToken.START_OBJECT) {
+                throw new IOException("YAML 根节点必须是数组或对象：" + yamlPath);
+            }
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if (parser.nextToken() == JsonToken.START_ARRAY) {
+                    count += streamEntries(parser, elementType, filter, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return count;
+        } catch (MismatchedInputException e) {
+            throw new UncheckedIOException(
+                    String.format("YAML 条目与 %s 类型不匹配，错误字段：%s，文件路径：%s",
+                            elementType.getName(), e.getPathReference(), yamlPath),
+                    e
+            );
+        }
+    }
+
+    /**
+     * 逐条读取数组元素（解析器位于 START_ARRAY，返回时位于对应的 END_ARRAY）
+     */
+    private static <E> int streamEntries(JsonParser parser, Class<E> elementType,
+                                         CatalogEntryFilter filter, Consumer<? super E> consumer) throws IOException {
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            count++;
+            TokenBuffer entry = TokenBuffer.asCopyOfValue(parser);
+
+            // ✅ 1.绑定前过滤
+            if (filter != CatalogEntryFilter.ALL && !acceptEntry(entry, filter)) {
+                continue;
+            }
+
+            // ✅ 2.绑定 + 替换 ${}
+            try (JsonParser entryParser = entry.asParser()) {
+                E value = JacksonYamlUtils.readValue(entryParser, elementType);
+                if (value != null) {
+                    consumer.accept(PlaceholderUtils.resolveEnvVariables(value));
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 只读取条目的 id 和 baseInfo.enabled 交给过滤器判断（不绑定对象）
+     */
+    private static boolean acceptEntry(TokenBuffer entry, CatalogEntryFilter filter) throws IOException {
+        String id = null;
+        Boolean enabled = null;
+        try (JsonParser parser = entry.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return filter.accept(null, null);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(name) && value.isScalarValue()) {
+                    id = parser.getValueAsString();
+                } else if ("baseInfo".equals(name) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        JsonToken fieldValue = parser.nextToken();
+                        if ("enabled".equals(field) && fieldValue.isScalarValue()) {
+                            enabled = parser.getValueAsBoolean(true);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return filter.accept(id, enabled);
+    }
+
 }
@@ -0,0 +1,380 @@
+package core.gitee.xudai.config.loader.b.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import core.gitee.xudai.config.loader.b.util.PlaceholderResolver;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 配置二进制快照：构建期将 YAML 配置校验并转换为策略元数据后写入插件 jar，运行时直接解码元数据，
+ * 跳过 YAML 解析、Bean Validation 校验和配置转换
+ * 文件格式（大端序）：
+ * 1. 头部：魔数 CPCS、格式版本、分区数量
+ * 2. 分区索引：配置文件路径、元数据类名、条目数量，以及每个条目的 ID、偏移量、长度
+ * 3. 数据区：每个条目独立的 Smile 编码，运行时按条目首次访问时才解码
+ * 占位符（${key:default}）在快照中保持原样，解码后按当前环境解析，避免把构建机的环境变量写入 jar；
+ * 同一分区在占位符解析器不变时复用同一个集合，每个条目只解码、解析一次
+ * @author daixu
+ */
+@Slf4j
+public class ConfigSnapshot {
+
+    /**
+     * 快照在类路径中的位置
+     */
+    public static final String RESOURCE_PATH = "META-INF/central-publish/config-snapshot.bin";
+
+    /**
+     * 禁用快照的系统属性（设置为 false 时始终解析 YAML）
+     */
+    public static final String ENABLED_PROPERTY = "central.publish.config.snapshot";
+
+    /**
+     * 魔数：CPCS
+     */
+    private static final int MAGIC = 0x43504353;
+
+    /**
+     * 格式版本（格式变化时递增，版本不一致的快照将被忽略）
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * 空快照（未找到或不可用时使用）
+     */
+    private static final ConfigSnapshot EMPTY = new ConfigSnapshot(ByteBuffer.allocate(0), Collections.emptyMap());
+
+    /**
+     * Smile 编解码器：只按字段读写，与 getter/setter 无关
+     */
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory())
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * 默认快照（类路径中的快照，首次使用时打开）
+     */
+    private static volatile ConfigSnapshot defaultSnapshot;
+
+    /**
+     * 快照数据（文件协议时为内存映射）
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * 配置文件路径 → 分区
+     */
+    private final Map<String, Section> sections;
+
+    /**
+     * 配置文件路径 → 已创建的按需解码集合（解析器变化时重新创建）
+     */
+    private final Map<String, LazyList<?>> lists = new ConcurrentHashMap<>();
+
+    private ConfigSnapshot(ByteBuffer buffer, Map<String, Section> sections) {
+        this.buffer = buffer;
+        this.sections = sections;
+    }
+
+    /**
+     * 获取类路径中的默认快照（不存在、已禁用或格式不兼容时返回空快照）
+     * @return 快照
+     * @author daixu
+     */
+    public static ConfigSnapshot getDefault() {
+        ConfigSnapshot snapshot = defaultSnapshot;
+        if (snapshot == null) {
+            synchronized (ConfigSnapshot.class) {
+                snapshot = defaultSnapshot;
+                if (snapshot == null) {
+                    snapshot = openDefault();
+                    defaultSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static ConfigSnapshot openDefault() {
+        if ("false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY))) {
+            log.info("配置快照已禁用，使用 YAML 配置");
+            return EMPTY;
+        }
+        URL url = Thread.currentThread().getContextClassLoader().getResource(RESOURCE_PATH);
+        if (url == null) {
+            log.debug("未找到配置快照，使用 YAML 配置: {}", RESOURCE_PATH);
+            return EMPTY;
+        }
+        try {
+            return open(url);
+        } catch (IOException | RuntimeException e) {
+            log.warn("读取配置快照失败，使用 YAML 配置: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * 打开快照：文件协议时内存映射，jar 内的快照（压缩条目无法映射）一次性读入堆内存
+     * @param url 快照位置
+     * @return 快照
+     * @throws IOException 读取失败或格式不兼容时抛出异常
+     * @author daixu
+     */
+    static ConfigSnapshot open(URL url) throws IOException {
+        ByteBuffer buffer;
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException("无效的快照路径: " + url, e);
+            }
+        } else {
+            try (InputStream in = url.openStream()) {
+                buffer = ByteBuffer.wrap(in.readAllBytes());
+            }
+        }
+        return new ConfigSnapshot(buffer, readIndex(buffer.duplicate()));
+    }
+
+    /**
+     * 读取分区索引（只读索引，不解码任何条目）
+     * @param buffer 快照数据
+     * @return 配置文件路径 → 分区
+     * @throws IOException 格式不兼容时抛出异常
+     * @author daixu
+     */
+    private static Map<String, Section> readIndex(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException("不是有效的配置快照");
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("配置快照格式版本不兼容: " + version);
+        }
+
+        int sectionCount = buffer.getInt();
+        Map<String, Section> sections = new HashMap<>(sectionCount * 2);
+        for (int i = 0; i < sectionCount; i++) {
+            String path = readString(buffer);
+            String type = readString(buffer);
+            int entryCount = buffer.getInt();
+            String[] ids = new String[entryCount];
+            int[] offsets = new int[entryCount];
+            int[] lengths = new int[entryCount];
+            for (int j = 0; j < entryCount; j++) {
+                ids[j] = readString(buffer);
+                offsets[j] = buffer.getInt();
+                lengths[j] = buffer.getInt();
+            }
+            sections.put(path, new Section(type, ids, offsets, lengths));
+        }
+        return sections;
+    }
+
+    /**
+     * 获取配置文件对应的元数据集合（按条目首次访问时解码，解码后解析占位符）
+     * 占位符解析器未变化时返回同一个集合，已解码的条目不会重复解码和解析；
+     * 绑定 Maven 属性或重置解析器后返回新的集合，按新的取值重新解析
+     * @param path 配置文件路径
+     * @param <M> 元数据类型
+     * @return 只读元数据集合，快照中没有该配置文件时返回 null
+     * @author daixu
+     */
+    public <M> List<M> section(String path) {
+        Section section = sections.get(path);
+        if (section == null) {
+            return null;
+        }
+        PlaceholderResolver resolver = PlaceholderUtils.resolver();
+        @SuppressWarnings("unchecked")
+        LazyList<M> list = (LazyList<M>) lists.get(path);
+        if (list != null && list.resolver == resolver) {
+            return list;
+        }
+        Class<M> type = section.resolveType();
+        if (type == null) {
+            return null;
+        }
+        list = new LazyList<>(section, type, resolver);
+        lists.put(path, list);
+        return list;
+    }
+
+    /**
+     * 快照中是否包含指定配置文件
+     * @param path 配置文件路径
+     * @return 包含返回 true，否则返回 false
+     * @author daixu
+     */
+    public boolean contains(String path) {
+        return sections.containsKey(path);
+    }
+
+    private <M> M decode(Section section, int index, Class<M> type, PlaceholderResolver resolver) {
+        ByteBuffer entry = buffer.duplicate();
+        entry.position(section.offsets[index]).limit(section.offsets[index] + section.lengths[index]);
+        try (InputStream in = new ByteBufferBackedInputStream(entry)) {
+            return PlaceholderUtils.resolveEnvVariables(SMILE_MAPPER.readValue(in, type), resolver);
+        } catch (IOException e) {
+            throw new UncheckedIOException("解码配置快照条目失败: " + section.ids[index], e);
+        }
+    }
+
+    /**
+     * 写入快照文件（构建期使用）
+     * @param output 输出文件
+     * @param entries 配置文件路径 → 未解析占位符的元数据集合（顺序即快照中的顺序）
+     * @throws IOException 写入失败时抛出异常
+     * @author daixu
+     */
+    public static void write(Path output, Map<String, List<? extends BaseStrategyMetadata<?>>> entries) throws IOException {
+
+        // ✅ 1.逐条编码，记录每个条目在数据区中的相对位置
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(index);
+        List<int[]> offsetSlots = new ArrayList<>();
+
+        for (Map.Entry<String, List<? extends BaseStrategyMetadata<?>>> section : entries.entrySet()) {
+            List<? extends BaseStrategyMetadata<?>> items = section.getValue();
+            writeString(indexOut, section.getKey());
+            writeString(indexOut, items.isEmpty() ? Object.class.getName() : items.get(0).getClass().getName());
+            indexOut.writeInt(items.size());
+            for (BaseStrategyMetadata<?> item : items) {
+                byte[] encoded = SMILE_MAPPER.writeValueAsBytes(item);
+                writeString(indexOut, String.valueOf(item.getId()));
+                // 偏移量先写相对值，头部长度确定后统一修正
+                offsetSlots.add(new int[]{indexOut.size(), data.size()});
+                indexOut.writeInt(data.size());
+                indexOut.writeInt(encoded.length);
+                data.write(encoded);
+            }
+        }
+        indexOut.flush();
+
+        // ✅ 2.修正偏移量为文件内绝对位置
+        int headerSize = 12 + index.size();
+        ByteBuffer indexBuffer = ByteBuffer.wrap(index.toByteArray());
+        for (int[] slot : offsetSlots) {
+            indexBuffer.putInt(slot[0], headerSize + slot[1]);
+        }
+
+        // ✅ 3.写出头部、索引、数据区
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            out.write(indexBuffer.array());
+            data.writeTo(out);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 快照分区：一个配置文件对应的条目索引
+     */
+    private static final class Section {
+
+        /** 元数据类名 */
+        private final String type;
+
+        /** 条目 ID */
+        private final String[] ids;
+
+        /** 条目在快照中的偏移量 */
+        private final int[] offsets;
+
+        /** 条目编码长度 */
+        private final int[] lengths;
+
+        private Section(String type, String[] ids, int[] offsets, int[] lengths) {
+            this.type = type;
+            this.ids = ids;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <M> Class<M> resolveType() {
+            try {
+                return (Class<M>) Class.forName(type, false, ConfigSnapshot.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                log.warn("配置快照中的元数据类型不存在，使用 YAML 配置: {}", type);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 按需解码的只读集合：每个条目首次访问时解码一次，使用创建集合时的占位符解析器
+     * @param <M> 元数据类型
+     */
+    private final class LazyList<M> extends AbstractList<M> implements RandomAccess {
+
+        private final Section section;
+
+        private final Class<M> type;
+
+        private final PlaceholderResolver resolver;
+
+        private final AtomicReferenceArray<M> decoded;
+
+        private LazyList(Section section, Class<M> type, PlaceholderResolver resolver) {
+            this.section = section;
+            this.type = type;
+            this.resolver = resolver;
+            this.decoded = new AtomicReferenceArray<>(section.ids.length);
+        }
+
+        @Override
+        public M get(int index) {
+            M value = decoded.get(index);
+            if (value == null) {
+                value = decode(section, index, type, resolver);
+                if (!decoded.compareAndSet(index, null, value)) {
+                    value = decoded.get(index);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return section.ids.length;
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package core.gitee.xudai.config.loader.b.snapshot;
+
+import core.gitee.xudai.config.loader.b.loader.AbstractConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.DependencyConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.LicenseConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.PluginConfigLoader;
+import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 配置快照生成器（构建期由 exec-maven-plugin 在 process-classes 阶段调用）
+ * 校验插件、许可证、依赖 YAML 配置并转换为策略元数据，写入 {@link ConfigSnapshot#RESOURCE_PATH}，随插件 jar 一起发布；
+ * 配置不合法时构建失败，问题在打包时暴露，而不是在用户的构建中
+ * 用法：ConfigSnapshotGenerator &lt;输出文件&gt;
+ * @author daixu
+ */
+@Slf4j
+public class ConfigSnapshotGenerator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("用法: ConfigSnapshotGenerator <输出文件>");
+        }
+        Path output = Paths.get(args[0]);
+
+        // ✅ 1.校验并转换所有配置（不读取已有快照，始终以 YAML 为准）
+        Map<String, List<? extends BaseStrategyMetadata<?>>> entries = new LinkedHashMap<>();
+        List<AbstractConfigLoader<?, ?, ?>> loaders = List.of(
+                new PluginConfigLoader(),
+                new LicenseConfigLoader(),
+                new DependencyConfigLoader()
+        );
+        for (AbstractConfigLoader<?, ?, ?> loader : loaders) {
+            entries.put(loader.getFilePath(), loader.compile());
+        }
+
+        // ✅ 2.写入快照
+        ConfigSnapshot.write(output, entries);
+        log.info("已生成配置快照：{}（{} 个配置文件，{} 字节）", output, entries.size(), Files.size(output));
+    }
+
+}
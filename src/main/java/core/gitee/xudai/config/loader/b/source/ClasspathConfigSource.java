@@ -0,0 +1,65 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类路径默认配置（插件内置的 YAML，来源链的最底层）
+ * 类路径资源在插件生命周期内不变，内容只读取一次
+ * @author daixu
+ */
+public class ClasspathConfigSource implements ConfigSourceLayer {
+
+    /**
+     * 配置文件路径 → 资源内容（资源不存在时为空数组）
+     */
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "classpath";
+    }
+
+    @Override
+    public BaseConfigLoadMetadata.ConfigSource getSource() {
+        return BaseConfigLoadMetadata.ConfigSource.LOCAL_FILE;
+    }
+
+    @Override
+    public String fingerprint(String filePath) {
+        byte[] content = content(filePath);
+        return content.length == 0 ? null : ConfigEntries.sha256(content);
+    }
+
+    @Override
+    public List<Map<String, Object>> read(String filePath) {
+        byte[] content = content(filePath);
+        if (content.length == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            return ConfigEntries.parse(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException("解析类路径配置失败：" + filePath, e);
+        }
+    }
+
+    private byte[] content(String filePath) {
+        return contents.computeIfAbsent(filePath, path -> {
+            try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(path)) {
+                return in == null ? new byte[0] : in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("读取类路径配置失败：" + path, e);
+            }
+        });
+    }
+
+}
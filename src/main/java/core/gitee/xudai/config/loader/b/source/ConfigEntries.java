@@ -0,0 +1,141 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.gitee.xudai.config.loader.b.util.JacksonYamlUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 配置条目工具：解析 YAML 为条目列表、按 id 合并条目、计算内容指纹
+ * @author daixu
+ */
+final class ConfigEntries {
+
+    private static final TypeReference<Map<String, Object>> ENTRY_TYPE = new TypeReference<>() {
+    };
+
+    private ConfigEntries() {
+        throw new AssertionError("工具类不允许实例化");
+    }
+
+    /**
+     * 解析 YAML 为条目列表：根节点为数组时取数组元素；根节点为对象时取其下每个数组字段的元素（如 plugins: [...]）
+     * @param in YAML 输入流
+     * @return 条目列表
+     * @throws IOException 解析失败时抛出异常
+     */
+    static List<Map<String, Object>> parse(InputStream in) throws IOException {
+        ObjectMapper mapper = JacksonYamlUtils.getDefaultYamlMapper();
+        JsonNode root = mapper.readTree(in);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        if (root == null || root.isMissingNode() || root.isNull()) {
+            return entries;
+        }
+        if (root.isArray()) {
+            addEntries(mapper, root, entries);
+        } else if (root.isObject()) {
+            for (JsonNode field : root) {
+                if (field.isArray()) {
+                    addEntries(mapper, field, entries);
+                }
+            }
+        } else {
+            throw new IOException("YAML 根节点必须是数组或对象");
+        }
+        return entries;
+    }
+
+    /**
+     * 解析 YAML 文本为条目列表
+     * @param text YAML 文本（JSON 同样适用）
+     * @return 条目列表
+     * @throws IOException 解析失败时抛出异常
+     */
+    static List<Map<String, Object>> parse(String text) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))) {
+            return parse(in);
+        }
+    }
+
+    private static void addEntries(ObjectMapper mapper, JsonNode array, List<Map<String, Object>> entries) {
+        for (JsonNode element : array) {
+            if (element.isObject()) {
+                entries.add(mapper.convertValue(element, ENTRY_TYPE));
+            }
+        }
+    }
+
+    /**
+     * 按 id 合并条目：后面的层覆盖前面的层，对象逐个键深度合并，列表和标量整体替换；新的 id 按出现顺序追加
+     * @param target 合并结果（id → 条目，保持顺序）
+     * @param layer 当前层的条目
+     */
+    static void merge(Map<String, Map<String, Object>> target, List<Map<String, Object>> layer) {
+        for (Map<String, Object> entry : layer) {
+            Object id = entry.get("id");
+            if (id == null) {
+                continue;
+            }
+            Map<String, Object> existing = target.get(String.valueOf(id));
+            if (existing == null) {
+                target.put(String.valueOf(id), deepCopy(entry));
+            } else {
+                deepMerge(existing, entry);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void deepMerge(Map<String, Object> target, Map<String, Object> source) {
+        for (Map.Entry<String, Object> field : source.entrySet()) {
+            Object current = target.get(field.getKey());
+            Object value = field.getValue();
+            if (current instanceof Map && value instanceof Map) {
+                deepMerge((Map<String, Object>) current, (Map<String, Object>) value);
+            } else {
+                target.put(field.getKey(), value instanceof Map ? deepCopy((Map<String, Object>) value) : value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepCopy(Map<String, Object> source) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> field : source.entrySet()) {
+            Object value = field.getValue();
+            copy.put(field.getKey(), value instanceof Map ? deepCopy((Map<String, Object>) value) : value);
+        }
+        return copy;
+    }
+
+    /**
+     * 计算内容指纹（SHA-256 十六进制）
+     * @param content 内容
+     * @return 指纹
+     */
+    static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 计算字符串指纹
+     * @param content 内容
+     * @return 指纹
+     */
+    static String sha256(String content) {
+        return sha256(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
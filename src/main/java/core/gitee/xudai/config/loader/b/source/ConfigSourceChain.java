@@ -0,0 +1,171 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 配置来源链：按层读取配置条目并按 id 合并，后面的层覆盖前面的层
+ * 默认顺序：类路径默认配置 → 项目本地覆盖文件 → 环境变量 → 系统属性 → 远程配置中心（配置了地址时）
+ * 1. 合并规则：同一 id 的条目中对象字段逐个键深度合并，列表和标量整体替换；新的 id 追加到末尾
+ * 2. 合并结果按各层指纹缓存：所有层的指纹不变时直接返回上次的合并结果，不重新读取和合并
+ * 3. 只有类路径一层有内容时视为未覆盖，由加载器走原有的快照 / YAML 加载流程
+ * @author daixu
+ */
+@Slf4j
+public class ConfigSourceChain {
+
+    /**
+     * 默认来源链（首次使用时根据系统属性创建）
+     */
+    private static volatile ConfigSourceChain defaultChain;
+
+    /**
+     * 来源层（按合并顺序）
+     */
+    private final List<ConfigSourceLayer> layers;
+
+    /**
+     * 配置文件路径 → 最近一次的合并结果
+     */
+    private final Map<String, MergedConfig> cache = new ConcurrentHashMap<>();
+
+    public ConfigSourceChain(List<ConfigSourceLayer> layers) {
+        this.layers = List.copyOf(layers);
+    }
+
+    /**
+     * 获取默认来源链
+     * @return 默认来源链
+     * @author daixu
+     */
+    public static ConfigSourceChain getDefault() {
+        ConfigSourceChain chain = defaultChain;
+        if (chain == null) {
+            synchronized (ConfigSourceChain.class) {
+                chain = defaultChain;
+                if (chain == null) {
+                    chain = create(false, null);
+                    defaultChain = chain;
+                }
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * 按当前构建重新创建默认来源链（每次构建开始时调用，常驻 JVM 中不复用上一次构建的项目目录和离线状态；
+     * 类路径内容不变，合并结果缓存只在同一来源链内有效）
+     * @param offline Maven 是否处于离线模式（离线时远程配置只使用本地缓存）
+     * @param projectRoot 项目根目录（为 null 时按系统属性确定覆盖文件目录）
+     * @author daixu
+     */
+    public static void configure(boolean offline, Path projectRoot) {
+        defaultChain = create(offline, projectRoot);
+    }
+
+    private static ConfigSourceChain create(boolean offline, Path projectRoot) {
+        List<ConfigSourceLayer> layers = new ArrayList<>();
+        layers.add(new ClasspathConfigSource());
+        String overrideDir = System.getProperty(OverrideFileConfigSource.OVERRIDE_DIR_PROPERTY);
+        layers.add(projectRoot != null && (overrideDir == null || overrideDir.isBlank())
+                ? new OverrideFileConfigSource(projectRoot.resolve(Paths.get(".mvn", "central-publish")))
+                : OverrideFileConfigSource.fromSystemProperties());
+        layers.add(PropertyConfigSource.environment());
+        layers.add(PropertyConfigSource.systemProperties());
+        HttpConfigSource remote = HttpConfigSource.fromSystemProperties(offline);
+        if (remote != null) {
+            layers.add(remote);
+        }
+        return new ConfigSourceChain(layers);
+    }
+
+    /**
+     * 是否有类路径默认配置以外的来源提供了该配置文件的内容
+     * @param filePath 配置文件路径
+     * @return 有覆盖时返回 true
+     * @author daixu
+     */
+    public boolean hasOverrides(String filePath) {
+        for (ConfigSourceLayer layer : layers) {
+            if (!(layer instanceof ClasspathConfigSource) && layer.fingerprint(filePath) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析配置文件：合并各层的条目（各层指纹与上次相同时返回缓存的合并结果）
+     * @param filePath 配置文件路径
+     * @return 合并结果
+     * @author daixu
+     */
+    public MergedConfig resolve(String filePath) {
+        // ✅ 1.计算各层指纹（没有内容的层不参与合并）
+        List<ConfigSourceLayer> contributing = new ArrayList<>();
+        StringBuilder fingerprint = new StringBuilder();
+        for (ConfigSourceLayer layer : layers) {
+            String layerFingerprint = layer.fingerprint(filePath);
+            if (layerFingerprint != null) {
+                contributing.add(layer);
+                fingerprint.append(layer.getName()).append('=').append(layerFingerprint).append('\n');
+            }
+        }
+        String combined = ConfigEntries.sha256(fingerprint.toString());
+
+        // ✅ 2.指纹未变化时复用上次的合并结果
+        MergedConfig cached = cache.get(filePath);
+        if (cached != null && cached.fingerprint.equals(combined)) {
+            log.debug("配置来源未变化，复用合并结果：{}", filePath);
+            return cached;
+        }
+
+        // ✅ 3.按层合并
+        Map<String, Map<String, Object>> merged = new LinkedHashMap<>();
+        List<BaseConfigLoadMetadata.ConfigSource> sources = new ArrayList<>();
+        for (ConfigSourceLayer layer : contributing) {
+            List<Map<String, Object>> entries = layer.read(filePath);
+            ConfigEntries.merge(merged, entries);
+            sources.add(layer.getSource());
+            log.debug("合并配置来源[{}]：{}，{}条", layer.getName(), filePath, entries.size());
+        }
+        MergedConfig result = new MergedConfig(combined,
+                Collections.unmodifiableList(new ArrayList<>(merged.values())),
+                Collections.unmodifiableList(sources));
+        cache.put(filePath, result);
+        return result;
+    }
+
+    /**
+     * 合并结果
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MergedConfig {
+
+        /** 所有参与合并的来源的组合指纹 */
+        private final String fingerprint;
+
+        /** 合并后的条目（按 id 首次出现的顺序） */
+        private final List<Map<String, Object>> entries;
+
+        /** 参与合并的来源类型（按合并顺序） */
+        private final List<BaseConfigLoadMetadata.ConfigSource> sources;
+
+        /**
+         * 优先级最高的来源（最后合并的层）
+         * @return 来源类型
+         */
+        public BaseConfigLoadMetadata.ConfigSource getEffectiveSource() {
+            return sources.isEmpty() ? BaseConfigLoadMetadata.ConfigSource.LOCAL_FILE : sources.get(sources.size() - 1);
+        }
+    }
+
+}
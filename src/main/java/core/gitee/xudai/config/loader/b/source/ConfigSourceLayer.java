@@ -0,0 +1,44 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 配置来源层：配置来源链中的一层，按配置文件路径提供配置条目（未解析的原始键值，按 id 与其他层合并）
+ * @author daixu
+ */
+public interface ConfigSourceLayer {
+
+    /**
+     * 来源名称（用于日志）
+     * @return 来源名称
+     * @author daixu
+     */
+    String getName();
+
+    /**
+     * 来源类型
+     * @return 来源类型
+     * @author daixu
+     */
+    BaseConfigLoadMetadata.ConfigSource getSource();
+
+    /**
+     * 计算来源指纹：内容不变时指纹不变（合并结果按所有层的指纹缓存）
+     * @param filePath 配置文件路径
+     * @return 指纹，该层没有此配置文件的内容时返回 null
+     * @author daixu
+     */
+    String fingerprint(String filePath);
+
+    /**
+     * 读取配置条目（仅在 {@link #fingerprint(String)} 不为空时调用）
+     * @param filePath 配置文件路径
+     * @return 配置条目（每个条目为 YAML 对象对应的 Map，按 id 合并）
+     * @author daixu
+     */
+    List<Map<String, Object>> read(String filePath);
+
+}
@@ -0,0 +1,247 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 远程配置中心（HTTP）：GET &lt;基础地址&gt;/&lt;配置文件名&gt;
+ * 1. 条件请求：携带上次响应的 ETag（If-None-Match），304 时直接使用本地缓存，不重新传输配置内容
+ * 2. 本地缓存：每次 200 响应写入 ~/.m2/central-publish/config-cache/&lt;地址摘要&gt;/&lt;配置文件名&gt;（及 .etag），原子替换
+ * 3. 离线优先：离线模式（-o 或 central.publish.config.remote.offline=true）、连接失败、超时、非 2xx/304 响应时
+ *    使用本地缓存，没有缓存时该层不参与合并，构建不会因配置中心不可用而阻塞或失败
+ * 同一配置文件在一个来源实例内只请求一次
+ * @author daixu
+ */
+@Slf4j
+public class HttpConfigSource implements ConfigSourceLayer {
+
+    /**
+     * 系统属性：远程配置中心基础地址（未配置时不启用远程配置）
+     */
+    public static final String REMOTE_URL_PROPERTY = "central.publish.config.remote-url";
+
+    /**
+     * 系统属性：为 true 时不请求远程配置中心，只使用本地缓存
+     */
+    public static final String OFFLINE_PROPERTY = "central.publish.config.remote.offline";
+
+    /**
+     * 连接超时
+     */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+
+    /**
+     * 请求超时
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final String ETAG_SUFFIX = ".etag";
+
+    /**
+     * 远程配置中心基础地址
+     */
+    private final URI baseUri;
+
+    /**
+     * 本地缓存目录（已包含地址摘要）
+     */
+    private final Path cacheDir;
+
+    private final HttpClient httpClient;
+
+    private final boolean offline;
+
+    /**
+     * 配置文件路径 → 本次获取的内容
+     */
+    private final Map<String, Fetched> fetched = new ConcurrentHashMap<>();
+
+    public HttpConfigSource(URI baseUri, Path cacheRoot, HttpClient httpClient, boolean offline) {
+        this.baseUri = baseUri.toString().endsWith("/") ? baseUri : URI.create(baseUri + "/");
+        this.cacheDir = cacheRoot.resolve(ConfigEntries.sha256(this.baseUri.toString()).substring(0, 16));
+        this.httpClient = httpClient;
+        this.offline = offline;
+    }
+
+    /**
+     * 根据系统属性创建（未配置远程地址时返回 null）
+     * @param offline Maven 是否处于离线模式
+     * @return 远程配置来源
+     * @author daixu
+     */
+    public static HttpConfigSource fromSystemProperties(boolean offline) {
+        String url = System.getProperty(REMOTE_URL_PROPERTY);
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        Path cacheRoot = Paths.get(System.getProperty("user.home"), ".m2", "central-publish", "config-cache");
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        return new HttpConfigSource(URI.create(url.trim()), cacheRoot, client,
+                offline || Boolean.getBoolean(OFFLINE_PROPERTY));
+    }
+
+    @Override
+    public String getName() {
+        return "remote:" + baseUri;
+    }
+
+    @Override
+    public BaseConfigLoadMetadata.ConfigSource getSource() {
+        return BaseConfigLoadMetadata.ConfigSource.REMOTE_CONFIG_CENTER;
+    }
+
+    @Override
+    public String fingerprint(String filePath) {
+        Fetched result = fetch(filePath);
+        if (result.body == null) {
+            return null;
+        }
+        return result.etag != null ? "etag:" + result.etag : ConfigEntries.sha256(result.body);
+    }
+
+    @Override
+    public List<Map<String, Object>> read(String filePath) {
+        Fetched result = fetch(filePath);
+        if (result.body == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return ConfigEntries.parse(new ByteArrayInputStream(result.body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("解析远程配置失败：" + baseUri.resolve(fileName(filePath)), e);
+        }
+    }
+
+    private Fetched fetch(String filePath) {
+        return fetched.computeIfAbsent(filePath, this::doFetch);
+    }
+
+    /**
+     * 获取配置内容：离线时直接读缓存，否则发送条件请求，失败时回退到缓存
+     */
+    private Fetched doFetch(String filePath) {
+        String fileName = fileName(filePath);
+        Path cacheFile = cacheDir.resolve(fileName);
+        Path etagFile = cacheDir.resolve(fileName + ETAG_SUFFIX);
+        Fetched cached = readCache(cacheFile, etagFile);
+        if (offline) {
+            log.debug("远程配置离线模式，使用本地缓存：{}", cacheFile);
+            return cached;
+        }
+
+        URI uri = baseUri.resolve(fileName);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET();
+        if (cached.body != null && cached.etag != null) {
+            request.header("If-None-Match", cached.etag);
+        }
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 304 && cached.body != null) {
+                log.debug("远程配置未变化（304）：{}", uri);
+                return cached;
+            }
+            if (response.statusCode() == 404) {
+                log.debug("远程配置中心没有该配置文件：{}", uri);
+                return new Fetched(null, null);
+            }
+            if (response.statusCode() / 100 != 2) {
+                log.warn("远程配置请求失败（HTTP {}），使用本地缓存：{}", response.statusCode(), uri);
+                return cached;
+            }
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            writeCache(cacheFile, etagFile, response.body(), etag);
+            return new Fetched(response.body(), etag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("远程配置请求被中断，使用本地缓存：{}", uri);
+            return cached;
+        } catch (IOException e) {
+            log.warn("远程配置请求失败（{}），使用本地缓存：{}", e.getMessage(), uri);
+            return cached;
+        }
+    }
+
+    private static Fetched readCache(Path cacheFile, Path etagFile) {
+        try {
+            if (!Files.isRegularFile(cacheFile)) {
+                return new Fetched(null, null);
+            }
+            byte[] body = Files.readAllBytes(cacheFile);
+            String etag = Files.isRegularFile(etagFile)
+                    ? new String(Files.readAllBytes(etagFile), StandardCharsets.UTF_8).trim() : null;
+            return new Fetched(body, etag == null || etag.isEmpty() ? null : etag);
+        } catch (IOException e) {
+            log.warn("读取远程配置缓存失败：{}", cacheFile, e);
+            return new Fetched(null, null);
+        }
+    }
+
+    /**
+     * 写入缓存（先写临时文件再原子替换，并发构建不会读到写了一半的缓存）
+     */
+    private static void writeCache(Path cacheFile, Path etagFile, byte[] body, String etag) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            move(write(cacheFile, body), cacheFile);
+            if (etag != null) {
+                move(write(etagFile, etag.getBytes(StandardCharsets.UTF_8)), etagFile);
+            } else {
+                Files.deleteIfExists(etagFile);
+            }
+        } catch (IOException e) {
+            log.warn("写入远程配置缓存失败：{}", cacheFile, e);
+        }
+    }
+
+    private static Path write(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        Files.write(temp, content);
+        return temp;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String fileName(String filePath) {
+        return Paths.get(filePath).getFileName().toString();
+    }
+
+    /**
+     * 获取结果：内容（不存在时为 null）+ ETag
+     */
+    private static final class Fetched {
+
+        private final byte[] body;
+
+        private final String etag;
+
+        private Fetched(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+
+}
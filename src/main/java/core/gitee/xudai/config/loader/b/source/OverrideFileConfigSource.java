@@ -0,0 +1,91 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 项目本地覆盖文件：&lt;项目根目录&gt;/.mvn/central-publish/&lt;配置文件名&gt;
+ * 只需写出要覆盖的条目（按 id 合并到默认配置，只写需要修改的字段即可）
+ * 指纹为文件路径 + 修改时间 + 大小，文件未变化时不重新读取
+ * @author daixu
+ */
+public class OverrideFileConfigSource implements ConfigSourceLayer {
+
+    /**
+     * 系统属性：覆盖文件目录（默认为 &lt;项目根目录&gt;/.mvn/central-publish）
+     */
+    public static final String OVERRIDE_DIR_PROPERTY = "central.publish.config.override-dir";
+
+    /**
+     * 覆盖文件目录
+     */
+    private final Path directory;
+
+    public OverrideFileConfigSource(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 根据系统属性创建（优先 central.publish.config.override-dir，其次 maven.multiModuleProjectDirectory，最后为当前目录）
+     * @return 覆盖文件来源
+     * @author daixu
+     */
+    public static OverrideFileConfigSource fromSystemProperties() {
+        String dir = System.getProperty(OVERRIDE_DIR_PROPERTY);
+        if (dir != null && !dir.isBlank()) {
+            return new OverrideFileConfigSource(Paths.get(dir.trim()));
+        }
+        String root = System.getProperty("maven.multiModuleProjectDirectory", System.getProperty("user.dir"));
+        return new OverrideFileConfigSource(Paths.get(root, ".mvn", "central-publish"));
+    }
+
+    @Override
+    public String getName() {
+        return "override-file";
+    }
+
+    @Override
+    public BaseConfigLoadMetadata.ConfigSource getSource() {
+        return BaseConfigLoadMetadata.ConfigSource.LOCAL_FILE;
+    }
+
+    @Override
+    public String fingerprint(String filePath) {
+        Path file = resolve(filePath);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return file.toAbsolutePath() + "@" + attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+        } catch (IOException e) {
+            // 文件不存在（或不可读）：该层不参与合并
+            return null;
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> read(String filePath) {
+        Path file = resolve(filePath);
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyList();
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return ConfigEntries.parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("解析覆盖配置文件失败：" + file, e);
+        }
+    }
+
+    private Path resolve(String filePath) {
+        return directory.resolve(Paths.get(filePath).getFileName().toString());
+    }
+
+}
@@ -0,0 +1,110 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import core.gitee.xudai.enums.ConfigFilePathEnum;
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 环境变量 / 系统属性中的内联配置条目（YAML 或 JSON 片段，按 id 合并）
+ * 环境变量：CENTRAL_PUBLISH_&lt;类型&gt;_ENTRIES，如 CENTRAL_PUBLISH_PLUGIN_ENTRIES='[{id: gpg, baseInfo: {enabled: false}}]'
+ * 系统属性：central.publish.&lt;类型&gt;.entries，如 -Dcentral.publish.plugin.entries=...
+ * 类型为 {@link ConfigFilePathEnum} 的名称，按配置文件路径匹配；不属于任何类型的配置文件不读取
+ * @author daixu
+ */
+public class PropertyConfigSource implements ConfigSourceLayer {
+
+    private final BaseConfigLoadMetadata.ConfigSource source;
+
+    /**
+     * 配置类型 → 属性名
+     */
+    private final Function<ConfigFilePathEnum, String> keyFunction;
+
+    /**
+     * 属性名 → 属性值
+     */
+    private final Function<String, String> valueFunction;
+
+    public PropertyConfigSource(BaseConfigLoadMetadata.ConfigSource source,
+                                Function<ConfigFilePathEnum, String> keyFunction,
+                                Function<String, String> valueFunction) {
+        this.source = source;
+        this.keyFunction = keyFunction;
+        this.valueFunction = valueFunction;
+    }
+
+    /**
+     * 环境变量来源
+     * @return 环境变量来源
+     * @author daixu
+     */
+    public static PropertyConfigSource environment() {
+        return new PropertyConfigSource(BaseConfigLoadMetadata.ConfigSource.ENVIRONMENT,
+                type -> "CENTRAL_PUBLISH_" + type.name() + "_ENTRIES", System::getenv);
+    }
+
+    /**
+     * 系统属性来源
+     * @return 系统属性来源
+     * @author daixu
+     */
+    public static PropertyConfigSource systemProperties() {
+        return new PropertyConfigSource(BaseConfigLoadMetadata.ConfigSource.SYSTEM_PROPERTY,
+                type -> "central.publish." + type.name().toLowerCase(Locale.ROOT) + ".entries", System::getProperty);
+    }
+
+    @Override
+    public String getName() {
+        return source.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public BaseConfigLoadMetadata.ConfigSource getSource() {
+        return source;
+    }
+
+    @Override
+    public String fingerprint(String filePath) {
+        String value = value(filePath);
+        return value == null ? null : ConfigEntries.sha256(value);
+    }
+
+    @Override
+    public List<Map<String, Object>> read(String filePath) {
+        String value = value(filePath);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return ConfigEntries.parse(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("解析内联配置失败：" + keyFunction.apply(type(filePath)), e);
+        }
+    }
+
+    private String value(String filePath) {
+        ConfigFilePathEnum type = type(filePath);
+        if (type == null) {
+            return null;
+        }
+        String value = valueFunction.apply(keyFunction.apply(type));
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static ConfigFilePathEnum type(String filePath) {
+        for (ConfigFilePathEnum type : ConfigFilePathEnum.values()) {
+            if (type.getFinalPath().equals(filePath)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+}
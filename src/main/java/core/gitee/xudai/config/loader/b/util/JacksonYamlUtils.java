@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,14 +33,20 @@ public final class JacksonYamlUtils {
      */
     private static final ObjectMapper YAML_MAPPER;
 
+    /**
+     * 系统属性：是否启用 Blackbird 优化绑定（默认启用，设置为 false 时回退为反射绑定）
+     */
+    public static final String BLACKBIRD_PROPERTY = "central.publish.jackson.blackbird";
+
     static {
         // true=开启“打印时人类友好”
-        YAML_MAPPER = configureYamlMapper();
+        YAML_MAPPER = configureYamlMapper(!"false".equalsIgnoreCase(System.getProperty(BLACKBIRD_PROPERTY)));
         /* 预热：让 JVM 提前加载所有序列化器，避免第一次请求抖动 */
         try {
             YAML_MAPPER.writeValueAsString(new Object());
         } catch (IOException ignore) {}
-        log.info("JacksonYamlUtils 初始化完成，Mapper hash={}", YAML_MAPPER.hashCode());
+        log.info("JacksonYamlUtils 初始化完成，Mapper hash={}，Blackbird={}", YAML_MAPPER.hashCode(),
+                YAML_MAPPER.getRegisteredModuleIds().contains(BlackbirdModule.class.getName()));
     }
 
     /**
@@ -62,9 +69,11 @@ public final class JacksonYamlUtils {
 
     /**
      * 核心配置方法：统一配置 YAML 解析特性
+     * @param optimizedBinding 是否启用 Blackbird 优化绑定（setter、构造器、getter 调用改为 LambdaMetafactory 生成的访问器，
+     *                         PluginConfig、LicenseConfig、DependencyConfig 及 @SuperBuilder 元数据类的绑定不再逐次反射调用）
      * @return 配置完成的 ObjectMapper
      */
-    private static ObjectMapper configureYamlMapper() {
+    static ObjectMapper configureYamlMapper(boolean optimizedBinding) {
 
         /* 工厂层：关闭 YAML 特有的 --- 分隔符更清爽 */
         YAMLFactory yamlFactory = YAMLFactory.builder()
@@ -108,6 +117,10 @@ public final class JacksonYamlUtils {
         /* 2.4 模块层：JDK8 时间 + 参数名模块（支持无参构造） */
         // 5. 支持构造函数参数名称解析（需 Java 8+ 参数名称反射支持）
         mapper.registerModule(new ParameterNamesModule());
+        // 6. 优化绑定：以生成的访问器替代反射调用（无法生成访问器的属性由 Blackbird 自动回退为反射）
+        if (optimizedBinding) {
+            mapper.registerModule(new BlackbirdModule());
+        }
 
         return mapper;
     }
@@ -131,6 +144,16 @@ public final class JacksonYamlUtils {
         return YAML_MAPPER.readValue(in, listType);
     }
 
+    // 流式读取：创建 YAML 解析器（按事件逐个读取 token，不一次性构建整个文档）
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return YAML_MAPPER.getFactory().createParser(in);
+    }
+
+    // 流式读取：将解析器当前位置的值绑定为对象
+    public static <T> T readValue(JsonParser parser, Class<T> clazz) throws IOException {
+        return YAML_MAPPER.readValue(parser, clazz);
+    }
+
     /* ========================= 3. 常用模板方法 ========================= */
 
     /** 3.1 读取类路径 YAML → 单体对象（已解析环境变量） */
@@ -0,0 +1,301 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * 对象图字符串替换工具：遍历配置对象中的所有字符串并按给定规则替换（用于解析占位符）
+ * 1. 每个类的字段访问计划只计算一次（缓存在 ClassValue 中），字段读写使用 MethodHandle，不再每次反射查找和 setAccessible
+ * 2. 只访问可能包含字符串的字段（数值、布尔、枚举、时间等类型的字段不进入计划）
+ * 3. 集合、Map 原地访问，只有值确实发生变化时才修改：可变集合原地写回，不可变集合按原顺序重建为不可变集合
+ * @author daixu
+ */
+public final class ObjectGraphResolver {
+
+    /**
+     * 类 → 字段访问计划
+     */
+    private static final ClassValue<FieldAccessor[]> PLANS = new ClassValue<>() {
+        @Override
+        protected FieldAccessor[] computeValue(Class<?> type) {
+            return createPlan(type);
+        }
+    };
+
+    /**
+     * 空计划
+     */
+    private static final FieldAccessor[] EMPTY_PLAN = new FieldAccessor[0];
+
+    private ObjectGraphResolver() {
+        throw new AssertionError("工具类不允许实例化");
+    }
+
+    /**
+     * 替换对象图中的所有字符串
+     * @param value 对象（字符串、集合、Map、数组或普通对象）
+     * @param resolver 字符串替换规则（不需要替换时应返回原字符串实例）
+     * @param <T> 对象类型
+     * @return 替换后的对象（普通对象原地修改并返回自身；字符串、不可变集合变化时返回新对象，未变化时返回原对象）
+     * @author daixu
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T resolve(T value, UnaryOperator<String> resolver) {
+        return (T) new Walk(resolver).visit(value);
+    }
+
+    /**
+     * 是否为不包含字符串的叶子类型（不进入访问计划，也不递归访问）
+     */
+    private static boolean isLeafType(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum()
+                || Number.class.isAssignableFrom(type)
+                || type == Boolean.class || type == Character.class || type == Class.class
+                || Temporal.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (type.isArray()) {
+            return isLeafType(type.getComponentType());
+        }
+        // JDK 内部类型只处理字符串、集合、Map，其余视为叶子（也无法对其私有字段建立访问计划）
+        String name = type.getName();
+        return (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun."))
+                && type != String.class && type != Object.class
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && !type.isInterface();
+    }
+
+    /**
+     * 为类建立字段访问计划（包含父类字段，跳过静态字段和叶子类型字段）
+     */
+    private static FieldAccessor[] createPlan(Class<?> type) {
+        if (isLeafType(type) || type == String.class || Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type) || type.isArray()) {
+            return EMPTY_PLAN;
+        }
+
+        List<FieldAccessor> accessors = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(current, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || isLeafType(field.getType())) {
+                    continue;
+                }
+                accessors.add(FieldAccessor.of(lookup, field));
+            }
+        }
+        return accessors.isEmpty() ? EMPTY_PLAN : accessors.toArray(new FieldAccessor[0]);
+    }
+
+    /**
+     * 单个字段的读写句柄
+     */
+    private static final class FieldAccessor {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        /** 字段类型（写回前校验新值类型） */
+        private final Class<?> type;
+
+        /** 读取句柄 */
+        private final MethodHandle getter;
+
+        /** 写入句柄（record 等不可写字段为 null，只原地访问其内容） */
+        private final MethodHandle setter;
+
+        private FieldAccessor(Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private static FieldAccessor of(MethodHandles.Lookup lookup, Field field) {
+            try {
+                MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                MethodHandle setter;
+                try {
+                    // final 字段需先 setAccessible 才能获得写入句柄（仅在建立计划时执行一次）
+                    if (Modifier.isFinal(field.getModifiers())) {
+                        field.setAccessible(true);
+                    }
+                    setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    setter = null;
+                }
+                return new FieldAccessor(field.getType(), getter, setter);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法访问字段: " + field, e);
+            }
+        }
+    }
+
+    /**
+     * 一次遍历（记录已访问的普通对象，避免循环引用导致无限递归）
+     */
+    private static final class Walk {
+
+        private final UnaryOperator<String> resolver;
+
+        private Set<Object> visited;
+
+        private Walk(UnaryOperator<String> resolver) {
+            this.resolver = resolver;
+        }
+
+        private Object visit(Object value) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof String) {
+                return resolver.apply((String) value);
+            }
+            if (value instanceof List<?>) {
+                return visitList((List<?>) value);
+            }
+            if (value instanceof Collection<?>) {
+                return visitCollection((Collection<?>) value);
+            }
+            if (value instanceof Map<?, ?>) {
+                return visitMap((Map<?, ?>) value);
+            }
+            if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                for (int i = 0; i < array.length; i++) {
+                    Object resolved = visit(array[i]);
+                    if (resolved != array[i]) {
+                        array[i] = resolved;
+                    }
+                }
+                return value;
+            }
+
+            FieldAccessor[] plan = PLANS.get(value.getClass());
+            if (plan.length == 0 || !markVisited(value)) {
+                return value;
+            }
+            for (FieldAccessor accessor : plan) {
+                visitField(value, accessor);
+            }
+            return value;
+        }
+
+        private void visitField(Object owner, FieldAccessor accessor) {
+            try {
+                Object current = accessor.getter.invokeExact(owner);
+                Object resolved = visit(current);
+                if (resolved != current && accessor.setter != null && accessor.type.isInstance(resolved)) {
+                    accessor.setter.invokeExact(owner, resolved);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("解析字段失败: " + owner.getClass().getName(), e);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object visitList(List<?> list) {
+            List<Object> copy = null;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                Object current = list.get(i);
+                Object resolved = visit(current);
+                if (copy != null) {
+                    copy.add(resolved);
+                } else if (resolved != current) {
+                    try {
+                        ((List) list).set(i, resolved);
+                    } catch (UnsupportedOperationException e) {
+                        // 不可变集合：从当前位置开始改为按原顺序复制
+                        copy = new ArrayList<>(size);
+                        copy.addAll(list.subList(0, i));
+                        copy.add(resolved);
+                    }
+                }
+            }
+            return copy != null ? Collections.unmodifiableList(copy) : list;
+        }
+
+        private Object visitCollection(Collection<?> collection) {
+            List<Object> resolvedValues = null;
+            int index = 0;
+            for (Object current : collection) {
+                Object resolved = visit(current);
+                if (resolvedValues == null && resolved != current) {
+                    resolvedValues = new ArrayList<>(collection.size());
+                    Iterator<?> iterator = collection.iterator();
+                    for (int i = 0; i < index; i++) {
+                        resolvedValues.add(iterator.next());
+                    }
+                }
+                if (resolvedValues != null) {
+                    resolvedValues.add(resolved);
+                }
+                index++;
+            }
+            if (resolvedValues == null) {
+                return collection;
+            }
+            // 元素变化后哈希位置也会变化，集合只能按原迭代顺序重建
+            return collection instanceof Set<?>
+                    ? Collections.unmodifiableSet(new LinkedHashSet<>(resolvedValues))
+                    : Collections.unmodifiableList(resolvedValues);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object visitMap(Map<?, ?> map) {
+            Map<Object, Object> copy = null;
+            int index = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                Object resolvedKey = key instanceof String ? resolver.apply((String) key) : key;
+                Object current = entry.getValue();
+                Object resolved = visit(current);
+
+                if (copy == null && (resolvedKey != key || resolved != current)) {
+                    if (resolvedKey == key) {
+                        try {
+                            ((Map.Entry) entry).setValue(resolved);
+                            index++;
+                            continue;
+                        } catch (UnsupportedOperationException e) {
+                            // 不可变 Map，改为复制
+                        }
+                    }
+                    // 键变化或不可变 Map：按原顺序复制之前的条目（之前的值已是替换后的结果）
+                    copy = new LinkedHashMap<>(map.size() * 2);
+                    Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+                    for (int i = 0; i < index; i++) {
+                        Map.Entry<?, ?> previous = iterator.next();
+                        copy.put(previous.getKey(), previous.getValue());
+                    }
+                }
+                if (copy != null) {
+                    copy.put(resolvedKey, resolved);
+                }
+                index++;
+            }
+            return copy != null ? Collections.unmodifiableMap(copy) : map;
+        }
+
+        private boolean markVisited(Object value) {
+            if (visited == null) {
+                visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return visited.add(value);
+        }
+    }
+
+}
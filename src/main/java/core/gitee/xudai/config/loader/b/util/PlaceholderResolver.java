@@ -0,0 +1,164 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import core.gitee.xudai.enums.PlaceholderSourceEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 占位符解析器：按优先级从多个来源取值，支持嵌套占位符
+ * 1. 取值来源（优先级从高到低）：会话用户属性（-D）→ 项目属性 → 环境变量 → 系统属性，创建时复制各来源的取值
+ * 2. 每个名称只查找一次，结果（包括取值来源）记忆在解析器中，可通过 {@link #getResolutions()} 查看
+ * 3. 取到的值本身含占位符时继续解析，出现循环引用（如 a=${b}、b=${a}）时抛出异常
+ * @author daixu
+ */
+@Slf4j
+public class PlaceholderResolver {
+
+    /**
+     * 各来源的取值（按优先级排列）
+     */
+    private final Map<PlaceholderSourceEnum, Map<String, String>> sources = new EnumMap<>(PlaceholderSourceEnum.class);
+
+    /**
+     * 名称 → 解析结果
+     */
+    private final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    /**
+     * 创建只包含环境变量和系统属性的解析器
+     * @author daixu
+     */
+    public PlaceholderResolver() {
+        this(null, null);
+    }
+
+    /**
+     * 创建解析器
+     * @param userProperties 会话用户属性（可为空）
+     * @param projectProperties 项目属性（可为空）
+     * @author daixu
+     */
+    public PlaceholderResolver(Properties userProperties, Properties projectProperties) {
+        sources.put(PlaceholderSourceEnum.SESSION_USER_PROPERTY, copyOf(userProperties));
+        sources.put(PlaceholderSourceEnum.PROJECT_PROPERTY, copyOf(projectProperties));
+        sources.put(PlaceholderSourceEnum.ENVIRONMENT, Map.copyOf(System.getenv()));
+        sources.put(PlaceholderSourceEnum.SYSTEM_PROPERTY, copyOf(System.getProperties()));
+    }
+
+    /**
+     * 解析字符串中的占位符（不含占位符时直接返回原字符串）
+     * @param text 源字符串
+     * @return 替换后的字符串
+     * @throws IllegalStateException 占位符循环引用时抛出异常
+     * @author daixu
+     */
+    public String resolve(String text) {
+        PlaceholderTemplate template = PlaceholderTemplate.of(text);
+        if (template == null) {
+            return text;
+        }
+        return template.render(new Lookup()::get);
+    }
+
+    /**
+     * 获取占位符名称的解析结果
+     * @param key 占位符名称
+     * @return 解析结果（取值不存在时来源为 NONE）
+     * @throws IllegalStateException 占位符循环引用时抛出异常
+     * @author daixu
+     */
+    public Resolution lookup(String key) {
+        Lookup lookup = new Lookup();
+        lookup.get(key);
+        return resolutions.get(key);
+    }
+
+    /**
+     * 获取已解析的所有占位符（名称 → 解析结果）
+     * @return 只读视图
+     * @author daixu
+     */
+    public Map<String, Resolution> getResolutions() {
+        return Collections.unmodifiableMap(resolutions);
+    }
+
+    private static Map<String, String> copyOf(Properties properties) {
+        if (properties == null || properties.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name));
+        }
+        return values;
+    }
+
+    /**
+     * 单次解析过程（记录正在解析的名称链，用于检测循环引用）
+     */
+    private class Lookup {
+
+        private final Deque<String> resolving = new ArrayDeque<>();
+
+        private String get(String key) {
+            Resolution cached = resolutions.get(key);
+            if (cached != null) {
+                return cached.getValue();
+            }
+            if (resolving.contains(key)) {
+                List<String> chain = new ArrayList<>(resolving);
+                Collections.reverse(chain);
+                chain.add(key);
+                throw new IllegalStateException("占位符循环引用: " + String.join(" -> ", chain));
+            }
+
+            resolving.push(key);
+            try {
+                Resolution resolution = find(key);
+                Resolution previous = resolutions.putIfAbsent(key, resolution);
+                if (previous == null) {
+                    log.debug("占位符 {} 取自 {}", key, resolution.getSource().getValue());
+                    return resolution.getValue();
+                }
+                return previous.getValue();
+            } finally {
+                resolving.pop();
+            }
+        }
+
+        private Resolution find(String key) {
+            for (Map.Entry<PlaceholderSourceEnum, Map<String, String>> source : sources.entrySet()) {
+                String raw = source.getValue().get(key);
+                if (raw != null) {
+                    // 取到的值本身含占位符时继续解析（同一解析链中检测循环引用）
+                    PlaceholderTemplate template = PlaceholderTemplate.of(raw);
+                    String value = template != null ? template.render(this::get) : raw;
+                    return new Resolution(key, value, source.getKey());
+                }
+            }
+            return new Resolution(key, null, PlaceholderSourceEnum.NONE);
+        }
+    }
+
+    /**
+     * 占位符解析结果
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Resolution {
+
+        /** 占位符名称 */
+        private final String key;
+
+        /** 取值（所有来源都没有取值时为 null） */
+        private final String value;
+
+        /** 取值来源 */
+        private final PlaceholderSourceEnum source;
+    }
+
+}
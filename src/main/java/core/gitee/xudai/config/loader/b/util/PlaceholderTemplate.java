@@ -0,0 +1,250 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 编译后的占位符模板：将 ${key:defaultValue} 格式的字符串预先拆分为字面量片段和占位符片段，
+ * 同一字符串只解析一次，之后每次替换只需按片段拼接，无需再执行正则匹配
+ * 占位符名称和默认值都可以嵌套占位符，如 ${${plugin.version.key}:3.3.1}、${version:${default.version}}（嵌套规则见 {@link #render(Function)}）
+ * 不含占位符的字符串不编译、不缓存，直接返回原字符串（不产生任何对象分配）
+ * @author daixu
+ */
+public final class PlaceholderTemplate {
+
+    /**
+     * 模板缓存上限（配置中的字符串数量有限，超过上限后不再缓存，避免异常输入撑大缓存）
+     */
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    /**
+     * 源字符串 → 编译后的模板
+     */
+    private static final Map<String, PlaceholderTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 字面量片段（长度比 keys 多 1：literal[0] key[0] literal[1] key[1] ... literal[n]）
+     */
+    private final String[] literals;
+
+    /**
+     * 占位符名称（名称中不含嵌套占位符时为名称本身，否则为 null）
+     */
+    private final String[] keys;
+
+    /**
+     * 含嵌套占位符的占位符名称模板（名称为普通字符串时为 null）
+     */
+    private final PlaceholderTemplate[] keyTemplates;
+
+    /**
+     * 占位符默认值（未配置默认值时为 null；默认值含嵌套占位符时为模板）
+     */
+    private final Object[] defaults;
+
+    /**
+     * 字面量总长度（用于预估结果长度）
+     */
+    private final int literalLength;
+
+    private PlaceholderTemplate(String[] literals, String[] keys, PlaceholderTemplate[] keyTemplates, Object[] defaults) {
+        this.literals = literals;
+        this.keys = keys;
+        this.keyTemplates = keyTemplates;
+        this.defaults = defaults;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 判断字符串是否可能包含占位符
+     * @param source 源字符串
+     * @return 可能包含返回 true，否则返回 false
+     * @author daixu
+     */
+    public static boolean hasPlaceholder(String source) {
+        return source != null && source.contains("${");
+    }
+
+    /**
+     * 获取源字符串对应的模板（优先从缓存读取）
+     * @param source 源字符串
+     * @return 模板，不含占位符时返回 null
+     * @author daixu
+     */
+    public static PlaceholderTemplate of(String source) {
+        if (!hasPlaceholder(source)) {
+            return null;
+        }
+        PlaceholderTemplate template = CACHE.get(source);
+        if (template == null) {
+            template = compile(source);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(source, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * 解析字符串（不含占位符时直接返回原字符串）
+     * @param source 源字符串
+     * @param lookup 占位符取值（返回 null 时使用默认值）
+     * @return 替换后的字符串
+     * @author daixu
+     */
+    public static String resolve(String source, Function<String, String> lookup) {
+        PlaceholderTemplate template = of(source);
+        return template != null ? template.render(lookup) : source;
+    }
+
+    /**
+     * 编译模板：
+     * 1. 占位符以 ${ 开始，到与之配对的 } 结束（内部的 ${...} 按嵌套处理）
+     * 2. 同一层级的第一个 ':' 分隔名称和默认值，名称两侧空白会被去除，名称不能为空
+     * 3. 缺少配对 } 的片段按字面量处理
+     * @param source 源字符串
+     * @return 模板
+     * @author daixu
+     */
+    static PlaceholderTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<PlaceholderTemplate> keyTemplates = new ArrayList<>();
+        List<Object> defaults = new ArrayList<>();
+
+        int literalStart = 0;
+        int searchFrom = 0;
+        int length = source.length();
+        while (true) {
+            int start = source.indexOf("${", searchFrom);
+            if (start < 0) {
+                break;
+            }
+
+            // ✅ 1.查找配对的 '}' 以及同一层级的第一个 ':'
+            int depth = 0;
+            int separator = -1;
+            int close = -1;
+            for (int cursor = start + 2; cursor < length; cursor++) {
+                char c = source.charAt(cursor);
+                if (c == '$' && cursor + 1 < length && source.charAt(cursor + 1) == '{') {
+                    depth++;
+                    cursor++;
+                } else if (c == '}') {
+                    if (depth == 0) {
+                        close = cursor;
+                        break;
+                    }
+                    depth--;
+                } else if (c == ':' && depth == 0 && separator < 0) {
+                    separator = cursor;
+                }
+            }
+            int keyEnd = separator >= 0 ? separator : close;
+            if (close < 0 || source.substring(start + 2, keyEnd).isBlank()) {
+                searchFrom = start + 1;
+                continue;
+            }
+
+            // ✅ 2.名称、默认值中含嵌套占位符时分别编译为模板
+            String key = source.substring(start + 2, keyEnd).trim();
+            boolean nestedKey = hasPlaceholder(key);
+            keys.add(nestedKey ? null : key);
+            keyTemplates.add(nestedKey ? compile(key) : null);
+
+            Object defaultValue = null;
+            if (separator >= 0) {
+                String text = source.substring(separator + 1, close);
+                defaultValue = hasPlaceholder(text) ? compile(text) : text;
+            }
+            defaults.add(defaultValue);
+
+            // ✅ 3.记录片段
+            literals.add(source.substring(literalStart, start));
+            literalStart = close + 1;
+            searchFrom = literalStart;
+        }
+        literals.add(source.substring(literalStart));
+
+        return new PlaceholderTemplate(
+                literals.toArray(new String[0]),
+                keys.toArray(new String[0]),
+                keyTemplates.toArray(new PlaceholderTemplate[0]),
+                defaults.toArray());
+    }
+
+    /**
+     * 按片段拼接替换结果，取值规则：
+     * 1. 名称对应的值存在时使用该值，否则使用默认值；既没有值也没有默认值时替换为空字符串
+     * 2. 名称含嵌套占位符时先解析名称，再按解析后的名称取值（二次取值）：${${a}:b} 表示“以 a 的值为名称的属性，
+     *    不存在时为 b”；解析后的名称没有对应的值，或嵌套占位符本身无法解析（没有值也没有默认值）时，都使用默认值，
+     *    不会退回到 a 的值（需要“a 的值，不存在时为 b”时写作 ${a:b}）
+     * @param lookup 占位符取值（返回 null 时使用默认值）
+     * @return 替换后的字符串
+     * @author daixu
+     */
+    public String render(Function<String, String> lookup) {
+        return renderOrNull(lookup, false);
+    }
+
+    /**
+     * 按片段拼接替换结果
+     * @param lookup 占位符取值
+     * @param strict 为 true 时存在无法解析的占位符（没有值也没有默认值）则返回 null
+     * @return 替换后的字符串
+     */
+    private String renderOrNull(Function<String, String> lookup, boolean strict) {
+        if (keys.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + keys.length * 16);
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            String value = valueOf(i, lookup);
+            if (value == null && strict) {
+                return null;
+            }
+            builder.append(value != null ? value : "");
+        }
+        builder.append(literals[keys.length]);
+        return builder.toString();
+    }
+
+    /**
+     * 解析第 i 个占位符
+     * @return 取值，无法解析时返回 null
+     */
+    private String valueOf(int i, Function<String, String> lookup) {
+        String value;
+        if (keyTemplates[i] == null) {
+            value = lookup.apply(keys[i]);
+        } else {
+            String key = keyTemplates[i].renderOrNull(lookup, true);
+            value = key != null ? lookup.apply(key) : null;
+        }
+        if (value != null) {
+            return value;
+        }
+        Object defaultValue = defaults[i];
+        if (defaultValue instanceof PlaceholderTemplate) {
+            return ((PlaceholderTemplate) defaultValue).renderOrNull(lookup, false);
+        }
+        return (String) defaultValue;
+    }
+
+    /**
+     * 清空模板缓存
+     * @author daixu
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+}
@@ -1,86 +1,83 @@
 package core.gitee.xudai.config.loader.b.util;
 
-import java.lang.reflect.Field;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class PlaceholderUtils {
 
     /**
-     * 环境变量占位符正则表达式
-     * 格式：${key:defaultValue}
+     * 当前使用的占位符解析器（创建时复制各来源的取值，并记忆每个名称的解析结果）
+     * 格式：${key:defaultValue}，名称和默认值都可嵌套占位符，如 ${${plugin.version.key}:3.3.1}（按解析出的名称二次取值）
      * 支持默认值，如 ${key:default} 或 ${key}（无默认值时为空字符串）
+     * 未绑定 Maven 属性时只从环境变量和系统属性取值；{@link #bindMavenProperties(Properties, Properties)}、
+     * {@link #resetSnapshot()} 后重新创建
      */
-    private static final Pattern ENV_PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)(?::([^}]*))?}");
+    private static volatile PlaceholderResolver resolver;
 
     /* ========================= 4. 环境变量递归解析 ========================= */
 
-    @SuppressWarnings("unchecked")
+    /**
+     * 递归解析对象中所有字符串的占位符
+     * 普通对象原地修改；集合、Map 只有值变化时才写回，不可变集合按原顺序重建（字段访问计划按类缓存，见 {@link ObjectGraphResolver}）
+     * @param obj 待解析对象
+     * @param <T> 对象类型
+     * @return 解析后的对象
+     */
     public static <T> T resolveEnvVariables(T obj) {
+        return resolveEnvVariables(obj, resolver());
+    }
 
-        if (obj == null) {
-            return null;
-        }
-
-        Class<?> clz = obj.getClass();
-
-        /* 基础类型短路 */
-        if (obj instanceof String) {
-            return (T) resolveString((String) obj);
-        }
-
-        if (clz.isPrimitive() || obj instanceof Number || obj instanceof Boolean) {
-            return obj;
-        }
+    /**
+     * 使用指定解析器递归解析对象中所有字符串的占位符（调用方持有解析器，解析结果与其生命周期一致）
+     * @param obj 待解析对象
+     * @param resolver 占位符解析器
+     * @param <T> 对象类型
+     * @return 解析后的对象
+     */
+    public static <T> T resolveEnvVariables(T obj, PlaceholderResolver resolver) {
+        return ObjectGraphResolver.resolve(obj, val -> {
+            // 不含占位符时直接返回原字符串（不分配对象）
+            if (!PlaceholderTemplate.hasPlaceholder(val)) return val;
+            return resolver.resolve(val);
+        });
+    }
 
-        /* 集合 */
-        if (obj instanceof Collection<?>) {
-            Collection<Object> tmp = new ArrayList<>();
-            for (Object o : (Collection<?>) obj) tmp.add(resolveEnvVariables(o));
-            return (T) tmp;
-        }
-        /* Map */
-        if (obj instanceof Map<?, ?>) {
-            Map<Object, Object> tmp = new HashMap<>();
-            ((Map<?, ?>) obj).forEach((k, v) ->
-                    tmp.put(resolveEnvVariables(k), resolveEnvVariables(v)));
-            return (T) tmp;
-        }
-        /* 自定义对象：反射字段 */
-        try {
-            for (Field f : getAllFields(clz)) {
-                f.setAccessible(true);
-                Object fv = f.get(obj);
-                f.set(obj, resolveEnvVariables(fv));
+    /**
+     * 获取当前占位符解析器（不存在时创建只包含环境变量和系统属性的解析器）
+     * @return 占位符解析器
+     * @author daixu
+     */
+    public static PlaceholderResolver resolver() {
+        PlaceholderResolver current = resolver;
+        if (current == null) {
+            synchronized (PlaceholderUtils.class) {
+                current = resolver;
+                if (current == null) {
+                    current = new PlaceholderResolver();
+                    resolver = current;
+                }
             }
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException("反射解析环境变量失败", e);
         }
-        return obj;
+        return current;
     }
 
-    private static String resolveString(String val) {
-        if (val == null) return null;
-        Matcher m = ENV_PLACEHOLDER.matcher(val);
-        StringBuffer sb = new StringBuffer();
-        while (m.find()) {
-            String key = m.group(1).trim();
-            String def = m.group(2) != null ? m.group(2) : "";
-            String real = System.getenv(key);
-            m.appendReplacement(sb, Matcher.quoteReplacement(real != null ? real : def));
-        }
-        m.appendTail(sb);
-        return sb.toString();
+    /**
+     * 绑定 Maven 属性：之后的解析依次从会话用户属性、项目属性、环境变量、系统属性中取值
+     * （配置文件中的插件版本等直接取自 pom 属性或 -D 参数，无需再经由其他途径传递）
+     * @param userProperties 会话用户属性
+     * @param projectProperties 项目属性
+     * @author daixu
+     */
+    public static void bindMavenProperties(Properties userProperties, Properties projectProperties) {
+        resolver = new PlaceholderResolver(userProperties, projectProperties);
     }
 
-    private static List<Field> getAllFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        while (clazz != null && clazz != Object.class) {
-            fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-            clazz = clazz.getSuperclass();
-        }
-        return fields;
+    /**
+     * 丢弃当前解析器，下次解析时重新读取环境变量和系统属性（每次插件执行开始时调用，
+     * 常驻 JVM（如 mvnd）中的多次构建不会复用上一次构建的环境）
+     * @author daixu
+     */
+    public static void resetSnapshot() {
+        resolver = null;
     }
 
 }
@@ -1,8 +1,14 @@
 package core.gitee.xudai.entity;
 
+import core.gitee.xudai.strategy.core.enums.ConcurrencyModeEnum;
+import core.gitee.xudai.strategy.plugin.enums.ExecutionModeEnum;
+import core.gitee.xudai.strategy.plugin.support.MavenInvokerBatch;
 import lombok.Data;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
 import java.util.Map;
 
 /**
@@ -17,6 +23,26 @@ public class CentralPublishConfig {
      */
     private MavenProject project;
 
+    /**
+     * Maven 会话（进程内执行插件目标时使用）
+     */
+    private MavenSession session;
+
+    /**
+     * 插件管理器（进程内执行插件目标时使用）
+     */
+    private BuildPluginManager buildPluginManager;
+
+    /**
+     * 项目辅助工具（还原缓存产物时挂载附属构件）
+     */
+    private MavenProjectHelper projectHelper;
+
+    /**
+     * 当前模块待批量执行的插件目标（批量 Invoker 模式下使用）
+     */
+    private MavenInvokerBatch invokerBatch;
+
     /**
      * GPG签名配置类
      */
@@ -41,4 +67,70 @@ public class CentralPublishConfig {
     @Parameter(property = "skip", defaultValue = "false")
     private boolean skip;
 
+    /**
+     * 插件目标执行模式：in-process（进程内执行，默认）/ invoker（通过 Maven Invoker 启动新进程，回退模式）
+     * / invoker-batch（合并本模块所有插件目标为一次 Maven Invoker 调用）
+     * / lifecycle（由扩展在读取项目后绑定到生命周期，扩展模式下自动使用）
+     */
+    @Parameter(property = "executionMode", defaultValue = ExecutionModeEnum.IN_PROCESS_CONSTANTS)
+    private String executionMode = ExecutionModeEnum.IN_PROCESS_CONSTANTS;
+
+    /**
+     * 策略并行度（互不依赖的策略同时执行的数量上限），默认 1 按依赖顺序串行执行；
+     * 大于 1 时执行顺序相同、互不依赖的策略并发执行，这些策略不能读写彼此的配置结果
+     */
+    @Parameter(property = "strategyParallelism", defaultValue = "1")
+    private int strategyParallelism = 1;
+
+    /**
+     * 策略并发执行模式：platform（固定大小的平台线程池，默认，并行度由 strategyParallelism 控制）
+     * / virtual（每个策略与子进程输出泵使用虚拟线程，显式开启后同一执行顺序的策略并发执行）
+     */
+    @Parameter(property = "concurrencyMode", defaultValue = ConcurrencyModeEnum.PLATFORM_CONSTANTS)
+    private String concurrencyMode = ConcurrencyModeEnum.PLATFORM_CONSTANTS;
+
+    /**
+     * Maven 守护进程池大小：同时通过 mvnd 执行的调用数量上限，0 表示不启用，Invoker 模式下冷启动 mvn
+     * 不控制常驻的守护进程数量，守护进程由 mvnd 自行创建，空闲超过 daemonIdleTimeout 后回收
+     */
+    @Parameter(property = "daemonPoolSize", defaultValue = "0")
+    private int daemonPoolSize;
+
+    /**
+     * mvnd 可执行文件名称或绝对路径（默认从 PATH 中查找 mvnd）
+     */
+    @Parameter(property = "mvndExecutable", defaultValue = "mvnd")
+    private String mvndExecutable = "mvnd";
+
+    /**
+     * 守护进程空闲回收时间（传递给 mvnd.idleTimeout，如 10m）
+     */
+    @Parameter(property = "daemonIdleTimeout", defaultValue = "10m")
+    private String daemonIdleTimeout = "10m";
+
+    /**
+     * 是否启用插件目标结果缓存（源码、文档目标输入未变化时直接还原产物，签名目标始终执行），默认关闭
+     */
+    @Parameter(property = "goalCacheEnabled", defaultValue = "false")
+    private boolean goalCacheEnabled;
+
+    /**
+     * 插件目标结果缓存目录（默认 ~/.m2/central-publish/cache）
+     */
+    @Parameter(property = "goalCacheDirectory")
+    private String goalCacheDirectory;
+
+    /**
+     * 插件目标结果缓存总大小上限（MB），超出时淘汰最久未使用的条目
+     */
+    @Parameter(property = "goalCacheMaxSizeMb", defaultValue = "512")
+    private long goalCacheMaxSizeMb = 512;
+
+    /**
+     * 是否缓存策略执行计划（配置与 POM 输入未变化时复用上次的拓扑分层，缓存目录为 ~/.m2/central-publish/plans），默认关闭：
+     * 命中时仍需构建并校验依赖图，只省去分层计算，通常不足以抵消计算指纹时读取 POM 的开销
+     */
+    @Parameter(property = "planCacheEnabled", defaultValue = "false")
+    private boolean planCacheEnabled;
+
 }
@@ -0,0 +1,52 @@
+package core.gitee.xudai.enums;
+
+/**
+ * 异步事件分发的背压策略枚举（监听器的事件缓冲区写满时的处理方式）
+ * @author daixu
+ */
+public enum BackpressurePolicyEnum {
+
+    /**
+     * 阻塞：发布线程等待监听器消费出空位，不丢失事件
+     */
+    BLOCK("block"),
+
+    /**
+     * 丢弃最旧：移除缓冲区中最旧的事件后写入新事件，发布线程不等待
+     */
+    DROP_OLDEST("drop-oldest"),
+
+    /**
+     * 采样：写满期间每隔固定数量的事件保留一个（替换最旧的事件），其余丢弃，发布线程不等待
+     */
+    SAMPLE("sample");
+
+    private final String value;
+
+    BackpressurePolicyEnum(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 根据配置值获取背压策略（未配置或无法识别时默认阻塞）
+     * @param value 配置值
+     * @return 背压策略
+     * @author daixu
+     */
+    public static BackpressurePolicyEnum fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return BLOCK;
+        }
+        for (BackpressurePolicyEnum policy : values()) {
+            if (policy.value.equalsIgnoreCase(value.trim()) || policy.name().equalsIgnoreCase(value.trim())) {
+                return policy;
+            }
+        }
+        return BLOCK;
+    }
+
+}
@@ -29,6 +29,10 @@ public enum ConfigFilePathEnum {
     private static final Properties EXTERNAL_CONFIG = new Properties();
     // 外部配置文件名称（类路径下）
     private static final String EXTERNAL_CONFIG_FILE = "config-paths.properties";
+    // 外部配置目录：系统属性优先，其次为外部配置文件中的 config.dir（配置后从该目录读取 YAML 并监听文件变化）
+    public static final String EXTERNAL_DIR_PROPERTY = "central.publish.config.dir";
+    // 外部配置文件中外部配置目录的key
+    private static final String EXTERNAL_DIR_KEY = "config.dir";
 
     // 静态代码块：加载外部配置文件（仅加载一次）
     static {
@@ -59,4 +63,25 @@ public enum ConfigFilePathEnum {
         return StringUtils.isNotBlank(externalPath) ? externalPath.trim() : defaultPath;
     }
 
+    /**
+     * 获取外部配置目录（优先级：系统属性 > 外部配置文件 config.dir）
+     * @return 外部配置目录，未配置时返回 null
+     */
+    public static String getExternalConfigDir() {
+        String dir = System.getProperty(EXTERNAL_DIR_PROPERTY);
+        if (StringUtils.isBlank(dir)) {
+            dir = EXTERNAL_CONFIG.getProperty(EXTERNAL_DIR_KEY);
+        }
+        return StringUtils.isNotBlank(dir) ? dir.trim() : null;
+    }
+
+    /**
+     * 获取配置文件名（不含目录，外部配置目录中按文件名查找）
+     */
+    public String getFileName() {
+        String path = getFinalPath();
+        int separator = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return separator >= 0 ? path.substring(separator + 1) : path;
+    }
+
 }
@@ -0,0 +1,42 @@
+package core.gitee.xudai.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 运行指标类别枚举
+ * @author daixu
+ */
+public enum MetricCategoryEnum {
+
+    /**
+     * 策略执行（MavenStrategy.configure，包含其中的插件目标执行）
+     */
+    STRATEGY("strategy"),
+
+    /**
+     * Maven Invoker 子进程调用（mvn 或 mvnd）
+     */
+    FORK("fork"),
+
+    /**
+     * 配置加载（插件、许可证、依赖配置文件）
+     */
+    CONFIG_LOAD("config-load"),
+
+    /**
+     * 配置转换（配置 → 策略元数据）
+     */
+    CONVERSION("conversion");
+
+    private final String value;
+
+    MetricCategoryEnum(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+}
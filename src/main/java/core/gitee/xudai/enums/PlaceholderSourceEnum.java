@@ -0,0 +1,44 @@
+package core.gitee.xudai.enums;
+
+/**
+ * 占位符取值来源枚举（按解析优先级从高到低排列）
+ * @author daixu
+ */
+public enum PlaceholderSourceEnum {
+
+    /**
+     * 会话用户属性：命令行 -D 传入的属性
+     */
+    SESSION_USER_PROPERTY("session-user-property"),
+
+    /**
+     * 项目属性：MavenProject.getProperties()，即 pom 中 &lt;properties&gt; 声明的属性
+     */
+    PROJECT_PROPERTY("project-property"),
+
+    /**
+     * 环境变量
+     */
+    ENVIRONMENT("environment"),
+
+    /**
+     * JVM 系统属性
+     */
+    SYSTEM_PROPERTY("system-property"),
+
+    /**
+     * 所有来源都没有取值（使用占位符默认值）
+     */
+    NONE("none");
+
+    private final String value;
+
+    PlaceholderSourceEnum(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,187 @@
+package core.gitee.xudai.extension;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.gitee.xudai.config.loader.b.util.JacksonYamlUtils;
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.PluginConfigurator;
+import core.gitee.xudai.manager.SessionCoordinator;
+import core.gitee.xudai.manager.SessionSummary;
+import core.gitee.xudai.metrics.RunMetrics;
+import core.gitee.xudai.strategy.core.factory.StrategyExecutor;
+import core.gitee.xudai.strategy.plugin.enums.ExecutionModeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.MavenExecutionException;
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.annotations.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 中央仓库发布扩展：在 Maven 读取完所有项目后（构建计划生成之前）执行插件、许可证、依赖策略，
+ * 插件策略以生命周期模式运行，只把 gpg/source/javadoc/central-publishing 的执行写入 build/plugins，
+ * 由 Maven 在同一次构建中按阶段原生调度，不再启动新进程，并行构建（-T）也由 Maven 自身负责
+ * 启用方式（二选一）：
+ * 1. 插件声明中开启扩展：&lt;plugin&gt;...&lt;extensions&gt;true&lt;/extensions&gt;&lt;/plugin&gt;
+ * 2. 在 .mvn/extensions.xml 中注册 com.gitee.xudai:central-publisher-maven-plugin
+ * 只处理在 build/plugins 中声明了本插件的项目，配置取自插件声明中的 &lt;configuration&gt;&lt;config&gt; 节点
+ * @author daixu
+ */
+@Slf4j
+@Component(role = AbstractMavenLifecycleParticipant.class, hint = "central-publish")
+public class CentralPublishLifecycleParticipant extends AbstractMavenLifecycleParticipant {
+
+    /**
+     * 本插件 groupId
+     */
+    public static final String PLUGIN_GROUP_ID = "com.gitee.xudai";
+
+    /**
+     * 本插件 artifactId
+     */
+    public static final String PLUGIN_ARTIFACT_ID = "central-publisher-maven-plugin";
+
+    /**
+     * 项目属性：已由扩展绑定到生命周期（Mojo 检测到后不再重复配置）
+     */
+    public static final String LIFECYCLE_BOUND_PROPERTY = "central-publish.lifecycle-bound";
+
+    @Override
+    public void afterProjectsRead(MavenSession session) throws MavenExecutionException {
+        // 每次构建重新读取占位符取值来源（-D 属性、项目属性、环境变量、系统属性），常驻 JVM 中不复用上一次构建的取值
+        try {
+            SessionCoordinator.of(session).bindPlaceholders(session, session.getCurrentProject());
+            RunMetrics.begin(session);
+        } catch (MojoExecutionException e) {
+            throw new MavenExecutionException("初始化构建失败: " + e.getMessage(), e);
+        }
+        for (MavenProject project : session.getProjects()) {
+            Plugin plugin = findPlugin(project);
+            if (plugin == null) {
+                continue;
+            }
+
+            try {
+                // ✅ 1.读取插件声明中的配置
+                CentralPublishConfig config = createConfig(plugin);
+                if (config.isSkip()) {
+                    log.info("[{}] 跳过中央仓库发布配置", project.getArtifactId());
+                    continue;
+                }
+
+                // ✅ 2.以生命周期模式执行所有策略（只修改项目模型，不执行插件目标）
+                config.setProject(project);
+                config.setSession(session);
+                config.setExecutionMode(ExecutionModeEnum.LIFECYCLE_CONSTANTS);
+                // 初始化插件版本（同一次构建只解析一次）
+                new PluginConfigurator(config);
+                StrategyExecutor.withDefaultStrategies().executeAll(config);
+
+                // ✅ 3.标记已绑定，生命周期中执行的 Mojo 不再重复配置
+                project.getProperties().setProperty(LIFECYCLE_BOUND_PROPERTY, "true");
+                log.info("[{}] 已将中央仓库发布插件绑定到生命周期", project.getArtifactId());
+            } catch (MojoExecutionException e) {
+                throw new MavenExecutionException("[" + project.getArtifactId() + "] 中央仓库发布扩展配置失败: "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void afterSessionEnd(MavenSession session) {
+        // 构建结束后输出一次执行统计与运行报告（写入失败不影响构建结果）
+        SessionSummary.finish(session);
+    }
+
+    /**
+     * 查找项目 build/plugins 中声明的本插件
+     * @param project Maven 项目
+     * @return 插件声明，未声明时返回 null
+     * @author daixu
+     */
+    private Plugin findPlugin(MavenProject project) {
+        if (project.getBuildPlugins() == null) {
+            return null;
+        }
+        for (Plugin plugin : project.getBuildPlugins()) {
+            if (PLUGIN_GROUP_ID.equals(plugin.getGroupId()) && PLUGIN_ARTIFACT_ID.equals(plugin.getArtifactId())) {
+                return plugin;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将插件声明中 &lt;configuration&gt;&lt;config&gt; 下的参数转换为发布配置（与 Mojo 的 config 参数保持一致）
+     * 嵌套的参数（如 gpgSignConfig、properties）逐层转换为对象，同名的多个子元素转换为列表
+     * @param plugin 插件声明
+     * @return 发布配置
+     * @throws MojoExecutionException 参数转换失败时抛出异常
+     * @author daixu
+     */
+    private CentralPublishConfig createConfig(Plugin plugin) throws MojoExecutionException {
+        CentralPublishConfig config = new CentralPublishConfig();
+        XmlNode configuration = plugin.getDelegate().getConfiguration();
+        XmlNode configDom = configuration != null ? configuration.child("config") : null;
+        if (configDom == null) {
+            return config;
+        }
+
+        Object values = toValue(configDom);
+        if (!(values instanceof Map)) {
+            return config;
+        }
+
+        ObjectMapper mapper = JacksonYamlUtils.getDefaultYamlMapper();
+        try {
+            JsonNode tree = mapper.valueToTree(values);
+            return mapper.readerForUpdating(config)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(tree);
+        } catch (IOException e) {
+            throw new MojoExecutionException("解析插件配置失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 将配置节点转换为 Jackson 可绑定的值
+     * 1. 没有子元素：文本值（去除首尾空白，空元素为 null）
+     * 2. 子元素名称各不相同：按名称转换为有序 Map
+     * 3. 多个同名子元素（如 &lt;items&gt;&lt;item/&gt;&lt;item/&gt;&lt;/items&gt;）：转换为列表
+     * @param node 配置节点
+     * @return 文本、Map 或列表
+     * @author daixu
+     */
+    private static Object toValue(XmlNode node) {
+        List<XmlNode> children = node.children();
+        if (children.isEmpty()) {
+            return node.value() != null ? node.value().trim() : null;
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        boolean repeated = false;
+        for (XmlNode child : children) {
+            repeated |= values.containsKey(child.name());
+            values.put(child.name(), toValue(child));
+        }
+        if (!repeated) {
+            return values;
+        }
+        List<Object> items = new ArrayList<>(children.size());
+        for (XmlNode child : children) {
+            items.add(toValue(child));
+        }
+        return items;
+    }
+
+}
@@ -40,8 +40,8 @@ public class CentralPublishFacade {
             // 3. 获取所有策略并排序
             List<PluginStrategy> strategies = strategyFactory.getAllStrategies();
             // 4. 构建责任链并执行配置
-            PluginConfigurationChain configurationChain = new PluginConfigurationChain(strategies, eventManager);
-            configurationChain.execute(config.getProject().getPluginManagement(), config);
+            PluginConfigurationChain configurationChain = new PluginConfigurationChain(strategies);
+            configurationChain.execute(config);
             // 5. 全局事件发布（配置完成）
             eventManager.publishEvent(new PluginConfigurationEvent("global", EventType.ALL_COMPLETED, "中央仓库发布配置全部完成"));
         } catch (Exception e) {
@@ -41,9 +41,9 @@ public class CentralPublishFacade2 {
             // 3. 获取所有启用的插件策略
             List<PluginStrategy> enabledStrategies = getEnabledStrategies();
             // 4. 构建责任链（处理依赖顺序）
-            PluginConfigurationChain configChain = new PluginConfigurationChain(enabledStrategies, eventManager);
+            PluginConfigurationChain configChain = new PluginConfigurationChain(enabledStrategies);
             // 5. 执行配置流程
-            configChain.execute(config.getProject().getPluginManagement(), config);
+            configChain.execute(config);
             // 6. 配置完成通知
             eventManager.publishEvent(new PluginConfigEvent("global", PluginConfigEvent.EventType.ALL_COMPLETED, "中央仓库发布配置全部完成！"));
             log.info("中央仓库发布配置执行成功！");
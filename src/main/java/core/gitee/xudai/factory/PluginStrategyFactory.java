@@ -6,7 +6,10 @@ import core.gitee.xudai.strategy.plugin.impl.central.DeployPluginStrategy;
 import core.gitee.xudai.strategy.plugin.impl.javadoc.JavadocPluginStrategy;
 import core.gitee.xudai.strategy.plugin.impl.source.SourcePluginStrategy;
 import core.gitee.xudai.strategy.plugin.impl.central.CentralPublishingPluginStrategy;
+import org.apache.maven.plugin.MojoExecutionException;
+
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 
@@ -73,4 +76,20 @@ public class PluginStrategyFactory {
         return strategy;
     }
 
+    /**
+     * 获取所有已注册的策略（插件 ID → 策略，按插件枚举顺序）
+     * @return 插件 ID → 策略
+     * @author daixu
+     */
+    public static Map<String, PluginStrategy> getStrategies() {
+        Map<String, PluginStrategy> strategies = new LinkedHashMap<>();
+        for (PluginEnum type : PluginEnum.values()) {
+            PluginStrategy strategy = STRATEGY_CACHE.get(type);
+            if (strategy != null) {
+                strategies.put(type.getId(), strategy);
+            }
+        }
+        return strategies;
+    }
+
 }
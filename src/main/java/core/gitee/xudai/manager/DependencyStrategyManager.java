@@ -4,6 +4,7 @@ package core.gitee.xudai.manager;
 import core.gitee.xudai.entity.CentralPublishConfig;
 import core.gitee.xudai.strategy.dependency.api.DependencyStrategy;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.project.MavenProject;
 
@@ -34,22 +35,12 @@ public class DependencyStrategyManager {
     }
 
     /**
-     * 添加依赖到项目
+     * 添加依赖到项目（按 groupId:artifactId 去重，通过项目模型索引查找，不逐个比较）
      */
-    public void addDependenciesToProject(MavenProject project) {
-        List<Dependency> enabledDependencies = getEnabledDependencies();
-        List<Dependency> projectDependencies = project.getDependencies();
-
-        for (Dependency newDependency : enabledDependencies) {
-            if (!containsDependency(projectDependencies, newDependency)) {
-                projectDependencies.add(newDependency);
-            }
+    public void addDependenciesToProject(MavenProject project) throws MojoExecutionException {
+        ProjectModelIndex index = ProjectModelIndex.of(config != null ? config.getSession() : null, project);
+        for (Dependency newDependency : getEnabledDependencies()) {
+            index.addDependency(newDependency);
         }
     }
-
-    private boolean containsDependency(List<Dependency> dependencies, Dependency target) {
-        return dependencies.stream().anyMatch(dep ->
-                dep.getGroupId().equals(target.getGroupId()) &&
-                        dep.getArtifactId().equals(target.getArtifactId()));
-    }
 }
@@ -1,15 +1,17 @@
 package core.gitee.xudai.manager;
 
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.plugin.support.BasicPlugin;
+import core.gitee.xudai.strategy.plugin.support.PluginGoalExecutor;
+import core.gitee.xudai.strategy.plugin.support.Xpp3DomTemplate;
 import org.apache.maven.model.*;
 import org.apache.maven.plugin.MojoExecutionException;
-import org.apache.maven.shared.invoker.*;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.Properties;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 插件配置器 - 负责具体的 POM 配置逻辑
@@ -17,6 +19,33 @@ import java.util.Properties;
  */
 public class PluginConfigurator {
 
+    /**
+     * 中央发布插件配置模板
+     */
+    private static final Xpp3DomTemplate CENTRAL_PUBLISHING_CONFIGURATION = Xpp3DomTemplate.parse(
+            "<configuration><publishingServerId>{{publishingServerId}}</publishingServerId>"
+                    + "<autoPublish>false</autoPublish><waitUntil>validated</waitUntil></configuration>");
+
+    /**
+     * 部署插件配置模板
+     */
+    private static final Xpp3DomTemplate DEPLOY_PLUGIN_CONFIGURATION = Xpp3DomTemplate.parse(
+            "<configuration><skip>true</skip></configuration>");
+
+    /**
+     * GPG 签名执行模板（keyname、passphrase 未配置时省略）
+     */
+    private static final Xpp3DomTemplate GPG_EXECUTION = Xpp3DomTemplate.parse(
+            "<execution><id>sign-artifacts</id><phase>verify</phase><goals><goal>sign</goal></goals>"
+                    + "<configuration><keyname>{{keyname}}</keyname><passphrase>{{passphrase}}</passphrase></configuration>"
+                    + "</execution>");
+
+    /**
+     * 基础插件 executions 模板
+     */
+    private static final Xpp3DomTemplate BASIC_EXECUTIONS = Xpp3DomTemplate.parse(
+            "<executions><execution><id>{{id}}</id><goals><goal>{{goal}}</goal></goals></execution></executions>");
+
     /**
      * 插件配置
      */
@@ -38,31 +67,33 @@ public class PluginConfigurator {
         this.versionManager = new VersionManager();
     }
 
-    public PluginConfigurator(CentralPublishConfig config) {
+    public PluginConfigurator(CentralPublishConfig config) throws MojoExecutionException {
         this.config = config;
         this.versionManager = new VersionManager();
-        // 使用版本管理器初始化插件版本
+        // 使用版本管理器初始化插件版本（同一次构建中只解析一次，各模块共享）
         initializePluginVersions();
-        logger.info("版本信息: " + versionManager.getVersionSummary());
     }
 
     /**
      * 使用版本管理器初始化插件版本配置
+     * 插件版本在同一次构建中只解析并输出一次，其余模块复用已解析的结果
+     * @throws MojoExecutionException 解析插件版本失败时抛出异常
      * @author daixu
      */
-    private void initializePluginVersions() {
+    private void initializePluginVersions() throws MojoExecutionException {
 
-        if (config.getPluginVersions() == null) {
-            config.setPluginVersions(new PluginVersions());
-        }
+        PluginVersions versions = SessionCoordinator.of(config.getSession()).computeOnce(SessionCoordinator.PLUGIN_VERSIONS, () -> {
+            PluginVersions resolved = config.getPluginVersions() != null ? config.getPluginVersions() : new PluginVersions();
 
-        PluginVersions versions = config.getPluginVersions();
+            // 从版本管理器获取版本号，而不是硬编码
+            resolved.setGpgPlugin(versionManager.getGpgPluginVersion());
+            resolved.setSourcePlugin(versionManager.getSourcePluginVersion());
+            resolved.setJavadocPlugin(versionManager.getJavadocPluginVersion());
+            resolved.setCentralPublishingPlugin(versionManager.getCentralPublishingPluginVersion());
 
-        // 从版本管理器获取版本号，而不是硬编码
-        versions.setGpgPlugin(versionManager.getGpgPluginVersion());
-        versions.setSourcePlugin(versionManager.getSourcePluginVersion());
-        versions.setJavadocPlugin(versionManager.getJavadocPluginVersion());
-        versions.setCentralPublishingPlugin(versionManager.getCentralPublishingPluginVersion());
+            logger.info("版本信息: " + versionManager.getVersionSummary());
+            return resolved;
+        });
 
         config.setPluginVersions(versions);
     }
@@ -113,7 +144,7 @@ public class PluginConfigurator {
         plugin.setConfiguration(configuration);
 
         pluginManagement.addPlugin(plugin);
-        executeMavenPluginWithInvoker(
+        executeMavenPlugin(
                 "org.apache.maven.plugins",
                 "maven-deploy-plugin",
                 "3.1.0",
@@ -141,7 +172,7 @@ public class PluginConfigurator {
 
         pluginManagement.addPlugin(plugin);
 
-        executeMavenPluginWithInvoker(
+        executeMavenPlugin(
                 "org.sonatype.central",
                 "central-publishing-maven-plugin",
                 config.getPluginVersions().getCentralPublishingPlugin(),
@@ -150,32 +181,14 @@ public class PluginConfigurator {
     }
 
     private Xpp3Dom createCentralPublishingConfiguration() {
-        Xpp3Dom configuration = new Xpp3Dom("configuration");
-
-        Xpp3Dom publishingServerId = new Xpp3Dom("publishingServerId");
-        publishingServerId.setValue(config.getPublishingServerId());
-        configuration.addChild(publishingServerId);
-
-        Xpp3Dom autoPublish = new Xpp3Dom("autoPublish");
-//        autoPublish.setValue("${auto-releases-enabled}");
-        autoPublish.setValue("false");
-        configuration.addChild(autoPublish);
-
-        Xpp3Dom waitUntil = new Xpp3Dom("waitUntil");
-        waitUntil.setValue("validated");
-        configuration.addChild(waitUntil);
-
-        return configuration;
+        Map<String, String> values = new HashMap<>(2);
+        values.put("publishingServerId", config.getPublishingServerId());
+        Xpp3Dom configuration = CENTRAL_PUBLISHING_CONFIGURATION.render(values);
+        return configuration != null ? configuration : new Xpp3Dom("configuration");
     }
 
     private Xpp3Dom createDeployPluginConfiguration() {
-        Xpp3Dom configuration = new Xpp3Dom("configuration");
-
-        Xpp3Dom skip = new Xpp3Dom("skip");
-        skip.setValue("true");
-        configuration.addChild(skip);
-
-        return configuration;
+        return DEPLOY_PLUGIN_CONFIGURATION.render();
     }
 
     private void configureGpgPlugin(PluginManagement pluginManagement) throws MojoExecutionException {
@@ -191,7 +204,7 @@ public class PluginConfigurator {
         plugin.setConfiguration(executions);
         pluginManagement.addPlugin(plugin);
 
-        executeMavenPluginWithInvoker(
+        executeMavenPlugin(
                 "org.apache.maven.plugins",
                 "maven-gpg-plugin",
                 config.getPluginVersions().getGpgPlugin(),
@@ -200,36 +213,14 @@ public class PluginConfigurator {
     }
 
     private Xpp3Dom createGpgExecution() {
-        Xpp3Dom execution = new Xpp3Dom("execution");
-
-        Xpp3Dom id = new Xpp3Dom("id");
-        id.setValue("sign-artifacts");
-        execution.addChild(id);
-
-        Xpp3Dom phase = new Xpp3Dom("phase");
-        phase.setValue("verify");
-        execution.addChild(phase);
-
-        Xpp3Dom goals = new Xpp3Dom("goals");
-        Xpp3Dom goal = new Xpp3Dom("goal");
-        goal.setValue("sign");
-        goals.addChild(goal);
-        execution.addChild(goals);
-
-        Xpp3Dom configuration = new Xpp3Dom("configuration");
+        Map<String, String> values = new HashMap<>(4);
         if (config.getGpgKeyname() != null) {
-            Xpp3Dom keyname = new Xpp3Dom("keyname");
-            keyname.setValue("${gpg-keyname}");
-            configuration.addChild(keyname);
+            values.put("keyname", "${gpg-keyname}");
         }
-
         if (config.getGpgPassphrase() != null) {
-            Xpp3Dom passphrase = new Xpp3Dom("passphrase");
-            passphrase.setValue("${gpg-passphrase}");
-            configuration.addChild(passphrase);
+            values.put("passphrase", "${gpg-passphrase}");
         }
-        execution.addChild(configuration);
-        return execution;
+        return GPG_EXECUTION.render(values);
     }
 
     private void configureSourcePlugin(PluginManagement pluginManagement) throws MojoExecutionException {
@@ -241,7 +232,7 @@ public class PluginConfigurator {
                 "jar-no-fork"
         );
         pluginManagement.addPlugin(plugin);
-        executeMavenPluginWithInvoker(
+        executeMavenPlugin(
                 "org.apache.maven.plugins",
                 "maven-source-plugin",
                 config.getPluginVersions().getSourcePlugin(),
@@ -258,7 +249,7 @@ public class PluginConfigurator {
                 "jar"
         );
         pluginManagement.addPlugin(plugin);
-        executeMavenPluginWithInvoker(
+        executeMavenPlugin(
                 "org.apache.maven.plugins",
                 "maven-javadoc-plugin",
                 config.getPluginVersions().getJavadocPlugin(),
@@ -273,67 +264,39 @@ public class PluginConfigurator {
         plugin.setArtifactId(artifactId);
         plugin.setVersion(version);
 
-        Xpp3Dom executions = new Xpp3Dom("executions");
-        Xpp3Dom execution = new Xpp3Dom("execution");
-
-        Xpp3Dom id = new Xpp3Dom("id");
-        id.setValue(executionId);
-        execution.addChild(id);
-
-        Xpp3Dom goals = new Xpp3Dom("goals");
-        Xpp3Dom goalDom = new Xpp3Dom("goal");
-        goalDom.setValue(goal);
-        goals.addChild(goalDom);
-        execution.addChild(goals);
-
-        executions.addChild(execution);
-        plugin.setConfiguration(executions);
+        Map<String, String> values = new HashMap<>(4);
+        values.put("id", executionId);
+        values.put("goal", goal);
+        plugin.setConfiguration(BASIC_EXECUTIONS.render(values));
 
         return plugin;
     }
 
-    private void executeMavenPluginWithInvoker(String groupId, String artifactId, String version,
-                                               String goal, Xpp3Dom configuration)
+    /**
+     * 执行插件目标（默认在当前 Maven 会话中进程内执行，不可用时回退到 Maven Invoker）
+     * @param groupId 插件 groupId
+     * @param artifactId 插件 artifactId
+     * @param version 插件版本
+     * @param goal 插件目标
+     * @param configuration 插件配置（可为空）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    private void executeMavenPlugin(String groupId, String artifactId, String version,
+                                    String goal, Xpp3Dom configuration)
             throws MojoExecutionException {
 
-        try {
-            logger.info("通过Maven Invoker执行: " + artifactId + ":" + goal+":"+config.getProject());
-
-            InvocationRequest request = new DefaultInvocationRequest();
-            request.setPomFile(config.getProject().getFile());
-
-            // 构建目标字符串：groupId:artifactId:version:goal
-            String goalString = groupId + ":" + artifactId + ":" + version + ":" + goal;
-            request.setGoals(Collections.singletonList(goalString));
-
-            // 如果有配置，转换为系统属性
-            if (configuration != null) {
-                Properties props = new Properties();
-                addConfigurationToProperties(configuration, props, "");
-                request.setProperties(props);
-            }
+        logger.info("执行插件目标: " + artifactId + ":" + goal + ":" + config.getProject());
 
-            Invoker invoker = new DefaultInvoker();
-            InvocationResult result = invoker.execute(request);
+        BasicPlugin basicPlugin = new BasicPlugin();
+        basicPlugin.setGroupId(groupId);
+        basicPlugin.setArtifactId(artifactId);
+        basicPlugin.setVersion(version);
+        basicPlugin.setGoal(goal);
+        basicPlugin.setFile(config.getProject().getFile());
+        basicPlugin.setConfiguration(configuration);
 
-            if (result.getExitCode() != 0) {
-                throw new MojoExecutionException("插件执行失败: " + artifactId);
-            }
-
-        } catch (Exception e) {
-            throw new MojoExecutionException("Maven调用失败", e);
-        }
-    }
-
-    private void addConfigurationToProperties(Xpp3Dom config, Properties props, String prefix) {
-        for (Xpp3Dom child : config.getChildren()) {
-            String key = prefix.isEmpty() ? child.getName() : prefix + "." + child.getName();
-            if (child.getChildCount() > 0) {
-                addConfigurationToProperties(child, props, key);
-            } else {
-                props.setProperty(key, child.getValue());
-            }
-        }
+        PluginGoalExecutor.execute(basicPlugin, config, artifactId);
     }
 
 //    public void ensurePluginsInBuildSection(Build build) {
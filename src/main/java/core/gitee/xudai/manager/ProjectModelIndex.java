@@ -0,0 +1,242 @@
+package core.gitee.xudai.manager;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.*;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 项目模型坐标索引：按 groupId:artifactId 索引项目的 pluginManagement、build/plugins、dependencies、dependencyManagement，
+ * 检测插件、依赖是否存在时不再逐个扫描（BOM 引入数百个受管依赖的模块中，每次检测都是一次哈希查找）
+ * 1. 每个模块在同一次构建中只扫描一次项目模型（会话级共享，并行构建中同时到达的策略等待同一次扫描）
+ * 2. 通过索引添加的插件、依赖同时写入项目模型和索引，之后的查找无需重新扫描
+ * 3. 「工程中已声明」只包含首次扫描时的内容，本插件添加的条目不会被当作用户声明，重复执行时不会跳过策略
+ * 坐标键在所有模块间共享同一个字符串实例，数百个模块引用相同 BOM 时不重复占用内存
+ * 项目模型被其他途径直接修改时索引不会感知，需要一致性的修改请通过本类的 add 方法进行
+ * @author daixu
+ */
+public final class ProjectModelIndex {
+
+    /**
+     * 坐标键常量池（所有模块共享）
+     */
+    private static final ConcurrentHashMap<String, String> KEYS = new ConcurrentHashMap<>();
+
+    private final MavenProject project;
+
+    /** 首次扫描时工程中已声明的插件（pluginManagement + build/plugins） */
+    private final Set<String> declaredPlugins;
+
+    /** 首次扫描时工程中已声明的依赖（dependencies + dependencyManagement） */
+    private final Set<String> declaredDependencies;
+
+    /** build/plugins：坐标键 → 插件 */
+    private final Map<String, Plugin> buildPlugins = new ConcurrentHashMap<>();
+
+    /** pluginManagement：坐标键 → 插件 */
+    private final Map<String, Plugin> managedPlugins = new ConcurrentHashMap<>();
+
+    /** dependencies：坐标键 → 依赖 */
+    private final Map<String, Dependency> dependencies = new ConcurrentHashMap<>();
+
+    /** dependencyManagement：坐标键 → 依赖 */
+    private final Map<String, Dependency> managedDependencies = new ConcurrentHashMap<>();
+
+    private ProjectModelIndex(MavenProject project) {
+        this.project = project;
+        Model model = project.getModel();
+        Build build = model.getBuild();
+        if (build != null) {
+            if (build.getPluginManagement() != null) {
+                indexPlugins(managedPlugins, build.getPluginManagement().getPlugins());
+            }
+            indexPlugins(buildPlugins, build.getPlugins());
+        }
+        indexDependencies(dependencies, model.getDependencies());
+        if (model.getDependencyManagement() != null) {
+            indexDependencies(managedDependencies, model.getDependencyManagement().getDependencies());
+        }
+
+        Set<String> plugins = new HashSet<>(managedPlugins.keySet());
+        plugins.addAll(buildPlugins.keySet());
+        this.declaredPlugins = Collections.unmodifiableSet(plugins);
+        Set<String> deps = new HashSet<>(dependencies.keySet());
+        deps.addAll(managedDependencies.keySet());
+        this.declaredDependencies = Collections.unmodifiableSet(deps);
+    }
+
+    /**
+     * 扫描项目模型建立索引（不共享）
+     * @param project Maven 项目
+     * @return 索引
+     * @author daixu
+     */
+    public static ProjectModelIndex build(MavenProject project) {
+        return new ProjectModelIndex(project);
+    }
+
+    /**
+     * 获取当前模块的索引（同一次构建中每个模块只扫描一次，会话为空时重新扫描）
+     * @param config 中央仓库发布配置
+     * @return 索引
+     * @throws MojoExecutionException 构建索引失败时抛出异常
+     * @author daixu
+     */
+    public static ProjectModelIndex of(CentralPublishConfig config) throws MojoExecutionException {
+        return of(config.getSession(), config.getProject());
+    }
+
+    /**
+     * 获取模块的索引（同一次构建中每个模块只扫描一次，会话为空时重新扫描）
+     * @param session Maven 会话
+     * @param project Maven 项目
+     * @return 索引
+     * @throws MojoExecutionException 构建索引失败时抛出异常
+     * @author daixu
+     */
+    public static ProjectModelIndex of(MavenSession session, MavenProject project) throws MojoExecutionException {
+        if (session == null) {
+            return build(project);
+        }
+        return SessionCoordinator.of(session)
+                .computeOnce(SessionCoordinator.MODEL_INDEX + project.getId(), () -> build(project));
+    }
+
+    /**
+     * 坐标键（groupId:artifactId，共享实例）
+     * @param groupId groupId
+     * @param artifactId artifactId
+     * @return 坐标键
+     * @author daixu
+     */
+    public static String key(String groupId, String artifactId) {
+        String key = groupId + ":" + artifactId;
+        String existing = KEYS.putIfAbsent(key, key);
+        return existing != null ? existing : key;
+    }
+
+    // ------------------------------ 查找 ------------------------------
+
+    /**
+     * 工程中是否已声明指定插件（pluginManagement 或 build/plugins，不含本插件添加的插件）
+     * @param groupId 插件groupId
+     * @param artifactId 插件artifactId
+     * @return 已声明返回 true
+     * @author daixu
+     */
+    public boolean hasDeclaredPlugin(String groupId, String artifactId) {
+        return declaredPlugins.contains(groupId + ":" + artifactId);
+    }
+
+    /**
+     * 工程中是否已声明指定依赖（dependencies 或 dependencyManagement，不含本插件添加的依赖）
+     * @param groupId 依赖groupId
+     * @param artifactId 依赖artifactId
+     * @return 已声明返回 true
+     * @author daixu
+     */
+    public boolean hasDeclaredDependency(String groupId, String artifactId) {
+        return declaredDependencies.contains(groupId + ":" + artifactId);
+    }
+
+    /**
+     * 获取 build/plugins 中的插件（包括通过索引添加的插件）
+     * @param groupId 插件groupId
+     * @param artifactId 插件artifactId
+     * @return 插件，不存在时返回 null
+     * @author daixu
+     */
+    public Plugin getBuildPlugin(String groupId, String artifactId) {
+        return buildPlugins.get(groupId + ":" + artifactId);
+    }
+
+    /**
+     * dependencies 中是否包含指定依赖（包括通过索引添加的依赖）
+     * @param groupId 依赖groupId
+     * @param artifactId 依赖artifactId
+     * @return 包含返回 true
+     * @author daixu
+     */
+    public boolean containsDependency(String groupId, String artifactId) {
+        return dependencies.containsKey(groupId + ":" + artifactId);
+    }
+
+    // ------------------------------ 添加 ------------------------------
+
+    /**
+     * 添加插件到 pluginManagement（同时更新索引）
+     * @param plugin 插件
+     * @author daixu
+     */
+    public void addManagedPlugin(Plugin plugin) {
+        synchronized (project) {
+            Build build = getOrCreateBuild();
+            if (build.getPluginManagement() == null) {
+                build.setPluginManagement(new PluginManagement());
+            }
+            build.getPluginManagement().addPlugin(plugin);
+            managedPlugins.put(key(plugin.getGroupId(), plugin.getArtifactId()), plugin);
+        }
+    }
+
+    /**
+     * 添加插件到 build/plugins（同时更新索引）
+     * @param plugin 插件
+     * @author daixu
+     */
+    public void addBuildPlugin(Plugin plugin) {
+        synchronized (project) {
+            getOrCreateBuild().addPlugin(plugin);
+            buildPlugins.put(key(plugin.getGroupId(), plugin.getArtifactId()), plugin);
+        }
+    }
+
+    /**
+     * 添加依赖到 dependencies（已包含相同 groupId:artifactId 的依赖时不添加）
+     * @param dependency 依赖
+     * @return 已添加返回 true，已存在返回 false
+     * @author daixu
+     */
+    public boolean addDependency(Dependency dependency) {
+        synchronized (project) {
+            String key = key(dependency.getGroupId(), dependency.getArtifactId());
+            if (dependencies.putIfAbsent(key, dependency) != null) {
+                return false;
+            }
+            project.getModel().addDependency(dependency);
+            return true;
+        }
+    }
+
+    private Build getOrCreateBuild() {
+        Model model = project.getModel();
+        if (model.getBuild() == null) {
+            model.setBuild(new Build());
+        }
+        return model.getBuild();
+    }
+
+    private static void indexPlugins(Map<String, Plugin> index, List<Plugin> plugins) {
+        if (plugins == null) {
+            return;
+        }
+        for (Plugin plugin : plugins) {
+            // 与线性扫描一致：同一坐标出现多次时以第一次为准
+            index.putIfAbsent(key(plugin.getGroupId(), plugin.getArtifactId()), plugin);
+        }
+    }
+
+    private static void indexDependencies(Map<String, Dependency> index, List<Dependency> dependencies) {
+        if (dependencies == null) {
+            return;
+        }
+        for (Dependency dependency : dependencies) {
+            index.putIfAbsent(key(dependency.getGroupId(), dependency.getArtifactId()), dependency);
+        }
+    }
+
+}
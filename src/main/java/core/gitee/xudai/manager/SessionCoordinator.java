@@ -0,0 +1,156 @@
+package core.gitee.xudai.manager;
+
+import core.gitee.xudai.config.loader.b.source.ConfigSourceChain;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Server;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.*;
+
+/**
+ * 会话级协调器：同一次 Maven 构建（reactor）中的所有模块共享一份协调器
+ * 需要跨模块共享的工作（加载配置、解析插件版本、构建检测索引、查询认证信息等）由第一个到达的模块执行，
+ * 并行构建（-T）中同时到达的其他模块等待同一个 Future，不会重复执行
+ * 多线程构建时每个模块使用克隆的 MavenSession，因此以所有克隆共享的 MavenExecutionRequest 作为键；
+ * 使用弱引用映射，构建结束后随会话一起被回收（协调器内不持有会话引用，避免键无法回收）
+ * @author daixu
+ */
+@Slf4j
+public class SessionCoordinator {
+
+    /** 共享键：配置加载器 */
+    public static final String CONFIG = "config";
+
+    /** 共享键：外部配置目录的配置快照（同一次构建固定使用同一快照） */
+    public static final String EXTERNAL_CONFIG_SNAPSHOT = "external-config-snapshot";
+
+    /** 共享键：插件版本 */
+    public static final String PLUGIN_VERSIONS = "plugin-versions";
+
+    /** 共享键前缀：项目模型坐标索引（后接项目 ID） */
+    public static final String MODEL_INDEX = "model-index:";
+
+    /** 共享键：占位符取值快照（每次构建重建一次） */
+    public static final String PLACEHOLDER_SNAPSHOT = "placeholder-snapshot";
+
+    /** 共享键前缀：认证信息（后接 serverId） */
+    public static final String SERVER = "server:";
+
+    /** 共享键：本次构建的运行指标 */
+    public static final String RUN_METRICS = "run-metrics";
+
+    /** 共享键：会话结束监听器（每次构建注册一次） */
+    public static final String SESSION_LISTENER = "session-listener";
+
+    /** 共享键：会话结束汇总（每次构建输出一次） */
+    public static final String SESSION_SUMMARY = "session-summary";
+
+    /**
+     * 构建请求 → 协调器
+     */
+    private static final Map<MavenExecutionRequest, SessionCoordinator> COORDINATORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 共享键 → 计算结果
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> entries = new ConcurrentHashMap<>();
+
+    private SessionCoordinator() {
+    }
+
+    /**
+     * 获取会话对应的协调器（会话为空时返回不共享的新协调器）
+     * @param session Maven 会话
+     * @return 协调器
+     * @author daixu
+     */
+    public static SessionCoordinator of(MavenSession session) {
+        if (session == null || session.getRequest() == null) {
+            return new SessionCoordinator();
+        }
+        return COORDINATORS.computeIfAbsent(session.getRequest(), request -> new SessionCoordinator());
+    }
+
+    /**
+     * 在当前构建中只计算一次，其他模块直接复用结果（计算中则等待）
+     * 计算失败时所有等待者收到同一异常，失败结果不缓存，之后的模块会重新计算
+     * @param key 共享键
+     * @param loader 计算逻辑
+     * @param <T> 结果类型
+     * @return 计算结果
+     * @throws MojoExecutionException 计算失败或等待被中断时抛出异常
+     * @author daixu
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computeOnce(String key, Callable<T> loader) throws MojoExecutionException {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entries.putIfAbsent(key, created);
+
+        if (existing == null) {
+            try {
+                created.complete(loader.call());
+            } catch (Exception e) {
+                entries.remove(key, created);
+                created.completeExceptionally(e);
+            }
+            existing = created;
+        } else {
+            log.debug("复用本次构建中已计算的共享数据: {}", key);
+        }
+
+        try {
+            return (T) existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("等待共享数据被中断: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MojoExecutionException) {
+                throw (MojoExecutionException) cause;
+            }
+            throw new MojoExecutionException("计算共享数据失败: " + key, cause);
+        }
+    }
+
+    /**
+     * 绑定本次构建的占位符取值来源（-D 属性、顶层项目属性、环境变量、系统属性）与配置来源链（同一次构建只绑定一次）
+     * 常驻 JVM 中每次构建重新绑定，不复用上一次构建的取值；扩展、central-publish 与 plan 共用此入口
+     * @param session Maven 会话
+     * @param project 当前项目（会话没有顶层项目时作为根项目）
+     * @throws MojoExecutionException 绑定失败时抛出异常
+     * @author daixu
+     */
+    public void bindPlaceholders(MavenSession session, MavenProject project) throws MojoExecutionException {
+        computeOnce(PLACEHOLDER_SNAPSHOT, () -> {
+            MavenProject root = session.getTopLevelProject() != null ? session.getTopLevelProject() : project;
+            PlaceholderUtils.bindMavenProperties(session.getUserProperties(), root != null ? root.getProperties() : null);
+            ConfigSourceChain.configure(session.isOffline(), root != null ? root.getBaseDirectory() : null);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * 查询 settings.xml 中的认证信息（同一 serverId 在本次构建中只查询一次）
+     * @param session Maven 会话
+     * @param serverId 服务器 ID
+     * @return 认证信息，不存在时返回空
+     * @throws MojoExecutionException 查询失败时抛出异常
+     * @author daixu
+     */
+    public Optional<Server> getServer(MavenSession session, String serverId) throws MojoExecutionException {
+        if (serverId == null || session == null || session.getSettings() == null) {
+            return Optional.empty();
+        }
+        return computeOnce(SERVER + serverId, () -> Optional.ofNullable(session.getSettings().getServer(serverId)));
+    }
+
+}
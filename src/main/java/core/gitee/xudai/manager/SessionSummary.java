@@ -0,0 +1,107 @@
+package core.gitee.xudai.manager;
+
+import core.gitee.xudai.metrics.RunReport;
+import core.gitee.xudai.strategy.plugin.support.PluginGoalExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+
+/**
+ * 会话结束汇总：整个构建（reactor）结束时只输出一次执行统计、保存目标耗时历史并写入运行报告
+ * 1. 扩展模式下由生命周期参与者的 afterSessionEnd 触发
+ * 2. 只以普通插件方式使用时，Mojo 在本次构建中注册一次会话监听器，由 SessionEnded 事件触发
+ * 两种方式同时存在时只执行一次；统计输出后清零，常驻 JVM（mvnd）中的下一次构建重新统计
+ * @author daixu
+ */
+@Slf4j
+public final class SessionSummary {
+
+    private SessionSummary() {
+    }
+
+    /**
+     * 注册会话结束监听器（同一次构建只注册一次，包装原有监听器，其余事件原样转发）
+     * @param session Maven 会话
+     * @throws MojoExecutionException 注册失败时抛出异常
+     * @author daixu
+     */
+    public static void register(MavenSession session) throws MojoExecutionException {
+        if (session == null || session.getRequest() == null) {
+            return;
+        }
+        SessionCoordinator.of(session).computeOnce(SessionCoordinator.SESSION_LISTENER, () -> {
+            MavenExecutionRequest request = session.getRequest();
+            request.setExecutionListener(wrap(request.getExecutionListener(), session));
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * 输出本次构建的汇总（同一次构建只执行一次，失败不影响构建结果）
+     * @param session Maven 会话
+     * @author daixu
+     */
+    public static void finish(MavenSession session) {
+        try {
+            SessionCoordinator.of(session).computeOnce(SessionCoordinator.SESSION_SUMMARY, () -> {
+                // ✅ 1.输出各执行模式的耗时统计并保存目标耗时历史
+                PluginGoalExecutor.logSummary();
+                // ✅ 2.输出运行报告
+                writeRunReport(session);
+                return Boolean.TRUE;
+            });
+        } catch (MojoExecutionException e) {
+            log.warn("输出构建汇总失败: {}", e.getMessage());
+        }
+    }
+
+    private static void writeRunReport(MavenSession session) {
+        try {
+            Path directory = RunReport.writeFor(session);
+            if (directory != null) {
+                log.info("运行报告已输出到 {}", directory);
+            }
+        } catch (IOException e) {
+            log.warn("输出运行报告失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 包装会话监听器：SessionEnded 事件转发后输出汇总
+     * @param delegate 原有监听器（可能为空）
+     * @param session 注册时的会话（事件中的会话在并行构建时可能是克隆）
+     * @return 包装后的监听器
+     */
+    private static ExecutionListener wrap(ExecutionListener delegate, MavenSession session) {
+        return (ExecutionListener) Proxy.newProxyInstance(SessionSummary.class.getClassLoader(),
+                new Class<?>[]{ExecutionListener.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> "SessionSummaryListener[" + delegate + "]";
+                        };
+                    }
+                    if (delegate != null) {
+                        try {
+                            method.invoke(delegate, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                    if ("sessionEnded".equals(method.getName()) && args != null && args[0] instanceof ExecutionEvent) {
+                        finish(session);
+                    }
+                    return null;
+                });
+    }
+
+}
@@ -21,6 +21,11 @@ public class BaseConfigLoadMetadata {
      */
     private LocalDateTime loadTime;
 
+    /**
+     * 加载耗时（毫秒）
+     */
+    private long loadDurationMillis;
+
     /**
      * 加载状态（SUCCESS/FAILED）
      */
@@ -69,7 +74,13 @@ public class BaseConfigLoadMetadata {
         ENVIRONMENT,
 
         /** 系统属性 */
-        SYSTEM_PROPERTY
+        SYSTEM_PROPERTY,
+
+        /** 构建期生成的二进制快照 */
+        BINARY_SNAPSHOT,
+
+        /** 外部配置目录（监听文件变化并热加载） */
+        EXTERNAL_DIRECTORY
 
     }
 
@@ -0,0 +1,207 @@
+package core.gitee.xudai.metrics;
+
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import core.gitee.xudai.manager.SessionCoordinator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 运行指标：记录一次构建中每个策略执行、Invoker 子进程调用、配置加载、配置转换的墙钟时间、CPU 时间与内存分配
+ * 1. 每次构建一个实例（会话级共享），没有会话时记录到进程级的默认实例
+ * 2. CPU 时间与内存分配按执行线程统计：Invoker 子进程的开销不计入（只有等待子进程的墙钟时间），嵌套的记录（如策略中的子进程调用）各自独立计入
+ * 3. JVM 不支持线程 CPU 时间或内存分配统计时对应的值为 -1
+ * @author daixu
+ */
+public final class RunMetrics {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final boolean CPU_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION =
+            THREADS instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()
+                    && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+
+    /**
+     * 当前构建的运行指标
+     */
+    private static volatile RunMetrics current = new RunMetrics();
+
+    /** 开始时间（纳秒，记录的开始时间相对于此值） */
+    private final long startNanos = System.nanoTime();
+
+    /** 开始时间（毫秒时间戳） */
+    private final long startEpochMillis = System.currentTimeMillis();
+
+    private final ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+
+    private RunMetrics() {
+    }
+
+    /**
+     * 开始记录本次构建的运行指标（同一次构建只创建一次，之后的记录归入本次构建）
+     * @param session Maven 会话
+     * @return 运行指标
+     * @throws MojoExecutionException 创建失败时抛出异常
+     * @author daixu
+     */
+    public static RunMetrics begin(MavenSession session) throws MojoExecutionException {
+        return SessionCoordinator.of(session).computeOnce(SessionCoordinator.RUN_METRICS, () -> {
+            RunMetrics metrics = new RunMetrics();
+            current = metrics;
+            return metrics;
+        });
+    }
+
+    /**
+     * 当前构建的运行指标
+     * @return 运行指标
+     */
+    public static RunMetrics current() {
+        return current;
+    }
+
+    /**
+     * 开始一条记录（使用 try-with-resources，结束时记录）
+     * @param category 类别
+     * @param name 名称（策略 ID、插件目标、配置文件等）
+     * @param project 所属模块（与模块无关时为 null）
+     * @return 记录
+     * @author daixu
+     */
+    public static Span start(MetricCategoryEnum category, String name, MavenProject project) {
+        return current().open(category, name, project != null ? moduleId(project) : null);
+    }
+
+    /**
+     * 模块标识（groupId:artifactId，不同 groupId 下的同名模块互不混淆）
+     * @param project Maven 项目
+     * @return 模块标识
+     * @author daixu
+     */
+    public static String moduleId(MavenProject project) {
+        return project.getGroupId() + ":" + project.getArtifactId();
+    }
+
+    private Span open(MetricCategoryEnum category, String name, String module) {
+        return new Span(this, category, name, module);
+    }
+
+    /**
+     * 已完成的记录（按完成顺序）
+     * @return 记录
+     */
+    public List<Sample> getSamples() {
+        return new ArrayList<>(samples);
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    private static long cpuNanos() {
+        return CPU_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION != null ? ALLOCATION.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 进行中的记录（在开始记录的线程上结束）
+     */
+    public static final class Span implements AutoCloseable {
+
+        private final RunMetrics metrics;
+
+        private final MetricCategoryEnum category;
+
+        private final String name;
+
+        private final String module;
+
+        private final long startNanos = System.nanoTime();
+
+        private final long startCpuNanos = cpuNanos();
+
+        private final long startAllocatedBytes = allocatedBytes();
+
+        private boolean failed;
+
+        private Span(RunMetrics metrics, MetricCategoryEnum category, String name, String module) {
+            this.metrics = metrics;
+            this.category = category;
+            this.name = name;
+            this.module = module;
+        }
+
+        /**
+         * 标记为失败
+         */
+        public void failed() {
+            this.failed = true;
+        }
+
+        @Override
+        public void close() {
+            long endNanos = System.nanoTime();
+            long cpu = startCpuNanos >= 0 ? cpuNanos() - startCpuNanos : -1;
+            long allocated = startAllocatedBytes >= 0 ? allocatedBytes() - startAllocatedBytes : -1;
+            metrics.samples.add(new Sample(category, name, module, Thread.currentThread().getName(),
+                    startNanos - metrics.startNanos, endNanos - startNanos, cpu, allocated, failed));
+        }
+    }
+
+    /**
+     * 单条记录
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Sample {
+
+        /** 类别 */
+        private final MetricCategoryEnum category;
+
+        /** 名称 */
+        private final String name;
+
+        /** 所属模块（groupId:artifactId，与模块无关时为 null） */
+        private final String module;
+
+        /** 执行线程 */
+        private final String thread;
+
+        /** 开始时间（相对于构建开始，纳秒） */
+        private final long startNanos;
+
+        /** 墙钟时间（纳秒） */
+        private final long wallNanos;
+
+        /** CPU 时间（纳秒，不支持时为 -1） */
+        private final long cpuNanos;
+
+        /** 内存分配（字节，不支持时为 -1） */
+        private final long allocatedBytes;
+
+        /** 是否失败 */
+        private final boolean failed;
+
+        /**
+         * 结束时间（相对于构建开始，纳秒）
+         * @return 结束时间
+         */
+        public long getEndNanos() {
+            return startNanos + wallNanos;
+        }
+    }
+
+}
@@ -0,0 +1,467 @@
+package core.gitee.xudai.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.project.MavenProject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 运行报告：汇总运行指标，输出 run-report.json 与 run-report.html
+ * 1. 分组统计：按类别 + 名称（如同一策略在所有模块中的执行）统计次数、墙钟时间分位数（P50/P90/P99/最大）、CPU 时间与内存分配合计
+ * 2. 模块统计：模块以 groupId:artifactId 标识，耗时为该模块第一条记录开始到最后一条记录结束
+ * 3. 关键路径：按反应堆的模块依赖图（上游 → 下游）取模块耗时之和最大的依赖链，即并行构建（-T）中无法缩短的部分
+ * @author daixu
+ */
+@Getter
+@AllArgsConstructor
+public class RunReport {
+
+    /** JSON 报告文件名 */
+    public static final String JSON_FILE = "run-report.json";
+
+    /** HTML 报告文件名 */
+    public static final String HTML_FILE = "run-report.html";
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** 构建开始时间 */
+    private final String startedAt;
+
+    /** 报告生成时间 */
+    private final String generatedAt;
+
+    /** 模块数量 */
+    private final int modules;
+
+    /** 记录数量 */
+    private final int samples;
+
+    /** 各类别合计 */
+    private final List<GroupStats> categories;
+
+    /** 分组统计（按墙钟时间合计降序） */
+    private final List<GroupStats> groups;
+
+    /** 各模块统计（按耗时降序） */
+    private final List<ModuleStats> moduleStats;
+
+    /** 关键路径长度（毫秒） */
+    private final double criticalPathMillis;
+
+    /** 关键路径（从最上游的模块开始） */
+    private final List<PathStep> criticalPath;
+
+    /**
+     * 汇总运行指标
+     * @param metrics 运行指标
+     * @param upstream 模块 → 其依赖的上游模块（groupId:artifactId，没有依赖图时为空）
+     * @return 运行报告
+     * @author daixu
+     */
+    public static RunReport build(RunMetrics metrics, Map<String, ? extends Collection<String>> upstream) {
+        return build(metrics.getStartEpochMillis(), metrics.getSamples(), upstream);
+    }
+
+    static RunReport build(long startEpochMillis, List<RunMetrics.Sample> samples,
+                           Map<String, ? extends Collection<String>> upstream) {
+        // ✅ 1.分组统计
+        Map<String, List<RunMetrics.Sample>> byCategory = new LinkedHashMap<>();
+        Map<String, List<RunMetrics.Sample>> byGroup = new LinkedHashMap<>();
+        Map<String, List<RunMetrics.Sample>> byModule = new TreeMap<>();
+        for (RunMetrics.Sample sample : samples) {
+            byCategory.computeIfAbsent(sample.getCategory().getValue(), key -> new ArrayList<>()).add(sample);
+            byGroup.computeIfAbsent(sample.getCategory().getValue() + "|" + sample.getName(), key -> new ArrayList<>()).add(sample);
+            if (sample.getModule() != null) {
+                byModule.computeIfAbsent(sample.getModule(), key -> new ArrayList<>()).add(sample);
+            }
+        }
+        List<GroupStats> categories = new ArrayList<>();
+        for (List<RunMetrics.Sample> group : byCategory.values()) {
+            categories.add(GroupStats.of(group.get(0).getCategory(), null, group));
+        }
+        List<GroupStats> groups = new ArrayList<>();
+        for (List<RunMetrics.Sample> group : byGroup.values()) {
+            groups.add(GroupStats.of(group.get(0).getCategory(), group.get(0).getName(), group));
+        }
+        groups.sort(Comparator.comparingDouble(GroupStats::getTotalWallMillis).reversed());
+
+        // ✅ 2.各模块统计
+        Map<String, ModuleStats> modules = new LinkedHashMap<>();
+        for (Map.Entry<String, List<RunMetrics.Sample>> entry : byModule.entrySet()) {
+            modules.put(entry.getKey(), ModuleStats.of(entry.getKey(), entry.getValue()));
+        }
+        List<ModuleStats> moduleStats = new ArrayList<>(modules.values());
+        moduleStats.sort(Comparator.comparingDouble(ModuleStats::getWallMillis).reversed());
+
+        // ✅ 3.按模块依赖图计算关键路径
+        List<PathStep> criticalPath = criticalPath(modules, upstream);
+        double criticalPathMillis = 0;
+        for (PathStep step : criticalPath) {
+            criticalPathMillis += step.getWallMillis();
+        }
+
+        return new RunReport(
+                Instant.ofEpochMilli(startEpochMillis).toString(),
+                Instant.now().toString(),
+                modules.size(),
+                samples.size(),
+                categories,
+                groups,
+                moduleStats,
+                Math.round(criticalPathMillis * 10) / 10.0,
+                criticalPath);
+    }
+
+    /**
+     * 依赖链上模块耗时之和最大的路径（依赖图无环，按模块逐个求以其结尾的最长链）
+     * 只有记录了指标的模块参与，上游关系使用传递依赖，中间未记录的模块不会截断依赖链
+     * @param modules 模块统计
+     * @param upstream 模块 → 上游模块
+     * @return 关键路径（从最上游的模块开始）
+     */
+    private static List<PathStep> criticalPath(Map<String, ModuleStats> modules,
+                                               Map<String, ? extends Collection<String>> upstream) {
+        Map<String, Double> longest = new HashMap<>();
+        Map<String, String> predecessor = new HashMap<>();
+        String end = null;
+        for (String module : modules.keySet()) {
+            double length = longestChain(module, modules, upstream, longest, predecessor);
+            if (end == null || length > longest.get(end)) {
+                end = module;
+            }
+        }
+
+        Deque<PathStep> path = new ArrayDeque<>();
+        for (String module = end; module != null; module = predecessor.get(module)) {
+            ModuleStats stats = modules.get(module);
+            path.addFirst(new PathStep(module, stats.getStartMillis(), stats.getWallMillis()));
+        }
+        return new ArrayList<>(path);
+    }
+
+    private static double longestChain(String module, Map<String, ModuleStats> modules,
+                                       Map<String, ? extends Collection<String>> upstream,
+                                       Map<String, Double> longest, Map<String, String> predecessor) {
+        Double known = longest.get(module);
+        if (known != null) {
+            return known;
+        }
+        double best = 0;
+        Collection<String> dependencies = upstream.get(module);
+        for (String dependency : dependencies != null ? dependencies : List.<String>of()) {
+            if (!modules.containsKey(dependency) || dependency.equals(module)) {
+                continue;
+            }
+            double length = longestChain(dependency, modules, upstream, longest, predecessor);
+            if (length > best) {
+                best = length;
+                predecessor.put(module, dependency);
+            }
+        }
+        double length = best + modules.get(module).getWallMillis();
+        longest.put(module, length);
+        return length;
+    }
+
+    /**
+     * 汇总当前构建的运行指标，写入顶层项目的 target/central-publish/ 目录
+     * @param session Maven 会话
+     * @return 输出目录，无法确定顶层项目的构建目录时返回 null
+     * @throws IOException 写入失败时抛出异常
+     * @author daixu
+     */
+    public static Path writeFor(MavenSession session) throws IOException {
+        MavenProject root = session.getTopLevelProject() != null ? session.getTopLevelProject() : session.getCurrentProject();
+        if (root == null || root.getBuild() == null || root.getBuild().getDirectory() == null) {
+            return null;
+        }
+        Path directory = Path.of(root.getBuild().getDirectory(), "central-publish");
+        build(RunMetrics.current(), upstreamModules(session)).write(directory);
+        return directory;
+    }
+
+    /**
+     * 读取反应堆的模块依赖图
+     * @param session Maven 会话
+     * @return 模块 → 其（传递）依赖的上游模块
+     */
+    private static Map<String, List<String>> upstreamModules(MavenSession session) {
+        ProjectDependencyGraph graph = session.getProjectDependencyGraph();
+        if (graph == null) {
+            return Map.of();
+        }
+        Map<String, List<String>> upstream = new HashMap<>();
+        for (MavenProject project : graph.getSortedProjects()) {
+            List<String> dependencies = new ArrayList<>();
+            for (MavenProject dependency : graph.getUpstreamProjects(project, true)) {
+                dependencies.add(RunMetrics.moduleId(dependency));
+            }
+            upstream.put(RunMetrics.moduleId(project), dependencies);
+        }
+        return upstream;
+    }
+
+    /**
+     * 写入 JSON 与 HTML 报告（原子替换，并发写入时以最后写入者为准）
+     * @param directory 输出目录
+     * @throws IOException 写入失败时抛出异常
+     * @author daixu
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        writeAtomically(directory, JSON_FILE, JSON.writeValueAsBytes(this));
+        writeAtomically(directory, HTML_FILE, toHtml().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeAtomically(Path directory, String fileName, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(directory, fileName, ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // ------------------------------ HTML ------------------------------
+
+    private String toHtml() {
+        StringBuilder html = new StringBuilder(16 * 1024);
+        html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Central Publish 运行报告</title><style>")
+                .append("body{font-family:sans-serif;margin:24px;color:#222}table{border-collapse:collapse;margin-bottom:24px}")
+                .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th{background:#f0f0f0}")
+                .append("td.name{text-align:left}.bar{background:#4a90d9;height:14px}.track{position:relative;width:600px}")
+                .append("</style></head><body>");
+        html.append("<h1>Central Publish 运行报告</h1><p>构建开始：").append(escape(startedAt))
+                .append("，报告生成：").append(escape(generatedAt))
+                .append("，模块 ").append(modules).append(" 个，记录 ").append(samples).append(" 条</p>");
+
+        html.append("<h2>类别合计</h2>");
+        appendGroupTable(html, categories, false);
+        html.append("<h2>分组统计（跨模块分位数）</h2>");
+        appendGroupTable(html, groups, true);
+
+        if (!criticalPath.isEmpty()) {
+            html.append("<h2>关键路径（模块依赖链，").append(format(criticalPathMillis))
+                    .append(" ms）</h2><table><tr><th>模块</th><th>开始 ms</th><th>耗时 ms</th><th>时间线</th></tr>");
+            PathStep last = criticalPath.get(criticalPath.size() - 1);
+            double origin = criticalPath.get(0).getStartMillis();
+            double span = Math.max(1, last.getStartMillis() + last.getWallMillis() - origin);
+            for (PathStep step : criticalPath) {
+                html.append("<tr><td class=\"name\">").append(escape(step.getName())).append("</td><td>")
+                        .append(format(step.getStartMillis())).append("</td><td>").append(format(step.getWallMillis()))
+                        .append("</td><td><div class=\"track\"><div class=\"bar\" style=\"margin-left:")
+                        .append(format(Math.max(0, 600 * (step.getStartMillis() - origin) / span))).append("px;width:")
+                        .append(format(Math.max(1, 600 * step.getWallMillis() / span))).append("px\"></div></div></td></tr>");
+            }
+            html.append("</table>");
+        }
+
+        if (!moduleStats.isEmpty()) {
+            html.append("<h2>模块</h2><table><tr><th>模块</th><th>策略数</th><th>策略耗时合计 ms</th><th>开始 ms</th><th>耗时 ms</th></tr>");
+            for (ModuleStats module : moduleStats) {
+                html.append("<tr><td class=\"name\">").append(escape(module.getModule())).append("</td><td>")
+                        .append(module.getStrategies()).append("</td><td>").append(format(module.getStrategyWallMillis()))
+                        .append("</td><td>").append(format(module.getStartMillis()))
+                        .append("</td><td>").append(format(module.getWallMillis())).append("</td></tr>");
+            }
+            html.append("</table>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private static void appendGroupTable(StringBuilder html, List<GroupStats> stats, boolean named) {
+        html.append("<table><tr><th>类别</th>");
+        if (named) {
+            html.append("<th>名称</th>");
+        }
+        html.append("<th>次数</th><th>模块数</th><th>失败</th><th>P50 ms</th><th>P90 ms</th><th>P99 ms</th><th>最大 ms</th>")
+                .append("<th>墙钟合计 ms</th><th>CPU 合计 ms</th><th>分配合计 MB</th></tr>");
+        for (GroupStats group : stats) {
+            html.append("<tr><td class=\"name\">").append(group.getCategory().getValue()).append("</td>");
+            if (named) {
+                html.append("<td class=\"name\">").append(escape(group.getName())).append("</td>");
+            }
+            html.append("<td>").append(group.getCount()).append("</td><td>").append(group.getModules())
+                    .append("</td><td>").append(group.getFailures())
+                    .append("</td><td>").append(format(group.getP50WallMillis()))
+                    .append("</td><td>").append(format(group.getP90WallMillis()))
+                    .append("</td><td>").append(format(group.getP99WallMillis()))
+                    .append("</td><td>").append(format(group.getMaxWallMillis()))
+                    .append("</td><td>").append(format(group.getTotalWallMillis()))
+                    .append("</td><td>").append(group.getTotalCpuMillis() < 0 ? "-" : format(group.getTotalCpuMillis()))
+                    .append("</td><td>").append(group.getTotalAllocatedBytes() < 0 ? "-" : format(group.getTotalAllocatedBytes() / 1024.0 / 1024.0))
+                    .append("</td></tr>");
+        }
+        html.append("</table>");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '&' -> escaped.append("&amp;");
+                case '"' -> escaped.append("&quot;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    // ------------------------------ 统计项 ------------------------------
+
+    /**
+     * 分组统计
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class GroupStats {
+
+        /** 类别 */
+        private final MetricCategoryEnum category;
+
+        /** 名称（类别合计时为 null） */
+        private final String name;
+
+        /** 次数 */
+        private final int count;
+
+        /** 涉及的模块数 */
+        private final int modules;
+
+        /** 失败次数 */
+        private final int failures;
+
+        private final double p50WallMillis;
+
+        private final double p90WallMillis;
+
+        private final double p99WallMillis;
+
+        private final double maxWallMillis;
+
+        private final double totalWallMillis;
+
+        /** CPU 时间合计（毫秒，不支持时为 -1） */
+        private final double totalCpuMillis;
+
+        /** 内存分配合计（字节，不支持时为 -1） */
+        private final long totalAllocatedBytes;
+
+        private static GroupStats of(MetricCategoryEnum category, String name, List<RunMetrics.Sample> samples) {
+            long[] walls = new long[samples.size()];
+            long totalWall = 0;
+            long totalCpu = 0;
+            long totalAllocated = 0;
+            int failures = 0;
+            Set<String> modules = new HashSet<>();
+            for (int i = 0; i < walls.length; i++) {
+                RunMetrics.Sample sample = samples.get(i);
+                walls[i] = sample.getWallNanos();
+                totalWall += sample.getWallNanos();
+                totalCpu = totalCpu < 0 || sample.getCpuNanos() < 0 ? -1 : totalCpu + sample.getCpuNanos();
+                totalAllocated = totalAllocated < 0 || sample.getAllocatedBytes() < 0 ? -1 : totalAllocated + sample.getAllocatedBytes();
+                failures += sample.isFailed() ? 1 : 0;
+                if (sample.getModule() != null) {
+                    modules.add(sample.getModule());
+                }
+            }
+            Arrays.sort(walls);
+            return new GroupStats(category, name, walls.length, modules.size(), failures,
+                    millis(percentile(walls, 50)), millis(percentile(walls, 90)), millis(percentile(walls, 99)),
+                    millis(walls[walls.length - 1]), millis(totalWall),
+                    totalCpu < 0 ? -1 : millis(totalCpu), totalAllocated);
+        }
+
+        /**
+         * 分位数（最近秩法）
+         */
+        private static long percentile(long[] sorted, int percent) {
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+
+    /**
+     * 模块统计
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ModuleStats {
+
+        /** 模块（groupId:artifactId） */
+        private final String module;
+
+        /** 策略数 */
+        private final int strategies;
+
+        /** 策略墙钟时间合计（毫秒，并行执行时大于模块实际耗时） */
+        private final double strategyWallMillis;
+
+        /** 开始时间（相对于构建开始，毫秒） */
+        private final double startMillis;
+
+        /** 耗时（第一条记录开始到最后一条记录结束，毫秒） */
+        private final double wallMillis;
+
+        private static ModuleStats of(String module, List<RunMetrics.Sample> samples) {
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            long strategyWall = 0;
+            int strategies = 0;
+            for (RunMetrics.Sample sample : samples) {
+                start = Math.min(start, sample.getStartNanos());
+                end = Math.max(end, sample.getEndNanos());
+                if (sample.getCategory() == MetricCategoryEnum.STRATEGY) {
+                    strategies++;
+                    strategyWall += sample.getWallNanos();
+                }
+            }
+            return new ModuleStats(module, strategies, millis(strategyWall), millis(start), millis(end - start));
+        }
+    }
+
+    /**
+     * 关键路径上的一步
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PathStep {
+
+        /** 模块 */
+        private final String name;
+
+        /** 开始时间（相对于构建开始，毫秒） */
+        private final double startMillis;
+
+        /** 墙钟时间（毫秒） */
+        private final double wallMillis;
+    }
+
+}
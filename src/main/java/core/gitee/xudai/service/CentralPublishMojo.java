@@ -1,12 +1,20 @@
 package core.gitee.xudai.service;
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.extension.CentralPublishLifecycleParticipant;
 import core.gitee.xudai.strategy.plugin.enums.WaitUntilEnum;
 import core.gitee.xudai.manager.PluginConfigurator;
+import core.gitee.xudai.manager.SessionCoordinator;
+import core.gitee.xudai.manager.SessionSummary;
+import core.gitee.xudai.metrics.RunMetrics;
+import core.gitee.xudai.strategy.core.factory.StrategyExecutor;
+import core.gitee.xudai.strategy.plugin.support.PluginGoalExecutor;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -17,11 +25,14 @@ import org.apache.maven.model.Model;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.PluginManagement;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+
+
 /**
  * Maven 中央仓库发布插件
  * @author daixu
  */
-@Mojo(name = "central-publish", defaultPhase = LifecyclePhase.DEPLOY)
+@Mojo(name = "central-publish", defaultPhase = LifecyclePhase.DEPLOY, threadSafe = true)
 public class CentralPublishMojo extends AbstractMojo {
 
     /**
@@ -37,6 +48,18 @@ public class CentralPublishMojo extends AbstractMojo {
     @Parameter(defaultValue = "${session}", readonly = true)
     private MavenSession session;
 
+    /**
+     * 插件管理器，用于在当前会话中进程内执行插件目标
+     */
+    @Component
+    private BuildPluginManager buildPluginManager;
+
+    /**
+     * 项目辅助工具，用于挂载从缓存还原的附属构件
+     */
+    @Component
+    private MavenProjectHelper projectHelper;
+
     /**
      * 配置对象
      */
@@ -57,7 +80,18 @@ public class CentralPublishMojo extends AbstractMojo {
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         logger.info("Starting Maven Central Publishing...");
+        // 同一次构建的各模块共享运行指标
+        RunMetrics.begin(session);
+        // 构建结束时输出一次执行统计与运行报告（扩展模式下由扩展输出，只执行一次）
+        SessionSummary.register(session);
+        // 扩展模式下插件已在读取项目时绑定到生命周期，由 Maven 原生调度，无需再次配置
+        if (Boolean.parseBoolean(project.getProperties().getProperty(CentralPublishLifecycleParticipant.LIFECYCLE_BOUND_PROPERTY))) {
+            logger.info("Central publishing plugins are bound to the lifecycle by the extension, skipping");
+            return;
+        }
 //        skipDefaultDeployPlugin();
+        // 每次构建重新读取占位符取值来源（-D 属性、项目属性、环境变量、系统属性）和配置来源链，常驻 JVM 中不复用上一次构建的取值，同一次构建的各模块共享
+        SessionCoordinator.of(session).bindPlaceholders(session, project);
         // 如果项目中有deploy-plugin配置，动态修改它，如果没有，测试是否可以正常发布，不能就创建一个
         dynamicallyConfigureDeployPlugin();
         // 初始化默认配置
@@ -76,6 +110,9 @@ public class CentralPublishMojo extends AbstractMojo {
 //                throw new MojoExecutionException("发布配置无效，请检查 publishingServerId 等必要参数");
 //            }
             config.setProject(project);
+            config.setSession(session);
+            config.setBuildPluginManager(buildPluginManager);
+            config.setProjectHelper(projectHelper);
             // 初始化插件配置器
             pluginConfigurator = new PluginConfigurator(config);
 
@@ -85,6 +122,9 @@ public class CentralPublishMojo extends AbstractMojo {
             // 配置所有插件
             configureBuildPlugins(config);
 
+            // 批量 Invoker 模式下，本模块所有插件目标在此统一执行（仅启动一次 mvn 进程）
+            PluginGoalExecutor.flush(config);
+
             // 设置跳过默认部署
 //            System.setProperty("maven.deploy.skip", "true");
 
@@ -158,6 +198,10 @@ public class CentralPublishMojo extends AbstractMojo {
         if (config.getPublishingServerId() == null || config.getPublishingServerId().trim().isEmpty()) {
             throw new MojoExecutionException("publishingServerId is required for central publishing");
         }
+        // 认证信息在同一次构建中只查询一次
+        if (SessionCoordinator.of(session).getServer(session, config.getPublishingServerId()).isEmpty()) {
+            logger.warn("No <server> with id '" + config.getPublishingServerId() + "' found in settings.xml");
+        }
         if (config.getGpgPassphrase() == null || config.getGpgPassphrase().trim().isEmpty()) {
             throw new MojoExecutionException("gpgPassphrase is required for signing artifacts");
         }
@@ -190,7 +234,7 @@ public class CentralPublishMojo extends AbstractMojo {
 //        pluginConfigurator.configureProjectProperties(model);
     }
 
-    private void configureBuildPlugins(CentralPublishConfig config) {
+    private void configureBuildPlugins(CentralPublishConfig config) throws MojoExecutionException {
         Model model = project.getModel();
         Build build = model.getBuild();
         if (build == null) {
@@ -204,8 +248,8 @@ public class CentralPublishMojo extends AbstractMojo {
             build.setPluginManagement(pluginManagement);
         }
         logger.info("开始配置插件");
-        // 配置所有必要的插件
-        pluginConfigurator.configureAllPlugins(pluginManagement);
+        // 按 baseInfo 依赖图调度插件、许可证、依赖策略（与生命周期扩展、发布计划使用同一执行器）
+        StrategyExecutor.withDefaultStrategies().executeAll(config);
         logger.info("已配置所有必要的插件");
 
         // 确保插件也在 build/plugins 中配置
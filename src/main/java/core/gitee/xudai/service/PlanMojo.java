@@ -0,0 +1,140 @@
+package core.gitee.xudai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.SessionCoordinator;
+import core.gitee.xudai.strategy.core.factory.StrategyExecutor;
+import core.gitee.xudai.strategy.core.plan.PlanItem;
+import core.gitee.xudai.strategy.core.plan.PublishPlan;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * 发布计划预演：计算 central-publish 将对当前模块做什么（添加或跳过哪些插件、许可证、依赖，以及按历史耗时估算的成本），
+ * 只检测项目模型，不修改项目、不执行插件目标、不启动 Maven Invoker 进程，可在 CI 中对整个反应堆作为发布前检查
+ * 用法：mvn com.gitee.xudai:central-publisher-maven-plugin:plan [-Dcentral.publish.plan.failOnError=true]
+ * @author daixu
+ */
+@Mojo(name = "plan", threadSafe = true)
+public class PlanMojo extends AbstractMojo {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 当前 Maven 项目
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * Maven会话信息
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
+    /**
+     * 配置对象（与 central-publish 目标一致）
+     */
+    @Parameter(property = "config", required = false, readonly = false)
+    private CentralPublishConfig config;
+
+    /**
+     * 发布计划输出文件（JSON）
+     */
+    @Parameter(property = "central.publish.plan.output", defaultValue = "${project.build.directory}/central-publish-plan.json")
+    private File planOutputFile;
+
+    /**
+     * 必需策略执行时会失败（或被禁用、被跳过）时是否使构建失败
+     */
+    @Parameter(property = "central.publish.plan.failOnError", defaultValue = "false")
+    private boolean failOnError;
+
+    /**
+     * 输出日志
+     */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (config == null) {
+            config = new CentralPublishConfig();
+        }
+        if (config.isSkip()) {
+            logger.info("Skipping central publish plan");
+            return;
+        }
+
+        // ✅ 1.与 central-publish 相同的占位符取值来源与配置来源链（同一次构建的各模块共享）
+        SessionCoordinator.of(session).bindPlaceholders(session, project);
+        config.setProject(project);
+        config.setSession(session);
+
+        // ✅ 2.预演所有策略
+        PublishPlan plan;
+        try {
+            plan = StrategyExecutor.withDefaultStrategies().plan(config);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new MojoExecutionException("[plan] 生成发布计划失败: " + e.getMessage(), e);
+        }
+
+        // ✅ 3.输出计划
+        logPlan(plan);
+        writePlan(plan);
+
+        if (failOnError && plan.hasRequiredFailures()) {
+            throw new MojoFailureException("[plan] " + plan.getModule() + " 的必需策略执行时会失败，详见 " + planOutputFile);
+        }
+    }
+
+    private void logPlan(PublishPlan plan) {
+        logger.info("发布计划 {}：共 {} 层，估算耗时 {} ms（{} 个插件目标缺少历史记录），生成耗时 {} ms",
+                plan.getModule(), plan.getLayers(), plan.getEstimatedMillis(), plan.getUnestimatedGoals(), plan.getPlanningMillis());
+        for (PlanItem item : plan.getItems()) {
+            StringBuilder line = new StringBuilder()
+                    .append("  第").append(item.getLayer()).append("层 [").append(item.getId()).append("] ")
+                    .append(item.getAction().getValue());
+            if (item.getTarget() != null) {
+                line.append(' ').append(item.getTarget());
+            }
+            if (item.getGoal() != null) {
+                line.append(" (").append(item.getGoal()).append(')');
+            }
+            if (item.getEstimatedMillis() > 0) {
+                line.append(" ≈").append(item.getEstimatedMillis()).append(" ms");
+            }
+            if (item.getReason() != null) {
+                line.append(" - ").append(item.getReason());
+            }
+            logger.info(line.toString());
+        }
+    }
+
+    private void writePlan(PublishPlan plan) throws MojoExecutionException {
+        if (planOutputFile == null) {
+            return;
+        }
+        try {
+            if (planOutputFile.getParentFile() != null) {
+                Files.createDirectories(planOutputFile.getParentFile().toPath());
+            }
+            JSON.writeValue(planOutputFile, plan);
+            logger.info("发布计划已写入: {}", planOutputFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("[plan] 写入发布计划失败: " + planOutputFile, e);
+        }
+    }
+
+}
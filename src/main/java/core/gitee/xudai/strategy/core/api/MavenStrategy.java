@@ -1,6 +1,7 @@
 package core.gitee.xudai.strategy.core.api;
 
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.core.plan.PlannedChange;
 import org.apache.maven.plugin.MojoExecutionException;
 
 /**
@@ -30,6 +31,17 @@ public interface MavenStrategy {
      */
     void configure(CentralPublishConfig config) throws MojoExecutionException;
 
+    /**
+     * 预演策略：只检测项目模型，判断执行时会做什么（不修改项目模型，不执行插件目标）
+     * @param config 中央仓库发布配置
+     * @return 预期修改，策略不支持预演时返回 null
+     * @throws MojoExecutionException 执行时会失败的情况（如缺少必要配置）抛出异常
+     * @author daixu
+     */
+    default PlannedChange plan(CentralPublishConfig config) throws MojoExecutionException {
+        return null;
+    }
+
     /**
      * 判断当前策略是否启用（根据配置动态决定）
      * @param config 发布配置（包含开关、环境等信息）
@@ -0,0 +1,57 @@
+package core.gitee.xudai.strategy.core.enums;
+
+/**
+ * 策略并发执行模式枚举
+ * @author daixu
+ */
+public enum ConcurrencyModeEnum {
+
+    /**
+     * 平台线程：使用固定大小的线程池执行策略，并行度由 strategyParallelism 控制。
+     */
+    PLATFORM("platform"),
+
+    /**
+     * 虚拟线程：每个策略与每个子进程输出泵各使用一个虚拟线程，无需设置线程池大小。
+     */
+    VIRTUAL("virtual");
+
+    /**
+     * 平台线程
+     */
+    public static final String PLATFORM_CONSTANTS = "platform";
+
+    /**
+     * 虚拟线程
+     */
+    public static final String VIRTUAL_CONSTANTS = "virtual";
+
+    private final String value;
+
+    ConcurrencyModeEnum(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 根据配置值获取并发执行模式（未配置或无法识别时默认平台线程）
+     * @param value 配置值
+     * @return 并发执行模式
+     * @author daixu
+     */
+    public static ConcurrencyModeEnum fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return PLATFORM;
+        }
+        for (ConcurrencyModeEnum mode : values()) {
+            if (mode.value.equalsIgnoreCase(value.trim()) || mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return PLATFORM;
+    }
+
+}
@@ -0,0 +1,52 @@
+package core.gitee.xudai.strategy.core.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 发布计划中策略的预期动作枚举
+ * @author daixu
+ */
+public enum PlanActionEnum {
+
+    /**
+     * 添加：工程中未声明，执行时会添加插件、许可证或依赖
+     */
+    ADD("add"),
+
+    /**
+     * 跳过：工程中已声明，执行时使用工程中的配置
+     */
+    SKIP_EXISTING("skip-existing"),
+
+    /**
+     * 禁用：配置或策略判定为不启用
+     */
+    DISABLED("disabled"),
+
+    /**
+     * 无策略：配置项没有注册策略实现，仅参与排序
+     */
+    NO_STRATEGY("no-strategy"),
+
+    /**
+     * 依赖失败：依赖的策略执行时会失败，当前策略被跳过
+     */
+    SKIP_DEPENDENCY("skip-dependency"),
+
+    /**
+     * 失败：执行时会失败（如缺少必要配置）
+     */
+    ERROR("error");
+
+    private final String value;
+
+    PlanActionEnum(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+}
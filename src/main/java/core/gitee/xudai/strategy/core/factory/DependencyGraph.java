@@ -0,0 +1,438 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 依赖图：节点 ID 在构建时映射为从 0 开始的整数下标（按加入顺序），依赖边以压缩邻接数组（CSR）保存，
+ * 所有分析均为迭代实现，时间复杂度 O(节点数 + 边数)，依赖链再深也不会栈溢出
+ * 1. 拓扑分层（Kahn 算法）：同一层内的节点互不依赖，可并行执行；各层依次拼接即为拓扑顺序
+ * 2. 循环检测（Tarjan 强连通分量）：只在 Kahn 算法无法放置全部节点时，对未放置的节点执行，
+ *    报告每个循环的全部成员及一条完整的循环路径（如 a -> b -> c -> a）
+ * @author daixu
+ */
+public final class DependencyGraph {
+
+    /**
+     * 下标 → 节点 ID
+     */
+    private final String[] ids;
+
+    /**
+     * 节点 ID → 下标
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * 节点 i 依赖的节点：dependencies[dependencyOffsets[i] .. dependencyOffsets[i + 1])
+     */
+    private final int[] dependencyOffsets;
+
+    private final int[] dependencies;
+
+    /**
+     * 依赖节点 i 的节点：dependents[dependentOffsets[i] .. dependentOffsets[i + 1])
+     */
+    private final int[] dependentOffsets;
+
+    private final int[] dependents;
+
+    private DependencyGraph(String[] ids, Map<String, Integer> indexes, int[] dependencyOffsets, int[] dependencies) {
+        this.ids = ids;
+        this.indexes = indexes;
+        this.dependencyOffsets = dependencyOffsets;
+        this.dependencies = dependencies;
+
+        // 反向邻接数组（计数排序，保持依赖声明顺序）
+        int n = ids.length;
+        this.dependentOffsets = new int[n + 1];
+        for (int dependency : dependencies) {
+            dependentOffsets[dependency + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            dependentOffsets[i + 1] += dependentOffsets[i];
+        }
+        this.dependents = new int[dependencies.length];
+        int[] cursor = Arrays.copyOf(dependentOffsets, n);
+        for (int node = 0; node < n; node++) {
+            for (int e = dependencyOffsets[node]; e < dependencyOffsets[node + 1]; e++) {
+                dependents[cursor[dependencies[e]]++] = node;
+            }
+        }
+    }
+
+    /**
+     * 构建依赖图（同一节点的重复依赖只保留一次）
+     * @param items 节点
+     * @param idFunction 节点 ID
+     * @param dependencyFunction 节点依赖的 ID（可为空）
+     * @param <T> 节点类型
+     * @return 依赖图
+     * @throws IllegalArgumentException 存在重复 ID 或依赖的 ID 不存在时抛出异常
+     * @author daixu
+     */
+    public static <T> DependencyGraph build(Collection<T> items, Function<? super T, String> idFunction,
+                                            Function<? super T, ? extends Collection<String>> dependencyFunction) {
+        // ✅ 1.ID 映射为下标
+        int n = items.size();
+        String[] ids = new String[n];
+        Map<String, Integer> indexes = new HashMap<>(Math.max(16, n * 4 / 3 + 1));
+        int index = 0;
+        for (T item : items) {
+            String id = idFunction.apply(item);
+            if (indexes.putIfAbsent(id, index) != null) {
+                throw new IllegalArgumentException("配置ID = " + id + " 重复！");
+            }
+            ids[index++] = id;
+        }
+
+        // ✅ 2.依赖边写入邻接数组（lastSeen 用于去除同一节点的重复依赖）
+        int[] dependencyOffsets = new int[n + 1];
+        int[] dependencies = new int[Math.max(16, n)];
+        int[] lastSeen = new int[n];
+        int edges = 0;
+        index = 0;
+        for (T item : items) {
+            Collection<String> dependencyIds = dependencyFunction.apply(item);
+            if (dependencyIds != null) {
+                for (String dependencyId : dependencyIds) {
+                    Integer dependency = indexes.get(dependencyId);
+                    if (dependency == null) {
+                        throw new IllegalArgumentException("配置ID = " + ids[index] + " 依赖的ID = " + dependencyId + " 不存在！");
+                    }
+                    if (lastSeen[dependency] == index + 1) {
+                        continue;
+                    }
+                    lastSeen[dependency] = index + 1;
+                    if (edges == dependencies.length) {
+                        dependencies = Arrays.copyOf(dependencies, edges * 2);
+                    }
+                    dependencies[edges++] = dependency;
+                }
+            }
+            dependencyOffsets[++index] = edges;
+        }
+        return new DependencyGraph(ids, indexes, dependencyOffsets, Arrays.copyOf(dependencies, edges));
+    }
+
+    /**
+     * 节点数量
+     * @return 节点数量
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 节点 ID
+     * @param node 节点下标
+     * @return 节点 ID
+     */
+    public String getId(int node) {
+        return ids[node];
+    }
+
+    /**
+     * 节点下标
+     * @param id 节点 ID
+     * @return 节点下标，不存在时返回 -1
+     */
+    public int indexOf(String id) {
+        Integer index = indexes.get(id);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 节点依赖的节点数量（入度）
+     * @param node 节点下标
+     * @return 依赖数量
+     */
+    public int dependencyCount(int node) {
+        return dependencyOffsets[node + 1] - dependencyOffsets[node];
+    }
+
+    /**
+     * 依赖该节点的节点数量
+     * @param node 节点下标
+     * @return 数量
+     */
+    public int dependentCount(int node) {
+        return dependentOffsets[node + 1] - dependentOffsets[node];
+    }
+
+    /**
+     * 依赖该节点的第 k 个节点
+     * @param node 节点下标
+     * @param k 序号（0 ≤ k &lt; dependentCount(node)）
+     * @return 节点下标
+     */
+    public int dependent(int node, int k) {
+        return dependents[dependentOffsets[node] + k];
+    }
+
+    /**
+     * 分析依赖图：拓扑分层，存在循环时找出所有循环
+     * @return 分析结果
+     * @author daixu
+     */
+    public Analysis analyze() {
+        // ✅ 1.Kahn 算法分层（order 同时作为队列，每层是其中连续的一段）
+        int n = ids.length;
+        int[] remaining = new int[n];
+        int[] order = new int[n];
+        int tail = 0;
+        for (int node = 0; node < n; node++) {
+            remaining[node] = dependencyCount(node);
+            if (remaining[node] == 0) {
+                order[tail++] = node;
+            }
+        }
+        List<int[]> layers = new ArrayList<>();
+        int head = 0;
+        while (head < tail) {
+            int start = head;
+            int end = tail;
+            for (; head < end; head++) {
+                int node = order[head];
+                for (int e = dependentOffsets[node]; e < dependentOffsets[node + 1]; e++) {
+                    if (--remaining[dependents[e]] == 0) {
+                        order[tail++] = dependents[e];
+                    }
+                }
+            }
+            layers.add(Arrays.copyOfRange(order, start, end));
+        }
+        if (tail == n) {
+            return new Analysis(order, layers, Collections.emptyList());
+        }
+
+        // ✅ 2.未放置的节点位于循环中或依赖循环，只在这些节点上查找强连通分量
+        return new Analysis(Arrays.copyOf(order, tail), layers, findCycles(remaining));
+    }
+
+    /**
+     * 迭代 Tarjan 算法：找出未放置节点中的所有循环（成员数大于 1，或依赖自身的强连通分量）
+     * @param remaining 未完成的依赖数量（大于 0 的节点参与查找）
+     * @return 循环（按首个成员的声明顺序）
+     */
+    private List<Cycle> findCycles(int[] remaining) {
+        int n = ids.length;
+        int[] discovery = new int[n];
+        Arrays.fill(discovery, -1);
+        int[] low = new int[n];
+        int[] edgeCursor = new int[n];
+        int[] callStack = new int[n];
+        int[] componentStack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int counter = 0;
+        int componentCount = 0;
+        List<Cycle> cycles = new ArrayList<>();
+        // 查找循环路径时复用的数组（parent 为 -2 表示未访问）
+        int[] parent = new int[n];
+        Arrays.fill(parent, -2);
+        int[] queue = new int[n];
+
+        for (int root = 0; root < n; root++) {
+            if (remaining[root] == 0 || discovery[root] != -1) {
+                continue;
+            }
+            int callDepth = 0;
+            int stackSize = 0;
+            discovery[root] = low[root] = counter++;
+            edgeCursor[root] = dependencyOffsets[root];
+            componentStack[stackSize++] = root;
+            onStack[root] = true;
+            callStack[callDepth++] = root;
+
+            while (callDepth > 0) {
+                int node = callStack[callDepth - 1];
+                if (edgeCursor[node] < dependencyOffsets[node + 1]) {
+                    int next = dependencies[edgeCursor[node]++];
+                    if (remaining[next] == 0) {
+                        continue;
+                    }
+                    if (discovery[next] == -1) {
+                        discovery[next] = low[next] = counter++;
+                        edgeCursor[next] = dependencyOffsets[next];
+                        componentStack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[callDepth++] = next;
+                    } else if (onStack[next]) {
+                        low[node] = Math.min(low[node], discovery[next]);
+                    }
+                    continue;
+                }
+
+                // 节点的所有依赖处理完毕：回溯到调用者
+                callDepth--;
+                if (callDepth > 0) {
+                    int caller = callStack[callDepth - 1];
+                    low[caller] = Math.min(low[caller], low[node]);
+                }
+                if (low[node] != discovery[node]) {
+                    continue;
+                }
+
+                // 节点是强连通分量的根：弹出整个分量
+                int top = stackSize;
+                int member;
+                do {
+                    member = componentStack[--stackSize];
+                    onStack[member] = false;
+                    component[member] = componentCount;
+                } while (member != node);
+                if (top - stackSize > 1 || hasSelfLoop(node)) {
+                    int[] members = Arrays.copyOfRange(componentStack, stackSize, top);
+                    Arrays.sort(members);
+                    cycles.add(toCycle(members, componentCount, component, parent, queue));
+                }
+                componentCount++;
+            }
+        }
+        cycles.sort(Comparator.comparingInt(cycle -> indexOf(cycle.getPath().get(0))));
+        return cycles;
+    }
+
+    private boolean hasSelfLoop(int node) {
+        for (int e = dependencyOffsets[node]; e < dependencyOffsets[node + 1]; e++) {
+            if (dependencies[e] == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 在强连通分量内广度优先查找从首个成员出发回到该成员的最短路径
+     */
+    private Cycle toCycle(int[] members, int componentId, int[] component, int[] parent, int[] queue) {
+        int start = members[0];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        parent[start] = -1;
+        int last = -1;
+        search:
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = dependencyOffsets[node]; e < dependencyOffsets[node + 1]; e++) {
+                int next = dependencies[e];
+                if (component[next] != componentId) {
+                    continue;
+                }
+                if (next == start) {
+                    last = node;
+                    break search;
+                }
+                if (parent[next] == -2) {
+                    parent[next] = node;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        Deque<String> path = new ArrayDeque<>();
+        path.addFirst(ids[start]);
+        for (int node = last; node != -1; node = parent[node]) {
+            path.addFirst(ids[node]);
+        }
+        // 恢复 parent 数组供下一个分量使用
+        for (int i = 0; i < tail; i++) {
+            parent[queue[i]] = -2;
+        }
+
+        List<String> memberIds = new ArrayList<>(members.length);
+        for (int member : members) {
+            memberIds.add(ids[member]);
+        }
+        return new Cycle(memberIds, new ArrayList<>(path));
+    }
+
+    /**
+     * 分析结果
+     */
+    @Getter
+    public final class Analysis {
+
+        /** 拓扑顺序（节点下标，依赖在前；存在循环时只包含能够放置的节点） */
+        private final int[] order;
+
+        /** 拓扑分层（节点下标，每层按声明顺序，同一层内互不依赖） */
+        private final List<int[]> layers;
+
+        /** 依赖循环（无循环时为空集合） */
+        private final List<Cycle> cycles;
+
+        private Analysis(int[] order, List<int[]> layers, List<Cycle> cycles) {
+            this.order = order;
+            this.layers = Collections.unmodifiableList(layers);
+            this.cycles = Collections.unmodifiableList(cycles);
+        }
+
+        /**
+         * 是否无循环
+         * @return 无循环返回 true
+         */
+        public boolean isAcyclic() {
+            return cycles.isEmpty();
+        }
+
+        /**
+         * 要求无循环
+         * @return 当前分析结果
+         * @throws IllegalStateException 存在循环时抛出异常（列出所有循环路径）
+         */
+        public Analysis requireAcyclic() {
+            if (!cycles.isEmpty()) {
+                throw new IllegalStateException("检测到依赖循环：" + cycles.stream()
+                        .map(Cycle::toString)
+                        .collect(Collectors.joining("; ")));
+            }
+            return this;
+        }
+
+        /**
+         * 拓扑顺序（节点 ID）
+         * @return 节点 ID 列表
+         */
+        public List<String> getOrderIds() {
+            List<String> result = new ArrayList<>(order.length);
+            for (int node : order) {
+                result.add(ids[node]);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * 依赖循环：强连通分量的全部成员 + 一条完整的循环路径
+     */
+    @Getter
+    public static final class Cycle {
+
+        /** 循环中的所有节点 ID（按声明顺序） */
+        private final List<String> members;
+
+        /** 循环路径（首尾为同一节点，如 a -> b -> a，箭头方向为「依赖」） */
+        private final List<String> path;
+
+        private Cycle(List<String> members, List<String> path) {
+            this.members = Collections.unmodifiableList(members);
+            this.path = Collections.unmodifiableList(path);
+        }
+
+        @Override
+        public String toString() {
+            String text = String.join(" -> ", path);
+            return members.size() > path.size() - 1 ? text + " " + members : text;
+        }
+
+    }
+
+}
@@ -0,0 +1,250 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.project.MavenProject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 策略执行计划缓存（按内容寻址）
+ * 缓存键为计划输入的 SHA-256 指纹：合并后的调度节点（ID、顺序、启用、必需、依赖、策略实现类）、顶层与当前项目的 POM 内容、
+ * 会话用户属性（-D 参数，插件版本等可由此覆盖）；缓存值为拓扑分层结果（每层已按执行顺序排序）。
+ * 命中时仍需构建依赖图并校验缓存的分层（每个节点恰好出现一次、依赖都位于更靠前的层），只省去分层计算与层内排序；
+ * 校验不通过时重新分析依赖图，循环依赖不会因缓存命中而被放过。
+ * 策略节点只有十余个，分层计算本身只需微秒级，而计算指纹需要读取 POM，命中带来的收益通常小于指纹的开销，
+ * 因此默认不启用（planCacheEnabled），仅用于需要跨构建固定执行计划的场景
+ * 计划文件中每个节点 ID 单独存为一个属性（layer.&lt;层&gt;.&lt;序号&gt;），ID 中含有任意字符时都能原样还原
+ * @author daixu
+ */
+@Slf4j
+public class ExecutionPlanCache {
+
+    /**
+     * 缓存格式版本（格式或指纹输入变化时递增，旧版本的计划不再命中）
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * 保留的计划文件数量上限（超出时删除最久未使用的计划）
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    private static final String SUFFIX = ".properties";
+
+    /**
+     * 缓存目录
+     */
+    private final Path directory;
+
+    public ExecutionPlanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 根据配置创建缓存（未启用或缺少项目时返回 null）
+     * @param config 中央仓库发布配置
+     * @return 缓存实例
+     * @author daixu
+     */
+    public static ExecutionPlanCache forConfig(CentralPublishConfig config) {
+        if (config == null || !config.isPlanCacheEnabled() || config.getProject() == null) {
+            return null;
+        }
+        return new ExecutionPlanCache(Paths.get(System.getProperty("user.home"), ".m2", "central-publish", "plans"));
+    }
+
+    // ------------------------------ 指纹 ------------------------------
+
+    /**
+     * 计算执行计划的输入指纹
+     * @param nodes 调度节点（合并后的配置）
+     * @param config 中央仓库发布配置
+     * @return 十六进制 SHA-256 指纹
+     * @throws IOException 读取 POM 失败时抛出异常
+     * @author daixu
+     */
+    public String fingerprint(List<StrategyNode> nodes, CentralPublishConfig config) throws IOException {
+        MessageDigest digest = newDigest();
+        updateString(digest, "format", String.valueOf(FORMAT_VERSION));
+
+        // ✅ 1.调度节点（保持加入顺序，顺序变化时执行计划可能不同；每个字段单独写入，字段值中的分隔符不会造成混淆）
+        for (StrategyNode node : nodes) {
+            updateString(digest, "node", node.getId());
+            updateString(digest, "order", String.valueOf(node.getOrder()));
+            updateString(digest, "enabled", String.valueOf(node.isEnabled()));
+            updateString(digest, "required", String.valueOf(node.isRequired()));
+            updateString(digest, "dependencies", String.valueOf(node.getDependencies().size()));
+            for (String dependency : node.getDependencies()) {
+                updateString(digest, "dependency", dependency);
+            }
+            updateString(digest, "strategy", node.getStrategy() != null ? node.getStrategy().getClass().getName() : "");
+        }
+
+        // ✅ 2.POM 内容（顶层项目与当前项目）
+        MavenProject project = config.getProject();
+        if (config.getSession() != null && config.getSession().getTopLevelProject() != null) {
+            updateFile(digest, "root-pom", config.getSession().getTopLevelProject().getFile() != null
+                    ? config.getSession().getTopLevelProject().getFile().toPath() : null);
+        }
+        updateFile(digest, "pom", project.getFile() != null ? project.getFile().toPath() : null);
+
+        // ✅ 3.会话用户属性（-D 参数）
+        if (config.getSession() != null) {
+            updateString(digest, "user-properties", new TreeMap<>(config.getSession().getUserProperties()).toString());
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void updateFile(MessageDigest digest, String name, Path file) throws IOException {
+        updateString(digest, "file", name);
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        digest.update(Files.readAllBytes(file));
+    }
+
+    private static void updateString(MessageDigest digest, String name, String value) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    // ------------------------------ 读写 ------------------------------
+
+    /**
+     * 读取缓存的执行计划
+     * @param key 输入指纹
+     * @return 拓扑分层（节点 ID），未命中或文件损坏时返回 null
+     * @author daixu
+     */
+    public List<List<String>> load(String key) {
+        Path file = directory.resolve(key + SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            Properties plan = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                plan.load(in);
+            }
+            if (!key.equals(plan.getProperty("fingerprint"))) {
+                return null;
+            }
+            int count = Integer.parseInt(plan.getProperty("layers", "0"));
+            List<List<String>> layers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int size = Integer.parseInt(plan.getProperty("layer." + i + ".size", "0"));
+                List<String> layer = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    String id = plan.getProperty("layer." + i + "." + j);
+                    if (id == null) {
+                        return null;
+                    }
+                    layer.add(id);
+                }
+                layers.add(layer);
+            }
+            // 更新访问时间，供淘汰使用
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return layers;
+        } catch (IOException | RuntimeException e) {
+            log.warn("读取执行计划缓存失败，将重新分析依赖图: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 写入执行计划
+     * @param key 输入指纹
+     * @param layers 拓扑分层（节点 ID，每层已按执行顺序排序）
+     * @author daixu
+     */
+    public void store(String key, List<List<String>> layers) {
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            Properties plan = new Properties();
+            plan.setProperty("fingerprint", key);
+            plan.setProperty("layers", String.valueOf(layers.size()));
+            for (int i = 0; i < layers.size(); i++) {
+                List<String> layer = layers.get(i);
+                plan.setProperty("layer." + i + ".size", String.valueOf(layer.size()));
+                for (int j = 0; j < layer.size(); j++) {
+                    plan.setProperty("layer." + i + "." + j, layer.get(j));
+                }
+            }
+            temp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                plan.store(out, null);
+            }
+            // 原子替换，避免并发构建读取到不完整的计划
+            Files.move(temp, directory.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            evict();
+        } catch (IOException e) {
+            log.warn("写入执行计划缓存失败: {}", e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 临时文件删除失败不影响构建
+                }
+            }
+        }
+    }
+
+    /**
+     * 删除最久未使用的计划，直至数量不超过上限
+     */
+    private void evict() throws IOException {
+        List<Path> plans;
+        try (Stream<Path> stream = Files.list(directory)) {
+            plans = stream.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).collect(Collectors.toList());
+        }
+        if (plans.size() <= MAX_ENTRIES) {
+            return;
+        }
+        plans.sort(Comparator.comparingLong(ExecutionPlanCache::lastAccess));
+        for (Path plan : plans.subList(0, plans.size() - MAX_ENTRIES)) {
+            Files.deleteIfExists(plan);
+        }
+    }
+
+    private static long lastAccess(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("当前 JDK 不支持 SHA-256", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+}
@@ -1,29 +1,140 @@
 package core.gitee.xudai.strategy.core.factory;
 
+import core.gitee.xudai.config.loader.b.config.BaseConfig;
 import core.gitee.xudai.config.loader.b.loader.ConfigLoader;
-import core.gitee.xudai.container.PluginConfigContainer;
-import core.gitee.xudai.strategy.plugin.metadata.PluginStrategyMetadata;
-import org.codehaus.plexus.classworlds.strategy.Strategy;
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.factory.PluginStrategyFactory;
+import core.gitee.xudai.manager.SessionCoordinator;
+import core.gitee.xudai.strategy.core.api.MavenStrategy;
+import core.gitee.xudai.strategy.dependency.impl.plexus.PlexusUtilsDependencyStrategy;
+import core.gitee.xudai.strategy.license.impl.Apache2LicenseStrategy;
+import core.gitee.xudai.strategy.core.plan.PublishPlan;
+import core.gitee.xudai.strategy.core.plan.PublishPlanner;
+import core.gitee.xudai.strategy.plugin.support.GoalTimingHistory;
+import org.apache.maven.plugin.MojoExecutionException;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+/**
+ * 策略执行器：将插件、许可证、依赖配置转换为调度节点，交由 {@link StrategyScheduler} 按依赖图执行
+ * @author daixu
+ */
 public class StrategyExecutor {
 
-    public void executeAll() {
-        // 1. 加载插件配置元数据
-        PluginConfigContainer pluginConfig = ConfigLoader.getInstance().getPluginConfig();
-        List<PluginStrategyMetadata> pluginMetadatas = pluginConfig.getPlugins();
+    /**
+     * 配置 ID → 策略实现（未注册实现的配置仅参与排序）
+     */
+    private final Map<String, MavenStrategy> strategies = new LinkedHashMap<>();
 
-        // 2. 按执行顺序排序（基于元数据的order）
-        pluginMetadatas.sort(Comparator.comparingInt(m -> m.getBaseStrategyInfo().getOrder()));
+    /**
+     * 构造函数：默认注册所有内置插件策略
+     * @author daixu
+     */
+    public StrategyExecutor() {
+        strategies.putAll(PluginStrategyFactory.getStrategies());
+    }
+
+    /**
+     * 创建注册了所有内置策略（插件、许可证、依赖）的执行器
+     * @return 执行器
+     * @author daixu
+     */
+    public static StrategyExecutor withDefaultStrategies() {
+        return new StrategyExecutor()
+                .register("Apache-2.0", new Apache2LicenseStrategy())
+                .register("plexus", new PlexusUtilsDependencyStrategy());
+    }
+
+    /**
+     * 注册策略实现（许可证、依赖等策略通过此方法与配置 ID 关联）
+     * @param id 配置 ID
+     * @param strategy 策略实现
+     * @return 当前执行器
+     * @author daixu
+     */
+    public StrategyExecutor register(String id, MavenStrategy strategy) {
+        strategies.put(id, strategy);
+        return this;
+    }
+
+    /**
+     * 按依赖图执行所有策略
+     * @param config 中央仓库发布配置
+     * @throws MojoExecutionException 必需策略执行失败时抛出异常
+     * @author daixu
+     */
+    public void executeAll(CentralPublishConfig config) throws MojoExecutionException {
+        List<StrategyNode> nodes = loadNodes(config);
+        // 按依赖图调度执行（互不依赖的策略并行执行）
+        new StrategyScheduler(config.getStrategyParallelism()).execute(nodes, config);
+    }
+
+    /**
+     * 生成发布计划：与 {@link #executeAll(CentralPublishConfig)} 使用相同的配置与执行分层，只预演策略，不修改项目模型，不执行插件目标
+     * @param config 中央仓库发布配置
+     * @return 发布计划
+     * @throws MojoExecutionException 配置加载失败时抛出异常
+     * @author daixu
+     */
+    public PublishPlan plan(CentralPublishConfig config) throws MojoExecutionException {
+        List<StrategyNode> nodes = loadNodes(config);
+        List<List<StrategyNode>> layers = new StrategyScheduler(config.getStrategyParallelism()).plan(nodes);
+        return new PublishPlanner(GoalTimingHistory.getDefault()).plan(layers, config);
+    }
 
-        // 3. 执行每个策略
-        for (PluginStrategyMetadata metadata : pluginMetadatas) {
-            Strategy strategy = StrategyFactory.getStrategy(metadata);
-            if (strategy != null) {
-                strategy.execute();
-            }
+    /**
+     * 加载插件、许可证、依赖配置并转换为调度节点
+     * 1. 外部配置目录模式：整个构建固定使用同一个配置快照（构建过程中热加载的新配置从下一次构建开始生效）
+     * 2. 其他情况：三类配置并行加载；任一配置加载失败时终止执行（不能在缺少许可证、依赖配置的情况下继续发布）
+     * @param config 中央仓库发布配置
+     * @return 调度节点
+     * @throws MojoExecutionException 配置加载失败时抛出异常
+     * @author daixu
+     */
+    private List<StrategyNode> loadNodes(CentralPublishConfig config) throws MojoExecutionException {
+        ConfigLoader configLoader = SessionCoordinator.of(config.getSession())
+                .computeOnce(SessionCoordinator.CONFIG, ConfigLoader::getInstance);
+        List<StrategyNode> nodes = new ArrayList<>();
+
+        Optional<ConfigLoader.GlobalConfig> snapshot = SessionCoordinator.of(config.getSession())
+                .computeOnce(SessionCoordinator.EXTERNAL_CONFIG_SNAPSHOT, () -> Optional.ofNullable(configLoader.getExternalSnapshot()));
+        if (snapshot.isPresent()) {
+            ConfigLoader.GlobalConfig globalConfig = snapshot.get();
+            addNodes(nodes, globalConfig.getPluginConfigContainer().getPlugins());
+            addNodes(nodes, globalConfig.getLicenseConfigContainer().getLicenses());
+            addNodes(nodes, globalConfig.getDependencyConfigContainer().getDependencies());
+            return nodes;
+        }
+
+        configLoader.preloadAll();
+        try {
+            addNodes(nodes, configLoader.getPluginConfig().getPlugins());
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("[plugin] 插件配置加载失败: " + e.getMessage(), e);
+        }
+        try {
+            addNodes(nodes, configLoader.getLicenseConfig().getLicenses());
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("[license] 许可证配置加载失败: " + e.getMessage(), e);
+        }
+        try {
+            addNodes(nodes, configLoader.getDependencyConfig().getDependencies());
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("[dependency] 依赖配置加载失败: " + e.getMessage(), e);
+        }
+        return nodes;
+    }
+
+    private void addNodes(List<StrategyNode> nodes, List<? extends BaseConfig<?>> configs) {
+        if (configs == null) {
+            return;
+        }
+        for (BaseConfig<?> config : configs) {
+            nodes.add(StrategyNode.of(config, strategies.get(config.getId())));
         }
     }
 
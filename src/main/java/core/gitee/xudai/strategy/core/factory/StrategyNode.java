@@ -0,0 +1,78 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import core.gitee.xudai.config.loader.b.config.BaseConfig;
+import core.gitee.xudai.strategy.core.api.MavenStrategy;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 策略调度节点：将配置中的基础信息（顺序、是否必需、依赖）与策略实例绑定，作为调度图中的一个节点
+ * @author daixu
+ */
+@Getter
+public class StrategyNode {
+
+    /** 唯一标识（与配置 id 一致） */
+    private final String id;
+
+    /** 执行顺序（同一层内数字越小越先提交） */
+    private final int order;
+
+    /** 是否启用 */
+    private final boolean enabled;
+
+    /** 是否必需（必需策略失败或被跳过时终止整个流程） */
+    private final boolean required;
+
+    /** 依赖的节点 ID（被依赖节点执行完成后才会执行当前节点） */
+    private final List<String> dependencies;
+
+    /** 策略实例（可为空，为空时该节点仅参与排序，不执行任何操作） */
+    private final MavenStrategy strategy;
+
+    public StrategyNode(String id, int order, boolean enabled, boolean required, List<String> dependencies, MavenStrategy strategy) {
+        this.id = id;
+        this.order = order;
+        this.enabled = enabled;
+        this.required = required;
+        this.dependencies = dependencies != null ? List.copyOf(dependencies) : Collections.emptyList();
+        this.strategy = strategy;
+    }
+
+    /**
+     * 根据配置项创建调度节点
+     * @param config 配置项（提供 id 与基础信息）
+     * @param strategy 策略实例（可为空）
+     * @return 调度节点
+     * @author daixu
+     */
+    public static StrategyNode of(BaseConfig<?> config, MavenStrategy strategy) {
+        BaseConfig.BaseInfo baseInfo = config.getBaseInfo();
+        if (baseInfo == null) {
+            return new StrategyNode(config.getId(), 0, true, false, Collections.emptyList(), strategy);
+        }
+        List<String> dependencies = baseInfo.getDependencies() == null ? Collections.emptyList()
+                : baseInfo.getDependencies().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toList());
+        return new StrategyNode(
+                config.getId(),
+                baseInfo.getOrder() != null ? baseInfo.getOrder() : 0,
+                !Boolean.FALSE.equals(baseInfo.getEnabled()),
+                Boolean.TRUE.equals(baseInfo.getRequired()),
+                dependencies,
+                strategy);
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+}
@@ -0,0 +1,461 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import core.gitee.xudai.metrics.RunMetrics;
+import core.gitee.xudai.strategy.core.enums.ConcurrencyModeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 策略调度器：根据 baseInfo.dependencies 构建的依赖图调度策略执行
+ * 1. 使用 {@link DependencyGraph} 将节点划分为拓扑层，用于校验依赖（未知依赖、循环依赖，循环时报告完整路径）与输出执行计划
+ * 2. 执行时不等待整层完成：节点的所有依赖完成后立即提交到线程池（有界平台线程池或虚拟线程），互不依赖的策略并行执行；
+ *    同时就绪的节点按执行计划中的先后顺序提交（执行计划可来自 {@link ExecutionPlanCache}）
+ * 3. 必需策略失败时取消所有执行中的策略（中断执行线程，Maven Invoker 启动的子进程随之被销毁）并终止流程；
+ *    非必需策略失败时仅跳过依赖它的策略，被跳过的策略若为必需策略同样终止流程
+ * @author daixu
+ */
+@Slf4j
+public class StrategyScheduler {
+
+    /**
+     * 同一层内按执行顺序提交，顺序相同时按 ID 排序保证结果稳定
+     */
+    private static final Comparator<StrategyNode> NODE_ORDER =
+            Comparator.comparingInt(StrategyNode::getOrder).thenComparing(StrategyNode::getId);
+
+    /**
+     * 并行度（同时执行的策略数量上限）
+     */
+    private final int parallelism;
+
+    /**
+     * 构造函数
+     * @param parallelism 并行度，小于 1 时按 1 处理（按拓扑顺序串行执行）
+     * @author daixu
+     */
+    public StrategyScheduler(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 生成分层执行计划（同一层内的策略互不依赖，可并行执行）
+     * @param nodes 调度节点
+     * @return 拓扑分层结果（每层按执行顺序排序）
+     * @throws IllegalArgumentException 存在重复 ID 或依赖的 ID 不存在时抛出异常
+     * @throws IllegalStateException 存在循环依赖时抛出异常
+     * @author daixu
+     */
+    public List<List<StrategyNode>> plan(Collection<StrategyNode> nodes) {
+        List<StrategyNode> nodeList = List.copyOf(nodes);
+        return toLayers(nodeList, buildGraph(nodeList).analyze().requireAcyclic());
+    }
+
+    /**
+     * 按依赖图执行所有策略
+     * @param nodes 调度节点
+     * @param config 中央仓库发布配置
+     * @throws MojoExecutionException 必需策略失败、被禁用或被跳过时抛出异常
+     * @author daixu
+     */
+    public void execute(Collection<StrategyNode> nodes, CentralPublishConfig config) throws MojoExecutionException {
+
+        // ✅ 1.校验依赖并输出执行计划（依赖图只构建一次，调度时复用；输入未变化时使用缓存的执行计划，
+        //      缓存的分层须通过当前依赖图的校验，校验结果同时保证无循环依赖）
+        List<StrategyNode> nodeList = List.copyOf(nodes);
+        DependencyGraph graph = buildGraph(nodeList);
+        List<List<StrategyNode>> layers = planWithCache(nodeList, graph, config);
+        for (int i = 0; i < layers.size(); i++) {
+            log.info("策略执行计划 第{}层: {}", i + 1, layers.get(i));
+        }
+        int[] positions = planPositions(graph, layers);
+
+        // ✅ 2.按执行计划与依赖关系调度执行（退出时等待所有策略线程结束，不遗留后台任务）
+        try (ExecutorService executor = newExecutor(config, parallelism)) {
+            try {
+                new Run(nodeList, graph, positions, config, executor).execute();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 根据并发执行模式创建策略执行线程池
+     * 1. 虚拟线程模式：每个策略一个虚拟线程，不受并行度限制
+     * 2. 平台线程模式：固定大小的守护线程池
+     * @param config 中央仓库发布配置
+     * @param parallelism 平台线程模式下的并行度
+     * @return 线程池
+     * @author daixu
+     */
+    public static ExecutorService newExecutor(CentralPublishConfig config, int parallelism) {
+        if (ConcurrencyModeEnum.fromValue(config != null ? config.getConcurrencyMode() : null) == ConcurrencyModeEnum.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("central-publish-strategy-", 1).factory());
+        }
+        return Executors.newFixedThreadPool(Math.max(1, parallelism),
+                Thread.ofPlatform().name("central-publish-strategy-", 1).daemon(true).factory());
+    }
+
+    /**
+     * 构建依赖图（节点下标与列表下标一致）
+     * @param nodeList 调度节点
+     * @return 依赖图
+     * @throws IllegalArgumentException 存在重复 ID 或依赖的 ID 不存在时抛出异常
+     * @author daixu
+     */
+    private static DependencyGraph buildGraph(List<StrategyNode> nodeList) {
+        return DependencyGraph.build(nodeList, StrategyNode::getId, StrategyNode::getDependencies);
+    }
+
+    /**
+     * 生成分层执行计划：执行计划缓存命中且缓存的分层是当前依赖图的合法拓扑分层时直接使用，否则分析依赖图并写入缓存
+     * 合法拓扑分层要求每个节点恰好出现一次、且所依赖的节点都位于更靠前的层，满足时依赖图必然无环，
+     * 因此缓存命中与否都不会放过循环依赖
+     * @param nodeList 调度节点
+     * @param graph 依赖图
+     * @param config 中央仓库发布配置
+     * @return 拓扑分层结果（每层按执行顺序排序）
+     * @author daixu
+     */
+    private static List<List<StrategyNode>> planWithCache(List<StrategyNode> nodeList, DependencyGraph graph,
+                                                          CentralPublishConfig config) {
+        ExecutionPlanCache cache = ExecutionPlanCache.forConfig(config);
+        String key = null;
+        if (cache != null) {
+            try {
+                key = cache.fingerprint(nodeList, config);
+                List<List<StrategyNode>> cached = fromIds(nodeList, graph, cache.load(key));
+                if (cached != null && planPositions(graph, cached) != null) {
+                    log.info("执行计划缓存命中: {}", key.substring(0, 12));
+                    return cached;
+                }
+                if (cached != null) {
+                    log.warn("缓存的执行计划与当前依赖图不一致，重新分析依赖图: {}", key.substring(0, 12));
+                }
+            } catch (IOException e) {
+                log.warn("计算执行计划指纹失败，不使用缓存: {}", e.getMessage());
+            }
+        }
+
+        List<List<StrategyNode>> layers = toLayers(nodeList, graph.analyze().requireAcyclic());
+        if (key != null) {
+            cache.store(key, layers.stream()
+                    .map(layer -> layer.stream().map(StrategyNode::getId).collect(Collectors.toList()))
+                    .collect(Collectors.toList()));
+        }
+        return layers;
+    }
+
+    /**
+     * 将缓存的分层（节点 ID）转换为调度节点（与当前节点不一致时视为未命中）
+     * @param nodeList 调度节点
+     * @param graph 依赖图
+     * @param ids 缓存的分层，可为空
+     * @return 拓扑分层结果，未命中时返回 null
+     * @author daixu
+     */
+    private static List<List<StrategyNode>> fromIds(List<StrategyNode> nodeList, DependencyGraph graph, List<List<String>> ids) {
+        if (ids == null) {
+            return null;
+        }
+        List<List<StrategyNode>> layers = new ArrayList<>(ids.size());
+        int placed = 0;
+        for (List<String> layerIds : ids) {
+            List<StrategyNode> layer = new ArrayList<>(layerIds.size());
+            for (String id : layerIds) {
+                int index = graph.indexOf(id);
+                if (index < 0) {
+                    return null;
+                }
+                layer.add(nodeList.get(index));
+            }
+            placed += layer.size();
+            layers.add(layer);
+        }
+        return placed == nodeList.size() ? layers : null;
+    }
+
+    /**
+     * 计算节点在执行计划中的先后位置（按层、层内顺序展开），并校验执行计划是依赖图的合法拓扑分层
+     * @param graph 依赖图
+     * @param layers 拓扑分层结果
+     * @return 节点下标 → 计划中的位置，节点缺失、重复或依赖未位于更靠前的层时返回 null
+     * @author daixu
+     */
+    static int[] planPositions(DependencyGraph graph, List<List<StrategyNode>> layers) {
+        int[] positions = new int[graph.size()];
+        int[] layerOf = new int[graph.size()];
+        Arrays.fill(positions, -1);
+        int position = 0;
+        for (int i = 0; i < layers.size(); i++) {
+            for (StrategyNode node : layers.get(i)) {
+                int index = graph.indexOf(node.getId());
+                if (index < 0 || positions[index] >= 0) {
+                    return null;
+                }
+                positions[index] = position++;
+                layerOf[index] = i;
+            }
+        }
+        if (position != graph.size()) {
+            return null;
+        }
+        for (int node = 0; node < graph.size(); node++) {
+            for (int k = 0; k < graph.dependentCount(node); k++) {
+                if (layerOf[graph.dependent(node, k)] <= layerOf[node]) {
+                    return null;
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * 将拓扑分层的节点下标转换为调度节点
+     * @param nodeList 调度节点
+     * @param analysis 依赖图分析结果
+     * @return 拓扑分层结果（每层按执行顺序排序）
+     * @author daixu
+     */
+    private static List<List<StrategyNode>> toLayers(List<StrategyNode> nodeList, DependencyGraph.Analysis analysis) {
+        List<List<StrategyNode>> layers = new ArrayList<>(analysis.getLayers().size());
+        for (int[] layer : analysis.getLayers()) {
+            List<StrategyNode> current = new ArrayList<>(layer.length);
+            for (int node : layer) {
+                current.add(nodeList.get(node));
+            }
+            current.sort(NODE_ORDER);
+            layers.add(current);
+        }
+        return layers;
+    }
+
+    /**
+     * 节点执行状态
+     */
+    private enum NodeState {
+
+        /** 等待依赖完成 */
+        PENDING,
+
+        /** 执行中 */
+        RUNNING,
+
+        /** 执行完成（含禁用的节点，禁用节点不阻塞依赖它的节点） */
+        DONE,
+
+        /** 因依赖失败被跳过 */
+        SKIPPED,
+
+        /** 执行失败 */
+        FAILED
+
+    }
+
+    /**
+     * 单次调度执行过程（保存本次执行的状态）
+     */
+    private static class Run {
+
+        private final List<StrategyNode> nodes;
+
+        private final DependencyGraph graph;
+
+        private final CentralPublishConfig config;
+
+        private final CompletionService<NodeResult> completionService;
+
+        /**
+         * 节点下标 → 未完成的依赖数量
+         */
+        private final int[] inDegree;
+
+        private final NodeState[] states;
+
+        private final Map<Integer, Future<NodeResult>> running = new HashMap<>();
+
+        private final PriorityQueue<Integer> ready;
+
+        private int unfinished;
+
+        /**
+         * @param positions 节点下标 → 执行计划中的位置（同时就绪的节点按该位置提交）
+         */
+        Run(List<StrategyNode> nodes, DependencyGraph graph, int[] positions, CentralPublishConfig config,
+            ExecutorService executor) {
+            this.nodes = nodes;
+            this.graph = graph;
+            this.config = config;
+            this.completionService = new ExecutorCompletionService<>(executor);
+            this.ready = new PriorityQueue<>(Comparator.comparingInt(index -> positions[index]));
+            this.unfinished = nodes.size();
+            this.inDegree = new int[nodes.size()];
+            this.states = new NodeState[nodes.size()];
+            for (int i = 0; i < nodes.size(); i++) {
+                inDegree[i] = graph.dependencyCount(i);
+                states[i] = NodeState.PENDING;
+                if (inDegree[i] == 0) {
+                    ready.add(i);
+                }
+            }
+        }
+
+        void execute() throws MojoExecutionException {
+            try {
+                while (unfinished > 0) {
+                    dispatchReady();
+                    if (running.isEmpty()) {
+                        break;
+                    }
+                    NodeResult result = completionService.take().get();
+                    running.remove(result.index);
+                    unfinished--;
+                    if (result.error == null) {
+                        states[result.index] = NodeState.DONE;
+                        release(result.index);
+                    } else {
+                        onFailure(result.index, result.error);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRunning();
+                throw new MojoExecutionException("策略调度被中断", e);
+            } catch (ExecutionException e) {
+                cancelRunning();
+                throw new MojoExecutionException("策略调度失败", e.getCause());
+            } catch (MojoExecutionException e) {
+                cancelRunning();
+                throw e;
+            }
+        }
+
+        /**
+         * 提交所有依赖已完成的节点（禁用的节点直接视为完成）
+         */
+        private void dispatchReady() throws MojoExecutionException {
+            while (!ready.isEmpty()) {
+                int index = ready.poll();
+                StrategyNode node = nodes.get(index);
+                if (!isEnabled(node)) {
+                    if (node.isRequired()) {
+                        throw new MojoExecutionException("[" + node.getId() + "] 必需策略已被禁用");
+                    }
+                    log.info("[{}] 策略未启用，跳过", node.getId());
+                    states[index] = NodeState.DONE;
+                    unfinished--;
+                    release(index);
+                    continue;
+                }
+                states[index] = NodeState.RUNNING;
+                running.put(index, completionService.submit(() -> runNode(index, node)));
+            }
+        }
+
+        private boolean isEnabled(StrategyNode node) {
+            return node.isEnabled() && (node.getStrategy() == null || node.getStrategy().isEnabled(config));
+        }
+
+        private NodeResult runNode(int index, StrategyNode node) {
+            if (node.getStrategy() == null) {
+                log.debug("[{}] 未注册策略实现，仅参与排序", node.getId());
+                return new NodeResult(index, null);
+            }
+            try (RunMetrics.Span span = RunMetrics.start(MetricCategoryEnum.STRATEGY, node.getId(), config.getProject())) {
+                try {
+                    log.info("[{}] 开始执行策略", node.getId());
+                    node.getStrategy().configure(config);
+                    log.info("[{}] 策略执行完成", node.getId());
+                    return new NodeResult(index, null);
+                } catch (Throwable e) {
+                    span.failed();
+                    return new NodeResult(index, e);
+                }
+            }
+        }
+
+        /**
+         * 节点完成后，依赖它的节点入度减一，入度为零的节点进入就绪队列
+         */
+        private void release(int index) {
+            for (int k = 0; k < graph.dependentCount(index); k++) {
+                int dependent = graph.dependent(index, k);
+                if (--inDegree[dependent] == 0 && states[dependent] == NodeState.PENDING) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        /**
+         * 处理节点失败：必需策略终止流程，非必需策略跳过所有依赖它的策略
+         */
+        private void onFailure(int index, Throwable error) throws MojoExecutionException {
+            StrategyNode node = nodes.get(index);
+            states[index] = NodeState.FAILED;
+            if (node.isRequired()) {
+                throw new MojoExecutionException("[" + node.getId() + "] 必需策略执行失败", error);
+            }
+            log.warn("[{}] 非必需策略执行失败，跳过依赖它的策略: {}", node.getId(), error.getMessage());
+
+            Deque<Integer> stack = new ArrayDeque<>();
+            pushDependents(stack, index);
+            while (!stack.isEmpty()) {
+                int dependentIndex = stack.pop();
+                if (states[dependentIndex] != NodeState.PENDING) {
+                    continue;
+                }
+                StrategyNode dependent = nodes.get(dependentIndex);
+                if (dependent.isRequired()) {
+                    throw new MojoExecutionException("[" + dependent.getId() + "] 必需策略的依赖 [" + node.getId() + "] 执行失败", error);
+                }
+                log.warn("[{}] 依赖的策略 [{}] 执行失败，跳过", dependent.getId(), node.getId());
+                states[dependentIndex] = NodeState.SKIPPED;
+                unfinished--;
+                pushDependents(stack, dependentIndex);
+            }
+        }
+
+        private void pushDependents(Deque<Integer> stack, int index) {
+            for (int k = 0; k < graph.dependentCount(index); k++) {
+                stack.push(graph.dependent(index, k));
+            }
+        }
+
+        /**
+         * 取消所有执行中的节点（中断执行线程）
+         */
+        private void cancelRunning() {
+            for (Map.Entry<Integer, Future<NodeResult>> entry : running.entrySet()) {
+                if (entry.getValue().cancel(true)) {
+                    log.warn("[{}] 已取消执行中的策略", nodes.get(entry.getKey()).getId());
+                }
+            }
+            running.clear();
+        }
+
+    }
+
+    /**
+     * 节点执行结果
+     */
+    private static class NodeResult {
+
+        private final int index;
+
+        private final Throwable error;
+
+        NodeResult(int index, Throwable error) {
+            this.index = index;
+            this.error = error;
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package core.gitee.xudai.strategy.core.plan;
+
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 发布计划中的单个策略
+ * @author daixu
+ */
+@Getter
+@AllArgsConstructor
+public class PlanItem {
+
+    /** 配置 ID */
+    private final String id;
+
+    /** 所在执行层（从 1 开始，同一层的策略并行执行） */
+    private final int layer;
+
+    /** 是否必需 */
+    private final boolean required;
+
+    /** 策略名称（无策略实现时为 null） */
+    private final String strategy;
+
+    /** 修改类型（plugin、license、dependency，无法预演时为 null） */
+    private final String type;
+
+    /** 修改对象 */
+    private final String target;
+
+    /** 将执行的插件目标 */
+    private final String goal;
+
+    /** 预期动作 */
+    private final PlanActionEnum action;
+
+    /** 说明 */
+    private final String reason;
+
+    /** 估算耗时（毫秒，来自历史记录；不执行插件目标时为 0，没有历史记录时为 -1） */
+    private final long estimatedMillis;
+
+}
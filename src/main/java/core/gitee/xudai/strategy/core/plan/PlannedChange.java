@@ -0,0 +1,30 @@
+package core.gitee.xudai.strategy.core.plan;
+
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 策略的预期修改：策略在不修改项目模型、不执行插件目标的前提下，判断执行时会对项目做什么
+ * @author daixu
+ */
+@Getter
+@AllArgsConstructor
+public class PlannedChange {
+
+    /** 修改类型（plugin、license、dependency） */
+    private final String type;
+
+    /** 修改对象（插件、依赖为 groupId:artifactId:version，许可证为名称） */
+    private final String target;
+
+    /** 将执行的插件目标（非插件或无目标时为 null） */
+    private final String goal;
+
+    /** 预期动作 */
+    private final PlanActionEnum action;
+
+    /** 说明（跳过、失败的原因） */
+    private final String reason;
+
+}
@@ -0,0 +1,51 @@
+package core.gitee.xudai.strategy.core.plan;
+
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 模块的发布计划：按执行层列出每个策略的预期动作与估算耗时
+ * @author daixu
+ */
+@Getter
+@AllArgsConstructor
+public class PublishPlan {
+
+    /** 模块坐标（groupId:artifactId:version） */
+    private final String module;
+
+    /** 执行层数 */
+    private final int layers;
+
+    /** 各策略（按执行层、层内执行顺序排列） */
+    private final List<PlanItem> items;
+
+    /** 估算总耗时（毫秒，同一层取最长的策略，各层相加；只包含有历史记录的插件目标） */
+    private final long estimatedMillis;
+
+    /** 缺少历史记录、未计入估算的插件目标数量 */
+    private final int unestimatedGoals;
+
+    /** 生成计划的耗时（毫秒） */
+    private final long planningMillis;
+
+    /**
+     * 执行时必需策略是否会失败
+     * @return 会失败返回 true
+     * @author daixu
+     */
+    public boolean hasRequiredFailures() {
+        for (PlanItem item : items) {
+            if (item.isRequired() && (item.getAction() == PlanActionEnum.ERROR
+                    || item.getAction() == PlanActionEnum.SKIP_DEPENDENCY
+                    || item.getAction() == PlanActionEnum.DISABLED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,126 @@
+package core.gitee.xudai.strategy.core.plan;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.core.api.MavenStrategy;
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import core.gitee.xudai.strategy.core.factory.StrategyNode;
+import core.gitee.xudai.strategy.plugin.support.GoalTimingHistory;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+
+import java.util.*;
+
+/**
+ * 发布计划生成器：按执行计划的分层顺序预演每个策略，不修改项目模型，不执行插件目标，不启动进程
+ * 1. 与调度执行的判定一致：未启用的策略跳过；策略预演失败视为执行失败，依赖它的策略被跳过
+ * 2. 估算耗时取插件目标的历史耗时，同一层的策略并行执行，按层取最长耗时后相加
+ * @author daixu
+ */
+public class PublishPlanner {
+
+    /**
+     * 历史耗时
+     */
+    private final GoalTimingHistory history;
+
+    public PublishPlanner(GoalTimingHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * 生成模块的发布计划
+     * @param layers 拓扑分层结果（每层按执行顺序排序）
+     * @param config 中央仓库发布配置
+     * @return 发布计划
+     * @author daixu
+     */
+    public PublishPlan plan(List<List<StrategyNode>> layers, CentralPublishConfig config) {
+        long start = System.nanoTime();
+        List<PlanItem> items = new ArrayList<>();
+        // 执行时会失败的节点 ID（依赖它们的节点被跳过）
+        Set<String> failed = new HashSet<>();
+        long estimatedMillis = 0;
+        int unestimatedGoals = 0;
+
+        for (int i = 0; i < layers.size(); i++) {
+            long layerMillis = 0;
+            for (StrategyNode node : layers.get(i)) {
+                PlanItem item = planNode(node, i + 1, failed, config);
+                if (item.getAction() == PlanActionEnum.ERROR || item.getAction() == PlanActionEnum.SKIP_DEPENDENCY) {
+                    failed.add(node.getId());
+                }
+                if (item.getEstimatedMillis() < 0) {
+                    unestimatedGoals++;
+                } else {
+                    layerMillis = Math.max(layerMillis, item.getEstimatedMillis());
+                }
+                items.add(item);
+            }
+            estimatedMillis += layerMillis;
+        }
+
+        return new PublishPlan(moduleId(config.getProject()), layers.size(), items, estimatedMillis, unestimatedGoals,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 预演单个节点
+     */
+    private PlanItem planNode(StrategyNode node, int layer, Set<String> failed, CentralPublishConfig config) {
+        MavenStrategy strategy = node.getStrategy();
+        String strategyName = strategy != null ? strategy.getStrategyName() : null;
+
+        // ✅ 1.依赖的策略会失败时跳过（与调度执行一致）
+        for (String dependency : node.getDependencies()) {
+            if (failed.contains(dependency)) {
+                return item(node, layer, strategyName, PlanActionEnum.SKIP_DEPENDENCY,
+                        "依赖的策略 [" + dependency + "] 执行会失败");
+            }
+        }
+
+        // ✅ 2.未注册策略实现、未启用的策略不执行
+        if (strategy == null) {
+            return item(node, layer, null, PlanActionEnum.NO_STRATEGY, "未注册策略实现，仅参与排序");
+        }
+        if (!node.isEnabled() || !strategy.isEnabled(config)) {
+            return item(node, layer, strategyName, PlanActionEnum.DISABLED, "策略未启用");
+        }
+
+        // ✅ 3.预演策略（只检测项目模型）
+        PlannedChange change;
+        try {
+            change = strategy.plan(config);
+        } catch (MojoExecutionException | RuntimeException e) {
+            return item(node, layer, strategyName, PlanActionEnum.ERROR, e.getMessage());
+        }
+        if (change == null) {
+            return item(node, layer, strategyName, PlanActionEnum.ADD, "策略不支持预演，执行时将按配置处理");
+        }
+
+        // ✅ 4.估算耗时（只有新添加的插件会执行插件目标）
+        long estimate = 0;
+        if (change.getAction() == PlanActionEnum.ADD && change.getGoal() != null) {
+            estimate = history.estimateMillis(artifactId(change.getTarget()), change.getGoal());
+        }
+        return new PlanItem(node.getId(), layer, node.isRequired(), strategyName, change.getType(), change.getTarget(),
+                change.getGoal(), change.getAction(), change.getReason(), estimate);
+    }
+
+    private static PlanItem item(StrategyNode node, int layer, String strategyName,
+                                 PlanActionEnum action, String reason) {
+        return new PlanItem(node.getId(), layer, node.isRequired(), strategyName, null, null, null, action, reason, 0);
+    }
+
+    /**
+     * 从 groupId:artifactId:version 中取出 artifactId
+     */
+    private static String artifactId(String target) {
+        String[] parts = target.split(":");
+        return parts.length > 1 ? parts[1] : target;
+    }
+
+    private static String moduleId(MavenProject project) {
+        return project.getGroupId() + ":" + project.getArtifactId() + ":" + project.getVersion();
+    }
+
+}
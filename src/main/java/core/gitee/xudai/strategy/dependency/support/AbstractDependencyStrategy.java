@@ -2,12 +2,14 @@ package core.gitee.xudai.strategy.dependency.support;
 
 import core.gitee.xudai.strategy.dependency.api.DependencyStrategy;
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.ProjectModelIndex;
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import core.gitee.xudai.strategy.core.plan.PlannedChange;
 import core.gitee.xudai.strategy.dependency.enums.DependencyEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.plugin.MojoExecutionException;
 
-import java.util.List;
 
 /**
  * 依赖策略抽象基类，封装依赖配置的通用逻辑
@@ -79,9 +81,9 @@ public abstract class AbstractDependencyStrategy implements DependencyStrategy {
             throw wrapException("依赖基础信息不能为空");
         }
 
-        // 检测工程中是否已包含该依赖
-        boolean hasExistingDependency = DependencyDetector.hasExistingDependency(
-                config.getProject(),
+        // 检测工程中是否已包含该依赖（项目模型索引，每个模块只扫描一次）
+        ProjectModelIndex index = ProjectModelIndex.of(config);
+        boolean hasExistingDependency = index.hasDeclaredDependency(
                 basicDependency.getGroupId(),
                 basicDependency.getArtifactId()
         );
@@ -91,12 +93,38 @@ public abstract class AbstractDependencyStrategy implements DependencyStrategy {
             return;
         }
 
-        List<Dependency> dependencies = config.getProject().getDependencies();
         Dependency dependency = DependencyConfigBuilder.createDependency(basicDependency, getScope());
-        dependencies.add(dependency);
+        if (!index.addDependency(dependency)) {
+            log.debug("[{}] 依赖已添加，跳过: {}", getStrategyName(), basicDependency.getArtifactId());
+            return;
+        }
         log.info("[{}] 已添加依赖: {}", getStrategyName(), basicDependency.getArtifactId());
     }
 
+    /**
+     * 预演依赖配置：与 {@link #configureDependency(CentralPublishConfig)} 的检测逻辑一致，但不添加依赖
+     * @param config 中央仓库发布配置
+     * @return 预期修改
+     * @throws MojoExecutionException 依赖基础信息无效时抛出异常
+     * @author daixu
+     */
+    @Override
+    public PlannedChange plan(CentralPublishConfig config) throws MojoExecutionException {
+        BasicDependency basicDependency = getBasicDependency(config);
+        if (basicDependency == null) {
+            throw wrapException("依赖基础信息不能为空");
+        }
+        String target = basicDependency.getGroupId() + ":" + basicDependency.getArtifactId() + ":" + basicDependency.getVersion();
+        boolean hasExistingDependency = ProjectModelIndex.of(config).hasDeclaredDependency(
+                basicDependency.getGroupId(),
+                basicDependency.getArtifactId()
+        );
+        if (hasExistingDependency) {
+            return new PlannedChange("dependency", target, null, PlanActionEnum.SKIP_EXISTING, "工程中已包含该依赖");
+        }
+        return new PlannedChange("dependency", target, null, PlanActionEnum.ADD, null);
+    }
+
     /**
      * 抽象方法：由子类提供具体的依赖信息
      */
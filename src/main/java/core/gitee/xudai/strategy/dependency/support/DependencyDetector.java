@@ -1,6 +1,9 @@
 package core.gitee.xudai.strategy.dependency.support;
 
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.ProjectModelIndex;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 
 /**
@@ -41,6 +44,20 @@ public class DependencyDetector {
         return false;
     }
 
+    /**
+     * 检测工程中是否已包含指定依赖（使用会话级的项目模型索引，每个模块只扫描一次工程中声明的依赖）
+     * 只判断工程中声明的依赖，不包含本插件后续添加的依赖
+     * @param config 中央仓库发布配置
+     * @param groupId 依赖groupId
+     * @param artifactId 依赖artifactId
+     * @return 已包含返回true，否则返回false
+     * @throws MojoExecutionException 构建索引失败时抛出异常
+     * @author daixu
+     */
+    public static boolean hasExistingDependency(CentralPublishConfig config, String groupId, String artifactId) throws MojoExecutionException {
+        return ProjectModelIndex.of(config).hasDeclaredDependency(groupId, artifactId);
+    }
+
     /**
      * 判断两个依赖是否相同（groupId和artifactId一致）
      * @param dependency 依赖
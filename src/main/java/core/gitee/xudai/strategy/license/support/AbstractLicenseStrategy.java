@@ -1,6 +1,8 @@
 package core.gitee.xudai.strategy.license.support;
 
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import core.gitee.xudai.strategy.core.plan.PlannedChange;
 import core.gitee.xudai.strategy.license.enums.LicenseTypeEnum;
 import lombok.extern.slf4j.Slf4j;
 import core.gitee.xudai.strategy.license.api.LicenseStrategy;
@@ -77,6 +79,21 @@ public abstract class AbstractLicenseStrategy implements LicenseStrategy {
         log.debug("已配置 {} 许可证",licenseType.getDistribution());
     }
 
+    /**
+     * 预演许可证配置：与 {@link #configureLicense(CentralPublishConfig)} 的检测逻辑一致，但不添加许可证
+     * @param config 中央仓库发布配置
+     * @return 预期修改
+     * @throws MojoExecutionException 解析项目许可证配置失败时抛出异常
+     * @author daixu
+     */
+    @Override
+    public PlannedChange plan(CentralPublishConfig config) throws MojoExecutionException {
+        if (LicenseDetector.hasExistingLicense(config.getProject())) {
+            return new PlannedChange("license", getLicenseName(), null, PlanActionEnum.SKIP_EXISTING, "项目中已包含许可证配置");
+        }
+        return new PlannedChange("license", getLicenseName(), null, PlanActionEnum.ADD, null);
+    }
+
     @Override
     public int getOrder() {
         return 0; // 许可证配置优先于其他配置
@@ -38,10 +38,8 @@ public interface PluginStrategy extends MavenStrategy {
      */
     @Override
     default void configure(CentralPublishConfig config) throws MojoExecutionException {
-        // 插件策略的配置需依赖 PluginManagement 容器，因此默认不实现
         // 子类无需重写此方法，应通过 configurePlugin 完成配置
         configurePlugin(config);
-        throw new UnsupportedOperationException("请使用 configurePlugin(PluginManagement, CentralPublishConfig)");
     }
 
 }
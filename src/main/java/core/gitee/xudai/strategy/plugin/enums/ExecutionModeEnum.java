@@ -0,0 +1,77 @@
+package core.gitee.xudai.strategy.plugin.enums;
+
+/**
+ * 插件目标执行模式枚举
+ * @author daixu
+ */
+public enum ExecutionModeEnum {
+
+    /**
+     * 进程内执行：通过 BuildPluginManager 在当前 Maven 会话中直接执行 Mojo，无需启动新的 JVM。
+     */
+    IN_PROCESS("in-process"),
+
+    /**
+     * 回退模式：通过 Maven Invoker 启动新的 mvn 进程执行插件目标。
+     */
+    INVOKER("invoker"),
+
+    /**
+     * 批量回退模式：收集本模块所有插件目标，按顺序合并为一次 Maven Invoker 调用，每个模块只启动一个 mvn 进程。
+     */
+    INVOKER_BATCH("invoker-batch"),
+
+    /**
+     * 生命周期模式：不执行插件目标，由扩展在读取项目后将插件执行绑定到生命周期阶段，交给 Maven 在同一次构建中原生调度。
+     */
+    LIFECYCLE("lifecycle");
+
+    /**
+     * 进程内执行
+     */
+    public static final String IN_PROCESS_CONSTANTS = "in-process";
+
+    /**
+     * Maven Invoker 回退执行
+     */
+    public static final String INVOKER_CONSTANTS = "invoker";
+
+    /**
+     * Maven Invoker 批量回退执行
+     */
+    public static final String INVOKER_BATCH_CONSTANTS = "invoker-batch";
+
+    /**
+     * 绑定到生命周期，由 Maven 原生调度
+     */
+    public static final String LIFECYCLE_CONSTANTS = "lifecycle";
+
+    private final String value;
+
+    ExecutionModeEnum(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 根据配置值获取执行模式（未配置或无法识别时默认进程内执行）
+     * @param value 配置值
+     * @return 执行模式
+     * @author daixu
+     */
+    public static ExecutionModeEnum fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return IN_PROCESS;
+        }
+        for (ExecutionModeEnum mode : values()) {
+            if (mode.value.equalsIgnoreCase(value.trim()) || mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return IN_PROCESS;
+    }
+
+}
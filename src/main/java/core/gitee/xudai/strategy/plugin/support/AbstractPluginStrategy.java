@@ -2,10 +2,12 @@ package core.gitee.xudai.strategy.plugin.support;
 
 import core.gitee.xudai.strategy.plugin.api.PluginStrategy;
 import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.ProjectModelIndex;
+import core.gitee.xudai.strategy.core.enums.PlanActionEnum;
+import core.gitee.xudai.strategy.core.plan.PlannedChange;
 import core.gitee.xudai.strategy.plugin.enums.PluginEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Plugin;
-import org.apache.maven.model.PluginManagement;
 import org.apache.maven.plugin.MojoExecutionException;
 
 import java.util.Map;
@@ -99,43 +101,73 @@ public abstract class AbstractPluginStrategy implements PluginStrategy {
     @Override
     public void configurePlugin(CentralPublishConfig config) throws MojoExecutionException {
 
-        PluginManagement pluginManagement = config.getProject().getPluginManagement();
-
         // ✅ 1.获取子类的插件基础信息
         BasicPlugin basicPlugin = getBasicPlugin(config);
         if (basicPlugin == null) {
             throw wrapException("插件基础信息不能为空");
         }
 
-        // ✅ 2.检测工程中是否已包含该插件
-        boolean hasExistingPlugin = PluginDetector.hasExistingPlugin(
-                config.getProject(),
-                basicPlugin.getGroupId(),
-                basicPlugin.getArtifactId()
-        );
+        // ✅ 2~5. 修改项目模型（策略可能并行执行，模型修改按项目加锁）
+        synchronized (config.getProject()) {
+            ProjectModelIndex index = ProjectModelIndex.of(config);
 
-        if (hasExistingPlugin) {
-            log.info("[{}] 工程中已包含该插件，将使用工程中的配置，跳过插件策略", getPluginName());
-            return;
-        }
+            // ✅ 2.检测工程中是否已包含该插件（项目模型索引，每个模块只扫描一次）
+            boolean hasExistingPlugin = index.hasDeclaredPlugin(
+                    basicPlugin.getGroupId(),
+                    basicPlugin.getArtifactId()
+            );
 
-        // ✅ 3. 调用工具类创建插件对象
-        Plugin plugin = PluginConfigBuilder.createPlugin(basicPlugin);
+            if (hasExistingPlugin) {
+                log.info("[{}] 工程中已包含该插件，将使用工程中的配置，跳过插件策略", getPluginName());
+                return;
+            }
 
-        // ✅ 4.标记为扩展插件
-        if (basicPlugin.getExpandTags() != null && basicPlugin.getExpandTags()) {
-            plugin.setExtensions(true);
-        }
+            // ✅ 3. 调用工具类创建插件对象
+            Plugin plugin = PluginConfigBuilder.createPlugin(basicPlugin);
 
-        // ✅ 5. 添加插件到 PluginManagement
-        pluginManagement.addPlugin(plugin);
-        log.info("[{}] 已添加插件到 PluginManagement: {}", getPluginName(), basicPlugin.getArtifactId());
+            // ✅ 4.标记为扩展插件
+            if (basicPlugin.getExpandTags() != null && basicPlugin.getExpandTags()) {
+                plugin.setExtensions(true);
+            }
 
-        // ✅ 6. 调用工具类执行插件
-        MavenInvokerExecutor.execute(basicPlugin, getPluginName());
+            // ✅ 5. 添加插件到 PluginManagement（同时更新索引）
+            index.addManagedPlugin(plugin);
+            log.info("[{}] 已添加插件到 PluginManagement: {}", getPluginName(), basicPlugin.getArtifactId());
+        }
+
+        // ✅ 6. 执行插件（默认进程内执行，不可用时回退到 Maven Invoker；进程内执行时同一项目的插件目标按项目加锁串行执行）
+        PluginGoalExecutor.execute(basicPlugin, config, getPluginName());
         log.info("[{}] 插件执行完成: {}", getPluginName(), basicPlugin.getArtifactId());
     }
 
+    /**
+     * 预演插件配置：与 {@link #configurePlugin(CentralPublishConfig)} 的检测逻辑一致，但不添加插件、不执行插件目标
+     * @param config 中央仓库发布配置
+     * @return 预期修改
+     * @throws MojoExecutionException 插件基础信息无效时抛出异常
+     * @author daixu
+     */
+    @Override
+    public PlannedChange plan(CentralPublishConfig config) throws MojoExecutionException {
+
+        // ✅ 1.获取子类的插件基础信息（与执行时相同，缺少必要配置时同样失败）
+        BasicPlugin basicPlugin = getBasicPlugin(config);
+        if (basicPlugin == null) {
+            throw wrapException("插件基础信息不能为空");
+        }
+        String target = basicPlugin.getGroupId() + ":" + basicPlugin.getArtifactId() + ":" + basicPlugin.getVersion();
+
+        // ✅ 2.检测工程中是否已包含该插件（只读索引，不修改项目模型）
+        boolean hasExistingPlugin = ProjectModelIndex.of(config).hasDeclaredPlugin(
+                basicPlugin.getGroupId(),
+                basicPlugin.getArtifactId()
+        );
+        if (hasExistingPlugin) {
+            return new PlannedChange("plugin", target, null, PlanActionEnum.SKIP_EXISTING, "工程中已包含该插件");
+        }
+        return new PlannedChange("plugin", target, basicPlugin.getGoal(), PlanActionEnum.ADD, null);
+    }
+
     /**
      * 抽象方法：由子类提供具体的插件基础信息（强制子类实现差异化逻辑）
      */
@@ -77,9 +77,9 @@ public class AbstractPluginStrategy2 {
     /**
      * 检查工程是否已存在该插件（固定逻辑）
      */
-    private boolean hasExistingPlugin(CentralPublishConfig config) {
+    private boolean hasExistingPlugin(CentralPublishConfig config) throws MojoExecutionException {
         return PluginDetector.hasExistingPlugin(
-                config.getProject(),
+                config,
                 metadata.getGroupId(),
                 metadata.getArtifactId()
         );
@@ -0,0 +1,512 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.plugin.enums.PluginEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.api.ProjectScope;
+import org.apache.maven.api.SourceRoot;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 插件目标结果缓存（按内容寻址）
+ * 缓存键为有效输入的 SHA-256 指纹：POM 内容、插件坐标与目标、插件配置、源码与资源目录内容、已生成的主构件与附属构件；
+ * 缓存值为目标生成的附属构件（-sources.jar、-javadoc.jar），命中时直接还原到构建目录并重新挂载到项目，不再执行插件目标。
+ * 产物只取自目标自身：执行前后附属构件的差集与该目标的预期文件名，且只保留该目标会生成的分类器与类型，
+ * 并行执行的其他目标（如 source 与 javadoc）生成的文件不会混入当前目标的缓存条目
+ * 缓存按总大小限制，超出时按最近访问时间淘汰最久未使用的条目（LRU）
+ * 只缓存无外部副作用的打包目标；签名目标始终执行（签名依赖本机密钥与口令，缓存中不保存 .asc 签名），发布、部署类目标始终执行
+ * 默认不启用，需通过 goalCacheEnabled 显式开启
+ * @author daixu
+ */
+@Slf4j
+public class GoalResultCache {
+
+    /**
+     * 可缓存的插件（仅生成本地文件，无外部副作用；gpg 签名产物不缓存）
+     */
+    private static final Set<String> CACHEABLE_PLUGINS = Set.of(
+            PluginEnum.SOURCE.getArtifactId(),
+            PluginEnum.JAVADOC.getArtifactId());
+
+    /**
+     * 缓存条目清单文件名
+     */
+    private static final String MANIFEST = "manifest.properties";
+
+    /**
+     * 命中次数
+     */
+    private static final AtomicLong HITS = new AtomicLong();
+
+    /**
+     * 未命中次数
+     */
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    /**
+     * 缓存根目录
+     */
+    private final Path directory;
+
+    /**
+     * 缓存总大小上限（字节）
+     */
+    private final long maxSizeBytes;
+
+    public GoalResultCache(Path directory, long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * 根据配置创建缓存（未启用或插件不可缓存时返回 null）
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置
+     * @return 缓存实例
+     * @author daixu
+     */
+    public static GoalResultCache forGoal(BasicPlugin basicPlugin, CentralPublishConfig config) {
+        if (config == null || !config.isGoalCacheEnabled() || config.getProject() == null
+                || !CACHEABLE_PLUGINS.contains(basicPlugin.getArtifactId())) {
+            return null;
+        }
+        String dir = config.getGoalCacheDirectory();
+        Path path = dir == null || dir.isBlank()
+                ? Paths.get(System.getProperty("user.home"), ".m2", "central-publish", "cache")
+                : Paths.get(dir);
+        return new GoalResultCache(path, config.getGoalCacheMaxSizeMb() * 1024L * 1024L);
+    }
+
+    // ------------------------------ 指纹 ------------------------------
+
+    /**
+     * 计算插件目标的输入指纹
+     * @param basicPlugin 插件基础信息
+     * @param project 当前项目
+     * @return 十六进制 SHA-256 指纹
+     * @throws IOException 读取输入文件失败时抛出异常
+     * @author daixu
+     */
+    public String fingerprint(BasicPlugin basicPlugin, MavenProject project) throws IOException {
+        MessageDigest digest = newDigest();
+
+        // ✅ 1.POM 内容
+        updateFile(digest, "pom", project.getFile() != null ? project.getFile().toPath() : null);
+
+        // ✅ 2.插件坐标与目标
+        updateString(digest, "gav", basicPlugin.getGroupId() + ":" + basicPlugin.getArtifactId() + ":"
+                + basicPlugin.getVersion() + ":" + basicPlugin.getGoal());
+
+        // ✅ 3.插件配置（Xpp3Dom 与键值对配置）
+        updateString(digest, "configuration", basicPlugin.getConfiguration() != null ? basicPlugin.getConfiguration().toString() : "");
+        if (basicPlugin.getConfig() != null) {
+            updateString(digest, "config", new TreeMap<>(basicPlugin.getConfig()).toString());
+        }
+
+        // ✅ 4.源码与资源目录（主作用域下启用的全部源码根，含 Java 源码与资源）
+        List<Path> roots;
+        try (Stream<SourceRoot> stream = project.getEnabledSourceRoots(ProjectScope.MAIN, null)) {
+            roots = stream.map(SourceRoot::directory).filter(Objects::nonNull).sorted().collect(Collectors.toList());
+        }
+        for (Path root : roots) {
+            updateTree(digest, root);
+        }
+
+        // ✅ 5.已生成的主构件与附属构件
+        Artifact artifact = project.getArtifact();
+        if (artifact != null && artifact.getFile() != null && artifact.getFile().isFile()) {
+            updateFile(digest, "artifact", artifact.getFile().toPath());
+        }
+        for (Artifact attached : project.getAttachedArtifacts()) {
+            if (attached.getFile() != null && attached.getFile().isFile()) {
+                updateFile(digest, "attached:" + attached.getClassifier() + ":" + attached.getType(), attached.getFile().toPath());
+            }
+        }
+
+        return toHex(digest.digest());
+    }
+
+    private static void updateTree(MessageDigest digest, Path root) throws IOException {
+        if (root == null || !Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            updateFile(digest, root.relativize(file).toString().replace('\\', '/'), file);
+        }
+    }
+
+    private static void updateFile(MessageDigest digest, String name, Path file) throws IOException {
+        updateString(digest, "file", name);
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void updateString(MessageDigest digest, String name, String value) {
+        digest.update(name.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    // ------------------------------ 读写 ------------------------------
+
+    /**
+     * 从缓存还原插件目标的产物
+     * @param key 输入指纹
+     * @param config 中央仓库发布配置
+     * @return 命中并还原成功返回 true，否则返回 false
+     * @author daixu
+     */
+    public boolean restore(String key, CentralPublishConfig config) {
+        Path entry = directory.resolve(key);
+        Path manifestFile = entry.resolve(MANIFEST);
+        if (!Files.isRegularFile(manifestFile)) {
+            MISSES.incrementAndGet();
+            return false;
+        }
+
+        try {
+            Properties manifest = new Properties();
+            try (InputStream in = Files.newInputStream(manifestFile)) {
+                manifest.load(in);
+            }
+            MavenProject project = config.getProject();
+            Path buildDirectory = Paths.get(project.getBuild().getDirectory());
+            Files.createDirectories(buildDirectory);
+
+            int count = Integer.parseInt(manifest.getProperty("count", "0"));
+            for (int i = 0; i < count; i++) {
+                String fileName = manifest.getProperty(i + ".file");
+                Path target = buildDirectory.resolve(fileName);
+                Files.copy(entry.resolve(fileName), target, StandardCopyOption.REPLACE_EXISTING);
+                String type = manifest.getProperty(i + ".type");
+                String classifier = manifest.getProperty(i + ".classifier");
+                if (isAttached(project, type, classifier)) {
+                    log.debug("附属构件已挂载，仅还原文件: {}", fileName);
+                    continue;
+                }
+                attach(config, type, classifier, target.toFile());
+            }
+
+            // 更新访问时间，供 LRU 淘汰使用
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            HITS.incrementAndGet();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("还原插件目标缓存失败，将重新执行: {}", e.getMessage());
+            MISSES.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * 将插件目标的产物写入缓存
+     * @param key 输入指纹
+     * @param outputs 产物
+     * @author daixu
+     */
+    public void store(String key, List<CachedOutput> outputs) {
+        if (outputs.isEmpty()) {
+            return;
+        }
+        Path entry = directory.resolve(key);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempDirectory(directory, key + ".tmp");
+            Properties manifest = new Properties();
+            manifest.setProperty("count", String.valueOf(outputs.size()));
+            for (int i = 0; i < outputs.size(); i++) {
+                CachedOutput output = outputs.get(i);
+                Files.copy(output.getFile().toPath(), temp.resolve(output.getFile().getName()), StandardCopyOption.REPLACE_EXISTING);
+                manifest.setProperty(i + ".file", output.getFile().getName());
+                manifest.setProperty(i + ".type", output.getType());
+                manifest.setProperty(i + ".classifier", output.getClassifier() != null ? output.getClassifier() : "");
+            }
+            try (OutputStream out = Files.newOutputStream(temp.resolve(MANIFEST))) {
+                manifest.store(out, null);
+            }
+            // 原子替换，避免并发构建读取到不完整的条目
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                deleteRecursively(temp);
+            }
+            temp = null;
+            evict();
+        } catch (IOException e) {
+            log.warn("写入插件目标缓存失败: {}", e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteRecursively(temp);
+            }
+        }
+    }
+
+    /**
+     * 淘汰最久未使用的条目，直至缓存总大小不超过上限
+     * @throws IOException 读取缓存目录失败时抛出异常
+     * @author daixu
+     */
+    private void evict() throws IOException {
+        if (maxSizeBytes <= 0) {
+            return;
+        }
+        Map<Path, Long> sizes = new HashMap<>();
+        List<Path> entries;
+        try (Stream<Path> stream = Files.list(directory)) {
+            entries = stream.filter(Files::isDirectory).filter(p -> !p.getFileName().toString().contains(".tmp")).collect(Collectors.toList());
+        }
+        long total = 0;
+        for (Path entry : entries) {
+            long size = sizeOf(entry);
+            sizes.put(entry, size);
+            total += size;
+        }
+        if (total <= maxSizeBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(GoalResultCache::lastAccess));
+        for (Path entry : entries) {
+            if (total <= maxSizeBytes) {
+                break;
+            }
+            deleteRecursively(entry);
+            total -= sizes.get(entry);
+            log.debug("淘汰插件目标缓存: {}", entry.getFileName());
+        }
+    }
+
+    // ------------------------------ 产物收集 ------------------------------
+
+    /**
+     * 收集插件目标新生成的产物
+     * 1. 执行前后项目附属构件的差集中属于当前目标的构件（进程内执行时由插件挂载）
+     * 2. 当前目标的预期产物文件中执行开始后生成的文件（Invoker 子进程执行时无法挂载到当前项目）
+     * 两者都只保留当前目标会生成的分类器与类型，不扫描构建目录
+     * @param basicPlugin 插件基础信息
+     * @param project 当前项目
+     * @param attachedBefore 执行前的附属构件
+     * @param startMillis 执行开始时间
+     * @return 产物
+     * @author daixu
+     */
+    public static List<CachedOutput> collectOutputs(BasicPlugin basicPlugin, MavenProject project,
+                                                    List<Artifact> attachedBefore, long startMillis) {
+        Map<String, CachedOutput> outputs = new LinkedHashMap<>();
+        for (Artifact attached : project.getAttachedArtifacts()) {
+            if (!attachedBefore.contains(attached) && attached.getFile() != null && attached.getFile().isFile()
+                    && producedBy(basicPlugin, attached.getType(), attached.getClassifier())) {
+                CachedOutput output = new CachedOutput(attached.getFile(), attached.getType(), attached.getClassifier());
+                outputs.put(output.key(), output);
+            }
+        }
+
+        for (CachedOutput expected : expectedOutputs(basicPlugin, project)) {
+            File file = expected.getFile();
+            if (!outputs.containsKey(expected.key()) && file.isFile() && file.lastModified() >= startMillis) {
+                outputs.put(expected.key(), expected);
+            }
+        }
+        return new ArrayList<>(outputs.values());
+    }
+
+    /**
+     * 判断附属构件是否由当前插件目标生成（source 生成 sources 分类器，javadoc 生成 javadoc 分类器，.asc 签名不属于任何可缓存目标）
+     * @param basicPlugin 插件基础信息
+     * @param type 构件类型
+     * @param classifier 分类器
+     * @return 是返回 true，否则返回 false
+     * @author daixu
+     */
+    static boolean producedBy(BasicPlugin basicPlugin, String type, String classifier) {
+        String artifactId = basicPlugin.getArtifactId();
+        if (type != null && type.endsWith(".asc") || classifier == null) {
+            return false;
+        }
+        if (PluginEnum.SOURCE.getArtifactId().equals(artifactId)) {
+            return classifier.equals("sources") || classifier.equals("test-sources");
+        }
+        if (PluginEnum.JAVADOC.getArtifactId().equals(artifactId)) {
+            return classifier.equals("javadoc") || classifier.equals("test-javadoc");
+        }
+        return false;
+    }
+
+    /**
+     * 当前插件目标的预期产物（按 Maven 默认命名规则推断的文件名）
+     * 1. source：${finalName}-sources.jar
+     * 2. javadoc：${finalName}-javadoc.jar
+     * @param basicPlugin 插件基础信息
+     * @param project 当前项目
+     * @return 预期产物（文件不一定存在）
+     * @author daixu
+     */
+    static List<CachedOutput> expectedOutputs(BasicPlugin basicPlugin, MavenProject project) {
+        File buildDirectory = new File(project.getBuild().getDirectory());
+        String finalName = project.getBuild().getFinalName() != null ? project.getBuild().getFinalName()
+                : project.getArtifactId() + "-" + project.getVersion();
+        String artifactId = basicPlugin.getArtifactId();
+        List<CachedOutput> expected = new ArrayList<>();
+
+        if (PluginEnum.SOURCE.getArtifactId().equals(artifactId)) {
+            expected.add(new CachedOutput(new File(buildDirectory, finalName + "-sources.jar"), "jar", "sources"));
+        } else if (PluginEnum.JAVADOC.getArtifactId().equals(artifactId)) {
+            expected.add(new CachedOutput(new File(buildDirectory, finalName + "-javadoc.jar"), "jar", "javadoc"));
+        }
+        return expected;
+    }
+
+    private static boolean isAttached(MavenProject project, String type, String classifier) {
+        String normalized = classifier == null || classifier.isEmpty() ? null : classifier;
+        for (Artifact attached : project.getAttachedArtifacts()) {
+            if (Objects.equals(attached.getType(), type) && Objects.equals(attached.getClassifier(), normalized)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将还原的产物挂载到项目（优先使用 MavenProjectHelper）
+     */
+    private static void attach(CentralPublishConfig config, String type, String classifier, File file) {
+        MavenProjectHelper helper = config.getProjectHelper();
+        if (helper == null) {
+            log.debug("未注入 MavenProjectHelper，仅还原文件: {}", file.getName());
+            return;
+        }
+        if (classifier == null || classifier.isEmpty()) {
+            helper.attachArtifact(config.getProject(), type, file);
+        } else {
+            helper.attachArtifact(config.getProject(), type, classifier, file);
+        }
+    }
+
+    // ------------------------------ 统计与工具方法 ------------------------------
+
+    /**
+     * 输出缓存命中统计并清零
+     * @author daixu
+     */
+    public static void logSummary() {
+        long hits = HITS.getAndSet(0);
+        long misses = MISSES.getAndSet(0);
+        if (hits + misses > 0) {
+            log.info("插件目标缓存：命中 {} 次，未命中 {} 次，命中率 {}%", hits, misses, hits * 100 / (hits + misses));
+        }
+    }
+
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    private static long lastAccess(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static long sizeOf(Path entry) throws IOException {
+        try (Stream<Path> stream = Files.walk(entry)) {
+            return stream.filter(Files::isRegularFile).mapToLong(p -> p.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteRecursively(Path path) {
+        try (Stream<Path> stream = Files.walk(path)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            log.debug("删除缓存目录失败: {}", path, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("当前 JDK 不支持 SHA-256", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 缓存的单个产物
+     */
+    public static class CachedOutput {
+
+        private final File file;
+
+        private final String type;
+
+        private final String classifier;
+
+        public CachedOutput(File file, String type, String classifier) {
+            this.file = file;
+            this.type = type;
+            this.classifier = classifier;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getClassifier() {
+            return classifier;
+        }
+
+        /**
+         * 产物标识（类型 + 分类器，同一目标的产物不重复）
+         */
+        String key() {
+            return type + ":" + (classifier != null ? classifier : "");
+        }
+
+    }
+
+}
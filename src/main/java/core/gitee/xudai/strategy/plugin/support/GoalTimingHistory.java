@@ -0,0 +1,187 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 插件目标历史耗时：按 artifactId:goal 记录实际执行耗时的指数移动平均值，持久化到 ~/.m2/central-publish/timings.properties，
+ * 供发布计划（central-publish:plan）估算执行成本
+ * 1. 读取：首次使用时加载一次，之后只读内存
+ * 2. 记录：插件目标实际执行（进程内或 Invoker）后记录，命中结果缓存、生命周期模式不记录
+ * 3. 保存：构建结束时写回（原子替换，并发构建以最后写入者为准）
+ * @author daixu
+ */
+@Slf4j
+public final class GoalTimingHistory {
+
+    /**
+     * 新样本权重（越大越偏向最近的耗时）
+     */
+    private static final double ALPHA = 0.3;
+
+    private static final GoalTimingHistory DEFAULT =
+            new GoalTimingHistory(Paths.get(System.getProperty("user.home"), ".m2", "central-publish", "timings.properties"));
+
+    /**
+     * 历史文件
+     */
+    private final Path file;
+
+    /**
+     * artifactId:goal → 耗时
+     */
+    private volatile Map<String, Timing> timings;
+
+    /**
+     * 是否有未保存的记录
+     */
+    private volatile boolean dirty;
+
+    public GoalTimingHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 默认历史（所有模块、构建共享）
+     * @return 历史耗时
+     */
+    public static GoalTimingHistory getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 记录一次实际执行耗时
+     * @param artifactId 插件 artifactId
+     * @param goal 插件目标
+     * @param nanos 耗时（纳秒）
+     * @author daixu
+     */
+    public void record(String artifactId, String goal, long nanos) {
+        if (artifactId == null || goal == null) {
+            return;
+        }
+        double millis = nanos / 1_000_000.0;
+        timings().compute(key(artifactId, goal), (key, previous) -> previous == null
+                ? new Timing(millis, 1)
+                : new Timing(previous.millis + ALPHA * (millis - previous.millis), previous.samples + 1));
+        dirty = true;
+    }
+
+    /**
+     * 估算插件目标耗时
+     * @param artifactId 插件 artifactId
+     * @param goal 插件目标
+     * @return 估算耗时（毫秒），没有历史记录时返回 -1
+     * @author daixu
+     */
+    public long estimateMillis(String artifactId, String goal) {
+        if (artifactId == null || goal == null) {
+            return -1;
+        }
+        Timing timing = timings().get(key(artifactId, goal));
+        return timing != null ? Math.round(timing.millis) : -1;
+    }
+
+    /**
+     * 写回历史文件（没有新记录时不写）
+     * @author daixu
+     */
+    public void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        Properties properties = new Properties();
+        for (Map.Entry<String, Timing> entry : timings().entrySet()) {
+            properties.setProperty(entry.getKey(), String.format(Locale.ROOT, "%.1f", entry.getValue().millis) + "," + entry.getValue().samples);
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), "timings", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            // 原子替换，避免并发构建读取到不完整的历史
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            log.warn("写入插件目标历史耗时失败: {}", e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 临时文件删除失败不影响构建
+                }
+            }
+        }
+    }
+
+    private Map<String, Timing> timings() {
+        Map<String, Timing> loaded = timings;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = timings;
+                if (loaded == null) {
+                    loaded = load();
+                    timings = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, Timing> load() {
+        Map<String, Timing> loaded = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("读取插件目标历史耗时失败，忽略历史记录: {}", e.getMessage());
+            return loaded;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String[] parts = properties.getProperty(key).split(",");
+            try {
+                loaded.put(key, new Timing(Double.parseDouble(parts[0]), parts.length > 1 ? Long.parseLong(parts[1]) : 1));
+            } catch (NumberFormatException e) {
+                log.debug("忽略无效的历史耗时记录: {}={}", key, properties.getProperty(key));
+            }
+        }
+        return loaded;
+    }
+
+    private static String key(String artifactId, String goal) {
+        return artifactId + ":" + goal;
+    }
+
+    /**
+     * 单个插件目标的耗时（不可变）
+     */
+    private static final class Timing {
+
+        /** 耗时移动平均值（毫秒） */
+        private final double millis;
+
+        /** 样本数 */
+        private final long samples;
+
+        private Timing(double millis, long samples) {
+            this.millis = millis;
+            this.samples = samples;
+        }
+    }
+
+}
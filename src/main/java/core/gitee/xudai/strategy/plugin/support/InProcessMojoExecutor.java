@@ -0,0 +1,138 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * 进程内 Mojo 执行器：通过 BuildPluginManager 在当前 Maven 会话中执行插件目标
+ * 与 MavenInvokerExecutor 相比，不再为每个插件目标启动新的 JVM，也不会重复读取 POM
+ * @author daixu
+ */
+@Slf4j
+public class InProcessMojoExecutor {
+
+    /**
+     * 判断当前配置是否具备进程内执行的条件（会话与插件管理器均已注入）
+     * @param config 中央仓库发布配置
+     * @return 具备条件返回 true，否则返回 false
+     * @author daixu
+     */
+    public static boolean isAvailable(CentralPublishConfig config) {
+        return config != null
+                && config.getSession() != null
+                && config.getBuildPluginManager() != null
+                && config.getProject() != null;
+    }
+
+    /**
+     * 在当前会话中执行插件目标
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置（提供 MavenSession、BuildPluginManager 与当前项目）
+     * @param strategyName 调用当前插件的策略名称（用于异常定位）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    public static void execute(BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName) throws MojoExecutionException {
+
+        if (!isAvailable(config)) {
+            throw new MojoExecutionException("[" + strategyName + "] 当前环境不支持进程内执行：缺少 MavenSession 或 BuildPluginManager");
+        }
+
+        MavenSession session = config.getSession();
+        BuildPluginManager pluginManager = config.getBuildPluginManager();
+        MavenProject project = config.getProject();
+
+        Plugin plugin = new Plugin();
+        plugin.setGroupId(basicPlugin.getGroupId());
+        plugin.setArtifactId(basicPlugin.getArtifactId());
+        plugin.setVersion(basicPlugin.getVersion());
+
+        // 执行期间将当前项目切换为目标项目，执行完成后恢复
+        MavenProject previousProject = session.getCurrentProject();
+        try {
+            session.setCurrentProject(project);
+
+            // ✅ 1.解析 Mojo 描述符（插件在本次会话中只解析一次，由 Maven 自身缓存）
+            MojoDescriptor mojoDescriptor = pluginManager.getMojoDescriptor(
+                    plugin,
+                    basicPlugin.getGoal(),
+                    project.getRemotePluginRepositories(),
+                    session.getRepositorySession());
+
+            // ✅ 2.合并用户配置与 Mojo 默认配置（用户配置优先）
+            Xpp3Dom configuration = mergeWithDefaults(basicPlugin.getConfiguration(), mojoDescriptor);
+
+            // ✅ 3.在当前会话中执行
+            MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, configuration);
+            log.info("[{}] 进程内执行: {}:{}", strategyName, basicPlugin.getArtifactId(), basicPlugin.getGoal());
+            pluginManager.executeMojo(session, mojoExecution);
+
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException("[" + strategyName + "] 进程内执行插件失败: " + basicPlugin.getArtifactId(), e);
+        } finally {
+            session.setCurrentProject(previousProject);
+        }
+    }
+
+    /**
+     * 将用户配置与 Mojo 描述符中的默认配置合并
+     * @param configuration 用户配置（根节点为 configuration，可为空）
+     * @param mojoDescriptor Mojo 描述符
+     * @return 合并后的配置
+     * @author daixu
+     */
+    private static Xpp3Dom mergeWithDefaults(Xpp3Dom configuration, MojoDescriptor mojoDescriptor) {
+
+        PlexusConfiguration mojoConfiguration = mojoDescriptor.getMojoConfiguration();
+        Xpp3Dom defaults = mojoConfiguration != null ? toXpp3Dom(mojoConfiguration) : new Xpp3Dom("configuration");
+
+        if (configuration == null) {
+            return defaults;
+        }
+
+        // 兼容以 executions 为根节点的旧配置：取第一个 execution 下的 configuration
+        Xpp3Dom userConfiguration = configuration;
+        if ("executions".equals(configuration.getName())) {
+            Xpp3Dom execution = configuration.getChild("execution");
+            userConfiguration = execution != null ? execution.getChild("configuration") : null;
+            if (userConfiguration == null) {
+                return defaults;
+            }
+        }
+
+        return Xpp3Dom.mergeXpp3Dom(new Xpp3Dom(userConfiguration), defaults);
+    }
+
+    /**
+     * 将 PlexusConfiguration 转换为 Xpp3Dom
+     * @param source PlexusConfiguration 节点
+     * @return Xpp3Dom 节点
+     * @author daixu
+     */
+    private static Xpp3Dom toXpp3Dom(PlexusConfiguration source) {
+        Xpp3Dom result = new Xpp3Dom(source.getName());
+        result.setValue(source.getValue(null));
+        for (String name : source.getAttributeNames()) {
+            String value = source.getAttribute(name, null);
+            if (value != null) {
+                result.setAttribute(name, value);
+            }
+        }
+        for (PlexusConfiguration child : source.getChildren()) {
+            result.addChild(toXpp3Dom(child));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,115 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.ProjectModelIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.codehaus.plexus.util.StringUtils;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import java.util.Map;
+
+/**
+ * 生命周期绑定工具类：扩展模式下不执行插件目标，而是将插件执行写入项目的 build/plugins，
+ * 由 Maven 在同一次构建中按生命周期阶段原生调度（无需启动新进程，也无需在 deploy 阶段补执行）
+ * 未指定阶段的执行使用插件目标自身声明的默认阶段（source:jar-no-fork、javadoc:jar 为 package，gpg:sign 为 verify，
+ * central-publishing:publish 为 deploy）
+ * @author daixu
+ */
+@Slf4j
+public class LifecyclePluginBinder {
+
+    /**
+     * artifactId → 未配置目标时绑定的默认目标
+     */
+    private static final Map<String, String> DEFAULT_GOALS = Map.of(
+            "maven-gpg-plugin", "sign",
+            "central-publishing-maven-plugin", "publish"
+    );
+
+    /**
+     * 执行 ID 前缀（便于在构建日志中区分注入的执行）
+     */
+    private static final String EXECUTION_ID_PREFIX = "central-publish-";
+
+    /**
+     * 将插件执行绑定到项目生命周期（同一插件的同一执行 ID 只绑定一次）
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置
+     * @param strategyName 策略名称（用于日志）
+     * @throws MojoExecutionException 构建项目模型索引失败时抛出异常
+     * @author daixu
+     */
+    public static void bind(BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName) throws MojoExecutionException {
+
+        synchronized (config.getProject()) {
+            // ✅ 1.获取或创建 build/plugins 中的插件
+            Plugin plugin = getOrCreatePlugin(ProjectModelIndex.of(config), basicPlugin);
+            Xpp3Dom configuration = PluginConfigBuilder.createConfiguration(basicPlugin.getConfig());
+            String goal = StringUtils.isNotBlank(basicPlugin.getGoal())
+                    ? basicPlugin.getGoal()
+                    : DEFAULT_GOALS.get(basicPlugin.getArtifactId());
+
+            // ✅ 2.没有可绑定的目标（如部署插件），只写入插件级配置
+            if (goal == null) {
+                if (configuration != null) {
+                    plugin.setConfiguration(Xpp3Dom.mergeXpp3Dom(configuration, (Xpp3Dom) plugin.getConfiguration()));
+                }
+                log.info("[{}] 已写入插件配置: {}", strategyName, basicPlugin.getArtifactId());
+                return;
+            }
+
+            // ✅ 3.绑定执行（已存在同 ID 的执行时不重复绑定）
+            String executionId = StringUtils.isNotBlank(basicPlugin.getExecutionId())
+                    ? basicPlugin.getExecutionId()
+                    : EXECUTION_ID_PREFIX + goal;
+            for (PluginExecution existing : plugin.getExecutions()) {
+                if (executionId.equals(existing.getId())) {
+                    log.debug("[{}] 执行已存在，跳过绑定: {}", strategyName, executionId);
+                    return;
+                }
+            }
+
+            PluginExecution execution = new PluginExecution();
+            execution.setId(executionId);
+            execution.addGoal(goal);
+            if (StringUtils.isNotBlank(basicPlugin.getPhase())) {
+                execution.setPhase(basicPlugin.getPhase());
+            }
+            if (configuration != null) {
+                execution.setConfiguration(configuration);
+            }
+            plugin.addExecution(execution);
+            log.info("[{}] 已绑定到生命周期: {}:{}（{}）", strategyName, basicPlugin.getArtifactId(), goal,
+                    execution.getPhase() != null ? execution.getPhase() : "默认阶段");
+        }
+    }
+
+    /**
+     * 获取 build/plugins 中的插件，不存在时按基础信息创建
+     * @param index 项目模型索引
+     * @param basicPlugin 插件基础信息
+     * @return 插件对象
+     * @author daixu
+     */
+    private static Plugin getOrCreatePlugin(ProjectModelIndex index, BasicPlugin basicPlugin) {
+        // 不使用 getPluginsAsMap()，其结果会被缓存，不能反映刚添加的插件；索引在添加插件时同步更新
+        Plugin existing = index.getBuildPlugin(basicPlugin.getGroupId(), basicPlugin.getArtifactId());
+        if (existing != null) {
+            return existing;
+        }
+
+        Plugin plugin = new Plugin();
+        plugin.setGroupId(basicPlugin.getGroupId());
+        plugin.setArtifactId(basicPlugin.getArtifactId());
+        plugin.setVersion(basicPlugin.getVersion());
+        if (basicPlugin.getExpandTags() != null && basicPlugin.getExpandTags()) {
+            plugin.setExtensions(true);
+        }
+        index.addBuildPlugin(plugin);
+        return plugin;
+    }
+
+}
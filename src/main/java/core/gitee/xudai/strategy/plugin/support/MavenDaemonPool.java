@@ -0,0 +1,314 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import core.gitee.xudai.metrics.RunMetrics;
+import core.gitee.xudai.strategy.core.enums.ConcurrencyModeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.shared.invoker.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maven 守护进程池：通过 Maven Daemon（mvnd）执行需要启动新进程的插件目标
+ * mvnd 客户端通过本地 socket 将请求转发给常驻的守护进程，守护进程中已加载的类、Plexus/Sisu 容器和 JIT 编译结果可被复用，
+ * 避免 DefaultInvoker 每次冷启动 JVM 的开销；池大小只限制同时通过 mvnd 执行的调用数量，
+ * 守护进程的创建与保留由 mvnd 自身管理（忙时新建，空闲超过 idleTimeout 后回收），本类不控制常驻的守护进程数量
+ * 未启用或健康检查失败时回退到普通 mvn 冷启动，两种方式的耗时分别统计
+ * @author daixu
+ */
+@Slf4j
+public class MavenDaemonPool {
+
+    /**
+     * 健康检查结果缓存时间（毫秒）
+     */
+    private static final long HEALTH_CHECK_TTL_MILLIS = 60_000L;
+
+    /**
+     * 健康检查超时时间（秒）
+     */
+    private static final long HEALTH_CHECK_TIMEOUT_SECONDS = 10L;
+
+    /**
+     * 冷启动（DefaultInvoker 启动 mvn）耗时统计
+     */
+    private static final PluginGoalExecutor.ModeStats COLD_STATS = new PluginGoalExecutor.ModeStats();
+
+    /**
+     * 守护进程池执行耗时统计
+     */
+    private static final PluginGoalExecutor.ModeStats WARM_STATS = new PluginGoalExecutor.ModeStats();
+
+    /**
+     * 限制同时通过 mvnd 执行的调用数量
+     */
+    private static Semaphore permits;
+
+    /**
+     * 当前信号量对应的池大小
+     */
+    private static int permitsSize;
+
+    /**
+     * 最近一次健康检查时间
+     */
+    private static long lastHealthCheckMillis;
+
+    /**
+     * 最近一次健康检查结果
+     */
+    private static boolean lastHealthy;
+
+    /**
+     * 执行 Maven 调用请求：守护进程池可用时通过 mvnd 执行，否则冷启动 mvn 执行
+     * @param request 调用请求
+     * @param config 中央仓库发布配置（可为空，为空时冷启动执行）
+     * @return 执行结果
+     * @throws MavenInvocationException 调用失败时抛出异常
+     * @throws InterruptedException 等待守护进程时被中断
+     * @author daixu
+     */
+    public static InvocationResult execute(InvocationRequest request, CentralPublishConfig config)
+            throws MavenInvocationException, InterruptedException {
+        String goals = request.getGoals() != null ? String.join(" ", request.getGoals()) : "";
+        try (RunMetrics.Span span = RunMetrics.start(MetricCategoryEnum.FORK, goals, config != null ? config.getProject() : null)) {
+            try {
+                InvocationResult result = dispatch(request, config);
+                if (result.getExitCode() != 0) {
+                    span.failed();
+                }
+                return result;
+            } catch (MavenInvocationException | InterruptedException | RuntimeException e) {
+                span.failed();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 分发调用请求：守护进程池可用时通过 mvnd 执行，否则冷启动 mvn 执行
+     */
+    private static InvocationResult dispatch(InvocationRequest request, CentralPublishConfig config)
+            throws MavenInvocationException, InterruptedException {
+
+        File mvnd = isEnabled(config) ? resolveExecutable(config.getMvndExecutable()) : null;
+        if (mvnd == null || !isHealthy(mvnd)) {
+            return executeCold(request, config);
+        }
+
+        Semaphore semaphore = getPermits(config.getDaemonPoolSize());
+        semaphore.acquire();
+        long start = System.nanoTime();
+        try {
+            // 空闲守护进程的回收时间交给 mvnd 自身管理
+            Properties properties = request.getProperties() != null ? request.getProperties() : new Properties();
+            if (config.getDaemonIdleTimeout() != null && !config.getDaemonIdleTimeout().isBlank()) {
+                properties.setProperty("mvnd.idleTimeout", config.getDaemonIdleTimeout());
+            }
+            request.setProperties(properties);
+
+            return invoke(request, mvnd, config);
+        } finally {
+            WARM_STATS.record(System.nanoTime() - start);
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 冷启动 mvn 执行调用请求
+     * @param request 调用请求
+     * @param config 中央仓库发布配置（可为空）
+     * @return 执行结果
+     * @throws MavenInvocationException 调用失败时抛出异常
+     * @throws InterruptedException 等待子进程时被中断
+     * @author daixu
+     */
+    private static InvocationResult executeCold(InvocationRequest request, CentralPublishConfig config)
+            throws MavenInvocationException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            return invoke(request, null, config);
+        } finally {
+            COLD_STATS.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 启动子进程执行调用请求（虚拟线程模式下由虚拟线程读取子进程输出）
+     * @param request 调用请求
+     * @param mavenExecutable Maven 可执行文件（为空时使用默认 mvn）
+     * @param config 中央仓库发布配置（可为空）
+     * @return 执行结果
+     * @throws MavenInvocationException 调用失败时抛出异常
+     * @throws InterruptedException 等待子进程时被中断
+     * @author daixu
+     */
+    private static InvocationResult invoke(InvocationRequest request, File mavenExecutable, CentralPublishConfig config)
+            throws MavenInvocationException, InterruptedException {
+        if (config != null && ConcurrencyModeEnum.fromValue(config.getConcurrencyMode()) == ConcurrencyModeEnum.VIRTUAL) {
+            return VirtualThreadProcessRunner.execute(request, mavenExecutable);
+        }
+        Invoker invoker = new DefaultInvoker();
+        if (mavenExecutable != null) {
+            invoker.setMavenExecutable(mavenExecutable);
+        }
+        return invoker.execute(request);
+    }
+
+    /**
+     * 是否启用守护进程池（池大小大于 0 时启用）
+     * @param config 中央仓库发布配置
+     * @return 启用返回 true，否则返回 false
+     * @author daixu
+     */
+    public static boolean isEnabled(CentralPublishConfig config) {
+        return config != null && config.getDaemonPoolSize() > 0;
+    }
+
+    /**
+     * 获取与池大小对应的信号量（池大小变化时重新创建）
+     * @param size 池大小
+     * @return 信号量
+     * @author daixu
+     */
+    private static synchronized Semaphore getPermits(int size) {
+        if (permits == null || permitsSize != size) {
+            permits = new Semaphore(size, true);
+            permitsSize = size;
+        }
+        return permits;
+    }
+
+    /**
+     * 检查 mvnd 是否可用（执行 mvnd --status，结果在缓存时间内复用）
+     * @param mvnd mvnd 可执行文件
+     * @return 可用返回 true，否则返回 false
+     * @author daixu
+     */
+    private static synchronized boolean isHealthy(File mvnd) {
+        long now = System.currentTimeMillis();
+        if (lastHealthCheckMillis > 0 && now - lastHealthCheckMillis < HEALTH_CHECK_TTL_MILLIS) {
+            return lastHealthy;
+        }
+
+        boolean healthy = false;
+        try {
+            Process process = new ProcessBuilder(mvnd.getAbsolutePath(), "--status")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor(HEALTH_CHECK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                healthy = process.exitValue() == 0;
+            } else {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("mvnd 健康检查失败", e);
+        }
+
+        if (!healthy) {
+            log.warn("Maven 守护进程不可用（{}），回退到冷启动 mvn 执行", mvnd.getAbsolutePath());
+        }
+        lastHealthCheckMillis = now;
+        lastHealthy = healthy;
+        return healthy;
+    }
+
+    /**
+     * 解析 mvnd 可执行文件（绝对路径直接使用，否则从 PATH 中查找）
+     * @param executable 可执行文件名称或路径
+     * @return 可执行文件，找不到时返回 null
+     * @author daixu
+     */
+    private static File resolveExecutable(String executable) {
+        String name = executable == null || executable.isBlank() ? "mvnd" : executable.trim();
+        boolean windows = System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+        File file = new File(name);
+        if (file.isAbsolute()) {
+            return findExecutable(file.getParentFile(), file.getName(), windows);
+        }
+
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return null;
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            File candidate = findExecutable(new File(dir), name, windows);
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+        log.warn("未在 PATH 中找到 Maven 守护进程可执行文件: {}", name);
+        return null;
+    }
+
+    /**
+     * 在目录中查找可执行文件：Windows 下未指定扩展名时依次查找 mvnd.exe（原生客户端）与 mvnd.cmd（脚本客户端）
+     * @param dir 目录
+     * @param name 文件名
+     * @param windows 是否为 Windows
+     * @return 可执行文件，找不到时返回 null
+     * @author daixu
+     */
+    static File findExecutable(File dir, String name, boolean windows) {
+        String lowerName = name.toLowerCase();
+        boolean hasExtension = lowerName.endsWith(".exe") || lowerName.endsWith(".cmd") || lowerName.endsWith(".bat");
+        List<String> names = windows && !hasExtension
+                ? List.of(name + ".exe", name + ".cmd")
+                : List.of(name);
+        for (String candidateName : names) {
+            File candidate = new File(dir, candidateName);
+            if (candidate.isFile() && candidate.canExecute()) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 输出冷启动与守护进程执行的耗时对比并清零
+     * @author daixu
+     */
+    public static void logSummary() {
+        logStats("冷启动 mvn", COLD_STATS);
+        logStats("守护进程 mvnd", WARM_STATS);
+    }
+
+    private static void logStats(String name, PluginGoalExecutor.ModeStats stats) {
+        if (stats.getCount() == 0) {
+            return;
+        }
+        log.info("{}：共执行 {} 次，平均 {} ms，最长 {} ms",
+                name,
+                stats.getCount(),
+                stats.getTotalNanos() / stats.getCount() / 1_000_000,
+                stats.getMaxNanos() / 1_000_000);
+        stats.reset();
+    }
+
+    /**
+     * 获取冷启动耗时统计
+     * @return 统计信息
+     * @author daixu
+     */
+    public static PluginGoalExecutor.ModeStats getColdStats() {
+        return COLD_STATS;
+    }
+
+    /**
+     * 获取守护进程执行耗时统计
+     * @return 统计信息
+     * @author daixu
+     */
+    public static PluginGoalExecutor.ModeStats getWarmStats() {
+        return WARM_STATS;
+    }
+
+}
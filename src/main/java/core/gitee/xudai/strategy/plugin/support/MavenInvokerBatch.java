@@ -0,0 +1,254 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.shared.invoker.*;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * Maven Invoker 批量执行器：收集同一模块中各插件策略的目标，按加入顺序合并为尽量少的 Maven Invoker 调用
+ * 插件目标的配置以用户属性（-D）传递，对同一次调用中的所有目标生效：只有属性集合（键和取值）完全相同的相邻目标
+ * 才合并为一次调用，否则从该目标开始另起一次调用；每个目标拿到的恰好是自己的配置，不会丢弃属性，
+ * 也不会收到只属于其他目标的属性
+ * @author daixu
+ */
+@Slf4j
+public class MavenInvokerBatch {
+
+    /**
+     * 当前模块的 POM 文件
+     */
+    private File pomFile;
+
+    /**
+     * 按加入顺序保存的插件目标
+     */
+    private final List<BatchEntry> entries = new ArrayList<>();
+
+    /**
+     * 添加待执行的插件目标
+     * @param basicPlugin 插件基础信息
+     * @param strategyName 调用当前插件的策略名称（用于异常定位）
+     * @throws MojoExecutionException 插件目标与已收集目标不属于同一 POM 时抛出异常
+     * @author daixu
+     */
+    public synchronized void add(BasicPlugin basicPlugin, String strategyName) throws MojoExecutionException {
+        File file = basicPlugin.getFile();
+        if (file == null || !file.exists()) {
+            throw new MojoExecutionException("[" + strategyName + "] POM文件不存在: " + (file != null ? file.getPath() : "null"));
+        }
+        if (pomFile == null) {
+            pomFile = file;
+        } else if (!pomFile.equals(file)) {
+            throw new MojoExecutionException("[" + strategyName + "] 批量执行仅支持同一模块的插件目标: " + file.getPath());
+        }
+        entries.add(new BatchEntry(basicPlugin, strategyName));
+        log.debug("[{}] 已加入批量执行队列: {}", strategyName, toGoalString(basicPlugin));
+    }
+
+    /**
+     * 是否没有待执行的插件目标
+     * @return 没有返回 true，否则返回 false
+     * @author daixu
+     */
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 待执行的插件目标数量
+     * @return 数量
+     * @author daixu
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 将已收集的插件目标合并为 Maven Invoker 调用执行（所有目标的属性集合相同时只调用一次），执行后清空队列
+     * @param config 中央仓库发布配置（启用守护进程池时由 mvnd 执行）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    public synchronized void execute(CentralPublishConfig config) throws MojoExecutionException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Invocation> invocations = partition();
+            if (invocations.size() > 1) {
+                log.info("[{}] 插件目标的属性不一致，拆分为 {} 次 Maven Invoker 调用", describeStrategies(entries), invocations.size());
+            }
+            for (Invocation invocation : invocations) {
+                invoke(invocation, config);
+            }
+        } finally {
+            entries.clear();
+            pomFile = null;
+        }
+    }
+
+    /**
+     * 执行一次 Maven Invoker 调用（按加入顺序执行其中的所有目标）
+     */
+    private void invoke(Invocation invocation, CentralPublishConfig config) throws MojoExecutionException {
+        List<String> goals = invocation.getGoals();
+        String strategyNames = describeStrategies(invocation.entries);
+
+        try {
+            InvocationRequest request = new DefaultInvocationRequest();
+            request.setPomFile(pomFile);
+            request.setGoals(goals);
+            request.setProperties(invocation.getProperties());
+
+            log.info("[{}] 通过一次 Maven Invoker 调用执行 {} 个插件目标: {}", strategyNames, goals.size(), goals);
+
+            InvocationResult result = MavenDaemonPool.execute(request, config);
+
+            if (result.getExitCode() != 0) {
+                throw new MojoExecutionException("批量插件执行失败（退出码：" + result.getExitCode() + "）");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("[" + strategyNames + "] Maven插件批量调用被中断: " + goals, e);
+        } catch (Exception e) {
+            throw new MojoExecutionException("[" + strategyNames + "] Maven插件批量调用失败: " + goals, e);
+        }
+    }
+
+    /**
+     * 按加入顺序将插件目标划分为多次调用：目标的属性集合与当前调用的属性集合不同时，从该目标开始另起一次调用
+     * @return 调用列表（按执行顺序）
+     * @author daixu
+     */
+    List<Invocation> partition() {
+        List<Invocation> invocations = new ArrayList<>();
+        Invocation current = null;
+        for (BatchEntry entry : entries) {
+            Map<String, String> properties = collectProperties(entry.basicPlugin);
+            if (current == null || !current.accepts(properties)) {
+                if (current != null) {
+                    log.debug("[{}] 属性与前序目标不一致，另起一次调用: {}", entry.strategyName, toGoalString(entry.basicPlugin));
+                }
+                current = new Invocation();
+                invocations.add(current);
+            }
+            current.add(entry, properties);
+        }
+        return invocations;
+    }
+
+    /**
+     * 收集单个插件目标的配置属性（键值对配置与 Xpp3Dom 配置）
+     * @param basicPlugin 插件基础信息
+     * @return 配置属性
+     * @author daixu
+     */
+    private Map<String, String> collectProperties(BasicPlugin basicPlugin) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (basicPlugin.getConfig() != null) {
+            for (Map.Entry<String, String> entry : basicPlugin.getConfig().entrySet()) {
+                if (entry.getValue() != null) {
+                    properties.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (basicPlugin.getConfiguration() != null) {
+            Properties props = new Properties();
+            MavenInvokerExecutor.addConfigurationToProperties(basicPlugin.getConfiguration(), props, "");
+            for (String name : props.stringPropertyNames()) {
+                properties.put(name, props.getProperty(name));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 拼接参与批量执行的策略名称（用于日志和异常定位）
+     * @return 策略名称
+     * @author daixu
+     */
+    private static String describeStrategies(List<BatchEntry> batchEntries) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (BatchEntry entry : batchEntries) {
+            joiner.add(entry.strategyName);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 构建目标字符串（groupId:artifactId:version:goal）
+     * @param basicPlugin 插件基础信息
+     * @return 目标字符串
+     * @author daixu
+     */
+    private static String toGoalString(BasicPlugin basicPlugin) {
+        return String.format("%s:%s:%s:%s",
+                basicPlugin.getGroupId(),
+                basicPlugin.getArtifactId(),
+                basicPlugin.getVersion(),
+                basicPlugin.getGoal());
+    }
+
+    /**
+     * 一次 Maven Invoker 调用：按顺序执行的插件目标与它们共同的属性（调用中所有目标的属性集合相同）
+     */
+    static class Invocation {
+
+        private final List<BatchEntry> entries = new ArrayList<>();
+
+        private Map<String, String> properties;
+
+        /**
+         * 目标能否加入当前调用（属性集合与调用中已有目标的完全相同）
+         */
+        boolean accepts(Map<String, String> candidate) {
+            return properties == null || properties.equals(candidate);
+        }
+
+        void add(BatchEntry entry, Map<String, String> candidate) {
+            entries.add(entry);
+            if (properties == null) {
+                properties = candidate;
+            }
+        }
+
+        List<String> getGoals() {
+            List<String> goals = new ArrayList<>(entries.size());
+            for (BatchEntry entry : entries) {
+                goals.add(toGoalString(entry.basicPlugin));
+            }
+            return goals;
+        }
+
+        Properties getProperties() {
+            Properties result = new Properties();
+            if (properties != null) {
+                result.putAll(properties);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * 批量执行队列中的单个插件目标
+     */
+    private static class BatchEntry {
+
+        private final BasicPlugin basicPlugin;
+
+        private final String strategyName;
+
+        BatchEntry(BasicPlugin basicPlugin, String strategyName) {
+            this.basicPlugin = basicPlugin;
+            this.strategyName = strategyName;
+        }
+
+    }
+
+}
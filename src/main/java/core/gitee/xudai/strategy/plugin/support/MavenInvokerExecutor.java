@@ -1,5 +1,6 @@
 package core.gitee.xudai.strategy.plugin.support;
 
+import core.gitee.xudai.entity.CentralPublishConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.shared.invoker.*;
@@ -24,6 +25,18 @@ public class MavenInvokerExecutor {
      * @author daixu
      */
     public static void execute(BasicPlugin basicPlugin, String strategyName) throws MojoExecutionException {
+        execute(basicPlugin, null, strategyName);
+    }
+
+    /**
+     * 通过 Maven Invoker 执行插件目标（启用守护进程池时由 mvnd 执行）
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置（可为空）
+     * @param strategyName 调用当前插件的策略名称（用于异常定位）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    public static void execute(BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName) throws MojoExecutionException {
         try {
             File pomFile = basicPlugin.getFile();
             if (pomFile == null || !pomFile.exists()) {
@@ -51,13 +64,15 @@ public class MavenInvokerExecutor {
             }
 
             // 执行插件
-            Invoker invoker = new DefaultInvoker();
-            InvocationResult result = invoker.execute(request);
+            InvocationResult result = MavenDaemonPool.execute(request, config);
 
             if (result.getExitCode() != 0) {
                 throw new MojoExecutionException("插件执行失败（退出码：" + result.getExitCode() + "）");
             }
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("[" + strategyName + "] Maven插件调用被中断: " + basicPlugin.getArtifactId(), e);
         } catch (Exception e) {
             // 包装异常信息，添加策略名称便于定位
             throw new MojoExecutionException("[" + strategyName + "] Maven插件调用失败: " + basicPlugin.getArtifactId(), e);
@@ -71,7 +86,7 @@ public class MavenInvokerExecutor {
      * @param prefix 属性名前缀（用于嵌套配置）
      * @author daixu
      */
-    private static void addConfigurationToProperties(Xpp3Dom config, Properties props, String prefix) {
+    static void addConfigurationToProperties(Xpp3Dom config, Properties props, String prefix) {
         for (Xpp3Dom child : config.getChildren()) {
             String key = prefix.isEmpty() ? child.getName() : prefix + "." + child.getName();
             if (child.getChildCount() > 0) {
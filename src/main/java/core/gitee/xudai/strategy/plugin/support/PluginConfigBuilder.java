@@ -4,6 +4,7 @@ import org.apache.maven.model.Plugin;
 import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -12,6 +13,14 @@ import java.util.Map;
  */
 public class PluginConfigBuilder {
 
+    /**
+     * executions 片段模板（只解析一次，各模块按执行 ID、阶段、目标生成副本）
+     */
+    private static final Xpp3DomTemplate EXECUTIONS_TEMPLATE = Xpp3DomTemplate.parse(
+            "<executions><execution>"
+                    + "<id>{{id}}</id><phase>{{phase}}</phase><goals><goal>{{goal}}</goal></goals>"
+                    + "</execution></executions>");
+
     /**
      * 根据基础插件信息创建 Maven Plugin 对象
      * @param basicPlugin 基础插件信息（groupId、artifactId等）
@@ -52,30 +61,19 @@ public class PluginConfigBuilder {
             return null;
         }
 
-        Xpp3Dom executions = new Xpp3Dom("executions");
-        Xpp3Dom execution = new Xpp3Dom("execution");
-
-        // 添加执行 ID
-        if (StringUtils.isNotBlank(id)) {
-            Xpp3Dom executionId = new Xpp3Dom("id");
-            executionId.setValue(id);
-            execution.addChild(executionId);
-        }
-
-        // 添加执行阶段
-        if (StringUtils.isNotBlank(phase)) {
-            Xpp3Dom phaseDom = new Xpp3Dom("phase");
-            phaseDom.setValue(phase);
-            execution.addChild(phaseDom);
+        // 按模板生成 executions（空白的执行 ID、阶段、目标不生成对应元素）
+        Map<String, String> values = new HashMap<>(4);
+        values.put("id", id);
+        values.put("phase", phase);
+        values.put("goal", goal);
+        Xpp3Dom executions = EXECUTIONS_TEMPLATE.render(values);
+        if (executions == null) {
+            executions = new Xpp3Dom("executions");
         }
-
-        // 添加执行目标
-        if (StringUtils.isNotBlank(goal)) {
-            Xpp3Dom goals = new Xpp3Dom("goals");
-            Xpp3Dom goalDom = new Xpp3Dom("goal");
-            goalDom.setValue(goal);
-            goals.addChild(goalDom);
-            execution.addChild(goals);
+        Xpp3Dom execution = executions.getChild("execution");
+        if (execution == null) {
+            execution = new Xpp3Dom("execution");
+            executions.addChild(execution);
         }
 
         // 添加配置参数
@@ -85,8 +83,6 @@ public class PluginConfigBuilder {
             basicPlugin.setConfiguration(configuration);
         }
 
-        executions.addChild(execution);
-
         return executions;
     }
 
@@ -1,8 +1,11 @@
 package core.gitee.xudai.strategy.plugin.support;
 
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.manager.ProjectModelIndex;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginManagement;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 
 import java.util.List;
@@ -49,6 +52,20 @@ public class PluginDetector {
         return false;
     }
 
+    /**
+     * 检测工程中是否已包含指定插件（使用会话级的项目模型索引，每个模块只扫描一次工程中声明的插件）
+     * 只判断工程中声明的插件，不包含本插件后续添加的插件
+     * @param config 中央仓库发布配置
+     * @param groupId 插件groupId
+     * @param artifactId 插件artifactId
+     * @return 已包含返回true，否则返回false
+     * @throws MojoExecutionException 构建索引失败时抛出异常
+     * @author daixu
+     */
+    public static boolean hasExistingPlugin(CentralPublishConfig config, String groupId, String artifactId) throws MojoExecutionException {
+        return ProjectModelIndex.of(config).hasDeclaredPlugin(groupId, artifactId);
+    }
+
     /**
      * 判断两个插件是否相同（groupId和artifactId一致）
      * @param plugin 待检测的插件
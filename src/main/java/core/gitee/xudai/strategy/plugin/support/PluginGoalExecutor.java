@@ -0,0 +1,292 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.plugin.enums.ExecutionModeEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 插件目标执行入口：根据执行模式选择进程内执行或 Maven Invoker 回退执行
+ * 同时按执行模式统计耗时与进程峰值内存，便于对比两种模式的开销
+ * @author daixu
+ */
+@Slf4j
+public class PluginGoalExecutor {
+
+    /**
+     * 各执行模式的统计信息
+     */
+    private static final Map<ExecutionModeEnum, ModeStats> STATS = new EnumMap<>(ExecutionModeEnum.class);
+
+    static {
+        for (ExecutionModeEnum mode : ExecutionModeEnum.values()) {
+            STATS.put(mode, new ModeStats());
+        }
+    }
+
+    /**
+     * 执行插件目标
+     * 1. 进程内模式且会话可用：通过 BuildPluginManager 在当前会话中执行
+     * 2. 批量 Invoker 模式：加入当前模块的批量队列，由 {@link #flush(CentralPublishConfig)} 统一执行
+     * 3. 生命周期模式：不执行，绑定到项目生命周期由 Maven 原生调度
+     * 4. 其他情况：回退到 Maven Invoker 启动新进程执行
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置
+     * @param strategyName 调用当前插件的策略名称（用于异常定位）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    public static void execute(BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName) throws MojoExecutionException {
+
+        ExecutionModeEnum mode = resolveMode(config, strategyName);
+
+        if (mode == ExecutionModeEnum.INVOKER_BATCH) {
+            if (config.getInvokerBatch() == null) {
+                config.setInvokerBatch(new MavenInvokerBatch());
+            }
+            config.getInvokerBatch().add(basicPlugin, strategyName);
+            return;
+        }
+
+        if (mode == ExecutionModeEnum.LIFECYCLE) {
+            long start = System.nanoTime();
+            LifecyclePluginBinder.bind(basicPlugin, config, strategyName);
+            STATS.get(mode).record(System.nanoTime() - start);
+            return;
+        }
+
+        // 进程内执行与其他策略共享同一个 MavenProject / MavenSession（附属构件列表、当前项目均非线程安全），
+        // 同一项目的插件目标与模型修改使用同一把锁串行执行；Invoker 模式只在读写项目时加锁，子进程之间仍并行执行
+        if (mode == ExecutionModeEnum.IN_PROCESS) {
+            synchronized (config.getProject()) {
+                executeGoal(basicPlugin, config, strategyName, mode);
+            }
+        } else {
+            executeGoal(basicPlugin, config, strategyName, mode);
+        }
+    }
+
+    /**
+     * 执行单个插件目标（命中结果缓存时直接还原产物）
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置
+     * @param strategyName 策略名称
+     * @param mode 执行模式（进程内或 Invoker）
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    private static void executeGoal(BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName,
+                                    ExecutionModeEnum mode) throws MojoExecutionException {
+        Object projectLock = config.getProject() != null ? config.getProject() : config;
+
+        // 命中结果缓存时直接还原产物，不再执行插件目标
+        GoalResultCache cache = GoalResultCache.forGoal(basicPlugin, config);
+        String cacheKey = null;
+        List<Artifact> attachedBefore = null;
+        if (cache != null) {
+            synchronized (projectLock) {
+                cacheKey = fingerprint(cache, basicPlugin, config, strategyName);
+                if (cacheKey != null && cache.restore(cacheKey, config)) {
+                    log.info("[{}] 命中插件目标缓存，跳过执行: {}:{}", strategyName, basicPlugin.getArtifactId(), basicPlugin.getGoal());
+                    return;
+                }
+                attachedBefore = cacheKey != null ? new ArrayList<>(config.getProject().getAttachedArtifacts()) : null;
+            }
+        }
+        long startMillis = System.currentTimeMillis();
+
+        long start = System.nanoTime();
+        try {
+            if (mode == ExecutionModeEnum.IN_PROCESS) {
+                InProcessMojoExecutor.execute(basicPlugin, config, strategyName);
+            } else {
+                MavenInvokerExecutor.execute(basicPlugin, config, strategyName);
+            }
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            STATS.get(mode).record(elapsed);
+            GoalTimingHistory.getDefault().record(basicPlugin.getArtifactId(), basicPlugin.getGoal(), elapsed);
+            log.debug("[{}] {}:{} 执行耗时 {} ms（模式：{}）", strategyName, basicPlugin.getArtifactId(),
+                    basicPlugin.getGoal(), elapsed / 1_000_000, mode.getValue());
+        }
+
+        if (cacheKey != null) {
+            List<GoalResultCache.CachedOutput> outputs;
+            synchronized (projectLock) {
+                outputs = GoalResultCache.collectOutputs(basicPlugin, config.getProject(), attachedBefore, startMillis);
+            }
+            cache.store(cacheKey, outputs);
+        }
+    }
+
+    /**
+     * 计算插件目标的缓存指纹（计算失败时不使用缓存）
+     * @param cache 结果缓存
+     * @param basicPlugin 插件基础信息
+     * @param config 中央仓库发布配置
+     * @param strategyName 策略名称
+     * @return 指纹，计算失败返回 null
+     * @author daixu
+     */
+    private static String fingerprint(GoalResultCache cache, BasicPlugin basicPlugin, CentralPublishConfig config, String strategyName) {
+        try {
+            return cache.fingerprint(basicPlugin, config.getProject());
+        } catch (IOException e) {
+            log.warn("[{}] 计算插件目标缓存指纹失败，不使用缓存: {}", strategyName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 执行当前模块批量队列中的所有插件目标（一次 Maven Invoker 调用），非批量模式下无操作
+     * @param config 中央仓库发布配置
+     * @throws MojoExecutionException 执行失败时抛出异常
+     * @author daixu
+     */
+    public static void flush(CentralPublishConfig config) throws MojoExecutionException {
+        MavenInvokerBatch batch = config != null ? config.getInvokerBatch() : null;
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        int size = batch.size();
+        long start = System.nanoTime();
+        try {
+            batch.execute(config);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            STATS.get(ExecutionModeEnum.INVOKER_BATCH).record(elapsed);
+            log.debug("批量执行 {} 个插件目标耗时 {} ms", size, elapsed / 1_000_000);
+        }
+    }
+
+    /**
+     * 解析实际使用的执行模式（进程内模式不可用时回退到 Invoker）
+     * @param config 中央仓库发布配置
+     * @param strategyName 策略名称
+     * @return 实际执行模式
+     * @author daixu
+     */
+    private static ExecutionModeEnum resolveMode(CentralPublishConfig config, String strategyName) {
+        ExecutionModeEnum mode = ExecutionModeEnum.fromValue(config != null ? config.getExecutionMode() : null);
+        if (mode == ExecutionModeEnum.IN_PROCESS && !InProcessMojoExecutor.isAvailable(config)) {
+            log.warn("[{}] 当前环境不支持进程内执行，回退到 Maven Invoker", strategyName);
+            return ExecutionModeEnum.INVOKER;
+        }
+        return mode;
+    }
+
+    /**
+     * 输出各执行模式的耗时与内存统计并清零（在构建会话结束时调用一次，常驻 JVM 中下一次构建重新统计）
+     * @author daixu
+     */
+    public static void logSummary() {
+        for (Map.Entry<ExecutionModeEnum, ModeStats> entry : STATS.entrySet()) {
+            ModeStats stats = entry.getValue();
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            log.info("执行模式[{}]：共执行 {} 次，总耗时 {} ms，平均 {} ms，最长 {} ms",
+                    entry.getKey().getValue(),
+                    stats.getCount(),
+                    stats.getTotalNanos() / 1_000_000,
+                    stats.getTotalNanos() / stats.getCount() / 1_000_000,
+                    stats.getMaxNanos() / 1_000_000);
+            stats.reset();
+        }
+        MavenDaemonPool.logSummary();
+        GoalResultCache.logSummary();
+        // 写回历史耗时，供发布计划估算成本
+        GoalTimingHistory.getDefault().save();
+        long peakRssKb = readPeakRssKb();
+        if (peakRssKb > 0) {
+            // Invoker 模式下子进程的内存不计入此值，只反映当前构建 JVM 的峰值
+            log.info("当前构建进程峰值内存（VmHWM）：{} MB", peakRssKb / 1024);
+        }
+    }
+
+    /**
+     * 获取指定执行模式的统计信息
+     * @param mode 执行模式
+     * @return 统计信息
+     * @author daixu
+     */
+    public static ModeStats getStats(ExecutionModeEnum mode) {
+        return STATS.get(mode);
+    }
+
+    /**
+     * 读取当前进程的峰值常驻内存（仅 Linux 支持，其他平台返回 -1）
+     * @return 峰值常驻内存（KB）
+     * @author daixu
+     */
+    private static long readPeakRssKb() {
+        Path status = Paths.get("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(status);
+            for (String line : lines) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("读取进程峰值内存失败", e);
+        }
+        return -1;
+    }
+
+    /**
+     * 单个执行模式的统计信息
+     */
+    public static class ModeStats {
+
+        /** 执行次数 */
+        private final AtomicLong count = new AtomicLong();
+
+        /** 总耗时（纳秒） */
+        private final AtomicLong totalNanos = new AtomicLong();
+
+        /** 最长耗时（纳秒） */
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        void reset() {
+            count.set(0);
+            totalNanos.set(0);
+            maxNanos.set(0);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+    }
+
+}
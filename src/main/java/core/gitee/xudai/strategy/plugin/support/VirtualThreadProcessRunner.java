@@ -0,0 +1,158 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.shared.invoker.*;
+import org.apache.maven.shared.utils.cli.CommandLineException;
+import org.apache.maven.shared.utils.cli.Commandline;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 虚拟线程子进程执行器：使用 Maven Invoker 构建命令行，自行启动 mvn 子进程，标准输出与错误输出由虚拟线程读取
+ * DefaultInvoker 为每个子进程创建两个平台线程读取输出，大量模块并发执行时线程数随之增长；虚拟线程阻塞在进程 I/O 上时不占用平台线程
+ * 执行线程被中断时销毁子进程及其所有子孙进程
+ * @author daixu
+ */
+@Slf4j
+public class VirtualThreadProcessRunner {
+
+    /**
+     * 中断后等待子进程正常退出的时间（秒），超时后强制销毁
+     */
+    private static final long DESTROY_GRACE_SECONDS = 5L;
+
+    /**
+     * 执行 Maven 调用请求
+     * @param request 调用请求
+     * @param mavenExecutable Maven 可执行文件（为空时由 Maven Invoker 按 maven.home 解析）
+     * @return 执行结果
+     * @throws MavenInvocationException 构建命令行或启动进程失败时抛出异常
+     * @throws InterruptedException 等待子进程时被中断（子进程已被销毁）
+     * @author daixu
+     */
+    public static InvocationResult execute(InvocationRequest request, File mavenExecutable)
+            throws MavenInvocationException, InterruptedException {
+
+        // ✅ 1.复用 Maven Invoker 的命令行构建逻辑（参数、属性、工作目录与 DefaultInvoker 一致）
+        MavenCommandLineBuilder builder = new MavenCommandLineBuilder();
+        if (mavenExecutable != null) {
+            builder.setMavenExecutable(mavenExecutable);
+        }
+        Commandline commandline;
+        try {
+            commandline = builder.build(request);
+        } catch (CommandLineConfigurationException e) {
+            throw new MavenInvocationException("构建 Maven 命令行失败: " + e.getMessage(), e);
+        }
+
+        // ✅ 2.启动子进程
+        ProcessBuilder processBuilder = new ProcessBuilder(commandline.getCommandline());
+        if (commandline.getWorkingDirectory() != null) {
+            processBuilder.directory(commandline.getWorkingDirectory());
+        }
+        for (String variable : commandline.getEnvironmentVariables()) {
+            int index = variable.indexOf('=');
+            if (index > 0) {
+                processBuilder.environment().put(variable.substring(0, index), variable.substring(index + 1));
+            }
+        }
+
+        Process process;
+        try {
+            process = processBuilder.start();
+        } catch (IOException e) {
+            throw new MavenInvocationException("启动 Maven 进程失败: " + e.getMessage(), e);
+        }
+
+        // ✅ 3.使用虚拟线程读取输出
+        InvocationOutputHandler outputHandler = request.getOutputHandler(log::info);
+        InvocationOutputHandler errorHandler = request.getErrorHandler(log::warn);
+        Thread outputPump = Thread.ofVirtual().name("central-publish-pump-out").start(() -> pump(process.getInputStream(), outputHandler));
+        Thread errorPump = Thread.ofVirtual().name("central-publish-pump-err").start(() -> pump(process.getErrorStream(), errorHandler));
+
+        // ✅ 4.等待子进程退出（中断时销毁进程树）
+        try {
+            int timeout = request.getTimeoutInSeconds();
+            if (timeout > 0 && !process.waitFor(timeout, TimeUnit.SECONDS)) {
+                destroy(process);
+                throw new MavenInvocationException("Maven 进程执行超时（" + timeout + " 秒）");
+            }
+            int exitCode = process.waitFor();
+            outputPump.join();
+            errorPump.join();
+            return new ProcessInvocationResult(exitCode);
+        } catch (InterruptedException e) {
+            destroy(process);
+            outputPump.interrupt();
+            errorPump.interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * 逐行读取输出并交给输出处理器
+     * @param stream 进程输出流
+     * @param handler 输出处理器
+     * @author daixu
+     */
+    private static void pump(InputStream stream, InvocationOutputHandler handler) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                handler.consumeLine(line);
+            }
+        } catch (IOException e) {
+            log.debug("读取 Maven 进程输出失败", e);
+        }
+    }
+
+    /**
+     * 销毁子进程及其所有子孙进程（先正常终止，超时后强制终止）
+     * @param process 子进程
+     * @author daixu
+     */
+    private static void destroy(Process process) {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(DESTROY_GRACE_SECONDS, TimeUnit.SECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 子进程执行结果
+     */
+    private static class ProcessInvocationResult implements InvocationResult {
+
+        private final int exitCode;
+
+        ProcessInvocationResult(int exitCode) {
+            this.exitCode = exitCode;
+        }
+
+        @Override
+        public CommandLineException getExecutionException() {
+            return null;
+        }
+
+        @Override
+        public int getExitCode() {
+            return exitCode;
+        }
+
+    }
+
+}
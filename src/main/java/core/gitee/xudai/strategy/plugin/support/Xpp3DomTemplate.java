@@ -0,0 +1,199 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.apache.maven.api.xml.XmlNode;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.*;
+
+/**
+ * Xpp3Dom 配置片段模板：插件的 executions / configuration 片段在所有模块中结构相同，只有少数取值不同，
+ * 模板只解析一次（不可变，可在线程、模块、构建之间共享），每个模块按参数生成一份独立的 Xpp3Dom
+ * 1. 参数：取值为 {{name}} 的元素是参数，渲染时替换为参数值；参数值为空（null 或空白）时省略该元素，
+ *    因此省略后没有任何子元素的容器元素（如 goals）一并省略
+ * 2. 渲染：不含参数的子树在解析时即构建为不可变的 XmlNode，所有渲染结果直接共享；只有通往参数的路径上的节点按参数值新建，
+ *    不解析 XML，也不复制参数以外的任何内容
+ * 共享是安全的：Xpp3Dom 只是不可变 XmlNode 的包装，修改（包括 Maven 合并配置）时写时复制，不会影响模板和其他模块的渲染结果
+ * @author daixu
+ */
+public final class Xpp3DomTemplate {
+
+    private static final String SLOT_PREFIX = "{{";
+
+    private static final String SLOT_SUFFIX = "}}";
+
+    /**
+     * 根节点
+     */
+    private final Node root;
+
+    /**
+     * 参数名称（按出现顺序）
+     */
+    private final List<String> slots;
+
+    private Xpp3DomTemplate(Node root, List<String> slots) {
+        this.root = root;
+        this.slots = Collections.unmodifiableList(slots);
+    }
+
+    /**
+     * 解析模板
+     * @param xml 模板 XML（参数以 {{name}} 表示）
+     * @return 模板
+     * @throws IllegalArgumentException 模板不是合法的 XML 时抛出异常
+     * @author daixu
+     */
+    public static Xpp3DomTemplate parse(String xml) {
+        try {
+            return of(Xpp3DomBuilder.build(new StringReader(xml)));
+        } catch (XmlPullParserException | IOException e) {
+            throw new IllegalArgumentException("Xpp3Dom 模板解析失败：" + xml, e);
+        }
+    }
+
+    /**
+     * 根据原型创建模板（原型之后的修改不影响模板）
+     * @param prototype 原型（参数以 {{name}} 表示）
+     * @return 模板
+     * @author daixu
+     */
+    public static Xpp3DomTemplate of(Xpp3Dom prototype) {
+        List<String> slots = new ArrayList<>();
+        Node root = compile(prototype, slots);
+        return new Xpp3DomTemplate(root, slots);
+    }
+
+    private static Node compile(Xpp3Dom dom, List<String> slots) {
+        String value = dom.getValue();
+        String slot = null;
+        if (value != null && value.startsWith(SLOT_PREFIX) && value.endsWith(SLOT_SUFFIX)) {
+            slot = value.substring(SLOT_PREFIX.length(), value.length() - SLOT_SUFFIX.length()).trim();
+            if (!slots.contains(slot)) {
+                slots.add(slot);
+            }
+            value = null;
+        }
+        Xpp3Dom[] children = dom.getChildren();
+        if (children.length > 0 && value != null && value.isBlank()) {
+            // 容器元素的空白文本不是取值
+            value = null;
+        }
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String attributeName : dom.getAttributeNames()) {
+            attributes.put(attributeName, dom.getAttribute(attributeName));
+        }
+        Node[] nodes = new Node[children.length];
+        for (int i = 0; i < children.length; i++) {
+            nodes[i] = compile(children[i], slots);
+        }
+        return new Node(dom.getName(), value, slot, Collections.unmodifiableMap(attributes), nodes);
+    }
+
+    /**
+     * 参数名称
+     * @return 参数名称（按出现顺序）
+     */
+    public List<String> getSlots() {
+        return slots;
+    }
+
+    /**
+     * 渲染为新的 Xpp3Dom
+     * @param values 参数值（未提供的参数视为空）
+     * @return 新的 Xpp3Dom；根节点被省略时返回 null
+     * @author daixu
+     */
+    public Xpp3Dom render(Map<String, String> values) {
+        return render(root, values);
+    }
+
+    /**
+     * 渲染为新的 Xpp3Dom（模板没有参数时使用）
+     * @return 新的 Xpp3Dom
+     * @author daixu
+     */
+    public Xpp3Dom render() {
+        return render(root, Collections.emptyMap());
+    }
+
+    private static Xpp3Dom render(Node node, Map<String, String> values) {
+        XmlNode dom = renderNode(node, values);
+        return dom != null ? new Xpp3Dom(dom) : null;
+    }
+
+    private static XmlNode renderNode(Node node, Map<String, String> values) {
+        // 不含参数的子树直接共享
+        if (node.shared != null) {
+            return node.shared;
+        }
+        String value = node.value;
+        if (node.slot != null) {
+            value = values.get(node.slot);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+        }
+        List<XmlNode> children = new ArrayList<>(node.children.length);
+        for (Node child : node.children) {
+            XmlNode rendered = renderNode(child, values);
+            if (rendered != null) {
+                children.add(rendered);
+            }
+        }
+        // 容器中的参数元素全部省略时，容器本身也省略
+        if (node.optional && children.isEmpty()) {
+            return null;
+        }
+        return XmlNode.newInstance(node.name, value, node.attributes, children, null);
+    }
+
+    /**
+     * 模板节点（不可变）
+     */
+    private static final class Node {
+
+        private final String name;
+
+        private final String value;
+
+        /** 参数名称（非参数元素为 null） */
+        private final String slot;
+
+        private final Map<String, String> attributes;
+
+        private final Node[] children;
+
+        /** 是否为可省略的容器（没有取值、属性，所有子元素都可省略） */
+        private final boolean optional;
+
+        /** 不含参数的子树对应的不可变节点（所有渲染结果共享；子树含参数时为 null） */
+        private final XmlNode shared;
+
+        private Node(String name, String value, String slot, Map<String, String> attributes, Node[] children) {
+            this.name = name;
+            this.value = value;
+            this.slot = slot;
+            this.attributes = attributes;
+            this.children = children;
+            boolean optional = children.length > 0 && value == null && attributes.isEmpty();
+            List<XmlNode> sharedChildren = slot == null ? new ArrayList<>(children.length) : null;
+            for (Node child : children) {
+                optional &= child.slot != null || child.optional;
+                if (sharedChildren != null && child.shared != null) {
+                    sharedChildren.add(child.shared);
+                } else {
+                    sharedChildren = null;
+                }
+            }
+            this.optional = optional;
+            this.shared = sharedChildren != null
+                    ? XmlNode.newInstance(name, value, attributes, List.copyOf(sharedChildren), null)
+                    : null;
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+package core.gitee.xudai.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 环形缓冲区测试：容量、写满拒绝、顺序与多生产者并发
+ * @author daixu
+ */
+class EventRingTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(2, new EventRing<Integer>(1).capacity());
+        assertEquals(4, new EventRing<Integer>(3).capacity());
+        assertEquals(1024, new EventRing<Integer>(1024).capacity());
+    }
+
+    @Test
+    void rejectsOfferWhenFullUntilPolled() {
+        EventRing<Integer> ring = new EventRing<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(4, ring.size());
+
+        assertEquals(Integer.valueOf(0), ring.poll());
+        assertTrue(ring.offer(4));
+        assertFalse(ring.offer(5));
+    }
+
+    @Test
+    void preservesOrderAcrossWrapAround() {
+        EventRing<Integer> ring = new EventRing<>(4);
+        List<Integer> received = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(ring.offer(i));
+            if (i % 3 == 2) {
+                ring.drainTo(received, Integer.MAX_VALUE);
+            }
+        }
+        ring.drainTo(received, Integer.MAX_VALUE);
+
+        assertEquals(100, received.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), received.get(i));
+        }
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void drainToRespectsLimit() {
+        EventRing<Integer> ring = new EventRing<>(8);
+        for (int i = 0; i < 6; i++) {
+            ring.offer(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        assertEquals(4, ring.drainTo(batch, 4));
+        assertEquals(List.of(0, 1, 2, 3), batch);
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void deliversEveryElementOnceWithConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        EventRing<long[]> ring = new EventRing<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (long i = 0; i < perProducer; i++) {
+                    // 写满时自旋等待消费者腾出空位（背压）
+                    while (!ring.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        long[] next = new long[producers];
+        int received = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            long[] element = ring.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            // 同一生产者的元素按写入顺序取出，不重复、不丢失
+            assertEquals(next[(int) element[0]]++, element[1]);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals(producers * perProducer, received);
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void concurrentPollersNeverShareAnElement() throws Exception {
+        int total = 50_000;
+        EventRing<Long> ring = new EventRing<>(16);
+        AtomicLong taken = new AtomicLong();
+        AtomicLong sum = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        AtomicLong droppedSum = new AtomicLong();
+
+        // 消费线程与“丢弃最旧事件”的发布线程同时出队
+        Thread consumer = Thread.ofPlatform().start(() -> {
+            while (taken.get() + dropped.get() < total) {
+                Long element = ring.poll();
+                if (element != null) {
+                    taken.incrementAndGet();
+                    sum.addAndGet(element);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        for (long i = 0; i < total; i++) {
+            while (!ring.offer(i)) {
+                Long oldest = ring.poll();
+                if (oldest != null) {
+                    dropped.incrementAndGet();
+                    droppedSum.addAndGet(oldest);
+                }
+            }
+        }
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertEquals(total, taken.get() + dropped.get());
+        assertEquals((long) total * (total - 1) / 2, sum.get() + droppedSum.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
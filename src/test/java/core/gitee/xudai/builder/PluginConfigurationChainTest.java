@@ -0,0 +1,136 @@
+package core.gitee.xudai.builder;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.plugin.api.PluginStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 插件配置责任链测试：默认串行执行，显式提高并行度后同一执行顺序的策略并发执行
+ * @author daixu
+ */
+class PluginConfigurationChainTest {
+
+    @Test
+    void runsEqualOrderStrategiesSequentiallyByDefault() throws Exception {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<PluginStrategy> strategies = new ArrayList<>();
+        for (String name : List.of("source", "javadoc", "gpg")) {
+            strategies.add(new RecordingStrategy(name, 0, config -> {
+                threads.add(Thread.currentThread().getName());
+                events.add(name + ":start");
+                Thread.sleep(20);
+                events.add(name + ":end");
+            }));
+        }
+
+        new PluginConfigurationChain(strategies).execute(new CentralPublishConfig());
+
+        assertEquals(List.of("source:start", "source:end", "javadoc:start", "javadoc:end", "gpg:start", "gpg:end"), events);
+        assertEquals(1, threads.size());
+    }
+
+    @Test
+    void runsEqualOrderStrategiesConcurrentlyWhenParallelismIsRaised() throws Exception {
+        CentralPublishConfig config = new CentralPublishConfig();
+        config.setStrategyParallelism(2);
+        // 两个策略互相等待对方开始：串行执行时会超时
+        CountDownLatch started = new CountDownLatch(2);
+        List<PluginStrategy> strategies = new ArrayList<>();
+        for (String name : List.of("source", "javadoc")) {
+            strategies.add(new RecordingStrategy(name, 0, c -> {
+                started.countDown();
+                assertTrue(started.await(5, TimeUnit.SECONDS), "同组策略未并发执行");
+            }));
+        }
+
+        new PluginConfigurationChain(strategies).execute(config);
+
+        assertEquals(0, started.getCount());
+    }
+
+    @Test
+    void runsGroupsInOrder() throws Exception {
+        CentralPublishConfig config = new CentralPublishConfig();
+        config.setStrategyParallelism(4);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        List<PluginStrategy> strategies = List.of(
+                new RecordingStrategy("central", 2, c -> events.add("central")),
+                new RecordingStrategy("gpg", 1, c -> events.add("gpg")),
+                new RecordingStrategy("source", 0, c -> events.add("source")));
+
+        new PluginConfigurationChain(strategies).execute(config);
+
+        assertEquals(List.of("source", "gpg", "central"), events);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(CentralPublishConfig config) throws Exception;
+    }
+
+    private static class RecordingStrategy implements PluginStrategy {
+
+        private final String name;
+
+        private final int order;
+
+        private final Action action;
+
+        RecordingStrategy(String name, int order, Action action) {
+            this.name = name;
+            this.order = order;
+            this.action = action;
+        }
+
+        @Override
+        public String getStrategyName() {
+            return name;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public void execute() {
+        }
+
+        @Override
+        public boolean isEnabled(CentralPublishConfig config) {
+            return true;
+        }
+
+        @Override
+        public boolean isRequired(CentralPublishConfig config) {
+            return true;
+        }
+
+        @Override
+        public boolean isCompatibleWithLicense(CentralPublishConfig config) {
+            return true;
+        }
+
+        @Override
+        public void configurePlugin(CentralPublishConfig config) {
+            try {
+                action.run(config);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
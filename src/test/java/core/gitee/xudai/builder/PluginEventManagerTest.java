@@ -0,0 +1,157 @@
+package core.gitee.xudai.builder;
+
+import core.gitee.xudai.enums.BackpressurePolicyEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 插件事件管理器测试：同步分发、异步分发的背压策略与统计
+ * @author daixu
+ */
+class PluginEventManagerTest {
+
+    @Test
+    void synchronousModeDeliversOnPublishingThread() {
+        PluginEventManager manager = new PluginEventManager();
+        List<String> received = new ArrayList<>();
+        manager.addListener(event -> received.add(event.getPluginId()));
+
+        manager.publishEvent(event(1));
+
+        assertFalse(manager.isAsync());
+        assertEquals(List.of("1"), received);
+        assertTrue(manager.getStats().isEmpty());
+    }
+
+    @Test
+    void blockPolicyWaitsForSpaceAndDropsNothing() throws Exception {
+        GatedListener listener = new GatedListener();
+        PluginEventManager manager = PluginEventManager.async(4, 2, BackpressurePolicyEnum.BLOCK);
+        manager.addListener(listener);
+
+        Thread publisher = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 20; i++) {
+                manager.publishEvent(event(i));
+            }
+        });
+        assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+        // 监听器阻塞期间缓冲区写满，发布线程等待
+        publisher.join(200);
+        assertTrue(publisher.isAlive());
+
+        listener.gate.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+        manager.close();
+
+        PluginEventManager.ListenerStats stats = manager.getStats().get(0);
+        assertEquals(20, stats.getPublished());
+        assertEquals(20, stats.getDelivered());
+        assertEquals(0, stats.getDropped());
+        assertEquals(0, stats.getLag());
+        assertEquals(ids(0, 20), listener.received);
+    }
+
+    @Test
+    void dropOldestPolicyKeepsNewestEvents() throws Exception {
+        GatedListener listener = new GatedListener();
+        PluginEventManager manager = PluginEventManager.async(4, 1, BackpressurePolicyEnum.DROP_OLDEST);
+        manager.addListener(listener);
+
+        manager.publishEvent(event(0));
+        assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+        // 消费线程阻塞在事件 0，后续事件写满缓冲区后丢弃最旧的事件，发布线程不等待
+        for (int i = 1; i < 20; i++) {
+            manager.publishEvent(event(i));
+        }
+        listener.gate.countDown();
+        manager.close();
+
+        PluginEventManager.ListenerStats stats = manager.getStats().get(0);
+        assertEquals(20, stats.getPublished());
+        assertEquals(20, stats.getDelivered() + stats.getDropped());
+        assertEquals(15, stats.getDropped());
+        assertEquals(List.of("0", "16", "17", "18", "19"), listener.received);
+    }
+
+    @Test
+    void samplePolicyDropsMostOverflowingEvents() throws Exception {
+        GatedListener listener = new GatedListener();
+        PluginEventManager manager = PluginEventManager.async(4, 1, BackpressurePolicyEnum.SAMPLE);
+        manager.addListener(listener);
+
+        manager.publishEvent(event(0));
+        assertTrue(listener.entered.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 36; i++) {
+            manager.publishEvent(event(i));
+        }
+        listener.gate.countDown();
+        manager.close();
+
+        PluginEventManager.ListenerStats stats = manager.getStats().get(0);
+        assertEquals(37, stats.getPublished());
+        assertEquals(37, stats.getDelivered() + stats.getDropped());
+        // 事件 5~36 溢出：每 16 个保留 1 个（事件 20、36，各替换一个最旧的事件），其余丢弃
+        assertEquals(32, stats.getDropped());
+        assertEquals(List.of("0", "3", "4", "20", "36"), listener.received);
+    }
+
+    @Test
+    void countsListenerFailures() throws Exception {
+        PluginEventManager manager = PluginEventManager.async(8, 8, BackpressurePolicyEnum.BLOCK);
+        manager.addListener(event -> {
+            throw new IllegalStateException("boom");
+        });
+
+        manager.publishEvent(event(0));
+        manager.publishEvent(event(1));
+        manager.close();
+
+        PluginEventManager.ListenerStats stats = manager.getStats().get(0);
+        assertEquals(2, stats.getDelivered());
+        assertEquals(2, stats.getFailed());
+    }
+
+    private static PluginConfigurationEvent event(int id) {
+        return new PluginConfigurationEvent(String.valueOf(id), null, System.currentTimeMillis(), null);
+    }
+
+    private static List<String> ids(int from, int to) {
+        List<String> ids = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            ids.add(String.valueOf(i));
+        }
+        return ids;
+    }
+
+    /**
+     * 首个事件到达后阻塞，直到测试放行
+     */
+    private static class GatedListener implements PluginConfigurationListener {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onEvent(PluginConfigurationEvent event) {
+            entered.countDown();
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event.getPluginId());
+        }
+
+    }
+
+}
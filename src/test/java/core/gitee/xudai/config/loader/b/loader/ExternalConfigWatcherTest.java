@@ -0,0 +1,138 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import core.gitee.xudai.config.loader.b.config.LicenseConfig;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 外部配置目录监听测试：文件变化后重新加载，重新绑定属性后按新的取值重新解析
+ * @author daixu
+ */
+class ExternalConfigWatcherTest {
+
+    private static final String URL_PROPERTY = "watcher.test.license.url";
+
+    private Path directory;
+
+    private ExternalConfigWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("external-config");
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+        PlaceholderUtils.resetSnapshot();
+        try (Stream<Path> stream = Files.walk(directory)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void reloadsChangedFile() throws Exception {
+        writeLicense("Apache License", "https://a.example.org/LICENSE");
+        watcher = ExternalConfigWatcher.start(directory);
+        ConfigLoader.GlobalConfig first = watcher.current();
+        assertEquals("Apache License", license(first).getLicenseInfo().getName());
+
+        writeLicense("Apache License, Version 2.0", "https://a.example.org/LICENSE");
+
+        ConfigLoader.GlobalConfig reloaded = awaitNewSnapshot(first);
+        assertEquals("Apache License, Version 2.0", license(reloaded).getLicenseInfo().getName());
+        // 已发布的快照不受影响
+        assertEquals("Apache License", license(first).getLicenseInfo().getName());
+    }
+
+    @Test
+    void resolvesAgainWhenPropertiesAreRebound() throws Exception {
+        writeLicense("Apache License", "${" + URL_PROPERTY + ":https://default.example.org/LICENSE}");
+        bind("https://first.example.org/LICENSE");
+        watcher = ExternalConfigWatcher.start(directory);
+        assertEquals("https://first.example.org/LICENSE", license(watcher.current()).getLicenseInfo().getUrl());
+
+        // 同一 JVM 中的下一次构建绑定了不同的属性，文件本身没有变化
+        bind("https://second.example.org/LICENSE");
+
+        assertEquals("https://second.example.org/LICENSE", license(watcher.current()).getLicenseInfo().getUrl());
+    }
+
+    @Test
+    void reloadAfterRebindUsesNewBinding() throws Exception {
+        writeLicense("Apache License", "${" + URL_PROPERTY + ":https://default.example.org/LICENSE}");
+        bind("https://first.example.org/LICENSE");
+        watcher = ExternalConfigWatcher.start(directory);
+        ConfigLoader.GlobalConfig first = watcher.current();
+
+        // 重新绑定后文件变化先于获取快照被处理：全部条目按新的解析器解析
+        bind("https://second.example.org/LICENSE");
+        writeLicense("Apache License, Version 2.0", "${" + URL_PROPERTY + ":https://default.example.org/LICENSE}");
+
+        ConfigLoader.GlobalConfig reloaded = awaitNewSnapshot(first);
+        assertEquals("Apache License, Version 2.0", license(reloaded).getLicenseInfo().getName());
+        assertEquals("https://second.example.org/LICENSE", license(reloaded).getLicenseInfo().getUrl());
+        assertEquals("https://first.example.org/LICENSE", license(first).getLicenseInfo().getUrl());
+    }
+
+    private static LicenseConfig license(ConfigLoader.GlobalConfig config) {
+        return config.getLicenseConfigContainer().getLicenses().get(0);
+    }
+
+    private static void bind(String url) {
+        Properties properties = new Properties();
+        properties.setProperty(URL_PROPERTY, url);
+        PlaceholderUtils.bindMavenProperties(properties, null);
+    }
+
+    /**
+     * 等待监听线程发布新的快照（文件系统事件异步到达）
+     */
+    private ConfigLoader.GlobalConfig awaitNewSnapshot(ConfigLoader.GlobalConfig previous) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            ConfigLoader.GlobalConfig snapshot = watcher.current();
+            if (snapshot != previous) {
+                return snapshot;
+            }
+            Thread.sleep(50);
+        }
+        fail("外部配置文件变化后未重新加载");
+        return previous;
+    }
+
+    private void writeLicense(String name, String url) throws IOException {
+        Files.writeString(directory.resolve("license-config.yaml"),
+                "licenses:\n"
+                        + "  - id: Apache-2.0\n"
+                        + "    title: Apache 2.0\n"
+                        + "    serialNumber: 1\n"
+                        + "    licenseType: Apache-2.0\n"
+                        + "    baseInfo:\n"
+                        + "      order: 1\n"
+                        + "      enabled: true\n"
+                        + "      required: false\n"
+                        + "      description: license\n"
+                        + "    licenseInfo:\n"
+                        + "      name: " + name + "\n"
+                        + "      url: \"" + url + "\"\n"
+                        + "      distribution: repo\n",
+                StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,123 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import core.gitee.xudai.config.loader.b.source.ConfigSourceChain;
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按需加载测试：同一次绑定内只加载一次，重新绑定属性或配置来源链后重新加载，失败结果不缓存
+ * @author daixu
+ */
+class LazyConfigLoaderTest {
+
+    @BeforeEach
+    void setUp() {
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PlaceholderUtils.resetSnapshot();
+        ConfigSourceChain.configure(false, null);
+    }
+
+    @Test
+    void reusesLoadWithinOneBinding() {
+        PlaceholderUtils.bindMavenProperties(properties("demo.version", "1.0"), null);
+        LazyConfigLoader<DemoLoader> lazy = lazy(new DemoLoader());
+
+        assertEquals("1.0", lazy.get().value);
+        assertEquals("1.0", lazy.get().value);
+        assertEquals(1, lazy.getLoader().loads.get());
+        assertTrue(lazy.isLoaded());
+    }
+
+    @Test
+    void reloadsWhenPropertiesAreRebound() {
+        LazyConfigLoader<DemoLoader> lazy = lazy(new DemoLoader());
+
+        // 第一次构建
+        PlaceholderUtils.bindMavenProperties(properties("demo.version", "1.0"), null);
+        assertEquals("1.0", lazy.get().value);
+
+        // 同一 JVM 中的第二次构建绑定了不同的属性
+        PlaceholderUtils.bindMavenProperties(properties("demo.version", "2.0"), null);
+        assertFalse(lazy.isLoaded());
+        assertEquals("2.0", lazy.get().value);
+        assertEquals(2, lazy.getLoader().loads.get());
+    }
+
+    @Test
+    void reloadsWhenSourceChainIsReconfigured() {
+        PlaceholderUtils.bindMavenProperties(properties("demo.version", "1.0"), null);
+        LazyConfigLoader<DemoLoader> lazy = lazy(new DemoLoader());
+        lazy.get();
+
+        ConfigSourceChain.configure(false, null);
+
+        lazy.get();
+        assertEquals(2, lazy.getLoader().loads.get());
+    }
+
+    @Test
+    void preloadSharesLoadWithGet() {
+        PlaceholderUtils.bindMavenProperties(properties("demo.version", "3.0"), null);
+        LazyConfigLoader<DemoLoader> lazy = lazy(new DemoLoader());
+
+        assertEquals("3.0", lazy.preload().join().value);
+        assertEquals("3.0", lazy.get().value);
+        assertEquals(1, lazy.getLoader().loads.get());
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        DemoLoader loader = new DemoLoader();
+        loader.failuresLeft = 1;
+        LazyConfigLoader<DemoLoader> lazy = lazy(loader);
+
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertFalse(lazy.isLoaded());
+        assertEquals("", lazy.get().value);
+        assertEquals(2, loader.loads.get());
+    }
+
+    private static LazyConfigLoader<DemoLoader> lazy(DemoLoader loader) {
+        return new LazyConfigLoader<>("demo", loader, DemoLoader::load, l -> null);
+    }
+
+    private static Properties properties(String key, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(key, value);
+        return properties;
+    }
+
+    /**
+     * 加载时按当前占位符解析器解析取值的加载器
+     */
+    private static class DemoLoader {
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private volatile String value;
+
+        private int failuresLeft;
+
+        void load() {
+            loads.incrementAndGet();
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("加载失败");
+            }
+            value = PlaceholderUtils.resolver().resolve("${demo.version:}");
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package core.gitee.xudai.config.loader.b.loader;
+
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YAML 流式读取测试：根节点形式、绑定前过滤与占位符解析
+ * @author daixu
+ */
+class YamlConfigLoaderTest {
+
+    private static final String URL_PROPERTY = "yaml.streaming.test.url";
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("catalog", ".yaml");
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        System.clearProperty(URL_PROPERTY);
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @Test
+    void streamsEntriesOfRootArray() throws Exception {
+        write("- id: source\n  url: a\n- id: javadoc\n  url: b\n");
+        List<Entry> entries = new ArrayList<>();
+
+        int total = YamlConfigLoader.streamYamlConfigList(file, Entry.class, CatalogEntryFilter.ALL, entries::add);
+
+        assertEquals(2, total);
+        assertEquals("source", entries.get(0).getId());
+        assertEquals("b", entries.get(1).getUrl());
+    }
+
+    @Test
+    void streamsEveryArrayFieldOfRootObject() throws Exception {
+        write("version: 1\nplugins:\n  - id: source\n  - id: javadoc\nextra:\n  - id: gpg\n");
+        List<String> ids = new ArrayList<>();
+
+        int total = YamlConfigLoader.streamYamlConfigList(file, Entry.class, CatalogEntryFilter.ALL, e -> ids.add(e.getId()));
+
+        assertEquals(3, total);
+        assertEquals(List.of("source", "javadoc", "gpg"), ids);
+    }
+
+    @Test
+    void filtersEntriesBeforeBinding() throws Exception {
+        write("- id: source\n  baseInfo:\n    enabled: true\n"
+                + "- id: javadoc\n  baseInfo:\n    enabled: false\n"
+                + "- id: gpg\n"
+                + "- id: broken\n  url: [not, a, string]\n");
+        List<String> ids = new ArrayList<>();
+
+        CatalogEntryFilter filter = CatalogEntryFilter.ids(Set.of("source", "javadoc", "gpg")).and(CatalogEntryFilter.enabledOnly());
+        int total = YamlConfigLoader.streamYamlConfigList(file, Entry.class, filter, e -> ids.add(e.getId()));
+
+        // 被过滤的条目也计入总数；类型不匹配的条目被过滤后不会绑定，也就不会报错
+        assertEquals(4, total);
+        assertEquals(List.of("source", "gpg"), ids);
+    }
+
+    @Test
+    void resolvesPlaceholdersPerEntry() throws Exception {
+        System.setProperty(URL_PROPERTY, "https://example.com");
+        write("- id: source\n  url: ${" + URL_PROPERTY + "}\n- id: javadoc\n  url: ${missing.property:fallback}\n");
+        List<Entry> entries = new ArrayList<>();
+
+        YamlConfigLoader.streamYamlConfigList(file, Entry.class, CatalogEntryFilter.ALL, entries::add);
+
+        assertEquals("https://example.com", entries.get(0).getUrl());
+        assertEquals("fallback", entries.get(1).getUrl());
+    }
+
+    @Test
+    void propagatesConsumerFailure() throws Exception {
+        write("- id: source\n- id: javadoc\n");
+        List<String> ids = new ArrayList<>();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+                YamlConfigLoader.streamYamlConfigList(file, Entry.class, CatalogEntryFilter.ALL, e -> {
+                    ids.add(e.getId());
+                    throw new IllegalArgumentException("invalid " + e.getId());
+                }));
+
+        // 校验失败时立即停止，后续条目不再读取
+        assertEquals("invalid source", error.getMessage());
+        assertEquals(List.of("source"), ids);
+    }
+
+    @Test
+    void rejectsScalarRoot() throws Exception {
+        write("just a string\n");
+
+        assertThrows(UncheckedIOException.class, () ->
+                YamlConfigLoader.streamYamlConfigList(file, Entry.class, CatalogEntryFilter.ALL, e -> fail("不应读取条目")));
+    }
+
+    private void write(String yaml) throws IOException {
+        Files.writeString(file, yaml, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 测试用配置条目
+     */
+    public static class Entry {
+
+        private String id;
+
+        private String url;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+    }
+
+}
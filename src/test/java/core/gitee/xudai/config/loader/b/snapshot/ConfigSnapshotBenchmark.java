@@ -0,0 +1,54 @@
+package core.gitee.xudai.config.loader.b.snapshot;
+
+import core.gitee.xudai.config.loader.b.loader.AbstractConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.DependencyConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.LicenseConfigLoader;
+import core.gitee.xudai.config.loader.b.loader.PluginConfigLoader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 配置加载启动耗时对比：YAML 解析（Jackson YAML + Bean Validation + 转换）与二进制快照解码
+ * 启动开销主要来自类加载与初始化，同一 JVM 内重复测量没有意义，因此以单次执行模式测量，每次测量都在新的 JVM 中进行，
+ * 加载全部配置并访问所有元数据（快照为按需解码，避免只测到索引读取）
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=ConfigSnapshotBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ConfigSnapshotBenchmark {
+
+    /**
+     * 是否使用二进制快照（快照在首次访问时按系统属性打开，须在加载配置前设置）
+     */
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    @Setup
+    public void setUp() {
+        System.setProperty(ConfigSnapshot.ENABLED_PROPERTY, String.valueOf(snapshot));
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        List<AbstractConfigLoader<?, ?, ?>> loaders = List.of(
+                new PluginConfigLoader(),
+                new LicenseConfigLoader(),
+                new DependencyConfigLoader()
+        );
+        for (AbstractConfigLoader<?, ?, ?> loader : loaders) {
+            loader.load();
+            for (Object metadata : loader.getMetadataList()) {
+                blackhole.consume(metadata);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package core.gitee.xudai.config.loader.b.snapshot;
+
+import core.gitee.xudai.config.loader.b.util.PlaceholderUtils;
+import core.gitee.xudai.strategy.core.metadata.BaseStrategyMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 配置二进制快照测试：文件格式读写、按需解码与占位符解析
+ * @author daixu
+ */
+class ConfigSnapshotTest {
+
+    private static final String URL_PROPERTY = "config.snapshot.test.url";
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("config-snapshot", ".bin");
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        System.clearProperty(URL_PROPERTY);
+        PlaceholderUtils.resetSnapshot();
+    }
+
+    @Test
+    void roundTripsSectionsInOrder() throws Exception {
+        Map<String, List<? extends BaseStrategyMetadata<?>>> entries = new LinkedHashMap<>();
+        entries.put("plugin-configs.yaml", List.of(new DemoMetadata("source", "a"), new DemoMetadata("javadoc", "b")));
+        entries.put("license-configs.yaml", List.of(new DemoMetadata("apache", "c")));
+        ConfigSnapshot.write(file, entries);
+
+        ConfigSnapshot snapshot = ConfigSnapshot.open(file.toUri().toURL());
+
+        assertTrue(snapshot.contains("plugin-configs.yaml"));
+        assertTrue(snapshot.contains("license-configs.yaml"));
+        List<DemoMetadata> plugins = snapshot.section("plugin-configs.yaml");
+        assertEquals(2, plugins.size());
+        assertEquals("source", plugins.get(0).getId());
+        assertEquals("a", plugins.get(0).getUrl());
+        assertEquals("javadoc", plugins.get(1).getId());
+        List<DemoMetadata> licenses = snapshot.section("license-configs.yaml");
+        assertEquals("c", licenses.get(0).getUrl());
+        assertNull(snapshot.section("dependency-configs.yaml"));
+    }
+
+    @Test
+    void writesEmptySection() throws Exception {
+        Map<String, List<? extends BaseStrategyMetadata<?>>> entries = new LinkedHashMap<>();
+        entries.put("empty.yaml", List.of());
+        ConfigSnapshot.write(file, entries);
+
+        ConfigSnapshot snapshot = ConfigSnapshot.open(file.toUri().toURL());
+
+        assertTrue(snapshot.section("empty.yaml").isEmpty());
+    }
+
+    @Test
+    void resolvesPlaceholdersOncePerResolver() throws Exception {
+        ConfigSnapshot.write(file, Map.of("plugin-configs.yaml",
+                List.of(new DemoMetadata("source", "${" + URL_PROPERTY + ":https://default}"))));
+        ConfigSnapshot snapshot = ConfigSnapshot.open(file.toUri().toURL());
+
+        List<DemoMetadata> first = snapshot.section("plugin-configs.yaml");
+        assertEquals("https://default", first.get(0).getUrl());
+        // 解析器不变：同一集合、同一条目实例，不重复解码
+        List<DemoMetadata> again = snapshot.section("plugin-configs.yaml");
+        assertSame(first, again);
+        assertSame(first.get(0), again.get(0));
+
+        // 重置解析器后按新的取值重新解析
+        System.setProperty(URL_PROPERTY, "https://override");
+        PlaceholderUtils.resetSnapshot();
+        List<DemoMetadata> rebound = snapshot.section("plugin-configs.yaml");
+        assertNotSame(first, rebound);
+        assertEquals("https://override", rebound.get(0).getUrl());
+        assertEquals("https://default", first.get(0).getUrl());
+    }
+
+    @Test
+    void rejectsInvalidMagic() throws Exception {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x12345678);
+            out.writeInt(1);
+            out.writeInt(0);
+        }
+
+        assertThrows(IOException.class, () -> ConfigSnapshot.open(file.toUri().toURL()));
+    }
+
+    @Test
+    void rejectsIncompatibleFormatVersion() throws Exception {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x43504353);
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeInt(0);
+        }
+
+        assertThrows(IOException.class, () -> ConfigSnapshot.open(file.toUri().toURL()));
+    }
+
+    /**
+     * 测试用元数据
+     */
+    static class DemoMetadata extends BaseStrategyMetadata<DemoMetadata> {
+
+        private final String url;
+
+        DemoMetadata() {
+            this.url = null;
+        }
+
+        DemoMetadata(String id, String url) {
+            super(id, id, 1, null, id, "demo");
+            this.url = url;
+        }
+
+        String getUrl() {
+            return url;
+        }
+
+        @Override
+        public String getStrategyType() {
+            return "demo";
+        }
+
+    }
+
+}
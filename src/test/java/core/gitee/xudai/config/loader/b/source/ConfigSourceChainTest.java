@@ -0,0 +1,174 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import core.gitee.xudai.enums.ConfigFilePathEnum;
+import core.gitee.xudai.metadata.BaseConfigLoadMetadata.ConfigSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 配置来源链测试：覆盖文件 → 系统属性 → 远程配置中心按顺序合并，后面的层优先，合并结果按指纹缓存
+ * @author daixu
+ */
+class ConfigSourceChainTest {
+
+    private static final String FILE = ConfigFilePathEnum.LICENSE.getFinalPath();
+
+    private HttpServer server;
+
+    private Path root;
+
+    private final Map<String, String> properties = new HashMap<>();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile String remoteBody = "licenses:\n"
+            + "  - id: Apache-2.0\n"
+            + "    licenseInfo:\n"
+            + "      url: https://remote.example.org/LICENSE\n"
+            + "  - id: EPL-2.0\n"
+            + "    title: remote\n";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("config-source-chain");
+        Files.createDirectories(root.resolve("override"));
+        Files.writeString(root.resolve("override").resolve("license-config.yaml"),
+                "licenses:\n"
+                        + "  - id: Apache-2.0\n"
+                        + "    title: local\n"
+                        + "    licenseInfo:\n"
+                        + "      name: Apache License\n"
+                        + "      url: https://local.example.org/LICENSE\n"
+                        + "      distribution: repo\n"
+                        + "  - id: MIT\n"
+                        + "    title: local\n",
+                StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void laterLayersTakePrecedence() {
+        properties.put("license", "[{id: Apache-2.0, title: property, licenseInfo: {name: Apache License 2.0}}]");
+
+        ConfigSourceChain.MergedConfig merged = chain().resolve(FILE);
+
+        Map<String, Map<String, Object>> byId = byId(merged.getEntries());
+        // 新的 id 按首次出现的顺序追加
+        assertEquals(List.of("Apache-2.0", "MIT", "EPL-2.0"), new ArrayList<>(byId.keySet()));
+        Map<String, Object> apache = byId.get("Apache-2.0");
+        // 标量：系统属性覆盖覆盖文件
+        assertEquals("property", apache.get("title"));
+        // 对象逐个键合并：name 来自系统属性，url 来自远程配置中心，distribution 保留覆盖文件的值
+        Map<?, ?> licenseInfo = (Map<?, ?>) apache.get("licenseInfo");
+        assertEquals("Apache License 2.0", licenseInfo.get("name"));
+        assertEquals("https://remote.example.org/LICENSE", licenseInfo.get("url"));
+        assertEquals("repo", licenseInfo.get("distribution"));
+        assertEquals("local", byId.get("MIT").get("title"));
+
+        assertEquals(List.of(ConfigSource.LOCAL_FILE, ConfigSource.SYSTEM_PROPERTY, ConfigSource.REMOTE_CONFIG_CENTER),
+                merged.getSources());
+        assertEquals(ConfigSource.REMOTE_CONFIG_CENTER, merged.getEffectiveSource());
+    }
+
+    @Test
+    void layersWithoutContentDoNotTakePart() {
+        server.stop(0);
+
+        ConfigSourceChain.MergedConfig merged = chain().resolve(FILE);
+
+        assertEquals(List.of(ConfigSource.LOCAL_FILE), merged.getSources());
+        assertEquals("https://local.example.org/LICENSE",
+                ((Map<?, ?>) byId(merged.getEntries()).get("Apache-2.0").get("licenseInfo")).get("url"));
+    }
+
+    @Test
+    void reusesMergedResultWhileFingerprintsAreUnchanged() {
+        ConfigSourceChain chain = chain();
+        ConfigSourceChain.MergedConfig first = chain.resolve(FILE);
+
+        assertSame(first, chain.resolve(FILE));
+        assertEquals(1, requests.get());
+
+        properties.put("license", "[{id: MIT, title: property}]");
+        ConfigSourceChain.MergedConfig changed = chain.resolve(FILE);
+
+        assertNotSame(first, changed);
+        assertEquals("property", byId(changed.getEntries()).get("MIT").get("title"));
+    }
+
+    @Test
+    void remoteLayerFallsBackToCacheInsideChain() {
+        chain().resolve(FILE);
+        server.stop(0);
+
+        ConfigSourceChain.MergedConfig merged = chain().resolve(FILE);
+
+        assertEquals(ConfigSource.REMOTE_CONFIG_CENTER, merged.getEffectiveSource());
+        assertEquals("remote", byId(merged.getEntries()).get("EPL-2.0").get("title"));
+    }
+
+    /**
+     * 与默认来源链相同的层次顺序（环境变量层省略），各层使用测试目录与测试服务器
+     */
+    private ConfigSourceChain chain() {
+        URI remote = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        return new ConfigSourceChain(List.of(
+                new OverrideFileConfigSource(root.resolve("override")),
+                new PropertyConfigSource(ConfigSource.SYSTEM_PROPERTY,
+                        type -> type.name().toLowerCase(Locale.ROOT), properties::get),
+                new HttpConfigSource(remote, root.resolve("cache"), HttpClient.newHttpClient(), false)));
+    }
+
+    private static Map<String, Map<String, Object>> byId(List<Map<String, Object>> entries) {
+        Map<String, Map<String, Object>> byId = new LinkedHashMap<>();
+        for (Map<String, Object> entry : entries) {
+            byId.put(String.valueOf(entry.get("id")), entry);
+        }
+        return byId;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().endsWith("/license-config.yaml")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] content = remoteBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        }
+    }
+
+}
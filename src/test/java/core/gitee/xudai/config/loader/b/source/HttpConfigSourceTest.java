@@ -0,0 +1,165 @@
+package core.gitee.xudai.config.loader.b.source;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 远程配置中心测试：ETag 条件请求（304 复用本地缓存）、离线与服务不可用时回退到本地缓存
+ * @author daixu
+ */
+class HttpConfigSourceTest {
+
+    private static final String FILE = "config/license-config.yaml";
+
+    private HttpServer server;
+
+    private Path cacheRoot;
+
+    private URI baseUri;
+
+    /**
+     * 服务端当前的配置内容与 ETag
+     */
+    private volatile String body = "licenses:\n  - id: Apache-2.0\n    title: v1\n";
+
+    private volatile String etag = "\"v1\"";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cacheRoot = Files.createTempDirectory("config-cache");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/config/", this::handle);
+        server.start();
+        baseUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/config");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> stream = Files.walk(cacheRoot)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void revalidatesCachedCopyWithEtag() {
+        assertEquals("v1", title(source(false).read(FILE)));
+        assertEquals(0, notModified.get());
+
+        // 下一次构建：携带缓存的 ETag 发送条件请求，304 时使用本地缓存
+        HttpConfigSource next = source(false);
+        assertEquals("etag:\"v1\"", next.fingerprint(FILE));
+        assertEquals("v1", title(next.read(FILE)));
+        assertEquals(2, requests.get());
+        assertEquals(1, notModified.get());
+    }
+
+    @Test
+    void replacesCachedCopyWhenEtagChanges() {
+        source(false).read(FILE);
+
+        body = "licenses:\n  - id: Apache-2.0\n    title: v2\n";
+        etag = "\"v2\"";
+
+        HttpConfigSource next = source(false);
+        assertEquals("etag:\"v2\"", next.fingerprint(FILE));
+        assertEquals("v2", title(next.read(FILE)));
+        assertEquals(0, notModified.get());
+    }
+
+    @Test
+    void requestsEachFileOncePerSource() {
+        HttpConfigSource source = source(false);
+        source.fingerprint(FILE);
+        source.read(FILE);
+        source.read(FILE);
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void fallsBackToCachedCopyWhenServerIsUnavailable() {
+        source(false).read(FILE);
+        server.stop(0);
+
+        HttpConfigSource next = source(false);
+        assertEquals("etag:\"v1\"", next.fingerprint(FILE));
+        assertEquals("v1", title(next.read(FILE)));
+    }
+
+    @Test
+    void usesOnlyCachedCopyWhenOffline() {
+        HttpConfigSource offline = source(true);
+        assertNull(offline.fingerprint(FILE));
+        assertTrue(offline.read(FILE).isEmpty());
+        assertEquals(0, requests.get());
+
+        source(false).read(FILE);
+        assertEquals("v1", title(source(true).read(FILE)));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void contributesNothingWhenFileIsMissing() {
+        HttpConfigSource source = source(false);
+
+        assertNull(source.fingerprint("config/plugin-config.yaml"));
+        assertTrue(source.read("config/plugin-config.yaml").isEmpty());
+    }
+
+    private HttpConfigSource source(boolean offline) {
+        return new HttpConfigSource(baseUri, cacheRoot, HttpClient.newHttpClient(), offline);
+    }
+
+    private static String title(List<Map<String, Object>> entries) {
+        assertEquals(1, entries.size());
+        return String.valueOf(entries.get(0).get("title"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().endsWith("/license-config.yaml")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String currentEtag = etag;
+            exchange.getResponseHeaders().set("ETag", currentEtag);
+            if (currentEtag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.gitee.xudai.container.DependencyConfigContainer;
+import core.gitee.xudai.container.LicenseConfigContainer;
+import core.gitee.xudai.container.PluginConfigContainer;
+import core.gitee.xudai.enums.ConfigFilePathEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 配置绑定耗时对比：反射绑定与 Blackbird 优化绑定
+ * 1. 冷绑定：每次新建 ObjectMapper 后首次绑定三份配置文件（包含反序列化器的构建与访问器生成）
+ * 2. 热绑定：同一个 ObjectMapper 重复绑定
+ * 两种绑定方式分别在独立的 JVM 中执行，互不影响
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=JacksonBindBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBindBenchmark {
+
+    /**
+     * 是否启用 Blackbird 优化绑定
+     */
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    /**
+     * 配置文件内容（只读取一次，测量的只是绑定耗时）
+     */
+    private Map<Class<?>, byte[]> documents;
+
+    /**
+     * 热绑定共用的 ObjectMapper
+     */
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        documents = new LinkedHashMap<>();
+        documents.put(PluginConfigContainer.class, read(ConfigFilePathEnum.PLUGIN.getFinalPath()));
+        documents.put(LicenseConfigContainer.class, read(ConfigFilePathEnum.LICENSE.getFinalPath()));
+        documents.put(DependencyConfigContainer.class, read(ConfigFilePathEnum.DEPENDENCY.getFinalPath()));
+        mapper = JacksonYamlUtils.configureYamlMapper(blackbird);
+    }
+
+    @Benchmark
+    public void coldBind(Blackhole blackhole) throws IOException {
+        bindAll(JacksonYamlUtils.configureYamlMapper(blackbird), blackhole);
+    }
+
+    @Benchmark
+    public void warmBind(Blackhole blackhole) throws IOException {
+        bindAll(mapper, blackhole);
+    }
+
+    private void bindAll(ObjectMapper objectMapper, Blackhole blackhole) throws IOException {
+        for (Map.Entry<Class<?>, byte[]> document : documents.entrySet()) {
+            blackhole.consume(objectMapper.readValue(document.getValue(), document.getKey()));
+        }
+    }
+
+    private static byte[] read(String path) throws IOException {
+        try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("配置文件不存在：" + path);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 占位符解析耗时与内存分配对比：正则逐次匹配（原实现）与编译模板
+ * 样本取自配置文件中常见的字符串形态：不含占位符、单个占位符、带默认值、多个占位符
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=PlaceholderBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderBenchmark {
+
+    /**
+     * 原实现使用的正则表达式
+     */
+    private static final Pattern ENV_PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)(?::([^}]*))?}");
+
+    /**
+     * 测试样本
+     */
+    private static final List<String> SAMPLES = List.of(
+            "org.apache.maven.plugins",
+            "maven-source-plugin",
+            "对发布的 Jar 包进行 GPG 签名，中央仓库发布必需",
+            "${HOME}",
+            "${MAVEN_GPG_PLUGIN_VERSION:3.2.8}",
+            "${PUBLISHING_SERVER_ID:central}/${USER:anonymous}"
+    );
+
+    /**
+     * 环境变量快照（编译模板的取值来源）
+     */
+    private Map<String, String> snapshot;
+
+    @Setup
+    public void setUp() {
+        snapshot = Map.copyOf(System.getenv());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void regex(Blackhole blackhole) {
+        for (String sample : SAMPLES) {
+            blackhole.consume(resolveWithRegex(sample));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(6)
+    public void template(Blackhole blackhole) {
+        for (String sample : SAMPLES) {
+            blackhole.consume(PlaceholderTemplate.resolve(sample, snapshot::get));
+        }
+    }
+
+    /**
+     * 原实现：每次解析都执行正则匹配并逐个查询环境变量
+     */
+    private static String resolveWithRegex(String val) {
+        Matcher m = ENV_PLACEHOLDER.matcher(val);
+        StringBuffer sb = new StringBuffer();
+        while (m.find()) {
+            String key = m.group(1).trim();
+            String def = m.group(2) != null ? m.group(2) : "";
+            String real = System.getenv(key);
+            m.appendReplacement(sb, Matcher.quoteReplacement(real != null ? real : def));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+}
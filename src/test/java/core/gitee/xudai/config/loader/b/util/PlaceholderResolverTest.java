@@ -0,0 +1,122 @@
+package core.gitee.xudai.config.loader.b.util;
+
+import core.gitee.xudai.enums.PlaceholderSourceEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 占位符解析器测试：嵌套占位符、来源优先级、记忆化与循环引用检测
+ * @author daixu
+ */
+class PlaceholderResolverTest {
+
+    @Test
+    void resolvesNestedPlaceholderNames() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null,
+                properties("maven-source-plugin.version", "source.version", "source.version", "3.4.0"));
+
+        assertEquals("3.4.0", resolver.resolve("${${maven-source-plugin.version}:3.3.1}"));
+        assertEquals("3.3.1", resolver.resolve("${${missing.version.key}:3.3.1}"));
+    }
+
+    @Test
+    void usesDefaultWhenDereferencedNameIsAbsent() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "x"));
+
+        // a 存在但名为 x 的属性不存在：使用默认值，不退回到 a 的值
+        assertEquals("b", resolver.resolve("${${a}:b}"));
+        assertEquals("", resolver.resolve("${${a}}"));
+        assertEquals("x", resolver.resolve("${a:b}"));
+    }
+
+    @Test
+    void prefersUserPropertiesOverProjectProperties() {
+        PlaceholderResolver resolver = new PlaceholderResolver(properties("gpg.skip", "true"), properties("gpg.skip", "false"));
+
+        assertEquals("true", resolver.resolve("${gpg.skip}"));
+        assertEquals(PlaceholderSourceEnum.SESSION_USER_PROPERTY, resolver.lookup("gpg.skip").getSource());
+    }
+
+    @Test
+    void resolvesValuesThatContainPlaceholders() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null,
+                properties("url", "https://${host}/repo", "host", "central.sonatype.com"));
+
+        assertEquals("https://central.sonatype.com/repo", resolver.resolve("${url}"));
+        assertEquals(PlaceholderSourceEnum.PROJECT_PROPERTY, resolver.lookup("host").getSource());
+    }
+
+    @Test
+    void recordsMissingValues() {
+        PlaceholderResolver resolver = new PlaceholderResolver();
+
+        assertEquals("fallback", resolver.resolve("${placeholder.resolver.test.missing:fallback}"));
+        assertNull(resolver.lookup("placeholder.resolver.test.missing").getValue());
+        assertEquals(PlaceholderSourceEnum.NONE, resolver.lookup("placeholder.resolver.test.missing").getSource());
+    }
+
+    @Test
+    void memoizesResolutions() {
+        Properties project = properties("version", "1.0");
+        PlaceholderResolver resolver = new PlaceholderResolver(null, project);
+
+        assertEquals("1.0", resolver.resolve("${version}"));
+        // 创建时已复制取值，之后修改来源不影响解析结果
+        project.setProperty("version", "2.0");
+        assertEquals("1.0", resolver.resolve("${version}"));
+        assertTrue(resolver.getResolutions().containsKey("version"));
+    }
+
+    @Test
+    void detectsCycleWithFullChain() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "${b}", "b", "${c}", "c", "${a}"));
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> resolver.resolve("${a}"));
+
+        assertTrue(error.getMessage().contains("a -> b -> c -> a"), error.getMessage());
+    }
+
+    @Test
+    void detectsSelfReference() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "prefix-${a}"));
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve("${a}"));
+    }
+
+    @Test
+    void detectsCycleThroughNestedName() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "${${b}}", "b", "a"));
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve("${a}"));
+    }
+
+    @Test
+    void cycleDoesNotPoisonOtherLookups() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "${b}", "b", "${a}", "c", "ok"));
+
+        assertThrows(IllegalStateException.class, () -> resolver.resolve("${a}"));
+        // 循环中的名称不会记录为已解析，再次解析仍然报错；其他名称正常解析
+        assertThrows(IllegalStateException.class, () -> resolver.resolve("${b}"));
+        assertEquals("ok", resolver.resolve("${c}"));
+        assertFalse(resolver.getResolutions().containsKey("a"));
+    }
+
+    @Test
+    void repeatedReferenceIsNotACycle() {
+        PlaceholderResolver resolver = new PlaceholderResolver(null, properties("a", "${b}-${b}", "b", "x"));
+
+        assertEquals("x-x", resolver.resolve("${a}"));
+    }
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+}
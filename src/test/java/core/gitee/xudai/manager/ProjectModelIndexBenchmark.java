@@ -0,0 +1,133 @@
+package core.gitee.xudai.manager;
+
+import core.gitee.xudai.strategy.dependency.support.DependencyDetector;
+import core.gitee.xudai.strategy.plugin.support.PluginDetector;
+import org.apache.maven.model.*;
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 项目模型检测耗时：线性扫描（PluginDetector、DependencyDetector 的 MavenProject 重载）与坐标索引对比
+ * 模型规模按 BOM 较多的模块构造：受管依赖（默认 600 个）、80 个直接依赖、40 个受管插件、15 个构建插件；
+ * 每次操作为一个模块的一轮检测（每个策略一次：5 个插件、3 个依赖，其中一半命中）
+ * 1. scan：线性扫描
+ * 2. index：建立索引后查找（含建立索引的耗时）
+ * 3. lookup：仅索引查找（索引已建立，模拟同一模块中的多次检测）
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=ProjectModelIndexBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectModelIndexBenchmark {
+
+    private static final int DEPENDENCIES = 80;
+
+    private static final int MANAGED_PLUGINS = 40;
+
+    private static final int BUILD_PLUGINS = 15;
+
+    /**
+     * 受管依赖数
+     */
+    @Param({"600"})
+    private int managedDependencies;
+
+    private MavenProject project;
+
+    private ProjectModelIndex index;
+
+    @Setup
+    public void setUp() {
+        project = createProject(managedDependencies);
+        index = ProjectModelIndex.build(project);
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        for (int i = 0; i < 5; i++) {
+            blackhole.consume(PluginDetector.hasExistingPlugin(project, "org.example.plugins", pluginId(i * 11)));
+        }
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(DependencyDetector.hasExistingDependency(project, "org.example", dependencyId(i * 401)));
+        }
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        lookupAll(ProjectModelIndex.build(project), blackhole);
+    }
+
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        lookupAll(index, blackhole);
+    }
+
+    private static void lookupAll(ProjectModelIndex index, Blackhole blackhole) {
+        for (int i = 0; i < 5; i++) {
+            blackhole.consume(index.hasDeclaredPlugin("org.example.plugins", pluginId(i * 11)));
+        }
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(index.hasDeclaredDependency("org.example", dependencyId(i * 401)));
+        }
+    }
+
+    private static MavenProject createProject(int managedDependencies) {
+        Model model = new Model();
+        model.setGroupId("org.example");
+        model.setArtifactId("benchmark");
+        model.setVersion("1.0.0");
+
+        DependencyManagement dependencyManagement = new DependencyManagement();
+        for (int i = 0; i < managedDependencies; i++) {
+            dependencyManagement.addDependency(dependency(i));
+        }
+        model.setDependencyManagement(dependencyManagement);
+        for (int i = 0; i < DEPENDENCIES; i++) {
+            model.addDependency(dependency(i * 7));
+        }
+
+        Build build = new Build();
+        PluginManagement pluginManagement = new PluginManagement();
+        for (int i = 0; i < MANAGED_PLUGINS; i++) {
+            pluginManagement.addPlugin(plugin(i));
+        }
+        build.setPluginManagement(pluginManagement);
+        for (int i = 0; i < BUILD_PLUGINS; i++) {
+            build.addPlugin(plugin(i * 3));
+        }
+        model.setBuild(build);
+        return new MavenProject(model);
+    }
+
+    private static Dependency dependency(int index) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId("org.example");
+        dependency.setArtifactId(dependencyId(index));
+        dependency.setVersion("1.0." + index);
+        return dependency;
+    }
+
+    private static Plugin plugin(int index) {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("org.example.plugins");
+        plugin.setArtifactId(pluginId(index));
+        plugin.setVersion("1.0." + index);
+        return plugin;
+    }
+
+    private static String dependencyId(int index) {
+        return "dependency-" + index;
+    }
+
+    private static String pluginId(int index) {
+        return "plugin-" + index;
+    }
+
+}
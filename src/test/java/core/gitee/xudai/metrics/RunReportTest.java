@@ -0,0 +1,130 @@
+package core.gitee.xudai.metrics;
+
+import core.gitee.xudai.enums.MetricCategoryEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 运行报告测试：模块以 groupId:artifactId 区分，关键路径按模块依赖图计算
+ * @author daixu
+ */
+class RunReportTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    void keepsModulesWithSameArtifactIdApart() {
+        RunReport report = RunReport.build(0, List.of(
+                strategy("org.a:core", "gpg", 0, 10),
+                strategy("org.b:core", "gpg", 0, 20)), Map.of());
+
+        assertEquals(2, report.getModules());
+        assertEquals(List.of("org.b:core", "org.a:core"), modules(report));
+    }
+
+    @Test
+    void criticalPathFollowsDependencyGraph() {
+        // a → b → d 与 a → c → d：c 比 b 慢，关键路径经过 c；e 单独耗时最长，但依赖链 a → c → d 更长
+        RunReport report = RunReport.build(0, List.of(
+                strategy("org:a", "source", 0, 10),
+                strategy("org:b", "source", 10, 5),
+                strategy("org:c", "source", 10, 30),
+                strategy("org:c", "javadoc", 40, 10),
+                strategy("org:d", "source", 50, 10),
+                strategy("org:e", "source", 0, 50)), Map.of(
+                "org:b", List.of("org:a"),
+                "org:c", List.of("org:a"),
+                "org:d", List.of("org:a", "org:b", "org:c")));
+
+        assertEquals(List.of("org:a", "org:c", "org:d"), path(report));
+        assertEquals(60.0, report.getCriticalPathMillis());
+    }
+
+    @Test
+    void skipsModulesWithoutMetricsInDependencyChain() {
+        // b 没有记录（未使用本插件），上游关系使用传递依赖，a → c 仍然相连
+        RunReport report = RunReport.build(0, List.of(
+                strategy("org:a", "source", 0, 10),
+                strategy("org:c", "source", 20, 10)), Map.of(
+                "org:b", List.of("org:a"),
+                "org:c", List.of("org:a", "org:b")));
+
+        assertEquals(List.of("org:a", "org:c"), path(report));
+        assertEquals(20.0, report.getCriticalPathMillis());
+    }
+
+    @Test
+    void moduleTimeSpansAllRecords() {
+        RunReport report = RunReport.build(0, List.of(
+                strategy("org:a", "source", 0, 10),
+                strategy("org:a", "javadoc", 0, 15),
+                new RunMetrics.Sample(MetricCategoryEnum.FORK, "gpg:sign", "org:a", "main", 20 * MILLIS, 5 * MILLIS, -1, -1, false)),
+                Map.of());
+
+        RunReport.ModuleStats module = report.getModuleStats().get(0);
+        assertEquals(2, module.getStrategies());
+        assertEquals(25.0, module.getStrategyWallMillis());
+        assertEquals(25.0, module.getWallMillis());
+        assertEquals(List.of("org:a"), path(report));
+    }
+
+    @Test
+    void emptyWithoutModuleRecords() {
+        RunReport report = RunReport.build(0, List.of(
+                new RunMetrics.Sample(MetricCategoryEnum.CONFIG_LOAD, "config/license-config.yaml", null, "main", 0, MILLIS, -1, -1, false)),
+                Map.of());
+
+        assertEquals(0, report.getModules());
+        assertTrue(report.getCriticalPath().isEmpty());
+        assertEquals(0.0, report.getCriticalPathMillis());
+    }
+
+    @Test
+    void writesJsonAndHtml() throws IOException {
+        RunReport report = RunReport.build(0, List.of(
+                strategy("org:a", "source", 0, 10),
+                strategy("org:b", "source", 10, 10)), Map.of("org:b", List.of("org:a")));
+        Path directory = Files.createTempDirectory("run-report");
+        try {
+            report.write(directory);
+
+            String json = Files.readString(directory.resolve(RunReport.JSON_FILE));
+            assertTrue(json.contains("\"criticalPathMillis\" : 20.0"));
+            assertTrue(Files.readString(directory.resolve(RunReport.HTML_FILE)).contains("org:a"));
+        } finally {
+            Files.deleteIfExists(directory.resolve(RunReport.JSON_FILE));
+            Files.deleteIfExists(directory.resolve(RunReport.HTML_FILE));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static RunMetrics.Sample strategy(String module, String name, long startMillis, long wallMillis) {
+        return new RunMetrics.Sample(MetricCategoryEnum.STRATEGY, name, module, "main",
+                startMillis * MILLIS, wallMillis * MILLIS, -1, -1, false);
+    }
+
+    private static List<String> modules(RunReport report) {
+        List<String> modules = new ArrayList<>();
+        for (RunReport.ModuleStats stats : report.getModuleStats()) {
+            modules.add(stats.getModule());
+        }
+        return modules;
+    }
+
+    private static List<String> path(RunReport report) {
+        List<String> path = new ArrayList<>();
+        for (RunReport.PathStep step : report.getCriticalPath()) {
+            path.add(step.getName());
+        }
+        return path;
+    }
+
+}
@@ -0,0 +1,125 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 依赖图分析耗时：在合成的大规模依赖图上分别测量构建（ID 映射 + 邻接数组）与分析（拓扑分层 + 循环检测）的耗时
+ * 1. chain：单条依赖链（每个节点依赖前一个节点），递归 DFS 在此类图上会栈溢出
+ * 2. random-dag：每个节点随机依赖至多 4 个之前的节点
+ * 3. random-cycles：在 random-dag 的基础上插入若干条回边，形成多个循环
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=DependencyGraphBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyGraphBenchmark {
+
+    /**
+     * 每个节点最多依赖的节点数量
+     */
+    private static final int MAX_DEPENDENCIES = 4;
+
+    /**
+     * random-cycles 中插入的回边数量
+     */
+    private static final int BACK_EDGES = 16;
+
+    /**
+     * 依赖图形态
+     */
+    @Param({"chain", "random-dag", "random-cycles"})
+    private String shape;
+
+    /**
+     * 节点数
+     */
+    @Param({"100000"})
+    private int size;
+
+    private List<StrategyNode> nodes;
+
+    /**
+     * 预先构建的依赖图（只测量分析耗时）
+     */
+    private DependencyGraph graph;
+
+    @Setup
+    public void setUp() {
+        nodes = switch (shape) {
+            case "chain" -> chain(size);
+            case "random-dag" -> randomDag(size, new SplittableRandom(42));
+            case "random-cycles" -> withBackEdges(randomDag(size, new SplittableRandom(42)), new SplittableRandom(7));
+            default -> throw new IllegalArgumentException("未知的依赖图形态: " + shape);
+        };
+        graph = DependencyGraph.build(nodes, StrategyNode::getId, StrategyNode::getDependencies);
+    }
+
+    @Benchmark
+    public DependencyGraph build() {
+        return DependencyGraph.build(nodes, StrategyNode::getId, StrategyNode::getDependencies);
+    }
+
+    @Benchmark
+    public DependencyGraph.Analysis analyze() {
+        return graph.analyze();
+    }
+
+    private static List<StrategyNode> chain(int size) {
+        List<StrategyNode> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            nodes.add(node(i, i == 0 ? Collections.emptyList() : List.of(id(i - 1))));
+        }
+        return nodes;
+    }
+
+    private static List<StrategyNode> randomDag(int size, SplittableRandom random) {
+        List<StrategyNode> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int count = i == 0 ? 0 : random.nextInt(Math.min(i, MAX_DEPENDENCIES) + 1);
+            List<String> dependencies = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                dependencies.add(id(random.nextInt(i)));
+            }
+            nodes.add(node(i, dependencies));
+        }
+        return nodes;
+    }
+
+    /**
+     * 让若干个靠前的节点依赖靠后的节点（靠后的节点经依赖链可达靠前节点时形成循环）
+     */
+    private static List<StrategyNode> withBackEdges(List<StrategyNode> nodes, SplittableRandom random) {
+        int size = nodes.size();
+        for (int k = 0; k < BACK_EDGES && size > 1; k++) {
+            int to = random.nextInt(size / 2);
+            int from = size / 2 + random.nextInt(size - size / 2);
+            // 靠后的节点依赖靠前的节点，靠前的节点再依赖靠后的节点，保证形成循环
+            List<String> fromDependencies = new ArrayList<>(nodes.get(from).getDependencies());
+            fromDependencies.add(id(to));
+            nodes.set(from, node(from, fromDependencies));
+            List<String> toDependencies = new ArrayList<>(nodes.get(to).getDependencies());
+            toDependencies.add(id(from));
+            nodes.set(to, node(to, toDependencies));
+        }
+        return nodes;
+    }
+
+    private static StrategyNode node(int index, List<String> dependencies) {
+        return new StrategyNode(id(index), 0, true, false, dependencies, null);
+    }
+
+    private static String id(int index) {
+        return "node-" + index;
+    }
+
+}
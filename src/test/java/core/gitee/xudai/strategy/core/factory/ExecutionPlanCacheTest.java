@@ -0,0 +1,154 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行计划缓存测试：指纹稳定性与失效、读写与淘汰
+ * @author daixu
+ */
+class ExecutionPlanCacheTest {
+
+    private Path root;
+
+    private Path pom;
+
+    private CentralPublishConfig config;
+
+    private ExecutionPlanCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("plan-cache");
+        pom = Files.writeString(root.resolve("pom.xml"), "<project><version>1.0</version></project>");
+        MavenProject project = new MavenProject();
+        project.setFile(pom.toFile());
+        config = new CentralPublishConfig();
+        config.setProject(project);
+        cache = new ExecutionPlanCache(root.resolve("plans"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void fingerprintIsStableForSameInputs() throws Exception {
+        assertEquals(cache.fingerprint(nodes(List.of("a")), config), cache.fingerprint(nodes(List.of("a")), config));
+    }
+
+    @Test
+    void fingerprintChangesWhenNodesChange() throws Exception {
+        String base = cache.fingerprint(nodes(List.of("a")), config);
+
+        assertNotEquals(base, cache.fingerprint(nodes(List.of()), config));
+        assertNotEquals(base, cache.fingerprint(List.of(
+                new StrategyNode("a", 0, true, false, List.of(), null),
+                new StrategyNode("b", 0, false, false, List.of("a"), null)), config));
+        assertNotEquals(base, cache.fingerprint(List.of(
+                new StrategyNode("a", 1, true, false, List.of(), null),
+                new StrategyNode("b", 0, true, false, List.of("a"), null)), config));
+    }
+
+    @Test
+    void fingerprintChangesWhenPomChanges() throws Exception {
+        String before = cache.fingerprint(nodes(List.of("a")), config);
+
+        Files.writeString(pom, "<project><version>2.0</version></project>");
+
+        assertNotEquals(before, cache.fingerprint(nodes(List.of("a")), config));
+    }
+
+    @Test
+    void storesAndLoadsLayers() {
+        List<List<String>> layers = List.of(List.of("a"), List.of("b", "c"));
+
+        cache.store("key", layers);
+
+        assertEquals(layers, cache.load("key"));
+        assertNull(cache.load("other"));
+    }
+
+    @Test
+    void storesIdsContainingSeparators() {
+        List<List<String>> layers = List.of(List.of("a,b", "c"), List.of(), List.of("d=e", "f\\g", " h "));
+
+        cache.store("key", layers);
+
+        assertEquals(layers, cache.load("key"));
+    }
+
+    @Test
+    void fingerprintDistinguishesDependenciesFromIdSeparators() throws Exception {
+        List<StrategyNode> split = List.of(
+                new StrategyNode("a", 0, true, false, List.of(), null),
+                new StrategyNode("b", 0, true, false, List.of(), null),
+                new StrategyNode("c", 0, true, false, List.of("a", "b"), null));
+        List<StrategyNode> joined = List.of(
+                new StrategyNode("a", 0, true, false, List.of(), null),
+                new StrategyNode("b", 0, true, false, List.of(), null),
+                new StrategyNode("c", 0, true, false, List.of("a, b"), null));
+
+        assertNotEquals(cache.fingerprint(split, config), cache.fingerprint(joined, config));
+    }
+
+    @Test
+    void isDisabledByDefault() {
+        assertNull(ExecutionPlanCache.forConfig(config));
+
+        config.setPlanCacheEnabled(true);
+        assertNotNull(ExecutionPlanCache.forConfig(config));
+    }
+
+    @Test
+    void ignoresPlanWrittenForAnotherFingerprint() throws Exception {
+        cache.store("key", List.of(List.of("a")));
+        Files.move(root.resolve("plans/key.properties"), root.resolve("plans/other.properties"));
+
+        assertNull(cache.load("other"));
+    }
+
+    @Test
+    void ignoresCorruptPlan() throws Exception {
+        Files.createDirectories(root.resolve("plans"));
+        Files.writeString(root.resolve("plans/key.properties"), "fingerprint=key\nlayers=1\nlayer.0.size=not-a-number\n");
+
+        assertNull(cache.load("key"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedPlans() throws Exception {
+        for (int i = 0; i < 70; i++) {
+            cache.store("key" + i, List.of(List.of("a")));
+        }
+
+        try (Stream<Path> stream = Files.list(root.resolve("plans"))) {
+            assertEquals(64, stream.filter(p -> p.toString().endsWith(".properties")).count());
+        }
+    }
+
+    /**
+     * 节点 b 依赖给定的节点
+     */
+    private static List<StrategyNode> nodes(List<String> dependencies) {
+        return List.of(
+                new StrategyNode("a", 0, true, false, List.of(), null),
+                new StrategyNode("b", 0, true, false, dependencies, null));
+    }
+
+}
@@ -0,0 +1,286 @@
+package core.gitee.xudai.strategy.core.factory;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import core.gitee.xudai.strategy.core.api.MavenStrategy;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 策略调度器测试：依赖顺序、失败与跳过、取消、循环检测、执行计划缓存
+ * @author daixu
+ */
+class StrategySchedulerTest {
+
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    private final CentralPublishConfig config = new CentralPublishConfig();
+
+    private final String userHome = System.getProperty("user.home");
+
+    private Path cacheHome;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.setProperty("user.home", userHome);
+        if (cacheHome != null) {
+            try (Stream<Path> stream = Files.walk(cacheHome)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    void executesDependenciesBeforeDependents() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                node("c", false, List.of("a", "b"), succeed("c")),
+                node("a", false, List.of(), succeed("a")),
+                node("b", false, List.of("a"), succeed("b")));
+
+        new StrategyScheduler(2).execute(nodes, config);
+
+        assertEquals(List.of("a", "b", "c"), executed);
+    }
+
+    @Test
+    void optionalFailureSkipsOnlyItsDependents() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of(), fail()),
+                node("b", false, List.of("a"), succeed("b")),
+                node("c", false, List.of("b"), succeed("c")),
+                node("d", false, List.of(), succeed("d")));
+
+        new StrategyScheduler(1).execute(nodes, config);
+
+        assertEquals(List.of("d"), executed);
+    }
+
+    @Test
+    void requiredFailureAbortsRun() {
+        List<StrategyNode> nodes = List.of(
+                node("a", true, List.of(), fail()),
+                node("b", false, List.of("a"), succeed("b")));
+
+        MojoExecutionException error = assertThrows(MojoExecutionException.class,
+                () -> new StrategyScheduler(1).execute(nodes, config));
+
+        assertTrue(error.getMessage().contains("[a]"));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void skippedRequiredDependentAbortsRun() {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of(), fail()),
+                node("b", true, List.of("a"), succeed("b")));
+
+        MojoExecutionException error = assertThrows(MojoExecutionException.class,
+                () -> new StrategyScheduler(1).execute(nodes, config));
+
+        assertTrue(error.getMessage().contains("[b]"));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void disabledNodeDoesNotBlockDependents() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                new StrategyNode("a", 0, false, false, List.of(), succeed("a")),
+                node("b", false, List.of("a"), succeed("b")));
+
+        new StrategyScheduler(1).execute(nodes, config);
+
+        assertEquals(List.of("b"), executed);
+    }
+
+    @Test
+    void disabledRequiredNodeAbortsRun() {
+        List<StrategyNode> nodes = List.of(new StrategyNode("a", 0, false, true, List.of(), succeed("a")));
+
+        assertThrows(MojoExecutionException.class, () -> new StrategyScheduler(1).execute(nodes, config));
+    }
+
+    @Test
+    void requiredFailureCancelsRunningStrategies() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+        MavenStrategy slow = strategy(config -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                finished.countDown();
+            }
+        });
+        MavenStrategy failAfterSlowStarted = strategy(config -> {
+            awaitQuietly(started);
+            throw new MojoExecutionException("boom");
+        });
+        List<StrategyNode> nodes = List.of(
+                new StrategyNode("slow", 0, true, false, List.of(), slow),
+                new StrategyNode("fail", 1, true, true, List.of(), failAfterSlowStarted));
+
+        assertThrows(MojoExecutionException.class, () -> new StrategyScheduler(2).execute(nodes, config));
+
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void planRejectsCycles() {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of("b"), succeed("a")),
+                node("b", false, List.of("a"), succeed("b")));
+
+        assertThrows(IllegalStateException.class, () -> new StrategyScheduler(1).plan(nodes));
+        assertThrows(IllegalStateException.class, () -> new StrategyScheduler(1).execute(nodes, config));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void planRejectsUnknownDependencies() {
+        List<StrategyNode> nodes = List.of(node("a", false, List.of("missing"), succeed("a")));
+
+        assertThrows(IllegalArgumentException.class, () -> new StrategyScheduler(1).plan(nodes));
+    }
+
+    @Test
+    void cachedPlanDrivesDispatchOrder() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of(), succeed("a")),
+                node("b", false, List.of(), succeed("b")));
+        // 缓存的计划与默认排序（按 ID）不同：b 在 a 之前
+        storePlan(nodes, List.of(List.of("b", "a")));
+
+        new StrategyScheduler(1).execute(nodes, config);
+
+        assertEquals(List.of("b", "a"), executed);
+    }
+
+    @Test
+    void cachedPlanCannotHideCycle() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of("b"), succeed("a")),
+                node("b", false, List.of("a"), succeed("b")));
+        // 缓存中的计划被篡改或来自旧版本：声称存在合法分层
+        storePlan(nodes, List.of(List.of("a"), List.of("b")));
+
+        assertThrows(IllegalStateException.class, () -> new StrategyScheduler(1).execute(nodes, config));
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void staleCachedPlanIsReanalyzed() throws Exception {
+        List<StrategyNode> nodes = List.of(
+                node("a", false, List.of(), succeed("a")),
+                node("b", false, List.of("a"), succeed("b")));
+        // 依赖方位于被依赖方之前的计划不是合法分层，不得使用
+        storePlan(nodes, List.of(List.of("b"), List.of("a")));
+
+        new StrategyScheduler(1).execute(nodes, config);
+
+        assertEquals(List.of("a", "b"), executed);
+    }
+
+    @Test
+    void planPositionsValidateLayering() {
+        StrategyNode a = node("a", false, List.of(), succeed("a"));
+        StrategyNode b = node("b", false, List.of("a"), succeed("b"));
+        DependencyGraph graph = DependencyGraph.build(List.of(a, b), StrategyNode::getId, StrategyNode::getDependencies);
+
+        assertArrayEquals(new int[]{0, 1}, StrategyScheduler.planPositions(graph, List.of(List.of(a), List.of(b))));
+        assertNull(StrategyScheduler.planPositions(graph, List.of(List.of(a, b))));
+        assertNull(StrategyScheduler.planPositions(graph, List.of(List.of(a))));
+        assertNull(StrategyScheduler.planPositions(graph, List.of(List.of(a), List.of(a))));
+    }
+
+    /**
+     * 启用执行计划缓存（缓存目录位于临时的用户目录下）并写入指定的计划
+     */
+    private void storePlan(List<StrategyNode> nodes, List<List<String>> layers) throws IOException {
+        cacheHome = Files.createTempDirectory("plan-cache");
+        System.setProperty("user.home", cacheHome.toString());
+        MavenProject project = new MavenProject();
+        project.setFile(Files.writeString(cacheHome.resolve("pom.xml"), "<project/>").toFile());
+        config.setProject(project);
+        config.setPlanCacheEnabled(true);
+
+        ExecutionPlanCache cache = new ExecutionPlanCache(Paths.get(cacheHome.toString(), ".m2", "central-publish", "plans"));
+        cache.store(cache.fingerprint(nodes, config), layers);
+    }
+
+    private static StrategyNode node(String id, boolean required, List<String> dependencies, MavenStrategy strategy) {
+        return new StrategyNode(id, 0, true, required, dependencies, strategy);
+    }
+
+    private MavenStrategy succeed(String id) {
+        return strategy(config -> executed.add(id));
+    }
+
+    private static MavenStrategy fail() {
+        return strategy(config -> {
+            throw new MojoExecutionException("failed");
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MavenStrategy strategy(Action action) {
+        return new MavenStrategy() {
+
+            @Override
+            public String getStrategyName() {
+                return "test";
+            }
+
+            @Override
+            public void execute() {
+            }
+
+            @Override
+            public void configure(CentralPublishConfig config) throws MojoExecutionException {
+                action.run(config);
+            }
+
+            @Override
+            public boolean isEnabled(CentralPublishConfig config) {
+                return true;
+            }
+
+            @Override
+            public boolean isRequired(CentralPublishConfig config) {
+                return false;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run(CentralPublishConfig config) throws MojoExecutionException;
+    }
+
+}
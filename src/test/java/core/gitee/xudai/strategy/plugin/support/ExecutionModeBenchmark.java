@@ -0,0 +1,218 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 插件目标执行模式对比：进程内执行（BuildPluginManager）与 Maven Invoker（每个插件目标启动一个 mvn 子进程）
+ * 每次操作在示例反应堆（默认 20 个模块，每个模块一个类）上执行一次完整的 mvn 构建，测量墙钟时间；
+ * 构建期间每 20 ms 采样一次 mvn 进程及其全部子进程的常驻内存之和，输出峰值 peakRssMb（仅 Linux，
+ * Invoker 模式下子进程的内存计入其中，与插件日志中只反映构建 JVM 自身的 VmHWM 不同）
+ * 前提：当前插件已安装到本地仓库（mvn install），PATH 中有 mvn（或通过 -Dbenchmark.mvn 指定）
+ * 可选参数：-Dbenchmark.project 使用已有项目代替示例反应堆，-Dbenchmark.goals 指定构建目标，
+ * -Dbenchmark.args 追加构建参数（如跳过签名：-Dbenchmark.args=-Dgpg.skip=true）
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=ExecutionModeBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    /**
+     * 默认构建目标：打包后执行发布插件
+     */
+    private static final String DEFAULT_GOALS = "package com.gitee.xudai:central-publisher-maven-plugin:central-publish";
+
+    /**
+     * 内存采样间隔（毫秒）
+     */
+    private static final long SAMPLE_INTERVAL_MILLIS = 20;
+
+    /**
+     * 执行模式（对应插件参数 executionMode）
+     */
+    @Param({"in-process", "invoker"})
+    private String executionMode;
+
+    /**
+     * 示例反应堆的模块数（指定了 benchmark.project 时不使用）
+     */
+    @Param({"20"})
+    private int modules;
+
+    /**
+     * 构建的项目目录
+     */
+    private Path project;
+
+    /**
+     * 生成的示例反应堆（结束后删除）
+     */
+    private Path generated;
+
+    /**
+     * 构建命令
+     */
+    private List<String> command;
+
+    /**
+     * 构建输出（构建失败时查看）
+     */
+    private File buildLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        String projectDir = System.getProperty("benchmark.project");
+        if (projectDir != null && !projectDir.isBlank()) {
+            project = Path.of(projectDir);
+        } else {
+            generated = Files.createTempDirectory("execution-mode-benchmark");
+            project = generateReactor(generated, modules);
+        }
+        buildLog = Files.createTempFile("execution-mode-benchmark", ".log").toFile();
+
+        command = new ArrayList<>();
+        String windows = System.getProperty("os.name", "").toLowerCase().contains("win") ? "mvn.cmd" : "mvn";
+        command.add(System.getProperty("benchmark.mvn", windows));
+        command.add("-B");
+        command.add("-DexecutionMode=" + executionMode);
+        addAll(command, System.getProperty("benchmark.args", ""));
+        addAll(command, System.getProperty("benchmark.goals", DEFAULT_GOALS));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (generated != null) {
+            try (Stream<Path> stream = Files.walk(generated)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+        Files.deleteIfExists(buildLog.toPath());
+    }
+
+    @Benchmark
+    public int build(PeakRss peakRss) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .directory(project.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(buildLog)
+                .start();
+
+        long peakKb = 0;
+        while (!process.waitFor(SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            peakKb = Math.max(peakKb, treeRssKb(process.toHandle()));
+        }
+        peakRss.peakRssMb = Math.max(peakRss.peakRssMb, peakKb / 1024);
+
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("构建失败（退出码：" + process.exitValue() + "），输出见 " + buildLog
+                    + "：" + String.join(" ", command));
+        }
+        return process.exitValue();
+    }
+
+    /**
+     * 每轮测量的峰值内存（AuxCounters 随测量结果一同输出）
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakRss {
+
+        /**
+         * 本轮各次构建中进程树常驻内存之和的最大值（MB）
+         */
+        public long peakRssMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakRssMb = 0;
+        }
+
+    }
+
+    /**
+     * 进程及其全部子进程的常驻内存之和（KB，非 Linux 返回 0）
+     */
+    private static long treeRssKb(ProcessHandle root) {
+        long total = rssKb(root.pid());
+        for (ProcessHandle child : (Iterable<ProcessHandle>) root.descendants()::iterator) {
+            total += rssKb(child.pid());
+        }
+        return total;
+    }
+
+    private static long rssKb(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 进程已退出或平台不支持
+        }
+        return 0;
+    }
+
+    private static void addAll(List<String> command, String args) {
+        for (String arg : args.trim().split("\\s+")) {
+            if (!arg.isEmpty()) {
+                command.add(arg);
+            }
+        }
+    }
+
+    /**
+     * 生成示例反应堆：一个聚合 POM 和若干个只含一个类的 jar 模块
+     */
+    private static Path generateReactor(Path root, int modules) throws IOException {
+        StringBuilder moduleList = new StringBuilder();
+        for (int i = 1; i <= modules; i++) {
+            String name = "module-" + i;
+            moduleList.append("    <module>").append(name).append("</module>\n");
+            Path sources = Files.createDirectories(root.resolve(name).resolve("src/main/java/org/example/bench"));
+            Files.writeString(sources.resolve("Module" + i + ".java"),
+                    "package org.example.bench;\n\npublic class Module" + i + " {\n}\n", StandardCharsets.UTF_8);
+            Files.writeString(root.resolve(name).resolve("pom.xml"),
+                    "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                            + "  <modelVersion>4.0.0</modelVersion>\n"
+                            + "  <parent>\n"
+                            + "    <groupId>org.example.bench</groupId>\n"
+                            + "    <artifactId>reactor</artifactId>\n"
+                            + "    <version>1.0.0</version>\n"
+                            + "  </parent>\n"
+                            + "  <artifactId>" + name + "</artifactId>\n"
+                            + "</project>\n", StandardCharsets.UTF_8);
+        }
+        Files.writeString(root.resolve("pom.xml"),
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                        + "  <modelVersion>4.0.0</modelVersion>\n"
+                        + "  <groupId>org.example.bench</groupId>\n"
+                        + "  <artifactId>reactor</artifactId>\n"
+                        + "  <version>1.0.0</version>\n"
+                        + "  <packaging>pom</packaging>\n"
+                        + "  <properties>\n"
+                        + "    <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n"
+                        + "    <maven.compiler.release>17</maven.compiler.release>\n"
+                        + "  </properties>\n"
+                        + "  <modules>\n" + moduleList + "  </modules>\n"
+                        + "</project>\n", StandardCharsets.UTF_8);
+        return root;
+    }
+
+}
@@ -0,0 +1,239 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import core.gitee.xudai.entity.CentralPublishConfig;
+import org.apache.maven.api.Language;
+import org.apache.maven.api.ProjectScope;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.MavenProjectHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 插件目标结果缓存测试：命中、未命中、产物隔离与指纹失效
+ * @author daixu
+ */
+class GoalResultCacheTest {
+
+    private Path root;
+
+    private MavenProject project;
+
+    private CentralPublishConfig config;
+
+    private GoalResultCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("goal-cache");
+        Path sources = Files.createDirectories(root.resolve("src/main/java"));
+        Files.writeString(sources.resolve("Demo.java"), "class Demo {}", StandardCharsets.UTF_8);
+        Path pom = Files.writeString(root.resolve("pom.xml"), "<project/>", StandardCharsets.UTF_8);
+
+        project = new MavenProject();
+        project.setGroupId("com.example");
+        project.setArtifactId("demo");
+        project.setVersion("1.0");
+        project.setFile(pom.toFile());
+        Build build = new Build();
+        build.setDirectory(root.resolve("target").toString());
+        build.setFinalName("demo-1.0");
+        project.setBuild(build);
+        project.addSourceRoot(ProjectScope.MAIN, Language.JAVA_FAMILY, sources);
+
+        config = new CentralPublishConfig();
+        config.setProject(project);
+        config.setProjectHelper(new AttachingProjectHelper());
+        cache = new GoalResultCache(root.resolve("cache"), 0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> stream = Files.walk(root)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void missesWhenNothingStored() throws Exception {
+        String key = cache.fingerprint(plugin("maven-source-plugin", "jar-no-fork"), project);
+
+        assertFalse(cache.restore(key, config));
+        assertTrue(project.getAttachedArtifacts().isEmpty());
+    }
+
+    @Test
+    void restoresStoredOutputAndAttachesItOnce() throws Exception {
+        BasicPlugin source = plugin("maven-source-plugin", "jar-no-fork");
+        String key = cache.fingerprint(source, project);
+        long start = System.currentTimeMillis() / 1000 * 1000;
+        File jar = writeOutput("demo-1.0-sources.jar", start);
+        List<GoalResultCache.CachedOutput> outputs = GoalResultCache.collectOutputs(source, project, List.of(), start);
+        cache.store(key, outputs);
+
+        // 模拟新一次构建：构建目录被清理，项目尚未挂载附属构件
+        jar.delete();
+        assertTrue(cache.restore(key, config));
+        assertTrue(jar.isFile());
+        assertEquals(1, project.getAttachedArtifacts().size());
+        assertEquals("sources", project.getAttachedArtifacts().get(0).getClassifier());
+
+        // 重复还原只复制文件，不重复挂载
+        assertTrue(cache.restore(key, config));
+        assertEquals(1, project.getAttachedArtifacts().size());
+    }
+
+    @Test
+    void doesNotCollectOutputsOfConcurrentGoals() throws Exception {
+        BasicPlugin source = plugin("maven-source-plugin", "jar-no-fork");
+        long start = System.currentTimeMillis() / 1000 * 1000;
+        List<Artifact> attachedBefore = new ArrayList<>(project.getAttachedArtifacts());
+
+        // source 与 javadoc 并行执行：执行期间两个目标的产物都出现在构建目录并挂载到项目
+        File sourcesJar = writeOutput("demo-1.0-sources.jar", start);
+        File javadocJar = writeOutput("demo-1.0-javadoc.jar", start);
+        writeOutput("unrelated.txt", start);
+        config.getProjectHelper().attachArtifact(project, "jar", "javadoc", javadocJar);
+        config.getProjectHelper().attachArtifact(project, "jar", "sources", sourcesJar);
+
+        List<GoalResultCache.CachedOutput> outputs = GoalResultCache.collectOutputs(source, project, attachedBefore, start);
+
+        assertEquals(1, outputs.size());
+        assertEquals(sourcesJar, outputs.get(0).getFile());
+        assertEquals("sources", outputs.get(0).getClassifier());
+    }
+
+    @Test
+    void ignoresExpectedFilesOlderThanExecution() throws Exception {
+        BasicPlugin javadoc = plugin("maven-javadoc-plugin", "jar");
+        long start = System.currentTimeMillis() / 1000 * 1000;
+        writeOutput("demo-1.0-javadoc.jar", start - 60_000);
+
+        assertTrue(GoalResultCache.collectOutputs(javadoc, project, List.of(), start).isEmpty());
+    }
+
+    @Test
+    void doesNotCacheSigningGoal() throws Exception {
+        BasicPlugin gpg = plugin("maven-gpg-plugin", "sign");
+        config.setGoalCacheEnabled(true);
+        assertNull(GoalResultCache.forGoal(gpg, config));
+
+        long start = System.currentTimeMillis() / 1000 * 1000;
+        File sourcesJar = writeOutput("demo-1.0-sources.jar", start);
+        config.getProjectHelper().attachArtifact(project, "jar", "sources", sourcesJar);
+        List<Artifact> attachedBefore = new ArrayList<>(project.getAttachedArtifacts());
+        File signature = writeOutput("demo-1.0-sources.jar.asc", start);
+        config.getProjectHelper().attachArtifact(project, "jar.asc", "sources", signature);
+
+        // 签名与源码目标并行执行时，源码目标的缓存条目也不包含 .asc 签名
+        BasicPlugin source = plugin("maven-source-plugin", "jar-no-fork");
+        for (GoalResultCache.CachedOutput output : GoalResultCache.collectOutputs(source, project, attachedBefore, start)) {
+            assertFalse(output.getType().endsWith(".asc"), output.getType());
+        }
+    }
+
+    @Test
+    void isDisabledByDefault() {
+        assertNull(GoalResultCache.forGoal(plugin("maven-source-plugin", "jar-no-fork"), config));
+
+        config.setGoalCacheEnabled(true);
+        assertNotNull(GoalResultCache.forGoal(plugin("maven-source-plugin", "jar-no-fork"), config));
+    }
+
+    @Test
+    void fingerprintIncludesResourceRoots() throws Exception {
+        Path resources = Files.createDirectories(root.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("app.properties"), "a=1", StandardCharsets.UTF_8);
+        project.addSourceRoot(ProjectScope.MAIN, Language.RESOURCES, resources);
+        BasicPlugin source = plugin("maven-source-plugin", "jar-no-fork");
+        String before = cache.fingerprint(source, project);
+
+        Files.writeString(resources.resolve("app.properties"), "a=2", StandardCharsets.UTF_8);
+
+        assertNotEquals(before, cache.fingerprint(source, project));
+    }
+
+    @Test
+    void fingerprintChangesWhenSourceChanges() throws Exception {
+        BasicPlugin source = plugin("maven-source-plugin", "jar-no-fork");
+        String before = cache.fingerprint(source, project);
+        assertEquals(before, cache.fingerprint(source, project));
+
+        Files.writeString(root.resolve("src/main/java/Demo.java"), "class Demo { int x; }", StandardCharsets.UTF_8);
+
+        assertNotEquals(before, cache.fingerprint(source, project));
+    }
+
+    @Test
+    void fingerprintDiffersPerGoal() throws Exception {
+        assertNotEquals(cache.fingerprint(plugin("maven-source-plugin", "jar-no-fork"), project),
+                cache.fingerprint(plugin("maven-javadoc-plugin", "jar"), project));
+    }
+
+    private File writeOutput(String name, long lastModified) throws IOException {
+        Path target = Files.createDirectories(root.resolve("target"));
+        File file = Files.writeString(target.resolve(name), name, StandardCharsets.UTF_8).toFile();
+        // 显式设置修改时间（文件系统时间戳精度可能只到秒，测试中的开始时间已按秒取整）
+        assertTrue(file.setLastModified(lastModified));
+        return file;
+    }
+
+    private BasicPlugin plugin(String artifactId, String goal) {
+        BasicPlugin plugin = new BasicPlugin();
+        plugin.setGroupId("org.apache.maven.plugins");
+        plugin.setArtifactId(artifactId);
+        plugin.setVersion("1.0");
+        plugin.setGoal(goal);
+        return plugin;
+    }
+
+    /**
+     * 直接挂载到项目的 MavenProjectHelper（替代容器注入的默认实现）
+     */
+    private static class AttachingProjectHelper implements MavenProjectHelper {
+
+        @Override
+        public void attachArtifact(MavenProject project, File file, String classifier) {
+            attachArtifact(project, "jar", classifier, file);
+        }
+
+        @Override
+        public void attachArtifact(MavenProject project, String type, File file) {
+            attachArtifact(project, type, null, file);
+        }
+
+        @Override
+        public void attachArtifact(MavenProject project, String type, String classifier, File file) {
+            DefaultArtifact artifact = new DefaultArtifact(project.getGroupId(), project.getArtifactId(), project.getVersion(),
+                    null, type, classifier, new DefaultArtifactHandler(type));
+            artifact.setFile(file);
+            project.addAttachedArtifact(artifact);
+        }
+
+        @Override
+        public void addResource(MavenProject project, String directory, List<String> includes, List<String> excludes) {
+        }
+
+        @Override
+        public void addTestResource(MavenProject project, String directory, List<String> includes, List<String> excludes) {
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maven 守护进程池测试：查找 mvnd 可执行文件（Windows 下的原生客户端 mvnd.exe 与脚本客户端 mvnd.cmd）
+ * @author daixu
+ */
+class MavenDaemonPoolTest {
+
+    private Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("mvnd-bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> stream = Files.walk(dir)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    void findsNativeClientOnWindows() throws IOException {
+        executable("mvnd.exe");
+
+        assertEquals("mvnd.exe", MavenDaemonPool.findExecutable(dir.toFile(), "mvnd", true).getName());
+    }
+
+    @Test
+    void findsScriptClientOnWindows() throws IOException {
+        executable("mvnd.cmd");
+
+        assertEquals("mvnd.cmd", MavenDaemonPool.findExecutable(dir.toFile(), "mvnd", true).getName());
+    }
+
+    @Test
+    void prefersNativeClientWhenBothExist() throws IOException {
+        executable("mvnd.cmd");
+        executable("mvnd.exe");
+
+        assertEquals("mvnd.exe", MavenDaemonPool.findExecutable(dir.toFile(), "mvnd", true).getName());
+    }
+
+    @Test
+    void usesExplicitExtensionAsIs() throws IOException {
+        executable("mvnd.exe");
+
+        assertNull(MavenDaemonPool.findExecutable(dir.toFile(), "mvnd.cmd", true));
+        assertEquals("mvnd.exe", MavenDaemonPool.findExecutable(dir.toFile(), "mvnd.exe", true).getName());
+    }
+
+    @Test
+    void usesPlainNameElsewhere() throws IOException {
+        executable("mvnd.exe");
+        assertNull(MavenDaemonPool.findExecutable(dir.toFile(), "mvnd", false));
+
+        executable("mvnd");
+        assertEquals("mvnd", MavenDaemonPool.findExecutable(dir.toFile(), "mvnd", false).getName());
+    }
+
+    private void executable(String name) throws IOException {
+        File file = Files.createFile(dir.resolve(name)).toFile();
+        assertTrue(file.setExecutable(true));
+    }
+
+}
@@ -0,0 +1,96 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maven Invoker 批量执行器测试：属性集合相同时合并，取值或键集合不同时拆分调用
+ * @author daixu
+ */
+class MavenInvokerBatchTest {
+
+    private File pom;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pom = Files.createTempFile("pom", ".xml").toFile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pom.delete();
+    }
+
+    @Test
+    void mergesGoalsWithIdenticalPropertiesIntoOneInvocation() throws Exception {
+        MavenInvokerBatch batch = new MavenInvokerBatch();
+        batch.add(plugin("maven-source-plugin", "jar-no-fork", Map.of("skipSource", "false")), "source");
+        batch.add(plugin("maven-javadoc-plugin", "jar", Map.of("skipSource", "false")), "javadoc");
+
+        List<MavenInvokerBatch.Invocation> invocations = batch.partition();
+
+        assertEquals(1, invocations.size());
+        assertEquals(2, invocations.get(0).getGoals().size());
+        assertEquals("false", invocations.get(0).getProperties().getProperty("skipSource"));
+    }
+
+    @Test
+    void splitsInvocationWhenPropertyValuesConflict() throws Exception {
+        MavenInvokerBatch batch = new MavenInvokerBatch();
+        batch.add(plugin("maven-source-plugin", "jar-no-fork", Map.of("encoding", "UTF-8")), "source");
+        batch.add(plugin("maven-javadoc-plugin", "jar", Map.of("encoding", "GBK")), "javadoc");
+        batch.add(plugin("maven-gpg-plugin", "sign", Map.of("encoding", "GBK")), "gpg");
+
+        List<MavenInvokerBatch.Invocation> invocations = batch.partition();
+
+        // 取值不同的目标另起一次调用，之后属性相同的目标并入该调用，执行顺序不变
+        assertEquals(2, invocations.size());
+        assertEquals(List.of("org.apache.maven.plugins:maven-source-plugin:1.0:jar-no-fork"), invocations.get(0).getGoals());
+        assertEquals(List.of("org.apache.maven.plugins:maven-javadoc-plugin:1.0:jar",
+                "org.apache.maven.plugins:maven-gpg-plugin:1.0:sign"), invocations.get(1).getGoals());
+        assertEquals("UTF-8", invocations.get(0).getProperties().getProperty("encoding"));
+        assertEquals("GBK", invocations.get(1).getProperties().getProperty("encoding"));
+    }
+
+    @Test
+    void doesNotLeakPropertiesSetByOnlyOneGoal() throws Exception {
+        MavenInvokerBatch batch = new MavenInvokerBatch();
+        batch.add(plugin("maven-source-plugin", "jar-no-fork", Map.of("skipSource", "false")), "source");
+        batch.add(plugin("maven-javadoc-plugin", "jar", Map.of("skipSource", "false", "doclint", "none")), "javadoc");
+        batch.add(plugin("maven-gpg-plugin", "sign", Map.of()), "gpg");
+
+        List<MavenInvokerBatch.Invocation> invocations = batch.partition();
+
+        // 键集合不同即不合并：每次调用的属性恰好是其中目标自己的配置
+        assertEquals(3, invocations.size());
+        assertNull(invocations.get(0).getProperties().getProperty("doclint"));
+        assertEquals("none", invocations.get(1).getProperties().getProperty("doclint"));
+        assertTrue(invocations.get(2).getProperties().isEmpty());
+        for (MavenInvokerBatch.Invocation invocation : invocations) {
+            for (String name : invocation.getProperties().stringPropertyNames()) {
+                assertFalse(name.contains(":"), "不应生成命名空间属性: " + name);
+            }
+        }
+    }
+
+    private BasicPlugin plugin(String artifactId, String goal, Map<String, String> config) {
+        BasicPlugin plugin = new BasicPlugin();
+        plugin.setGroupId("org.apache.maven.plugins");
+        plugin.setArtifactId(artifactId);
+        plugin.setVersion("1.0");
+        plugin.setGoal(goal);
+        plugin.setFile(pom);
+        plugin.setConfig(config);
+        return plugin;
+    }
+
+}
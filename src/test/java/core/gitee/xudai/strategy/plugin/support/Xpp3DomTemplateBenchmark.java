@@ -0,0 +1,144 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Xpp3Dom 片段生成的耗时与内存分配：每个模块解析 XML、逐个节点创建、模板渲染三种方式对比
+ * 每个模块生成一组发布所需的片段（源码、文档插件 executions，GPG 签名 execution，中央发布插件 configuration），
+ * 每次调用生成一个反应堆（500 个模块）的片段，结果按模块平均；内存分配由 gc 分析器（-prof gc）统计
+ * 用法：mvn -Pbenchmarks test-compile exec:exec@run-benchmarks -Dbenchmark=Xpp3DomTemplateBenchmark
+ * @author daixu
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Xpp3DomTemplateBenchmark {
+
+    /**
+     * 反应堆中的模块数
+     */
+    private static final int MODULES = 500;
+
+    private static final String BASIC_EXECUTIONS_XML =
+            "<executions><execution><id>{{id}}</id><goals><goal>{{goal}}</goal></goals></execution></executions>";
+
+    private static final String GPG_EXECUTION_XML =
+            "<execution><id>sign-artifacts</id><phase>verify</phase><goals><goal>sign</goal></goals>"
+                    + "<configuration><keyname>{{keyname}}</keyname><passphrase>{{passphrase}}</passphrase></configuration>"
+                    + "</execution>";
+
+    private static final String CENTRAL_CONFIGURATION_XML =
+            "<configuration><publishingServerId>{{publishingServerId}}</publishingServerId>"
+                    + "<autoPublish>false</autoPublish><waitUntil>validated</waitUntil></configuration>";
+
+    private static final Xpp3DomTemplate BASIC_EXECUTIONS = Xpp3DomTemplate.parse(BASIC_EXECUTIONS_XML);
+
+    private static final Xpp3DomTemplate GPG_EXECUTION = Xpp3DomTemplate.parse(GPG_EXECUTION_XML);
+
+    private static final Xpp3DomTemplate CENTRAL_CONFIGURATION = Xpp3DomTemplate.parse(CENTRAL_CONFIGURATION_XML);
+
+    @Benchmark
+    @OperationsPerInvocation(MODULES)
+    public void parsed(Blackhole blackhole) throws XmlPullParserException, IOException {
+        for (int module = 0; module < MODULES; module++) {
+            blackhole.consume(parse(BASIC_EXECUTIONS_XML
+                    .replace("{{id}}", "attach-sources").replace("{{goal}}", "jar-no-fork")));
+            blackhole.consume(parse(BASIC_EXECUTIONS_XML
+                    .replace("{{id}}", "attach-javadocs").replace("{{goal}}", "jar")));
+            blackhole.consume(parse(GPG_EXECUTION_XML
+                    .replace("{{keyname}}", "${gpg-keyname}").replace("{{passphrase}}", "${gpg-passphrase}")));
+            blackhole.consume(parse(CENTRAL_CONFIGURATION_XML
+                    .replace("{{publishingServerId}}", serverId(module))));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MODULES)
+    public void manual(Blackhole blackhole) {
+        for (int module = 0; module < MODULES; module++) {
+            blackhole.consume(basicExecutions("attach-sources", "jar-no-fork"));
+            blackhole.consume(basicExecutions("attach-javadocs", "jar"));
+
+            Xpp3Dom gpg = new Xpp3Dom("execution");
+            gpg.addChild(leaf("id", "sign-artifacts"));
+            gpg.addChild(leaf("phase", "verify"));
+            Xpp3Dom goals = new Xpp3Dom("goals");
+            goals.addChild(leaf("goal", "sign"));
+            gpg.addChild(goals);
+            Xpp3Dom configuration = new Xpp3Dom("configuration");
+            configuration.addChild(leaf("keyname", "${gpg-keyname}"));
+            configuration.addChild(leaf("passphrase", "${gpg-passphrase}"));
+            gpg.addChild(configuration);
+            blackhole.consume(gpg);
+
+            Xpp3Dom central = new Xpp3Dom("configuration");
+            central.addChild(leaf("publishingServerId", serverId(module)));
+            central.addChild(leaf("autoPublish", "false"));
+            central.addChild(leaf("waitUntil", "validated"));
+            blackhole.consume(central);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MODULES)
+    public void rendered(Blackhole blackhole) {
+        for (int module = 0; module < MODULES; module++) {
+            Map<String, String> values = new HashMap<>(4);
+            values.put("id", "attach-sources");
+            values.put("goal", "jar-no-fork");
+            blackhole.consume(BASIC_EXECUTIONS.render(values));
+            values.put("id", "attach-javadocs");
+            values.put("goal", "jar");
+            blackhole.consume(BASIC_EXECUTIONS.render(values));
+
+            values.clear();
+            values.put("keyname", "${gpg-keyname}");
+            values.put("passphrase", "${gpg-passphrase}");
+            blackhole.consume(GPG_EXECUTION.render(values));
+
+            values.clear();
+            values.put("publishingServerId", serverId(module));
+            blackhole.consume(CENTRAL_CONFIGURATION.render(values));
+        }
+    }
+
+    private static Xpp3Dom basicExecutions(String executionId, String goal) {
+        Xpp3Dom executions = new Xpp3Dom("executions");
+        Xpp3Dom execution = new Xpp3Dom("execution");
+        execution.addChild(leaf("id", executionId));
+        Xpp3Dom goals = new Xpp3Dom("goals");
+        goals.addChild(leaf("goal", goal));
+        execution.addChild(goals);
+        executions.addChild(execution);
+        return executions;
+    }
+
+    private static Xpp3Dom leaf(String name, String value) {
+        Xpp3Dom dom = new Xpp3Dom(name);
+        dom.setValue(value);
+        return dom;
+    }
+
+    private static Xpp3Dom parse(String xml) throws XmlPullParserException, IOException {
+        return Xpp3DomBuilder.build(new StringReader(xml));
+    }
+
+    private static String serverId(int module) {
+        // 多数模块使用同一个服务器 ID，少数模块单独配置
+        return module % 50 == 0 ? "central-" + module : "central";
+    }
+
+}
@@ -0,0 +1,92 @@
+package core.gitee.xudai.strategy.plugin.support;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Xpp3Dom 配置片段模板测试：参数替换、省略规则与不含参数子树的共享
+ * @author daixu
+ */
+class Xpp3DomTemplateTest {
+
+    private static final Xpp3DomTemplate TEMPLATE = Xpp3DomTemplate.parse(
+            "<executions><execution>"
+                    + "<id>{{id}}</id>"
+                    + "<phase>{{phase}}</phase>"
+                    + "<goals><goal>{{goal}}</goal></goals>"
+                    + "<configuration combine.self=\"override\"><doclint>none</doclint><quiet>true</quiet></configuration>"
+                    + "</execution></executions>");
+
+    @Test
+    void collectsSlotsInOrder() {
+        assertEquals(List.of("id", "phase", "goal"), TEMPLATE.getSlots());
+    }
+
+    @Test
+    void rendersSlotValues() {
+        Xpp3Dom execution = TEMPLATE.render(Map.of("id", "attach-javadocs", "phase", "package", "goal", "jar"))
+                .getChild("execution");
+
+        assertEquals("attach-javadocs", execution.getChild("id").getValue());
+        assertEquals("package", execution.getChild("phase").getValue());
+        assertEquals("jar", execution.getChild("goals").getChild("goal").getValue());
+        assertEquals("override", execution.getChild("configuration").getAttribute("combine.self"));
+        assertEquals("none", execution.getChild("configuration").getChild("doclint").getValue());
+    }
+
+    @Test
+    void omitsBlankSlotsAndEmptyContainers() {
+        Xpp3Dom execution = TEMPLATE.render(Map.of("id", "attach-javadocs", "phase", " ")).getChild("execution");
+
+        assertNull(execution.getChild("phase"));
+        assertNull(execution.getChild("goals"));
+        assertNotNull(execution.getChild("configuration"));
+    }
+
+    @Test
+    void sharesSubtreesWithoutSlots() {
+        Xpp3Dom first = TEMPLATE.render(Map.of("id", "a", "goal", "jar"));
+        Xpp3Dom second = TEMPLATE.render(Map.of("id", "b", "goal", "jar"));
+
+        assertSame(first.getChild("execution").getChild("configuration").getDom(),
+                second.getChild("execution").getChild("configuration").getDom());
+        assertNotSame(first.getChild("execution").getDom(), second.getChild("execution").getDom());
+    }
+
+    @Test
+    void modifyingRenderedDomDoesNotAffectOtherRenders() {
+        Xpp3Dom first = TEMPLATE.render(Map.of("id", "a", "goal", "jar"));
+        Xpp3Dom configuration = first.getChild("execution").getChild("configuration");
+        configuration.getChild("doclint").setValue("all");
+        configuration.addChild(new Xpp3Dom("failOnError"));
+
+        Xpp3Dom second = TEMPLATE.render(Map.of("id", "b", "goal", "jar"));
+
+        assertEquals("all", first.getChild("execution").getChild("configuration").getChild("doclint").getValue());
+        assertEquals("none", second.getChild("execution").getChild("configuration").getChild("doclint").getValue());
+        assertNull(second.getChild("execution").getChild("configuration").getChild("failOnError"));
+    }
+
+    @Test
+    void rendersTemplateWithoutSlots() {
+        Xpp3DomTemplate template = Xpp3DomTemplate.parse("<configuration><skip>true</skip></configuration>");
+
+        Xpp3Dom first = template.render();
+        Xpp3Dom second = template.render();
+
+        assertEquals("true", first.getChild("skip").getValue());
+        assertSame(first.getDom(), second.getDom());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void returnsNullWhenRootIsOmitted() {
+        assertNull(Xpp3DomTemplate.parse("<goals><goal>{{goal}}</goal></goals>").render(Map.of()));
+    }
+
+}